@@ -1,11 +1,15 @@
 package com.lucas.text_processing_api.controller;
 
+import com.lucas.text_processing_api.dto.AnagramMode;
 import com.lucas.text_processing_api.dto.AnagramRequest;
 import com.lucas.text_processing_api.dto.AnagramResponse;
 import com.lucas.text_processing_api.service.AnagramService;
+import com.lucas.text_processing_api.service.AnagramStreamService;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
@@ -21,8 +25,10 @@ import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 
+import java.io.IOException;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.RejectedExecutionException;
 
 /**
  * Controller REST para geração de anagramas
@@ -32,7 +38,7 @@ import java.util.Map;
  * Todos os endpoints (exceto health) requerem autenticação JWT.
  * 
  * @author Lucas
- * @version 2.5
+ * @version 2.6
  */
 @RestController
 @RequestMapping("/api/anagrams")
@@ -44,11 +50,16 @@ public class AnagramController {
     @Autowired
     private AnagramService anagramService;
 
+    @Autowired
+    private AnagramStreamService anagramStreamService;
+
     /**
      * Endpoint principal para geração de anagramas
      * 
      * Este endpoint aceita uma requisição POST com letras e retorna
      * todos os anagramas possíveis, utilizando cache quando disponível.
+     * O campo opcional "mode" seleciona modos alternativos de geração
+     * (ex.: SWAP_DISTANCE com "limit" para os K arranjos mais próximos).
      * Requer autenticação JWT válida.
      * 
      * @param request requisição contendo as letras para geração de anagramas
@@ -93,7 +104,11 @@ public class AnagramController {
         try {
             log.info("Recebida requisição para gerar anagramas: {}", request.getLetters());
             
-            AnagramResponse response = anagramService.generateAnagrams(request.getLetters());
+            AnagramMode mode = request.getMode();
+            AnagramResponse response = mode == null || mode == AnagramMode.PERMUTATIONS
+                ? anagramService.generateAnagrams(request.getLetters())
+                : anagramService.generateAnagrams(request.getLetters(), mode, request.getLimit(),
+                    request.getMaxWords(), request.getDictionary());
             
             log.info("Anagramas gerados com sucesso. Total: {}", response.getTotalAnagrams());
             return ResponseEntity.ok(response);
@@ -107,6 +122,61 @@ public class AnagramController {
         }
     }
 
+    /**
+     * Endpoint de geração de anagramas com resposta em pipeline
+     * 
+     * Selecionado com o parâmetro "pipelined=true". Uma thread produtora gera e
+     * codifica os anagramas em blocos de um anel limitado enquanto a thread da
+     * requisição escreve os blocos no socket. A resposta é NDJSON (uma string
+     * JSON por linha) e o campo "limit" é opcional (sem ele, todas as permutações).
+     * Com a fila de gerações cheia responde 503 com Retry-After.
+     * Requer autenticação JWT válida.
+     * 
+     * @param request requisição contendo as letras para geração de anagramas
+     * @param response resposta HTTP onde os anagramas são escritos
+     * @throws IOException se a escrita na resposta falhar
+     */
+    @Operation(
+        summary = "Gerar anagramas em pipeline",
+        description = "Gera todas as permutações em streaming NDJSON, sobrepondo geração e escrita na rede"
+    )
+    @SecurityRequirement(name = "Bearer Authentication")
+    @PostMapping(value = "/generate", params = "pipelined=true")
+    @PreAuthorize("hasRole('USER') or hasRole('ADMIN')")
+    public void generateAnagramsPipelined(
+        @Parameter(description = "Letras para geração de anagramas", required = true)
+        @Valid @RequestBody AnagramRequest request,
+        HttpServletResponse response) throws IOException {
+        log.info("Recebida requisição para gerar anagramas em pipeline: {}", request.getLetters());
+
+        if (request.getMode() != null && request.getMode() != AnagramMode.PERMUTATIONS) {
+            response.sendError(HttpStatus.BAD_REQUEST.value(), "O modo em pipeline suporta apenas PERMUTATIONS");
+            return;
+        }
+
+        try {
+            anagramStreamService.validate(request.getLetters(), request.getLimit());
+        } catch (IllegalArgumentException e) {
+            log.warn("Requisição inválida: {}", e.getMessage());
+            response.sendError(HttpStatus.BAD_REQUEST.value(), e.getMessage());
+            return;
+        }
+
+        response.setContentType(AnagramStreamService.NDJSON);
+        response.setCharacterEncoding("UTF-8");
+
+        try {
+            anagramStreamService.streamAnagrams(request.getLetters(), request.getLimit(), response.getOutputStream());
+        } catch (RejectedExecutionException e) {
+            // Recusada antes de escrever: ainda dá para responder com o status
+            response.setHeader(HttpHeaders.RETRY_AFTER, "1");
+            response.sendError(HttpStatus.SERVICE_UNAVAILABLE.value(), "Muitas gerações em pipeline em andamento");
+        } catch (IOException e) {
+            // A resposta já foi iniciada; resta apenas registrar (ex.: cliente desconectou)
+            log.warn("Geração em pipeline interrompida: {}", e.getMessage());
+        }
+    }
+
     /**
      * Endpoint para geração de anagramas sem cache
      * 
@@ -0,0 +1,612 @@
+package com.lucas.text_processing_api.controller;
+
+import com.lucas.text_processing_api.dto.AutocompleteRequest;
+import com.lucas.text_processing_api.dto.AutocompleteResponse;
+import com.lucas.text_processing_api.dto.DictionaryUsage;
+import com.lucas.text_processing_api.dto.FuzzyMatch;
+import com.lucas.text_processing_api.dto.FuzzyMatchRequest;
+import com.lucas.text_processing_api.dto.FuzzyMatchResponse;
+import com.lucas.text_processing_api.dto.NearAnagram;
+import com.lucas.text_processing_api.dto.NearAnagramRequest;
+import com.lucas.text_processing_api.dto.NearAnagramResponse;
+import com.lucas.text_processing_api.dto.PatternMatchRequest;
+import com.lucas.text_processing_api.dto.PatternMatchResponse;
+import com.lucas.text_processing_api.dto.ScoredWord;
+import com.lucas.text_processing_api.dto.SubAnagramRequest;
+import com.lucas.text_processing_api.dto.SubAnagramResponse;
+import com.lucas.text_processing_api.dto.TopWordsRequest;
+import com.lucas.text_processing_api.dto.TopWordsResponse;
+import com.lucas.text_processing_api.service.DictionaryService;
+import com.lucas.text_processing_api.util.dictionary.FuzzyIndex;
+import com.lucas.text_processing_api.util.dictionary.PatternIndex;
+import jakarta.validation.Valid;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.ExampleObject;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Controller REST para consultas ao dicionário
+ * 
+ * Este controller fornece consultas sobre as palavras reais do dicionário
+ * configurado, como a busca das palavras que podem ser formadas com um
+ * conjunto de letras ou que estão a uma letra de distância dele, as de
+ * maior pontuação para um conjunto de peças, as que atendem a um padrão
+ * de palavras cruzadas, o autocompletar de prefixo com as letras
+ * disponíveis, as sugestões de "você quis dizer" por distância de edição
+ * e a recarga do dicionário sem reinício.
+ * As consultas aceitam o campo "dictionary" para escolher um dos
+ * dicionários sobrepostos configurados.
+ * Todos os endpoints requerem autenticação JWT.
+ * 
+ * @author Lucas
+ * @version 1.7
+ */
+@RestController
+@RequestMapping("/api/dictionary")
+@Slf4j
+@CrossOrigin(origins = "*")
+@Tag(name = "Dicionário", description = "Endpoints de consulta às palavras do dicionário")
+public class DictionaryController {
+
+    /**
+     * Limite padrão de vizinhos retornados na busca de quase-anagramas
+     */
+    private static final int DEFAULT_NEAR_ANAGRAM_LIMIT = 100;
+
+    /**
+     * Quantidade padrão de palavras retornadas na busca por pontuação
+     */
+    private static final int DEFAULT_TOP_WORDS_LIMIT = 10;
+
+    /**
+     * Quantidade padrão de palavras retornadas na busca por padrão
+     */
+    private static final int DEFAULT_PATTERN_LIMIT = 100;
+
+    /**
+     * Quantidade padrão de sugestões do autocompletar
+     */
+    private static final int DEFAULT_AUTOCOMPLETE_LIMIT = 10;
+
+    /**
+     * Quantidade padrão de sugestões de palavras próximas
+     */
+    private static final int DEFAULT_FUZZY_LIMIT = 10;
+
+    @Autowired
+    private DictionaryService dictionaryService;
+
+    /**
+     * Endpoint de busca de sub-anagramas
+     * 
+     * Retorna todas as palavras do dicionário que podem ser formadas com um
+     * subconjunto das letras informadas, agrupadas por comprimento.
+     * Requer autenticação JWT válida.
+     * 
+     * @param request requisição contendo as letras disponíveis
+     * @return ResponseEntity contendo as palavras encontradas
+     */
+    @Operation(
+        summary = "Buscar sub-anagramas",
+        description = "Retorna as palavras do dicionário formáveis com um subconjunto das letras, agrupadas por comprimento"
+    )
+    @ApiResponses(value = {
+        @ApiResponse(
+            responseCode = "200",
+            description = "Palavras encontradas com sucesso",
+            content = @Content(
+                mediaType = "application/json",
+                schema = @Schema(implementation = SubAnagramResponse.class),
+                examples = @ExampleObject(
+                    name = "Sub-anagramas",
+                    value = "{\"originalLetters\": \"tac\", \"wordsByLength\": {\"3\": [\"act\", \"cat\"], \"2\": [\"at\"]}, \"totalWords\": 3, \"processingTimeMs\": 1}"
+                )
+            )
+        ),
+        @ApiResponse(
+            responseCode = "400",
+            description = "Dados de entrada inválidos"
+        ),
+        @ApiResponse(
+            responseCode = "401",
+            description = "Não autenticado"
+        ),
+        @ApiResponse(
+            responseCode = "500",
+            description = "Erro interno do servidor"
+        )
+    })
+    @SecurityRequirement(name = "Bearer Authentication")
+    @PostMapping("/sub-anagrams")
+    @PreAuthorize("hasRole('USER') or hasRole('ADMIN')")
+    public ResponseEntity<SubAnagramResponse> findSubAnagrams(
+        @Parameter(description = "Letras disponíveis para formar palavras", required = true)
+        @Valid @RequestBody SubAnagramRequest request) {
+        try {
+            log.info("Recebida requisição de sub-anagramas: {}", request.getLetters());
+            long startTime = System.currentTimeMillis();
+
+            int minLength = request.getMinLength() != null ? request.getMinLength() : 1;
+            Map<Integer, List<String>> wordsByLength =
+                dictionaryService.findSubAnagrams(request.getDictionary(), request.getLetters(), minLength);
+            int totalWords = wordsByLength.values().stream().mapToInt(List::size).sum();
+
+            SubAnagramResponse response = new SubAnagramResponse(
+                request.getLetters().toLowerCase(), wordsByLength, totalWords,
+                System.currentTimeMillis() - startTime);
+
+            log.info("Sub-anagramas encontrados com sucesso. Total: {}", totalWords);
+            return ResponseEntity.ok(response);
+
+        } catch (IllegalArgumentException e) {
+            log.warn("Requisição inválida: {}", e.getMessage());
+            return ResponseEntity.badRequest().build();
+        } catch (Exception e) {
+            log.error("Erro interno ao buscar sub-anagramas: {}", e.getMessage(), e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
+        }
+    }
+
+    /**
+     * Endpoint de busca de quase-anagramas
+     * 
+     * Retorna as palavras do dicionário a uma letra de distância de algum
+     * anagrama das letras informadas: com uma letra a mais, trocada ou a menos.
+     * Requer autenticação JWT válida.
+     * 
+     * @param request requisição contendo as letras de referência
+     * @return ResponseEntity contendo os vizinhos encontrados
+     */
+    @Operation(
+        summary = "Buscar quase-anagramas",
+        description = "Retorna as palavras do dicionário com uma letra a mais, trocada ou a menos em relação às letras informadas"
+    )
+    @ApiResponses(value = {
+        @ApiResponse(
+            responseCode = "200",
+            description = "Vizinhos encontrados com sucesso",
+            content = @Content(
+                mediaType = "application/json",
+                schema = @Schema(implementation = NearAnagramResponse.class),
+                examples = @ExampleObject(
+                    name = "Quase-anagramas",
+                    value = "{\"originalLetters\": \"tac\", \"neighbors\": [{\"word\": \"cart\", \"edit\": \"ADDED\", \"addedLetter\": \"r\"}, {\"word\": \"bat\", \"edit\": \"CHANGED\", \"addedLetter\": \"b\", \"removedLetter\": \"c\"}, {\"word\": \"at\", \"edit\": \"REMOVED\", \"removedLetter\": \"c\"}], \"totalNeighbors\": 3, \"processingTimeMs\": 0}"
+                )
+            )
+        ),
+        @ApiResponse(
+            responseCode = "400",
+            description = "Dados de entrada inválidos"
+        ),
+        @ApiResponse(
+            responseCode = "401",
+            description = "Não autenticado"
+        ),
+        @ApiResponse(
+            responseCode = "500",
+            description = "Erro interno do servidor"
+        )
+    })
+    @SecurityRequirement(name = "Bearer Authentication")
+    @PostMapping("/near-anagrams")
+    @PreAuthorize("hasRole('USER') or hasRole('ADMIN')")
+    public ResponseEntity<NearAnagramResponse> findNearAnagrams(
+        @Parameter(description = "Letras de referência", required = true)
+        @Valid @RequestBody NearAnagramRequest request) {
+        try {
+            log.info("Recebida requisição de quase-anagramas: {}", request.getLetters());
+            long startTime = System.currentTimeMillis();
+
+            int limit = request.getLimit() != null ? request.getLimit() : DEFAULT_NEAR_ANAGRAM_LIMIT;
+            List<NearAnagram> neighbors = dictionaryService.findNearAnagrams(request.getDictionary(), request.getLetters(), limit);
+
+            NearAnagramResponse response = new NearAnagramResponse(
+                request.getLetters().toLowerCase(), neighbors, neighbors.size(),
+                System.currentTimeMillis() - startTime);
+
+            log.info("Quase-anagramas encontrados com sucesso. Total: {}", neighbors.size());
+            return ResponseEntity.ok(response);
+
+        } catch (IllegalArgumentException e) {
+            log.warn("Requisição inválida: {}", e.getMessage());
+            return ResponseEntity.badRequest().build();
+        } catch (Exception e) {
+            log.error("Erro interno ao buscar quase-anagramas: {}", e.getMessage(), e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
+        }
+    }
+
+    /**
+     * Endpoint de busca das palavras de maior pontuação
+     * 
+     * Retorna as K palavras do dicionário de maior pontuação formáveis com as
+     * peças informadas ('?' é um curinga, que vale zero), segundo os valores
+     * de letras configurados ou enviados na requisição.
+     * Requer autenticação JWT válida.
+     * 
+     * @param request requisição contendo as peças e as restrições
+     * @return ResponseEntity contendo as palavras e pontuações
+     */
+    @Operation(
+        summary = "Buscar palavras de maior pontuação",
+        description = "Retorna as K palavras de maior pontuação formáveis com as peças, com curingas e restrições de comprimento e padrão"
+    )
+    @ApiResponses(value = {
+        @ApiResponse(
+            responseCode = "200",
+            description = "Palavras encontradas com sucesso",
+            content = @Content(
+                mediaType = "application/json",
+                schema = @Schema(implementation = TopWordsResponse.class),
+                examples = @ExampleObject(
+                    name = "Palavras de maior pontuação",
+                    value = "{\"originalRack\": \"quiz?\", \"words\": [{\"word\": \"quiz\", \"score\": 22}, {\"word\": \"quip\", \"score\": 12, \"blankLetters\": \"p\"}], \"totalWords\": 2, \"processingTimeMs\": 0}"
+                )
+            )
+        ),
+        @ApiResponse(
+            responseCode = "400",
+            description = "Dados de entrada inválidos"
+        ),
+        @ApiResponse(
+            responseCode = "401",
+            description = "Não autenticado"
+        ),
+        @ApiResponse(
+            responseCode = "500",
+            description = "Erro interno do servidor"
+        )
+    })
+    @SecurityRequirement(name = "Bearer Authentication")
+    @PostMapping("/top-words")
+    @PreAuthorize("hasRole('USER') or hasRole('ADMIN')")
+    public ResponseEntity<TopWordsResponse> findTopWords(
+        @Parameter(description = "Peças disponíveis e restrições da busca", required = true)
+        @Valid @RequestBody TopWordsRequest request) {
+        try {
+            log.info("Recebida requisição de palavras de maior pontuação: {}", request.getRack());
+            long startTime = System.currentTimeMillis();
+
+            int limit = request.getLimit() != null ? request.getLimit() : DEFAULT_TOP_WORDS_LIMIT;
+            int minLength = request.getMinLength() != null ? request.getMinLength() : 1;
+            int maxLength = request.getMaxLength() != null ? request.getMaxLength() : Integer.MAX_VALUE;
+            List<ScoredWord> words = dictionaryService.findTopWords(request.getDictionary(), request.getRack(), limit,
+                minLength, maxLength, request.getPattern(), request.getLetterValues());
+
+            TopWordsResponse response = new TopWordsResponse(
+                request.getRack().toLowerCase(), words, words.size(),
+                System.currentTimeMillis() - startTime);
+
+            log.info("Palavras de maior pontuação encontradas com sucesso. Total: {}", words.size());
+            return ResponseEntity.ok(response);
+
+        } catch (IllegalArgumentException e) {
+            log.warn("Requisição inválida: {}", e.getMessage());
+            return ResponseEntity.badRequest().build();
+        } catch (Exception e) {
+            log.error("Erro interno ao buscar palavras de maior pontuação: {}", e.getMessage(), e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
+        }
+    }
+
+    /**
+     * Endpoint de busca por padrão de palavras cruzadas
+     * 
+     * Retorna as palavras com o comprimento do padrão e as letras fixas nas
+     * posições indicadas, opcionalmente preenchendo as posições livres apenas
+     * com as letras informadas.
+     * Requer autenticação JWT válida.
+     * 
+     * @param request requisição contendo o padrão e as letras disponíveis
+     * @return ResponseEntity contendo as palavras encontradas
+     */
+    @Operation(
+        summary = "Buscar por padrão",
+        description = "Retorna as palavras que atendem a um padrão como \"a?c??e\", opcionalmente restringindo as posições livres às letras informadas"
+    )
+    @ApiResponses(value = {
+        @ApiResponse(
+            responseCode = "200",
+            description = "Palavras encontradas com sucesso",
+            content = @Content(
+                mediaType = "application/json",
+                schema = @Schema(implementation = PatternMatchResponse.class),
+                examples = @ExampleObject(
+                    name = "Padrão",
+                    value = "{\"pattern\": \"c?t\", \"words\": [\"cat\", \"cot\", \"cut\"], \"totalMatches\": 3, \"processingTimeMs\": 0}"
+                )
+            )
+        ),
+        @ApiResponse(
+            responseCode = "400",
+            description = "Dados de entrada inválidos"
+        ),
+        @ApiResponse(
+            responseCode = "401",
+            description = "Não autenticado"
+        ),
+        @ApiResponse(
+            responseCode = "500",
+            description = "Erro interno do servidor"
+        )
+    })
+    @SecurityRequirement(name = "Bearer Authentication")
+    @PostMapping("/pattern-matches")
+    @PreAuthorize("hasRole('USER') or hasRole('ADMIN')")
+    public ResponseEntity<PatternMatchResponse> findPatternMatches(
+        @Parameter(description = "Padrão da palavra e letras disponíveis", required = true)
+        @Valid @RequestBody PatternMatchRequest request) {
+        try {
+            log.info("Recebida requisição de busca por padrão: {}", request.getPattern());
+            long startTime = System.currentTimeMillis();
+
+            int limit = request.getLimit() != null ? request.getLimit() : DEFAULT_PATTERN_LIMIT;
+            PatternIndex.Result result =
+                dictionaryService.findPatternMatches(request.getDictionary(),
+                    request.getPattern(), request.getLetters(), limit);
+
+            PatternMatchResponse response = new PatternMatchResponse(
+                request.getPattern().toLowerCase(), result.getWords(), result.getTotalMatches(),
+                System.currentTimeMillis() - startTime);
+
+            log.info("Busca por padrão concluída com sucesso. Total: {}", result.getTotalMatches());
+            return ResponseEntity.ok(response);
+
+        } catch (IllegalArgumentException e) {
+            log.warn("Requisição inválida: {}", e.getMessage());
+            return ResponseEntity.badRequest().build();
+        } catch (Exception e) {
+            log.error("Erro interno na busca por padrão: {}", e.getMessage(), e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
+        }
+    }
+
+    /**
+     * Endpoint de autocompletar restrito às letras disponíveis
+     * 
+     * Retorna as palavras mais frequentes que começam pelo prefixo digitado e
+     * podem ser formadas com as letras disponíveis.
+     * Requer autenticação JWT válida.
+     * 
+     * @param request requisição contendo as letras, o prefixo e o limite
+     * @return ResponseEntity contendo as sugestões
+     */
+    @Operation(
+        summary = "Autocompletar prefixo",
+        description = "Retorna as palavras mais frequentes que começam pelo prefixo e podem ser formadas com as letras disponíveis"
+    )
+    @ApiResponses(value = {
+        @ApiResponse(
+            responseCode = "200",
+            description = "Sugestões encontradas com sucesso",
+            content = @Content(
+                mediaType = "application/json",
+                schema = @Schema(implementation = AutocompleteResponse.class),
+                examples = @ExampleObject(
+                    name = "Autocompletar",
+                    value = "{\"letters\": \"tacre\", \"prefix\": \"ca\", \"completions\": [\"car\", \"care\", \"cat\"], \"processingTimeMs\": 0}"
+                )
+            )
+        ),
+        @ApiResponse(
+            responseCode = "400",
+            description = "Dados de entrada inválidos"
+        ),
+        @ApiResponse(
+            responseCode = "401",
+            description = "Não autenticado"
+        ),
+        @ApiResponse(
+            responseCode = "500",
+            description = "Erro interno do servidor"
+        )
+    })
+    @SecurityRequirement(name = "Bearer Authentication")
+    @PostMapping("/autocomplete")
+    @PreAuthorize("hasRole('USER') or hasRole('ADMIN')")
+    public ResponseEntity<AutocompleteResponse> autocomplete(
+        @Parameter(description = "Letras disponíveis e prefixo digitado", required = true)
+        @Valid @RequestBody AutocompleteRequest request) {
+        try {
+            log.debug("Recebida requisição de autocompletar: {}", request.getPrefix());
+            long startTime = System.currentTimeMillis();
+
+            int limit = request.getLimit() != null ? request.getLimit() : DEFAULT_AUTOCOMPLETE_LIMIT;
+            String prefix = request.getPrefix() != null ? request.getPrefix().toLowerCase() : "";
+            List<String> completions = dictionaryService.findCompletions(request.getDictionary(),
+                request.getLetters(), prefix, limit);
+
+            AutocompleteResponse response = new AutocompleteResponse(
+                request.getLetters().toLowerCase(), prefix, completions,
+                System.currentTimeMillis() - startTime);
+
+            return ResponseEntity.ok(response);
+
+        } catch (IllegalArgumentException e) {
+            log.warn("Requisição inválida: {}", e.getMessage());
+            return ResponseEntity.badRequest().build();
+        } catch (Exception e) {
+            log.error("Erro interno no autocompletar: {}", e.getMessage(), e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
+        }
+    }
+
+    /**
+     * Endpoint de sugestões "você quis dizer"
+     * 
+     * Retorna as palavras do dicionário a poucas inserções, remoções ou
+     * trocas de letras da palavra digitada, das mais próximas para as mais
+     * distantes.
+     * Requer autenticação JWT válida.
+     * 
+     * @param request requisição contendo a palavra, a distância máxima e o limite
+     * @return ResponseEntity contendo as sugestões
+     */
+    @Operation(
+        summary = "Você quis dizer",
+        description = "Retorna as palavras do dicionário a distância de edição até o limite (padrão 2) da palavra digitada"
+    )
+    @ApiResponses(value = {
+        @ApiResponse(
+            responseCode = "200",
+            description = "Sugestões encontradas com sucesso",
+            content = @Content(
+                mediaType = "application/json",
+                schema = @Schema(implementation = FuzzyMatchResponse.class),
+                examples = @ExampleObject(
+                    name = "Sugestões",
+                    value = "{\"word\": \"hte\", \"maxDistance\": 2, \"suggestions\": [{\"word\": \"the\", \"distance\": 2}], \"processingTimeMs\": 0}"
+                )
+            )
+        ),
+        @ApiResponse(
+            responseCode = "400",
+            description = "Dados de entrada inválidos"
+        ),
+        @ApiResponse(
+            responseCode = "401",
+            description = "Não autenticado"
+        ),
+        @ApiResponse(
+            responseCode = "500",
+            description = "Erro interno do servidor"
+        )
+    })
+    @SecurityRequirement(name = "Bearer Authentication")
+    @PostMapping("/fuzzy-matches")
+    @PreAuthorize("hasRole('USER') or hasRole('ADMIN')")
+    public ResponseEntity<FuzzyMatchResponse> findFuzzyMatches(
+        @Parameter(description = "Palavra digitada, distância máxima e limite", required = true)
+        @Valid @RequestBody FuzzyMatchRequest request) {
+        try {
+            log.debug("Recebida requisição de palavras próximas: {}", request.getWord());
+            long startTime = System.currentTimeMillis();
+
+            int maxDistance = request.getMaxDistance() != null ? request.getMaxDistance() : FuzzyIndex.MAX_DISTANCE;
+            int limit = request.getLimit() != null ? request.getLimit() : DEFAULT_FUZZY_LIMIT;
+            List<FuzzyMatch> suggestions = dictionaryService.findSimilarWords(request.getDictionary(),
+                request.getWord(), maxDistance, limit);
+
+            FuzzyMatchResponse response = new FuzzyMatchResponse(
+                request.getWord().toLowerCase(), maxDistance, suggestions,
+                System.currentTimeMillis() - startTime);
+
+            return ResponseEntity.ok(response);
+
+        } catch (IllegalArgumentException e) {
+            log.warn("Requisição inválida: {}", e.getMessage());
+            return ResponseEntity.badRequest().build();
+        } catch (Exception e) {
+            log.error("Erro interno na busca de palavras próximas: {}", e.getMessage(), e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
+        }
+    }
+
+    /**
+     * Endpoint para recarregar o dicionário
+     * 
+     * A nova versão é construída em segundo plano e publicada atomicamente;
+     * as consultas continuam atendidas pela versão atual até a troca.
+     * Requer autenticação JWT válida e papel de ADMIN.
+     * 
+     * @return ResponseEntity indicando que a recarga foi agendada
+     */
+    @Operation(
+        summary = "Recarregar dicionário",
+        description = "Agenda a reconstrução do dicionário em segundo plano e a troca atômica da versão em uso"
+    )
+    @SecurityRequirement(name = "Bearer Authentication")
+    @PostMapping("/reload")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<Map<String, Object>> reloadDictionary() {
+        try {
+            log.info("Recebida requisição para recarregar o dicionário");
+
+            boolean scheduled = dictionaryService.reloadAsync();
+
+            Map<String, Object> response = new HashMap<>();
+            response.put("message", scheduled
+                ? "Recarga do dicionário agendada"
+                : "Já existe uma recarga do dicionário agendada");
+            response.put("currentVersion", Long.toHexString(dictionaryService.currentVersion()));
+
+            return ResponseEntity.status(HttpStatus.ACCEPTED).body(response);
+
+        } catch (Exception e) {
+            log.error("Erro ao agendar recarga do dicionário: {}", e.getMessage(), e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
+        }
+    }
+
+    /**
+     * Endpoint para verificar o dicionário em uso
+     * 
+     * Requer autenticação JWT válida.
+     * 
+     * @return ResponseEntity contendo tamanho e versão do dicionário
+     */
+    @Operation(
+        summary = "Status do dicionário",
+        description = "Retorna a quantidade de palavras, de grupos de anagramas e a versão do dicionário em uso"
+    )
+    @SecurityRequirement(name = "Bearer Authentication")
+    @GetMapping("/status")
+    @PreAuthorize("hasRole('USER') or hasRole('ADMIN')")
+    public ResponseEntity<Map<String, Object>> getDictionaryStatus() {
+        try {
+            Map<String, Object> response = new HashMap<>();
+            response.put("words", dictionaryService.wordCount());
+            response.put("groups", dictionaryService.groupCount());
+            response.put("version", Long.toHexString(dictionaryService.currentVersion()));
+
+            return ResponseEntity.ok(response);
+
+        } catch (Exception e) {
+            log.error("Erro ao obter status do dicionário: {}", e.getMessage(), e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
+        }
+    }
+
+    /**
+     * Endpoint de uso dos dicionários
+     * 
+     * Lista o dicionário padrão e os sobrepostos, com a memória compartilhada,
+     * a memória própria de cada um e a quantidade de consultas atendidas.
+     * Requer autenticação JWT válida e papel de ADMIN.
+     * 
+     * @return ResponseEntity contendo o uso de cada dicionário
+     */
+    @Operation(
+        summary = "Uso dos dicionários",
+        description = "Retorna palavras, memória compartilhada e própria, e contadores de consultas de cada dicionário"
+    )
+    @SecurityRequirement(name = "Bearer Authentication")
+    @GetMapping("/dictionaries")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<List<DictionaryUsage>> getDictionaryUsage() {
+        try {
+            return ResponseEntity.ok(dictionaryService.dictionaryUsage());
+
+        } catch (Exception e) {
+            log.error("Erro ao obter uso dos dicionários: {}", e.getMessage(), e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
+        }
+    }
+}
@@ -0,0 +1,423 @@
+package com.lucas.text_processing_api.controller;
+
+import com.lucas.text_processing_api.dto.DocumentInfo;
+import com.lucas.text_processing_api.dto.DocumentSearchResponse;
+import com.lucas.text_processing_api.dto.RepeatedSubstringResponse;
+import com.lucas.text_processing_api.dto.RhymeResponse;
+import com.lucas.text_processing_api.dto.SubstringCountResponse;
+import com.lucas.text_processing_api.service.DocumentService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.multipart.MultipartFile;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.ExampleObject;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+
+import java.io.InputStream;
+import java.util.List;
+
+/**
+ * Controller REST para armazenamento e busca de documentos
+ * 
+ * Este controller permite enviar documentos de texto, listá-los e procurar
+ * substrings em todos os documentos enviados pelo usuário autenticado.
+ * Dentro de um documento, conta as ocorrências de uma substring, localiza o
+ * maior trecho repetido e lista as palavras terminadas em um sufixo.
+ * Todos os endpoints requerem autenticação JWT.
+ * 
+ * @author Lucas
+ * @version 1.1
+ */
+@RestController
+@RequestMapping("/api/documents")
+@Slf4j
+@CrossOrigin(origins = "*")
+@Tag(name = "Documentos", description = "Endpoints de armazenamento e busca de substrings em documentos")
+public class DocumentController {
+
+    /**
+     * Quantidade padrão de documentos retornados na busca
+     */
+    private static final int DEFAULT_SEARCH_LIMIT = 50;
+
+    /**
+     * Quantidade padrão de palavras retornadas na busca por terminação
+     */
+    private static final int DEFAULT_RHYME_LIMIT = 50;
+
+    @Autowired
+    private DocumentService documentService;
+
+    /**
+     * Endpoint de envio de um documento
+     * 
+     * Requer autenticação JWT válida.
+     * 
+     * @param file arquivo de texto
+     * @param name nome do documento (opcional, padrão nome do arquivo)
+     * @return ResponseEntity contendo os dados do documento armazenado
+     */
+    @Operation(
+        summary = "Enviar documento",
+        description = "Armazena um documento de texto e o indexa para busca de substrings"
+    )
+    @ApiResponses(value = {
+        @ApiResponse(
+            responseCode = "200",
+            description = "Documento armazenado com sucesso",
+            content = @Content(
+                mediaType = "application/json",
+                schema = @Schema(implementation = DocumentInfo.class),
+                examples = @ExampleObject(
+                    name = "Documento",
+                    value = "{\"id\": 0, \"name\": \"contrato.txt\", \"sizeBytes\": 5120}"
+                )
+            )
+        ),
+        @ApiResponse(
+            responseCode = "400",
+            description = "Documento vazio ou grande demais"
+        ),
+        @ApiResponse(
+            responseCode = "401",
+            description = "Não autenticado"
+        ),
+        @ApiResponse(
+            responseCode = "500",
+            description = "Erro interno do servidor"
+        )
+    })
+    @SecurityRequirement(name = "Bearer Authentication")
+    @PostMapping(consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    @PreAuthorize("hasRole('USER') or hasRole('ADMIN')")
+    public ResponseEntity<DocumentInfo> addDocument(
+        @Parameter(description = "Arquivo de texto", required = true)
+        @RequestParam("file") MultipartFile file,
+        @Parameter(description = "Nome do documento (padrão: nome do arquivo)")
+        @RequestParam(required = false) String name) {
+        try {
+            log.info("Recebido documento: {} ({} bytes)", file.getOriginalFilename(), file.getSize());
+
+            DocumentInfo document;
+            try (InputStream input = file.getInputStream()) {
+                document = documentService.addDocument(name != null ? name : file.getOriginalFilename(), input);
+            }
+
+            log.info("Documento {} armazenado com sucesso", document.getId());
+            return ResponseEntity.ok(document);
+
+        } catch (IllegalArgumentException e) {
+            log.warn("Requisição inválida: {}", e.getMessage());
+            return ResponseEntity.badRequest().build();
+        } catch (Exception e) {
+            log.error("Erro interno ao armazenar documento: {}", e.getMessage(), e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
+        }
+    }
+
+    /**
+     * Endpoint de listagem dos documentos do usuário
+     * 
+     * Requer autenticação JWT válida.
+     * 
+     * @return ResponseEntity contendo os documentos, em ordem de envio
+     */
+    @Operation(
+        summary = "Listar documentos",
+        description = "Lista os documentos enviados pelo usuário autenticado"
+    )
+    @ApiResponses(value = {
+        @ApiResponse(
+            responseCode = "200",
+            description = "Documentos listados com sucesso"
+        ),
+        @ApiResponse(
+            responseCode = "401",
+            description = "Não autenticado"
+        )
+    })
+    @SecurityRequirement(name = "Bearer Authentication")
+    @GetMapping
+    @PreAuthorize("hasRole('USER') or hasRole('ADMIN')")
+    public ResponseEntity<List<DocumentInfo>> listDocuments() {
+        return ResponseEntity.ok(documentService.listDocuments());
+    }
+
+    /**
+     * Endpoint de busca de uma substring nos documentos do usuário
+     * 
+     * Requer autenticação JWT válida.
+     * 
+     * @param query substring procurada
+     * @param limit quantidade máxima de documentos retornados
+     * @return ResponseEntity contendo os documentos que contêm a substring
+     */
+    @Operation(
+        summary = "Buscar substring",
+        description = "Procura uma substring, sem diferenciar maiúsculas, em todos os documentos do usuário autenticado"
+    )
+    @ApiResponses(value = {
+        @ApiResponse(
+            responseCode = "200",
+            description = "Busca realizada com sucesso",
+            content = @Content(
+                mediaType = "application/json",
+                schema = @Schema(implementation = DocumentSearchResponse.class),
+                examples = @ExampleObject(
+                    name = "Resultado",
+                    value = "{\"query\": \"prazo\", \"results\": [{\"documentId\": 0, \"name\": \"contrato.txt\", \"occurrences\": 2, \"offsets\": [120, 2048]}], \"candidateDocuments\": 1, \"processingTimeMs\": 1}"
+                )
+            )
+        ),
+        @ApiResponse(
+            responseCode = "400",
+            description = "Dados de entrada inválidos"
+        ),
+        @ApiResponse(
+            responseCode = "401",
+            description = "Não autenticado"
+        ),
+        @ApiResponse(
+            responseCode = "500",
+            description = "Erro interno do servidor"
+        )
+    })
+    @SecurityRequirement(name = "Bearer Authentication")
+    @GetMapping("/search")
+    @PreAuthorize("hasRole('USER') or hasRole('ADMIN')")
+    public ResponseEntity<DocumentSearchResponse> search(
+        @Parameter(description = "Substring procurada", required = true)
+        @RequestParam("q") String query,
+        @Parameter(description = "Quantidade máxima de documentos retornados (padrão 50)")
+        @RequestParam(required = false) Integer limit) {
+        try {
+            log.info("Recebida busca em documentos: {}", query);
+
+            DocumentSearchResponse response = documentService.search(query,
+                limit != null ? limit : DEFAULT_SEARCH_LIMIT);
+
+            log.info("Busca concluída com sucesso. Documentos: {}", response.getResults().size());
+            return ResponseEntity.ok(response);
+
+        } catch (IllegalArgumentException e) {
+            log.warn("Requisição inválida: {}", e.getMessage());
+            return ResponseEntity.badRequest().build();
+        } catch (Exception e) {
+            log.error("Erro interno na busca em documentos: {}", e.getMessage(), e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
+        }
+    }
+
+    /**
+     * Endpoint de contagem das ocorrências de uma substring em um documento
+     * 
+     * Requer autenticação JWT válida.
+     * 
+     * @param id identificador do documento
+     * @param query substring procurada
+     * @return ResponseEntity contendo a contagem e posições de algumas ocorrências
+     */
+    @Operation(
+        summary = "Contar ocorrências em um documento",
+        description = "Conta as ocorrências, inclusive sobrepostas, de uma substring em um documento do usuário, sem diferenciar maiúsculas"
+    )
+    @ApiResponses(value = {
+        @ApiResponse(
+            responseCode = "200",
+            description = "Contagem realizada com sucesso",
+            content = @Content(
+                mediaType = "application/json",
+                schema = @Schema(implementation = SubstringCountResponse.class),
+                examples = @ExampleObject(
+                    name = "Contagem",
+                    value = "{\"documentId\": 0, \"query\": \"prazo\", \"occurrences\": 2, \"offsets\": [120, 2048], \"processingTimeMs\": 1}"
+                )
+            )
+        ),
+        @ApiResponse(
+            responseCode = "400",
+            description = "Dados de entrada inválidos ou documento grande demais"
+        ),
+        @ApiResponse(
+            responseCode = "401",
+            description = "Não autenticado"
+        ),
+        @ApiResponse(
+            responseCode = "404",
+            description = "Documento não encontrado"
+        ),
+        @ApiResponse(
+            responseCode = "500",
+            description = "Erro interno do servidor"
+        )
+    })
+    @SecurityRequirement(name = "Bearer Authentication")
+    @GetMapping("/{id}/occurrences")
+    @PreAuthorize("hasRole('USER') or hasRole('ADMIN')")
+    public ResponseEntity<SubstringCountResponse> countOccurrences(
+        @Parameter(description = "Identificador do documento", required = true)
+        @PathVariable int id,
+        @Parameter(description = "Substring procurada", required = true)
+        @RequestParam("q") String query) {
+        try {
+            log.info("Recebida contagem no documento {}: {}", id, query);
+
+            return documentService.countOccurrences(id, query)
+                .map(ResponseEntity::ok)
+                .orElseGet(() -> ResponseEntity.notFound().build());
+
+        } catch (IllegalArgumentException e) {
+            log.warn("Requisição inválida: {}", e.getMessage());
+            return ResponseEntity.badRequest().build();
+        } catch (Exception e) {
+            log.error("Erro interno na contagem no documento: {}", e.getMessage(), e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
+        }
+    }
+
+    /**
+     * Endpoint do maior trecho repetido de um documento
+     * 
+     * Requer autenticação JWT válida.
+     * 
+     * @param id identificador do documento
+     * @return ResponseEntity contendo o trecho e suas ocorrências
+     */
+    @Operation(
+        summary = "Maior trecho repetido",
+        description = "Localiza o maior trecho que aparece ao menos duas vezes em um documento do usuário"
+    )
+    @ApiResponses(value = {
+        @ApiResponse(
+            responseCode = "200",
+            description = "Trecho localizado com sucesso",
+            content = @Content(
+                mediaType = "application/json",
+                schema = @Schema(implementation = RepeatedSubstringResponse.class),
+                examples = @ExampleObject(
+                    name = "Trecho",
+                    value = "{\"documentId\": 0, \"length\": 22, \"occurrences\": 2, \"offsets\": [310, 4096], \"text\": \"o prazo de vinte dias \", \"processingTimeMs\": 1}"
+                )
+            )
+        ),
+        @ApiResponse(
+            responseCode = "400",
+            description = "Documento grande demais"
+        ),
+        @ApiResponse(
+            responseCode = "401",
+            description = "Não autenticado"
+        ),
+        @ApiResponse(
+            responseCode = "404",
+            description = "Documento não encontrado"
+        ),
+        @ApiResponse(
+            responseCode = "500",
+            description = "Erro interno do servidor"
+        )
+    })
+    @SecurityRequirement(name = "Bearer Authentication")
+    @GetMapping("/{id}/repeats/longest")
+    @PreAuthorize("hasRole('USER') or hasRole('ADMIN')")
+    public ResponseEntity<RepeatedSubstringResponse> findLongestRepeat(
+        @Parameter(description = "Identificador do documento", required = true)
+        @PathVariable int id) {
+        try {
+            log.info("Recebida busca do maior trecho repetido no documento {}", id);
+
+            return documentService.findLongestRepeat(id)
+                .map(ResponseEntity::ok)
+                .orElseGet(() -> ResponseEntity.notFound().build());
+
+        } catch (IllegalArgumentException e) {
+            log.warn("Requisição inválida: {}", e.getMessage());
+            return ResponseEntity.badRequest().build();
+        } catch (Exception e) {
+            log.error("Erro interno na busca do maior trecho repetido: {}", e.getMessage(), e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
+        }
+    }
+
+    /**
+     * Endpoint das palavras de um documento terminadas em um sufixo
+     * 
+     * Requer autenticação JWT válida.
+     * 
+     * @param id identificador do documento
+     * @param suffix terminação procurada
+     * @param limit quantidade máxima de palavras retornadas
+     * @return ResponseEntity contendo as palavras, das mais frequentes para as menos
+     */
+    @Operation(
+        summary = "Palavras com a mesma terminação",
+        description = "Lista as palavras de um documento do usuário terminadas no sufixo informado, como as que rimam com uma palavra"
+    )
+    @ApiResponses(value = {
+        @ApiResponse(
+            responseCode = "200",
+            description = "Palavras listadas com sucesso",
+            content = @Content(
+                mediaType = "application/json",
+                schema = @Schema(implementation = RhymeResponse.class),
+                examples = @ExampleObject(
+                    name = "Palavras",
+                    value = "{\"documentId\": 0, \"suffix\": \"são\", \"words\": [{\"word\": \"rescisão\", \"count\": 3}], \"distinctWords\": 1, \"totalOccurrences\": 3, \"processingTimeMs\": 1}"
+                )
+            )
+        ),
+        @ApiResponse(
+            responseCode = "400",
+            description = "Dados de entrada inválidos ou documento grande demais"
+        ),
+        @ApiResponse(
+            responseCode = "401",
+            description = "Não autenticado"
+        ),
+        @ApiResponse(
+            responseCode = "404",
+            description = "Documento não encontrado"
+        ),
+        @ApiResponse(
+            responseCode = "500",
+            description = "Erro interno do servidor"
+        )
+    })
+    @SecurityRequirement(name = "Bearer Authentication")
+    @GetMapping("/{id}/rhymes")
+    @PreAuthorize("hasRole('USER') or hasRole('ADMIN')")
+    public ResponseEntity<RhymeResponse> findRhymes(
+        @Parameter(description = "Identificador do documento", required = true)
+        @PathVariable int id,
+        @Parameter(description = "Terminação procurada", required = true)
+        @RequestParam String suffix,
+        @Parameter(description = "Quantidade máxima de palavras retornadas (padrão 50)")
+        @RequestParam(required = false) Integer limit) {
+        try {
+            log.info("Recebida busca por terminação no documento {}: {}", id, suffix);
+
+            return documentService.findRhymes(id, suffix, limit != null ? limit : DEFAULT_RHYME_LIMIT)
+                .map(ResponseEntity::ok)
+                .orElseGet(() -> ResponseEntity.notFound().build());
+
+        } catch (IllegalArgumentException e) {
+            log.warn("Requisição inválida: {}", e.getMessage());
+            return ResponseEntity.badRequest().build();
+        } catch (Exception e) {
+            log.error("Erro interno na busca por terminação: {}", e.getMessage(), e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
+        }
+    }
+}
@@ -0,0 +1,1013 @@
+package com.lucas.text_processing_api.controller;
+
+import com.lucas.text_processing_api.dto.AnagramGroup;
+import com.lucas.text_processing_api.dto.AnagramGroupRequest;
+import com.lucas.text_processing_api.dto.AnagramGroupResponse;
+import com.lucas.text_processing_api.dto.AnagramOccurrence;
+import com.lucas.text_processing_api.dto.AnagramOccurrenceRequest;
+import com.lucas.text_processing_api.dto.AnagramOccurrenceResponse;
+import com.lucas.text_processing_api.dto.DiffGranularity;
+import com.lucas.text_processing_api.dto.DiffSummary;
+import com.lucas.text_processing_api.dto.KeywordScanResponse;
+import com.lucas.text_processing_api.dto.KeywordSetRequest;
+import com.lucas.text_processing_api.dto.KeywordSetResponse;
+import com.lucas.text_processing_api.dto.NearDuplicateRequest;
+import com.lucas.text_processing_api.dto.NearDuplicateResponse;
+import com.lucas.text_processing_api.dto.PalindromeResponse;
+import com.lucas.text_processing_api.dto.TextJobStatus;
+import com.lucas.text_processing_api.dto.WordFrequencyResponse;
+import com.lucas.text_processing_api.service.AnagramStreamService;
+import com.lucas.text_processing_api.service.DiffService;
+import com.lucas.text_processing_api.service.KeywordService;
+import com.lucas.text_processing_api.service.NearDuplicateService;
+import com.lucas.text_processing_api.service.TextService;
+import com.lucas.text_processing_api.util.text.AnagramGrouper;
+import com.lucas.text_processing_api.util.text.AnagramWindowScanner;
+import com.lucas.text_processing_api.util.text.KeywordAutomaton;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.validation.Valid;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.multipart.MultipartFile;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.ExampleObject;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * Controller REST para análise de textos
+ * 
+ * Este controller fornece operações sobre listas de palavras e textos
+ * enviados pelos clientes, como o agrupamento em classes de anagramas.
+ * Diferente das consultas ao dicionário, trabalha apenas com as palavras
+ * recebidas. Arquivos grandes podem ser processados em um job assíncrono,
+ * consultado pelo identificador retornado no envio.
+ * Também localiza, em textos ou arquivos, os trechos que são anagramas de
+ * palavras informadas, calcula a frequência das palavras de um texto e
+ * detecta textos quase duplicados entre os enviados pelo usuário. Conjuntos
+ * de palavras-chave são compilados uma vez e reaproveitados em varreduras
+ * de textos enviados como fluxo. Os maiores palíndromos de um texto ou
+ * arquivo são localizados em tempo linear, com a contagem por comprimento.
+ * Duas versões de um texto são comparadas por linhas ou palavras, com o
+ * script de edição enviado em streaming.
+ * Todos os endpoints requerem autenticação JWT.
+ * 
+ * @author Lucas
+ * @version 1.8
+ */
+@RestController
+@RequestMapping("/api/text")
+@Slf4j
+@CrossOrigin(origins = "*")
+@Tag(name = "Texto", description = "Endpoints de análise de listas de palavras e textos")
+public class TextController {
+
+    /**
+     * Quantidade padrão de grupos retornados no agrupamento
+     */
+    private static final int DEFAULT_GROUP_LIMIT = 1000;
+
+    /**
+     * Quantidade padrão de trechos retornados na busca de anagramas no texto
+     */
+    private static final int DEFAULT_OCCURRENCE_LIMIT = 1000;
+
+    @Autowired
+    private TextService textService;
+
+    @Autowired
+    private NearDuplicateService nearDuplicateService;
+
+    @Autowired
+    private KeywordService keywordService;
+
+    @Autowired
+    private DiffService diffService;
+
+    /**
+     * Endpoint de agrupamento de uma lista de palavras em classes de anagramas
+     * 
+     * Requer autenticação JWT válida.
+     * 
+     * @param request requisição contendo as palavras e os filtros
+     * @return ResponseEntity contendo os grupos encontrados
+     */
+    @Operation(
+        summary = "Agrupar anagramas",
+        description = "Agrupa uma lista de palavras em classes de anagramas, dos maiores grupos para os menores"
+    )
+    @ApiResponses(value = {
+        @ApiResponse(
+            responseCode = "200",
+            description = "Palavras agrupadas com sucesso",
+            content = @Content(
+                mediaType = "application/json",
+                schema = @Schema(implementation = AnagramGroupResponse.class),
+                examples = @ExampleObject(
+                    name = "Grupos",
+                    value = "{\"groups\": [{\"letters\": \"act\", \"words\": [\"act\", \"cat\"], \"occurrences\": 3}], \"totalGroups\": 1, \"distinctWords\": 3, \"totalTokens\": 4, \"skippedTokens\": 0, \"processingTimeMs\": 1}"
+                )
+            )
+        ),
+        @ApiResponse(
+            responseCode = "400",
+            description = "Dados de entrada inválidos"
+        ),
+        @ApiResponse(
+            responseCode = "401",
+            description = "Não autenticado"
+        ),
+        @ApiResponse(
+            responseCode = "500",
+            description = "Erro interno do servidor"
+        )
+    })
+    @SecurityRequirement(name = "Bearer Authentication")
+    @PostMapping("/anagram-groups")
+    @PreAuthorize("hasRole('USER') or hasRole('ADMIN')")
+    public ResponseEntity<AnagramGroupResponse> groupAnagrams(
+        @Parameter(description = "Palavras a agrupar e filtros", required = true)
+        @Valid @RequestBody AnagramGroupRequest request) {
+        try {
+            log.info("Recebida requisição de agrupamento de {} palavras", request.getWords().size());
+            long startTime = System.currentTimeMillis();
+
+            int minGroupSize = request.getMinGroupSize() != null ? request.getMinGroupSize() : 1;
+            int limit = request.getLimit() != null ? request.getLimit() : DEFAULT_GROUP_LIMIT;
+            AnagramGrouper.Result result = textService.groupAnagrams(request.getWords(), minGroupSize, limit);
+
+            log.info("Agrupamento concluído com sucesso. Grupos: {}", result.getTotalGroups());
+            return ResponseEntity.ok(toResponse(result, startTime));
+
+        } catch (IllegalArgumentException e) {
+            log.warn("Requisição inválida: {}", e.getMessage());
+            return ResponseEntity.badRequest().build();
+        } catch (Exception e) {
+            log.error("Erro interno no agrupamento de anagramas: {}", e.getMessage(), e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
+        }
+    }
+
+    /**
+     * Endpoint de agrupamento das palavras de um arquivo de texto
+     * 
+     * O arquivo (UTF-8) é lido em blocos e dividido em palavras nos
+     * caracteres ASCII que não são letras.
+     * Requer autenticação JWT válida.
+     * 
+     * @param file arquivo de texto
+     * @param minGroupSize quantidade mínima de palavras distintas por grupo
+     * @param limit quantidade máxima de grupos retornados
+     * @return ResponseEntity contendo os grupos encontrados
+     */
+    @Operation(
+        summary = "Agrupar anagramas de um arquivo",
+        description = "Agrupa as palavras de um arquivo de texto em classes de anagramas"
+    )
+    @ApiResponses(value = {
+        @ApiResponse(
+            responseCode = "200",
+            description = "Palavras agrupadas com sucesso",
+            content = @Content(
+                mediaType = "application/json",
+                schema = @Schema(implementation = AnagramGroupResponse.class)
+            )
+        ),
+        @ApiResponse(
+            responseCode = "400",
+            description = "Dados de entrada inválidos"
+        ),
+        @ApiResponse(
+            responseCode = "401",
+            description = "Não autenticado"
+        ),
+        @ApiResponse(
+            responseCode = "500",
+            description = "Erro interno do servidor"
+        )
+    })
+    @SecurityRequirement(name = "Bearer Authentication")
+    @PostMapping(value = "/anagram-groups/upload", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    @PreAuthorize("hasRole('USER') or hasRole('ADMIN')")
+    public ResponseEntity<AnagramGroupResponse> groupAnagramsFromFile(
+        @Parameter(description = "Arquivo de texto (UTF-8)", required = true)
+        @RequestParam("file") MultipartFile file,
+        @Parameter(description = "Quantidade mínima de palavras distintas por grupo")
+        @RequestParam(defaultValue = "1") int minGroupSize,
+        @Parameter(description = "Quantidade máxima de grupos retornados")
+        @RequestParam(defaultValue = "1000") int limit) {
+        try {
+            log.info("Recebido arquivo para agrupamento: {} ({} bytes)", file.getOriginalFilename(), file.getSize());
+            long startTime = System.currentTimeMillis();
+
+            if (file.isEmpty()) {
+                throw new IllegalArgumentException("O arquivo não pode estar vazio");
+            }
+            AnagramGrouper.Result result;
+            try (InputStream input = file.getInputStream()) {
+                result = textService.groupAnagrams(input, minGroupSize, limit);
+            }
+
+            log.info("Agrupamento do arquivo concluído com sucesso. Grupos: {}", result.getTotalGroups());
+            return ResponseEntity.ok(toResponse(result, startTime));
+
+        } catch (IllegalArgumentException e) {
+            log.warn("Requisição inválida: {}", e.getMessage());
+            return ResponseEntity.badRequest().build();
+        } catch (Exception e) {
+            log.error("Erro interno no agrupamento de anagramas: {}", e.getMessage(), e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
+        }
+    }
+
+    /**
+     * Endpoint de busca dos trechos de um texto que são anagramas dos padrões
+     * 
+     * Requer autenticação JWT válida.
+     * 
+     * @param request requisição contendo o texto e os padrões
+     * @return ResponseEntity contendo os trechos encontrados
+     */
+    @Operation(
+        summary = "Buscar anagramas no texto",
+        description = "Localiza todos os trechos de um texto que são anagramas de alguma das palavras informadas"
+    )
+    @ApiResponses(value = {
+        @ApiResponse(
+            responseCode = "200",
+            description = "Busca realizada com sucesso",
+            content = @Content(
+                mediaType = "application/json",
+                schema = @Schema(implementation = AnagramOccurrenceResponse.class),
+                examples = @ExampleObject(
+                    name = "Trechos",
+                    value = "{\"occurrences\": [{\"offset\": 0, \"text\": \"cba\", \"patterns\": [\"abc\"]}, {\"offset\": 6, \"text\": \"bac\", \"patterns\": [\"abc\"]}], \"totalOccurrences\": 2, \"bytesScanned\": 10, \"processingTimeMs\": 1}"
+                )
+            )
+        ),
+        @ApiResponse(
+            responseCode = "400",
+            description = "Dados de entrada inválidos"
+        ),
+        @ApiResponse(
+            responseCode = "401",
+            description = "Não autenticado"
+        ),
+        @ApiResponse(
+            responseCode = "500",
+            description = "Erro interno do servidor"
+        )
+    })
+    @SecurityRequirement(name = "Bearer Authentication")
+    @PostMapping("/anagram-occurrences")
+    @PreAuthorize("hasRole('USER') or hasRole('ADMIN')")
+    public ResponseEntity<AnagramOccurrenceResponse> findAnagramOccurrences(
+        @Parameter(description = "Texto e padrões a procurar", required = true)
+        @Valid @RequestBody AnagramOccurrenceRequest request) {
+        try {
+            log.info("Recebida busca de anagramas de {} padrões em texto de {} caracteres",
+                request.getPatterns().size(), request.getText().length());
+            long startTime = System.currentTimeMillis();
+
+            int limit = request.getLimit() != null ? request.getLimit() : DEFAULT_OCCURRENCE_LIMIT;
+            AnagramWindowScanner.Result result = textService.findAnagramOccurrences(
+                request.getText(), request.getPatterns(), limit);
+
+            log.info("Busca concluída com sucesso. Trechos: {}", result.getTotalOccurrences());
+            return ResponseEntity.ok(toOccurrenceResponse(result, startTime));
+
+        } catch (IllegalArgumentException e) {
+            log.warn("Requisição inválida: {}", e.getMessage());
+            return ResponseEntity.badRequest().build();
+        } catch (Exception e) {
+            log.error("Erro interno na busca de anagramas no texto: {}", e.getMessage(), e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
+        }
+    }
+
+    /**
+     * Endpoint de busca dos trechos de um arquivo que são anagramas dos padrões
+     * 
+     * O arquivo é percorrido como fluxo, sem ser carregado em memória.
+     * Requer autenticação JWT válida.
+     * 
+     * @param file arquivo de texto
+     * @param patterns palavras cujos anagramas são procurados
+     * @param limit quantidade máxima de trechos retornados
+     * @return ResponseEntity contendo os trechos encontrados
+     */
+    @Operation(
+        summary = "Buscar anagramas em um arquivo",
+        description = "Localiza todos os trechos de um arquivo de texto que são anagramas de alguma das palavras informadas"
+    )
+    @ApiResponses(value = {
+        @ApiResponse(
+            responseCode = "200",
+            description = "Busca realizada com sucesso",
+            content = @Content(
+                mediaType = "application/json",
+                schema = @Schema(implementation = AnagramOccurrenceResponse.class)
+            )
+        ),
+        @ApiResponse(
+            responseCode = "400",
+            description = "Dados de entrada inválidos"
+        ),
+        @ApiResponse(
+            responseCode = "401",
+            description = "Não autenticado"
+        ),
+        @ApiResponse(
+            responseCode = "500",
+            description = "Erro interno do servidor"
+        )
+    })
+    @SecurityRequirement(name = "Bearer Authentication")
+    @PostMapping(value = "/anagram-occurrences/upload", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    @PreAuthorize("hasRole('USER') or hasRole('ADMIN')")
+    public ResponseEntity<AnagramOccurrenceResponse> findAnagramOccurrencesInFile(
+        @Parameter(description = "Arquivo de texto", required = true)
+        @RequestParam("file") MultipartFile file,
+        @Parameter(description = "Palavras cujos anagramas são procurados", required = true)
+        @RequestParam List<String> patterns,
+        @Parameter(description = "Quantidade máxima de trechos retornados")
+        @RequestParam(defaultValue = "1000") int limit) {
+        try {
+            log.info("Recebido arquivo para busca de anagramas: {} ({} bytes)", file.getOriginalFilename(), file.getSize());
+            long startTime = System.currentTimeMillis();
+
+            if (file.isEmpty()) {
+                throw new IllegalArgumentException("O arquivo não pode estar vazio");
+            }
+            AnagramWindowScanner.Result result;
+            try (InputStream input = file.getInputStream()) {
+                result = textService.findAnagramOccurrences(input, patterns, limit);
+            }
+
+            log.info("Busca no arquivo concluída com sucesso. Trechos: {}", result.getTotalOccurrences());
+            return ResponseEntity.ok(toOccurrenceResponse(result, startTime));
+
+        } catch (IllegalArgumentException e) {
+            log.warn("Requisição inválida: {}", e.getMessage());
+            return ResponseEntity.badRequest().build();
+        } catch (Exception e) {
+            log.error("Erro interno na busca de anagramas no arquivo: {}", e.getMessage(), e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
+        }
+    }
+
+    /**
+     * Endpoint de frequência das palavras de um texto enviado no corpo
+     * 
+     * O corpo é lido como fluxo, em blocos contados em paralelo, e pode ter
+     * vários gigabytes.
+     * Requer autenticação JWT válida.
+     * 
+     * @param body corpo da requisição com o texto (UTF-8)
+     * @param topK quantidade máxima de palavras retornadas
+     * @return ResponseEntity contendo as palavras mais frequentes
+     */
+    @Operation(
+        summary = "Frequência de palavras",
+        description = "Conta as palavras de um texto enviado no corpo da requisição e retorna as mais frequentes"
+    )
+    @ApiResponses(value = {
+        @ApiResponse(
+            responseCode = "200",
+            description = "Frequência calculada com sucesso",
+            content = @Content(
+                mediaType = "application/json",
+                schema = @Schema(implementation = WordFrequencyResponse.class),
+                examples = @ExampleObject(
+                    name = "Frequência",
+                    value = "{\"words\": [{\"word\": \"the\", \"count\": 3}, {\"word\": \"cat\", \"count\": 2}], \"distinctWords\": 5, \"totalTokens\": 9, \"skippedTokens\": 0, \"bytesScanned\": 42, \"processingTimeMs\": 1}"
+                )
+            )
+        ),
+        @ApiResponse(
+            responseCode = "400",
+            description = "Dados de entrada inválidos"
+        ),
+        @ApiResponse(
+            responseCode = "401",
+            description = "Não autenticado"
+        ),
+        @ApiResponse(
+            responseCode = "500",
+            description = "Erro interno do servidor"
+        )
+    })
+    @SecurityRequirement(name = "Bearer Authentication")
+    @PostMapping(value = "/word-frequencies", consumes = {MediaType.TEXT_PLAIN_VALUE, MediaType.APPLICATION_OCTET_STREAM_VALUE})
+    @PreAuthorize("hasRole('USER') or hasRole('ADMIN')")
+    public ResponseEntity<WordFrequencyResponse> analyzeWordFrequencies(
+        InputStream body,
+        @Parameter(description = "Quantidade máxima de palavras retornadas")
+        @RequestParam(defaultValue = "100") int topK) {
+        try {
+            log.info("Recebida requisição de frequência de palavras (top {})", topK);
+
+            WordFrequencyResponse response = textService.analyzeWordFrequencies(body, topK);
+
+            log.info("Frequência calculada com sucesso. Palavras distintas: {}", response.getDistinctWords());
+            return ResponseEntity.ok(response);
+
+        } catch (IllegalArgumentException e) {
+            log.warn("Requisição inválida: {}", e.getMessage());
+            return ResponseEntity.badRequest().build();
+        } catch (Exception e) {
+            log.error("Erro interno no cálculo de frequência de palavras: {}", e.getMessage(), e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
+        }
+    }
+
+    /**
+     * Endpoint de busca dos palíndromos de um texto enviado no corpo
+     * 
+     * O corpo é lido como fluxo e percorrido em janelas de tamanho fixo, em
+     * tempo linear, e pode ter vários gigabytes.
+     * Requer autenticação JWT válida.
+     * 
+     * @param body corpo da requisição com o texto
+     * @param lettersOnly considerar só as letras, sem diferenciar maiúsculas
+     * @param minLength comprimento mínimo dos palíndromos retornados e contados
+     * @param limit quantidade máxima de palíndromos retornados
+     * @return ResponseEntity contendo os maiores palíndromos e a contagem por comprimento
+     */
+    @Operation(
+        summary = "Buscar palíndromos",
+        description = "Localiza os maiores palíndromos de um texto enviado no corpo da requisição e conta as substrings palindrômicas por comprimento"
+    )
+    @ApiResponses(value = {
+        @ApiResponse(
+            responseCode = "200",
+            description = "Busca realizada com sucesso",
+            content = @Content(
+                mediaType = "application/json",
+                schema = @Schema(implementation = PalindromeResponse.class),
+                examples = @ExampleObject(
+                    name = "Palíndromos",
+                    value = "{\"longest\": [{\"offset\": 0, \"length\": 14, \"byteLength\": 17, \"text\": \"neveroddoreven\"}], \"counts\": [{\"length\": 3, \"count\": 2}, {\"length\": 4, \"count\": 1}], \"totalPalindromes\": 9, \"longestLength\": 14, \"truncated\": false, \"bytesScanned\": 17, \"processingTimeMs\": 1}"
+                )
+            )
+        ),
+        @ApiResponse(
+            responseCode = "400",
+            description = "Dados de entrada inválidos"
+        ),
+        @ApiResponse(
+            responseCode = "401",
+            description = "Não autenticado"
+        ),
+        @ApiResponse(
+            responseCode = "500",
+            description = "Erro interno do servidor"
+        )
+    })
+    @SecurityRequirement(name = "Bearer Authentication")
+    @PostMapping(value = "/palindromes", consumes = {MediaType.TEXT_PLAIN_VALUE, MediaType.APPLICATION_OCTET_STREAM_VALUE})
+    @PreAuthorize("hasRole('USER') or hasRole('ADMIN')")
+    public ResponseEntity<PalindromeResponse> findPalindromes(
+        InputStream body,
+        @Parameter(description = "Considerar só as letras, sem diferenciar maiúsculas; false compara os bytes brutos")
+        @RequestParam(defaultValue = "true") boolean lettersOnly,
+        @Parameter(description = "Comprimento mínimo dos palíndromos retornados e contados")
+        @RequestParam(defaultValue = "3") int minLength,
+        @Parameter(description = "Quantidade máxima de palíndromos retornados")
+        @RequestParam(defaultValue = "10") int limit) {
+        try {
+            log.info("Recebida requisição de busca de palíndromos (mínimo {}, letras {})", minLength, lettersOnly);
+
+            PalindromeResponse response = textService.findPalindromes(body, lettersOnly, minLength, limit);
+
+            log.info("Busca de palíndromos concluída com sucesso. Maior: {}", response.getLongestLength());
+            return ResponseEntity.ok(response);
+
+        } catch (IllegalArgumentException e) {
+            log.warn("Requisição inválida: {}", e.getMessage());
+            return ResponseEntity.badRequest().build();
+        } catch (Exception e) {
+            log.error("Erro interno na busca de palíndromos: {}", e.getMessage(), e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
+        }
+    }
+
+    /**
+     * Endpoint de busca dos palíndromos de um arquivo
+     * 
+     * O arquivo é percorrido como fluxo, sem ser carregado em memória.
+     * Requer autenticação JWT válida.
+     * 
+     * @param file arquivo de texto
+     * @param lettersOnly considerar só as letras, sem diferenciar maiúsculas
+     * @param minLength comprimento mínimo dos palíndromos retornados e contados
+     * @param limit quantidade máxima de palíndromos retornados
+     * @return ResponseEntity contendo os maiores palíndromos e a contagem por comprimento
+     */
+    @Operation(
+        summary = "Buscar palíndromos em um arquivo",
+        description = "Localiza os maiores palíndromos de um arquivo e conta as substrings palindrômicas por comprimento"
+    )
+    @ApiResponses(value = {
+        @ApiResponse(
+            responseCode = "200",
+            description = "Busca realizada com sucesso",
+            content = @Content(
+                mediaType = "application/json",
+                schema = @Schema(implementation = PalindromeResponse.class)
+            )
+        ),
+        @ApiResponse(
+            responseCode = "400",
+            description = "Dados de entrada inválidos"
+        ),
+        @ApiResponse(
+            responseCode = "401",
+            description = "Não autenticado"
+        ),
+        @ApiResponse(
+            responseCode = "500",
+            description = "Erro interno do servidor"
+        )
+    })
+    @SecurityRequirement(name = "Bearer Authentication")
+    @PostMapping(value = "/palindromes/upload", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    @PreAuthorize("hasRole('USER') or hasRole('ADMIN')")
+    public ResponseEntity<PalindromeResponse> findPalindromesInFile(
+        @Parameter(description = "Arquivo de texto", required = true)
+        @RequestParam("file") MultipartFile file,
+        @Parameter(description = "Considerar só as letras, sem diferenciar maiúsculas; false compara os bytes brutos")
+        @RequestParam(defaultValue = "true") boolean lettersOnly,
+        @Parameter(description = "Comprimento mínimo dos palíndromos retornados e contados")
+        @RequestParam(defaultValue = "3") int minLength,
+        @Parameter(description = "Quantidade máxima de palíndromos retornados")
+        @RequestParam(defaultValue = "10") int limit) {
+        try {
+            log.info("Recebido arquivo para busca de palíndromos: {} ({} bytes)", file.getOriginalFilename(), file.getSize());
+
+            if (file.isEmpty()) {
+                throw new IllegalArgumentException("O arquivo não pode estar vazio");
+            }
+            PalindromeResponse response;
+            try (InputStream input = file.getInputStream()) {
+                response = textService.findPalindromes(input, lettersOnly, minLength, limit);
+            }
+
+            log.info("Busca de palíndromos no arquivo concluída com sucesso. Maior: {}", response.getLongestLength());
+            return ResponseEntity.ok(response);
+
+        } catch (IllegalArgumentException e) {
+            log.warn("Requisição inválida: {}", e.getMessage());
+            return ResponseEntity.badRequest().build();
+        } catch (Exception e) {
+            log.error("Erro interno na busca de palíndromos no arquivo: {}", e.getMessage(), e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
+        }
+    }
+
+    /**
+     * Endpoint de diferenças entre duas versões de um texto
+     * 
+     * Compara os arquivos pelo algoritmo de Myers em espaço linear e escreve
+     * o script de edição em NDJSON à medida que é calculado: uma linha por
+     * trecho igual ("equal"), por token removido ("delete") ou inserido
+     * ("insert"), e uma linha final de totais ("summary"). Scripts pequenos
+     * ficam no cache, sob os hashes do conteúdo dos dois arquivos.
+     * Requer autenticação JWT válida.
+     * 
+     * @param original arquivo com a versão original
+     * @param revised arquivo com a versão revisada
+     * @param granularity comparar por linhas ou por palavras
+     * @param response resposta HTTP onde o script é escrito
+     * @throws IOException se a leitura dos arquivos falhar
+     */
+    @Operation(
+        summary = "Comparar versões de um texto",
+        description = "Calcula o script de edição entre dois arquivos de até 64 MB, por linhas ou palavras, em streaming NDJSON"
+    )
+    @ApiResponses(value = {
+        @ApiResponse(
+            responseCode = "200",
+            description = "Script de edição em NDJSON",
+            content = @Content(
+                mediaType = AnagramStreamService.NDJSON,
+                examples = @ExampleObject(
+                    name = "Script",
+                    value = "{\"op\":\"equal\",\"original\":0,\"revised\":0,\"count\":2}\n{\"op\":\"delete\",\"original\":2,\"text\":\"linha antiga\"}\n{\"op\":\"insert\",\"revised\":2,\"text\":\"linha nova\"}\n{\"op\":\"summary\",\"granularity\":\"LINE\",\"originalTokens\":3,\"revisedTokens\":3,\"unchanged\":2,\"deleted\":1,\"inserted\":1,\"fromCache\":false,\"processingTimeMs\":1}"
+                )
+            )
+        ),
+        @ApiResponse(
+            responseCode = "400",
+            description = "Dados de entrada inválidos"
+        ),
+        @ApiResponse(
+            responseCode = "401",
+            description = "Não autenticado"
+        )
+    })
+    @SecurityRequirement(name = "Bearer Authentication")
+    @PostMapping(value = "/diff", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    @PreAuthorize("hasRole('USER') or hasRole('ADMIN')")
+    public void diff(
+        @Parameter(description = "Versão original", required = true)
+        @RequestParam("original") MultipartFile original,
+        @Parameter(description = "Versão revisada", required = true)
+        @RequestParam("revised") MultipartFile revised,
+        @Parameter(description = "Unidade de comparação")
+        @RequestParam(defaultValue = "LINE") DiffGranularity granularity,
+        HttpServletResponse response) throws IOException {
+        log.info("Recebida requisição de diferença por {}: {} ({} bytes) e {} ({} bytes)", granularity,
+            original.getOriginalFilename(), original.getSize(), revised.getOriginalFilename(), revised.getSize());
+
+        try {
+            diffService.validate(original.getSize(), revised.getSize(), granularity);
+        } catch (IllegalArgumentException e) {
+            log.warn("Requisição inválida: {}", e.getMessage());
+            response.sendError(HttpStatus.BAD_REQUEST.value(), e.getMessage());
+            return;
+        }
+
+        byte[] originalBytes = original.getBytes();
+        byte[] revisedBytes = revised.getBytes();
+        response.setContentType(AnagramStreamService.NDJSON);
+        response.setCharacterEncoding("UTF-8");
+
+        try {
+            DiffSummary summary = diffService.streamDiff(originalBytes, revisedBytes, granularity,
+                response.getOutputStream());
+            log.info("Diferença concluída. Removidos: {}, inseridos: {}", summary.getDeleted(), summary.getInserted());
+        } catch (IOException e) {
+            // A resposta já foi iniciada; resta apenas registrar (ex.: cliente desconectou)
+            log.warn("Envio da diferença interrompido: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Endpoint de compilação de um conjunto de palavras-chave
+     * 
+     * O conjunto é compilado em um autômato de Aho–Corasick e guardado no
+     * cache local; o identificador retornado é usado nas varreduras.
+     * Requer autenticação JWT válida.
+     * 
+     * @param request requisição contendo as palavras-chave
+     * @return ResponseEntity contendo o identificador do conjunto
+     */
+    @Operation(
+        summary = "Compilar palavras-chave",
+        description = "Compila até 100.000 palavras-chave em um autômato reaproveitado pelas varreduras; o mesmo conjunto sempre recebe o mesmo identificador"
+    )
+    @ApiResponses(value = {
+        @ApiResponse(
+            responseCode = "200",
+            description = "Conjunto compilado ou encontrado no cache",
+            content = @Content(
+                mediaType = "application/json",
+                schema = @Schema(implementation = KeywordSetResponse.class),
+                examples = @ExampleObject(
+                    name = "Conjunto",
+                    value = "{\"setId\": \"5f1c0d8e3b2a4c6d7e8f9a0b1c2d3e4f\", \"keywordCount\": 2, \"stateCount\": 7, \"memoryBytes\": 272, \"fromCache\": false, \"processingTimeMs\": 1}"
+                )
+            )
+        ),
+        @ApiResponse(
+            responseCode = "400",
+            description = "Dados de entrada inválidos"
+        ),
+        @ApiResponse(
+            responseCode = "401",
+            description = "Não autenticado"
+        ),
+        @ApiResponse(
+            responseCode = "500",
+            description = "Erro interno do servidor"
+        )
+    })
+    @SecurityRequirement(name = "Bearer Authentication")
+    @PostMapping("/keyword-sets")
+    @PreAuthorize("hasRole('USER') or hasRole('ADMIN')")
+    public ResponseEntity<KeywordSetResponse> compileKeywordSet(
+        @Parameter(description = "Palavras-chave a compilar", required = true)
+        @Valid @RequestBody KeywordSetRequest request) {
+        try {
+            log.info("Recebida requisição de compilação de {} palavras-chave", request.getKeywords().size());
+            KeywordSetResponse response = keywordService.compileKeywordSet(request.getKeywords());
+            return ResponseEntity.ok(response);
+
+        } catch (IllegalArgumentException e) {
+            log.warn("Requisição inválida: {}", e.getMessage());
+            return ResponseEntity.badRequest().build();
+        } catch (Exception e) {
+            log.error("Erro interno na compilação de palavras-chave: {}", e.getMessage(), e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
+        }
+    }
+
+    /**
+     * Endpoint de varredura de um texto por um conjunto de palavras-chave
+     * 
+     * O texto é lido diretamente do corpo da requisição como fluxo e
+     * percorrido uma única vez.
+     * Requer autenticação JWT válida.
+     * 
+     * @param setId identificador retornado na compilação
+     * @param body conteúdo do texto
+     * @param positions true para retornar as posições das ocorrências
+     * @param limit quantidade máxima de contagens e de ocorrências retornadas
+     * @return ResponseEntity contendo as contagens e, se solicitadas, as ocorrências
+     */
+    @Operation(
+        summary = "Procurar palavras-chave",
+        description = "Percorre o texto enviado no corpo uma única vez e conta as ocorrências de cada palavra-chave do conjunto compilado"
+    )
+    @ApiResponses(value = {
+        @ApiResponse(
+            responseCode = "200",
+            description = "Texto percorrido com sucesso",
+            content = @Content(
+                mediaType = "application/json",
+                schema = @Schema(implementation = KeywordScanResponse.class),
+                examples = @ExampleObject(
+                    name = "Ocorrências",
+                    value = "{\"setId\": \"5f1c0d8e3b2a4c6d7e8f9a0b1c2d3e4f\", \"counts\": [{\"word\": \"he\", \"count\": 2}, {\"word\": \"she\", \"count\": 1}], \"matches\": [{\"offset\": 0, \"keyword\": \"she\"}, {\"offset\": 1, \"keyword\": \"he\"}], \"totalMatches\": 3, \"bytesScanned\": 12, \"processingTimeMs\": 0}"
+                )
+            )
+        ),
+        @ApiResponse(
+            responseCode = "400",
+            description = "Dados de entrada inválidos"
+        ),
+        @ApiResponse(
+            responseCode = "401",
+            description = "Não autenticado"
+        ),
+        @ApiResponse(
+            responseCode = "404",
+            description = "Conjunto não encontrado ou expirado; compile-o novamente"
+        ),
+        @ApiResponse(
+            responseCode = "500",
+            description = "Erro interno do servidor"
+        )
+    })
+    @SecurityRequirement(name = "Bearer Authentication")
+    @PostMapping(value = "/keyword-sets/{setId}/matches",
+        consumes = {MediaType.TEXT_PLAIN_VALUE, MediaType.APPLICATION_OCTET_STREAM_VALUE})
+    @PreAuthorize("hasRole('USER') or hasRole('ADMIN')")
+    public ResponseEntity<KeywordScanResponse> scanKeywords(
+        @Parameter(description = "Identificador do conjunto", required = true)
+        @PathVariable String setId,
+        InputStream body,
+        @Parameter(description = "Retornar as posições das ocorrências")
+        @RequestParam(defaultValue = "false") boolean positions,
+        @Parameter(description = "Quantidade máxima de contagens e de ocorrências retornadas")
+        @RequestParam(defaultValue = "1000") int limit) {
+        try {
+            log.info("Recebida requisição de varredura pelo conjunto {}", setId);
+            Optional<KeywordAutomaton> automaton = keywordService.findKeywordSet(setId);
+            if (automaton.isEmpty()) {
+                return ResponseEntity.notFound().build();
+            }
+
+            KeywordScanResponse response = keywordService.scan(setId, automaton.get(), body, positions, limit);
+
+            log.info("Varredura concluída. Ocorrências: {}", response.getTotalMatches());
+            return ResponseEntity.ok(response);
+
+        } catch (IllegalArgumentException e) {
+            log.warn("Requisição inválida: {}", e.getMessage());
+            return ResponseEntity.badRequest().build();
+        } catch (Exception e) {
+            log.error("Erro interno na varredura de palavras-chave: {}", e.getMessage(), e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
+        }
+    }
+
+    /**
+     * Endpoint de detecção de textos quase duplicados
+     * 
+     * Os textos enviados são indexados e cada um é comparado com os já
+     * indexados pelo mesmo usuário, inclusive os enviados antes dele na
+     * mesma requisição.
+     * Requer autenticação JWT válida.
+     * 
+     * @param request requisição contendo os textos e a similaridade mínima
+     * @return ResponseEntity contendo as quase-duplicatas de cada texto
+     */
+    @Operation(
+        summary = "Detectar quase-duplicatas",
+        description = "Indexa textos por assinaturas MinHash e retorna, para cada um, os textos já indexados com similaridade estimada acima do mínimo"
+    )
+    @ApiResponses(value = {
+        @ApiResponse(
+            responseCode = "200",
+            description = "Textos indexados com sucesso",
+            content = @Content(
+                mediaType = "application/json",
+                schema = @Schema(implementation = NearDuplicateResponse.class),
+                examples = @ExampleObject(
+                    name = "Quase-duplicatas",
+                    value = "{\"results\": [{\"documentId\": 7, \"name\": \"copia.txt\", \"duplicates\": [{\"documentId\": 3, \"name\": \"original.txt\", \"similarity\": 0.91}]}], \"threshold\": 0.8, \"indexedDocuments\": 8, \"processingTimeMs\": 4}"
+                )
+            )
+        ),
+        @ApiResponse(
+            responseCode = "400",
+            description = "Dados de entrada inválidos"
+        ),
+        @ApiResponse(
+            responseCode = "401",
+            description = "Não autenticado"
+        ),
+        @ApiResponse(
+            responseCode = "500",
+            description = "Erro interno do servidor"
+        )
+    })
+    @SecurityRequirement(name = "Bearer Authentication")
+    @PostMapping("/near-duplicates")
+    @PreAuthorize("hasRole('USER') or hasRole('ADMIN')")
+    public ResponseEntity<NearDuplicateResponse> findNearDuplicates(
+        @Parameter(description = "Textos a indexar e similaridade mínima", required = true)
+        @Valid @RequestBody NearDuplicateRequest request) {
+        try {
+            log.info("Recebida requisição de quase-duplicatas com {} textos", request.getDocuments().size());
+            NearDuplicateResponse response = nearDuplicateService.submit(request.getDocuments(), request.getThreshold());
+
+            log.info("Detecção de quase-duplicatas concluída. Textos indexados: {}", response.getIndexedDocuments());
+            return ResponseEntity.ok(response);
+
+        } catch (IllegalArgumentException e) {
+            log.warn("Requisição inválida: {}", e.getMessage());
+            return ResponseEntity.badRequest().build();
+        } catch (Exception e) {
+            log.error("Erro interno na detecção de quase-duplicatas: {}", e.getMessage(), e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
+        }
+    }
+
+    /**
+     * Endpoint de agrupamento assíncrono das palavras de um arquivo grande
+     * 
+     * O arquivo é gravado em disco e processado em segundo plano; a resposta
+     * traz o identificador do job para consulta do progresso. Com a fila de
+     * jobs cheia responde 503 com Retry-After, sem gravar o arquivo.
+     * Requer autenticação JWT válida.
+     * 
+     * @param file arquivo de texto
+     * @param minGroupSize quantidade mínima de palavras distintas por grupo
+     * @param limit quantidade máxima de grupos retornados
+     * @return ResponseEntity com status 202 e o estado inicial do job
+     */
+    @Operation(
+        summary = "Agrupar anagramas de um arquivo grande",
+        description = "Inicia o agrupamento em segundo plano das palavras distintas de um arquivo de texto de vários gigabytes"
+    )
+    @ApiResponses(value = {
+        @ApiResponse(
+            responseCode = "202",
+            description = "Job iniciado",
+            content = @Content(
+                mediaType = "application/json",
+                schema = @Schema(implementation = TextJobStatus.class),
+                examples = @ExampleObject(
+                    name = "Job",
+                    value = "{\"jobId\": \"3f2b...\", \"state\": \"QUEUED\", \"bytesProcessed\": 0, \"totalBytes\": 2147483648, \"progressPercent\": 0}"
+                )
+            )
+        ),
+        @ApiResponse(
+            responseCode = "400",
+            description = "Dados de entrada inválidos"
+        ),
+        @ApiResponse(
+            responseCode = "401",
+            description = "Não autenticado"
+        ),
+        @ApiResponse(
+            responseCode = "500",
+            description = "Erro interno do servidor"
+        ),
+        @ApiResponse(
+            responseCode = "503",
+            description = "Fila de jobs cheia; tente de novo após Retry-After"
+        )
+    })
+    @SecurityRequirement(name = "Bearer Authentication")
+    @PostMapping(value = "/anagram-groups/jobs", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    @PreAuthorize("hasRole('USER') or hasRole('ADMIN')")
+    public ResponseEntity<TextJobStatus> startAnagramGroupJob(
+        @Parameter(description = "Arquivo de texto (UTF-8)", required = true)
+        @RequestParam("file") MultipartFile file,
+        @Parameter(description = "Quantidade mínima de palavras distintas por grupo")
+        @RequestParam(defaultValue = "1") int minGroupSize,
+        @Parameter(description = "Quantidade máxima de grupos retornados")
+        @RequestParam(defaultValue = "1000") int limit) {
+        try {
+            log.info("Recebido arquivo para job de agrupamento: {} ({} bytes)", file.getOriginalFilename(), file.getSize());
+            TextService.Job job = textService.startAnagramGroupJob(file, minGroupSize, limit);
+            return ResponseEntity.status(HttpStatus.ACCEPTED).body(toStatus(job));
+
+        } catch (IllegalArgumentException e) {
+            log.warn("Requisição inválida: {}", e.getMessage());
+            return ResponseEntity.badRequest().build();
+        } catch (RejectedExecutionException e) {
+            log.warn("Job de agrupamento recusado: {}", e.getMessage());
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).header(HttpHeaders.RETRY_AFTER, "1").build();
+        } catch (Exception e) {
+            log.error("Erro interno ao iniciar job de agrupamento: {}", e.getMessage(), e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
+        }
+    }
+
+    /**
+     * Endpoint de consulta de um job de processamento
+     * 
+     * Só o usuário que criou o job o encontra; para os demais responde 404.
+     * Requer autenticação JWT válida.
+     * 
+     * @param jobId identificador do job
+     * @return ResponseEntity contendo o progresso e, ao final, o resultado
+     */
+    @Operation(
+        summary = "Consultar job",
+        description = "Retorna o progresso de um job de processamento e, quando concluído, os grupos encontrados"
+    )
+    @ApiResponses(value = {
+        @ApiResponse(
+            responseCode = "200",
+            description = "Estado do job",
+            content = @Content(
+                mediaType = "application/json",
+                schema = @Schema(implementation = TextJobStatus.class)
+            )
+        ),
+        @ApiResponse(
+            responseCode = "401",
+            description = "Não autenticado"
+        ),
+        @ApiResponse(
+            responseCode = "404",
+            description = "Job não encontrado, expirado ou de outro usuário"
+        )
+    })
+    @SecurityRequirement(name = "Bearer Authentication")
+    @GetMapping("/jobs/{jobId}")
+    @PreAuthorize("hasRole('USER') or hasRole('ADMIN')")
+    public ResponseEntity<TextJobStatus> getJob(
+        @Parameter(description = "Identificador do job", required = true)
+        @PathVariable String jobId) {
+        return textService.getJob(jobId)
+            .map(job -> ResponseEntity.ok(toStatus(job)))
+            .orElseGet(() -> ResponseEntity.notFound().build());
+    }
+
+    private static TextJobStatus toStatus(TextService.Job job) {
+        long total = job.getTotalBytes();
+        long processed = job.getBytesProcessed();
+        int percent = total > 0 ? (int) (processed * 100 / total) : 100;
+        AnagramGroupResponse result = null;
+        if (job.getResult() != null) {
+            result = toResponse(job.getResult(), 0);
+            result.setProcessingTimeMs(job.getProcessingTimeMs());
+        }
+        return new TextJobStatus(job.getId(), job.getState().name(), processed, total, percent, result, job.getError());
+    }
+
+    private static AnagramGroupResponse toResponse(AnagramGrouper.Result result, long startTime) {
+        List<AnagramGroup> groups = new ArrayList<>(result.getGroups().size());
+        for (AnagramGrouper.Group group : result.getGroups()) {
+            groups.add(new AnagramGroup(group.getLetters(), group.getWords(), group.getOccurrences()));
+        }
+        return new AnagramGroupResponse(groups, result.getTotalGroups(), result.getDistinctWords(),
+            result.getTotalTokens(), result.getSkippedTokens(), System.currentTimeMillis() - startTime);
+    }
+
+    private static AnagramOccurrenceResponse toOccurrenceResponse(AnagramWindowScanner.Result result, long startTime) {
+        List<AnagramOccurrence> occurrences = new ArrayList<>(result.getOccurrences().size());
+        for (AnagramWindowScanner.Occurrence occurrence : result.getOccurrences()) {
+            occurrences.add(new AnagramOccurrence(occurrence.getOffset(), occurrence.getText(), occurrence.getPatterns()));
+        }
+        return new AnagramOccurrenceResponse(occurrences, result.getTotalOccurrences(), result.getBytesScanned(),
+            System.currentTimeMillis() - startTime);
+    }
+}
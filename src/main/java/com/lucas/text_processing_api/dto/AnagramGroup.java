@@ -0,0 +1,34 @@
+package com.lucas.text_processing_api.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * DTO de uma classe de anagramas encontrada em uma lista de palavras
+ * 
+ * @author Lucas
+ * @version 1.0
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class AnagramGroup {
+
+    /**
+     * Letras do grupo em ordem alfabética
+     */
+    private String letters;
+
+    /**
+     * Palavras distintas do grupo, em ordem alfabética
+     */
+    private List<String> words;
+
+    /**
+     * Ocorrências de todas as palavras do grupo na entrada
+     */
+    private long occurrences;
+}
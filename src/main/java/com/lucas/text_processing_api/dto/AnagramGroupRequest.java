@@ -0,0 +1,39 @@
+package com.lucas.text_processing_api.dto;
+
+import java.util.List;
+
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.Data;
+
+/**
+ * DTO para requisições de agrupamento de palavras em classes de anagramas
+ * 
+ * @author Lucas
+ * @version 1.0
+ */
+@Data
+public class AnagramGroupRequest {
+
+    /**
+     * Palavras a agrupar; palavras com caracteres fora de letras são descartadas
+     */
+    @NotEmpty(message = "A lista de palavras não pode estar vazia")
+    @Size(max = 10_000_000, message = "A lista deve ter no máximo 10.000.000 palavras")
+    private List<String> words;
+
+    /**
+     * Quantidade mínima de palavras distintas por grupo (opcional, padrão 1)
+     */
+    @Min(value = 1, message = "O tamanho mínimo do grupo deve ser no mínimo 1")
+    private Integer minGroupSize;
+
+    /**
+     * Quantidade máxima de grupos retornados (opcional)
+     */
+    @Min(value = 1, message = "O limite deve ser no mínimo 1")
+    @Max(value = 100_000, message = "O limite deve ser no máximo 100000")
+    private Integer limit;
+}
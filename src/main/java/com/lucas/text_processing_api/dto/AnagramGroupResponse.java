@@ -0,0 +1,49 @@
+package com.lucas.text_processing_api.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * DTO para respostas de agrupamento em classes de anagramas
+ * 
+ * @author Lucas
+ * @version 1.0
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class AnagramGroupResponse {
+
+    /**
+     * Grupos retornados, dos maiores para os menores
+     */
+    private List<AnagramGroup> groups;
+
+    /**
+     * Quantidade de grupos com o tamanho mínimo, mesmo além do limite
+     */
+    private int totalGroups;
+
+    /**
+     * Quantidade de palavras distintas válidas
+     */
+    private int distinctWords;
+
+    /**
+     * Quantidade de palavras recebidas
+     */
+    private long totalTokens;
+
+    /**
+     * Palavras descartadas por conterem caracteres fora de letras
+     */
+    private long skippedTokens;
+
+    /**
+     * Tempo de processamento em milissegundos
+     */
+    private long processingTimeMs;
+}
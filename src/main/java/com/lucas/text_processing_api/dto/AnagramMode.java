@@ -0,0 +1,49 @@
+package com.lucas.text_processing_api.dto;
+
+/**
+ * Modos de geração suportados pelo endpoint de anagramas
+ * 
+ * O modo padrão (PERMUTATIONS) mantém o comportamento original da API,
+ * retornando todas as permutações distintas das letras.
+ * 
+ * @author Lucas
+ * @version 1.1
+ */
+public enum AnagramMode {
+
+    /**
+     * Todas as permutações distintas das letras (comportamento padrão)
+     */
+    PERMUTATIONS,
+
+    /**
+     * Os K arranjos mais próximos da palavra original, em ordem crescente
+     * de número de transposições (troca de quaisquer duas posições)
+     */
+    SWAP_DISTANCE,
+
+    /**
+     * Os K arranjos mais próximos da palavra original, em ordem crescente
+     * de número de trocas entre posições adjacentes
+     */
+    ADJACENT_SWAP_DISTANCE,
+
+    /**
+     * Um representante por classe de rotação (colar), com a contagem
+     * exata de classes em totalPossible; até
+     * {@link com.lucas.text_processing_api.util.NecklaceGenerator#MAX_LETTERS} letras
+     */
+    NECKLACE,
+
+    /**
+     * Apenas os anagramas que são palavras do dicionário, obtidos por
+     * consulta ao índice de assinaturas (sem gerar permutações)
+     */
+    DICTIONARY,
+
+    /**
+     * Frases de várias palavras do dicionário que usam exatamente as
+     * letras (ex.: "dormitory" vira "dirty room")
+     */
+    PHRASE
+}
@@ -0,0 +1,34 @@
+package com.lucas.text_processing_api.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * DTO de um trecho do texto que é anagrama de um ou mais padrões
+ * 
+ * @author Lucas
+ * @version 1.0
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class AnagramOccurrence {
+
+    /**
+     * Posição do início do trecho, em bytes UTF-8
+     */
+    private long offset;
+
+    /**
+     * Trecho encontrado, em minúsculas
+     */
+    private String text;
+
+    /**
+     * Padrões dos quais o trecho é anagrama
+     */
+    private List<String> patterns;
+}
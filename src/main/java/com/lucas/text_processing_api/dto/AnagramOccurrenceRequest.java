@@ -0,0 +1,40 @@
+package com.lucas.text_processing_api.dto;
+
+import java.util.List;
+
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.Data;
+
+/**
+ * DTO para requisições de busca de anagramas de padrões dentro de um texto
+ * 
+ * @author Lucas
+ * @version 1.0
+ */
+@Data
+public class AnagramOccurrenceRequest {
+
+    /**
+     * Texto a percorrer
+     */
+    @NotEmpty(message = "O texto não pode estar vazio")
+    @Size(max = 50_000_000, message = "O texto deve ter no máximo 50.000.000 caracteres")
+    private String text;
+
+    /**
+     * Palavras cujos anagramas são procurados no texto
+     */
+    @NotEmpty(message = "Informe ao menos um padrão")
+    @Size(max = 100, message = "Informe no máximo 100 padrões")
+    private List<String> patterns;
+
+    /**
+     * Quantidade máxima de trechos retornados (opcional)
+     */
+    @Min(value = 1, message = "O limite deve ser no mínimo 1")
+    @Max(value = 100_000, message = "O limite deve ser no máximo 100000")
+    private Integer limit;
+}
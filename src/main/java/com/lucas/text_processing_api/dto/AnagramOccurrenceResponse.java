@@ -0,0 +1,39 @@
+package com.lucas.text_processing_api.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * DTO para respostas de busca de anagramas de padrões dentro de um texto
+ * 
+ * @author Lucas
+ * @version 1.0
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class AnagramOccurrenceResponse {
+
+    /**
+     * Trechos retornados, na ordem do texto
+     */
+    private List<AnagramOccurrence> occurrences;
+
+    /**
+     * Quantidade de trechos encontrados, mesmo além do limite
+     */
+    private long totalOccurrences;
+
+    /**
+     * Quantidade de bytes percorridos
+     */
+    private long bytesScanned;
+
+    /**
+     * Tempo de processamento em milissegundos
+     */
+    private long processingTimeMs;
+}
@@ -1,7 +1,10 @@
 package com.lucas.text_processing_api.dto;
 
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.Pattern;
+import jakarta.validation.constraints.Size;
 import lombok.Data;
 
 /**
@@ -11,16 +14,44 @@ import lombok.Data;
  * incluindo validações para garantir que apenas letras sejam aceitas.
  * 
  * @author Lucas
- * @version 1.0
+ * @version 1.4
  */
 @Data
 public class AnagramRequest {
 
     /**
      * String contendo as letras para geração de anagramas
-     * Deve conter apenas letras (maiúsculas ou minúsculas)
+     * Deve conter apenas letras (maiúsculas ou minúsculas), no máximo 64;
+     * cada modo pode aceitar menos
      */
     @NotBlank(message = "As letras não podem estar vazias")
+    @Size(max = 64, message = "As letras devem ter no máximo 64 caracteres")
     @Pattern(regexp = "^[a-zA-Z]+$", message = "Apenas letras são permitidas")
     private String letters;
+
+    /**
+     * Modo de geração (opcional, padrão PERMUTATIONS)
+     */
+    private AnagramMode mode;
+
+    /**
+     * Quantidade máxima de resultados para os modos limitados (opcional)
+     */
+    @Min(value = 1, message = "O limite deve ser no mínimo 1")
+    @Max(value = 10000, message = "O limite deve ser no máximo 10000")
+    private Integer limit;
+
+    /**
+     * Quantidade máxima de palavras por frase no modo PHRASE (opcional)
+     */
+    @Min(value = 1, message = "O limite de palavras deve ser no mínimo 1")
+    @Max(value = 10, message = "O limite de palavras deve ser no máximo 10")
+    private Integer maxWords;
+
+    /**
+     * Nome do dicionário consultado (opcional; padrão: o do papel do usuário)
+     */
+    @Size(max = 64, message = "O nome do dicionário deve ter no máximo 64 caracteres")
+    @Pattern(regexp = "^[a-zA-Z0-9_-]+$", message = "Nome de dicionário inválido")
+    private String dictionary;
 }
@@ -1,9 +1,11 @@
 package com.lucas.text_processing_api.dto;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
+import java.math.BigInteger;
 import java.util.List;
 
 /**
@@ -13,7 +15,7 @@ import java.util.List;
  * e informações sobre o processamento.
  * 
  * @author Lucas
- * @version 1.0
+ * @version 1.2
  */
 @Data
 @NoArgsConstructor
@@ -45,6 +47,20 @@ public class AnagramResponse {
      */
     private long processingTimeMs;
 
+    /**
+     * Quantidade total de resultados possíveis no modo solicitado,
+     * quando a lista retornada é limitada (ex.: classes de rotação)
+     */
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private BigInteger totalPossible;
+
+    /**
+     * Indica que a busca foi interrompida pelo limite de resultados ou
+     * pelo prazo, e a lista pode estar incompleta
+     */
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private Boolean truncated;
+
     /**
      * Construtor para criar resposta com dados básicos
      * 
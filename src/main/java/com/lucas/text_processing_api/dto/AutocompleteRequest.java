@@ -0,0 +1,47 @@
+package com.lucas.text_processing_api.dto;
+
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Pattern;
+import jakarta.validation.constraints.Size;
+import lombok.Data;
+
+/**
+ * DTO para requisições de autocompletar restrito às letras disponíveis
+ * 
+ * @author Lucas
+ * @version 1.0
+ */
+@Data
+public class AutocompleteRequest {
+
+    /**
+     * Letras disponíveis, incluindo as do prefixo
+     */
+    @NotBlank(message = "As letras não podem estar vazias")
+    @Size(max = 64, message = "As letras devem ter no máximo 64 caracteres")
+    @Pattern(regexp = "^[a-zA-Z]+$", message = "Apenas letras são permitidas")
+    private String letters;
+
+    /**
+     * Prefixo já digitado (opcional)
+     */
+    @Size(max = 64, message = "O prefixo deve ter no máximo 64 caracteres")
+    @Pattern(regexp = "^[a-zA-Z]*$", message = "O prefixo aceita apenas letras")
+    private String prefix;
+
+    /**
+     * Quantidade máxima de sugestões (opcional)
+     */
+    @Min(value = 1, message = "O limite deve ser no mínimo 1")
+    @Max(value = 100, message = "O limite deve ser no máximo 100")
+    private Integer limit;
+
+    /**
+     * Nome do dicionário consultado (opcional; padrão: o do papel do usuário)
+     */
+    @Size(max = 64, message = "O nome do dicionário deve ter no máximo 64 caracteres")
+    @Pattern(regexp = "^[a-zA-Z0-9_-]+$", message = "Nome de dicionário inválido")
+    private String dictionary;
+}
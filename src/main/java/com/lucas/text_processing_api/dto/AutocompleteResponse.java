@@ -0,0 +1,39 @@
+package com.lucas.text_processing_api.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * DTO para respostas de autocompletar restrito às letras disponíveis
+ * 
+ * @author Lucas
+ * @version 1.0
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class AutocompleteResponse {
+
+    /**
+     * Letras disponíveis, em minúsculas
+     */
+    private String letters;
+
+    /**
+     * Prefixo consultado, em minúsculas
+     */
+    private String prefix;
+
+    /**
+     * Sugestões, da mais para a menos frequente
+     */
+    private List<String> completions;
+
+    /**
+     * Tempo de processamento em milissegundos
+     */
+    private long processingTimeMs;
+}
@@ -0,0 +1,57 @@
+package com.lucas.text_processing_api.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Uso de memória e de consultas de um dicionário
+ * 
+ * @author Lucas
+ * @version 1.0
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class DictionaryUsage {
+
+    /**
+     * Nome do dicionário
+     */
+    private String name;
+
+    /**
+     * Quantidade de palavras do dicionário
+     */
+    private int words;
+
+    /**
+     * Palavras acrescentadas ao dicionário padrão (sobrepostos)
+     */
+    private int addedWords;
+
+    /**
+     * Palavras do dicionário padrão removidas (sobrepostos)
+     */
+    private int removedWords;
+
+    /**
+     * Versão do dicionário em hexadecimal
+     */
+    private String version;
+
+    /**
+     * Bytes do índice padrão compartilhado com este dicionário
+     */
+    private long sharedBytes;
+
+    /**
+     * Bytes exclusivos deste dicionário, incluindo as estruturas derivadas já construídas
+     */
+    private long ownBytes;
+
+    /**
+     * Consultas atendidas desde a inicialização
+     */
+    private long lookups;
+}
@@ -0,0 +1,21 @@
+package com.lucas.text_processing_api.dto;
+
+/**
+ * Unidade de comparação do endpoint de diferenças entre textos
+ * 
+ * @author Lucas
+ * @version 1.0
+ */
+public enum DiffGranularity {
+
+    /**
+     * Cada linha é um token; o terminador faz parte da linha comparada
+     */
+    LINE,
+
+    /**
+     * Cada palavra (letras e dígitos), sequência de espaços ou sinal de
+     * pontuação é um token
+     */
+    WORD
+}
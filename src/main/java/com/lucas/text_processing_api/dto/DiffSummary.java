@@ -0,0 +1,62 @@
+package com.lucas.text_processing_api.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * DTO da última linha do script de edição, com os totais da comparação
+ * 
+ * @author Lucas
+ * @version 1.0
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class DiffSummary {
+
+    /**
+     * Tipo da linha no NDJSON, sempre "summary"
+     */
+    private String op;
+
+    /**
+     * Unidade de comparação usada
+     */
+    private DiffGranularity granularity;
+
+    /**
+     * Quantidade de tokens do texto original
+     */
+    private int originalTokens;
+
+    /**
+     * Quantidade de tokens do texto revisado
+     */
+    private int revisedTokens;
+
+    /**
+     * Tokens mantidos sem alteração
+     */
+    private long unchanged;
+
+    /**
+     * Tokens removidos do original
+     */
+    private long deleted;
+
+    /**
+     * Tokens inseridos no revisado
+     */
+    private long inserted;
+
+    /**
+     * Indica se o script foi reaproveitado do cache
+     */
+    private boolean fromCache;
+
+    /**
+     * Tempo de processamento em milissegundos
+     */
+    private long processingTimeMs;
+}
@@ -0,0 +1,32 @@
+package com.lucas.text_processing_api.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * DTO com os dados de um documento armazenado
+ * 
+ * @author Lucas
+ * @version 1.0
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class DocumentInfo {
+
+    /**
+     * Identificador do documento
+     */
+    private int id;
+
+    /**
+     * Nome informado no envio
+     */
+    private String name;
+
+    /**
+     * Tamanho do conteúdo em bytes
+     */
+    private long sizeBytes;
+}
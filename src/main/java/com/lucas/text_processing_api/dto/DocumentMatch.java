@@ -0,0 +1,39 @@
+package com.lucas.text_processing_api.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * DTO de um documento que contém a substring procurada
+ * 
+ * @author Lucas
+ * @version 1.0
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class DocumentMatch {
+
+    /**
+     * Identificador do documento
+     */
+    private int documentId;
+
+    /**
+     * Nome do documento
+     */
+    private String name;
+
+    /**
+     * Quantidade de ocorrências da substring no documento
+     */
+    private int occurrences;
+
+    /**
+     * Posições, em bytes, das primeiras ocorrências
+     */
+    private List<Integer> offsets;
+}
@@ -0,0 +1,39 @@
+package com.lucas.text_processing_api.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * DTO para respostas de busca de substrings nos documentos armazenados
+ * 
+ * @author Lucas
+ * @version 1.0
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class DocumentSearchResponse {
+
+    /**
+     * Substring procurada
+     */
+    private String query;
+
+    /**
+     * Documentos que contêm a substring, em ordem de envio
+     */
+    private List<DocumentMatch> results;
+
+    /**
+     * Documentos candidatos apontados pelo índice antes da confirmação
+     */
+    private int candidateDocuments;
+
+    /**
+     * Tempo de processamento em milissegundos
+     */
+    private long processingTimeMs;
+}
@@ -0,0 +1,27 @@
+package com.lucas.text_processing_api.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Palavra do dicionário próxima da palavra digitada
+ * 
+ * @author Lucas
+ * @version 1.0
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class FuzzyMatch {
+
+    /**
+     * Palavra sugerida
+     */
+    private String word;
+
+    /**
+     * Distância de edição (inserções, remoções e trocas de letras) até a palavra digitada
+     */
+    private int distance;
+}
@@ -0,0 +1,47 @@
+package com.lucas.text_processing_api.dto;
+
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Pattern;
+import jakarta.validation.constraints.Size;
+import lombok.Data;
+
+/**
+ * DTO para requisições de palavras próximas por distância de edição
+ * 
+ * @author Lucas
+ * @version 1.0
+ */
+@Data
+public class FuzzyMatchRequest {
+
+    /**
+     * Palavra digitada
+     */
+    @NotBlank(message = "A palavra não pode estar vazia")
+    @Size(max = 64, message = "A palavra deve ter no máximo 64 caracteres")
+    @Pattern(regexp = "^[a-zA-Z]+$", message = "Apenas letras são permitidas")
+    private String word;
+
+    /**
+     * Distância de edição máxima (opcional)
+     */
+    @Min(value = 0, message = "A distância deve ser no mínimo 0")
+    @Max(value = 2, message = "A distância deve ser no máximo 2")
+    private Integer maxDistance;
+
+    /**
+     * Quantidade máxima de sugestões (opcional)
+     */
+    @Min(value = 1, message = "O limite deve ser no mínimo 1")
+    @Max(value = 100, message = "O limite deve ser no máximo 100")
+    private Integer limit;
+
+    /**
+     * Nome do dicionário consultado (opcional; padrão: o do papel do usuário)
+     */
+    @Size(max = 64, message = "O nome do dicionário deve ter no máximo 64 caracteres")
+    @Pattern(regexp = "^[a-zA-Z0-9_-]+$", message = "Nome de dicionário inválido")
+    private String dictionary;
+}
@@ -0,0 +1,39 @@
+package com.lucas.text_processing_api.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * DTO para respostas de palavras próximas por distância de edição
+ * 
+ * @author Lucas
+ * @version 1.0
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class FuzzyMatchResponse {
+
+    /**
+     * Palavra consultada, em minúsculas
+     */
+    private String word;
+
+    /**
+     * Distância de edição máxima usada
+     */
+    private int maxDistance;
+
+    /**
+     * Sugestões, das mais próximas para as mais distantes
+     */
+    private List<FuzzyMatch> suggestions;
+
+    /**
+     * Tempo de processamento em milissegundos
+     */
+    private long processingTimeMs;
+}
@@ -0,0 +1,27 @@
+package com.lucas.text_processing_api.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * DTO de uma ocorrência de palavra-chave no texto
+ * 
+ * @author Lucas
+ * @version 1.0
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class KeywordMatch {
+
+    /**
+     * Posição do início da ocorrência no texto, em bytes
+     */
+    private long offset;
+
+    /**
+     * Palavra-chave encontrada
+     */
+    private String keyword;
+}
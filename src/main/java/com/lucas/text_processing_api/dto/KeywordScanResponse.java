@@ -0,0 +1,51 @@
+package com.lucas.text_processing_api.dto;
+
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * DTO de resposta da varredura de um texto por um conjunto de palavras-chave
+ * 
+ * @author Lucas
+ * @version 1.0
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class KeywordScanResponse {
+
+    /**
+     * Identificador do conjunto de palavras-chave usado
+     */
+    private String setId;
+
+    /**
+     * Ocorrências por palavra-chave encontrada, da mais para a menos frequente
+     */
+    private List<WordCount> counts;
+
+    /**
+     * Primeiras ocorrências, na ordem em que terminam no texto (apenas quando solicitadas)
+     */
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private List<KeywordMatch> matches;
+
+    /**
+     * Total de ocorrências de todas as palavras-chave
+     */
+    private long totalMatches;
+
+    /**
+     * Bytes percorridos
+     */
+    private long bytesScanned;
+
+    /**
+     * Tempo de processamento em milissegundos
+     */
+    private long processingTimeMs;
+}
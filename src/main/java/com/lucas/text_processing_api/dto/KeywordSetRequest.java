@@ -0,0 +1,24 @@
+package com.lucas.text_processing_api.dto;
+
+import java.util.List;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.Data;
+
+/**
+ * DTO para requisições de compilação de um conjunto de palavras-chave
+ * 
+ * @author Lucas
+ * @version 1.0
+ */
+@Data
+public class KeywordSetRequest {
+
+    /**
+     * Palavras-chave a procurar nos textos
+     */
+    @NotEmpty(message = "Informe ao menos uma palavra-chave")
+    @Size(max = 100_000, message = "Informe no máximo 100.000 palavras-chave")
+    private List<String> keywords;
+}
@@ -0,0 +1,47 @@
+package com.lucas.text_processing_api.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * DTO de resposta da compilação de um conjunto de palavras-chave
+ * 
+ * @author Lucas
+ * @version 1.0
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class KeywordSetResponse {
+
+    /**
+     * Identificador do conjunto, derivado das palavras-chave; usado nas varreduras
+     */
+    private String setId;
+
+    /**
+     * Quantidade de palavras-chave distintas
+     */
+    private int keywordCount;
+
+    /**
+     * Quantidade de estados do autômato compilado
+     */
+    private int stateCount;
+
+    /**
+     * Memória aproximada ocupada pelo autômato, em bytes
+     */
+    private long memoryBytes;
+
+    /**
+     * Indica se o autômato já estava compilado no cache
+     */
+    private boolean fromCache;
+
+    /**
+     * Tempo de processamento em milissegundos
+     */
+    private long processingTimeMs;
+}
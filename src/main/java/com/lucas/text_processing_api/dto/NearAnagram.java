@@ -0,0 +1,41 @@
+package com.lucas.text_processing_api.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.lucas.text_processing_api.util.dictionary.NeighborIndex.LetterEdit;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Palavra do dicionário a uma edição de letra de um anagrama da entrada
+ * 
+ * @author Lucas
+ * @version 1.0
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class NearAnagram {
+
+    /**
+     * Palavra vizinha
+     */
+    private String word;
+
+    /**
+     * Edição que leva da entrada à palavra
+     */
+    private LetterEdit edit;
+
+    /**
+     * Letra acrescentada (adição ou troca)
+     */
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private String addedLetter;
+
+    /**
+     * Letra removida (remoção ou troca)
+     */
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private String removedLetter;
+}
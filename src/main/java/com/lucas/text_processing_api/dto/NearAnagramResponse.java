@@ -0,0 +1,42 @@
+package com.lucas.text_processing_api.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * DTO para respostas de busca de quase-anagramas
+ * 
+ * Os vizinhos vêm ordenados por tipo de edição (adição, troca, remoção) e,
+ * dentro de cada tipo, pela ordem do dicionário.
+ * 
+ * @author Lucas
+ * @version 1.0
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class NearAnagramResponse {
+
+    /**
+     * Letras originais fornecidas como entrada
+     */
+    private String originalLetters;
+
+    /**
+     * Vizinhos encontrados
+     */
+    private List<NearAnagram> neighbors;
+
+    /**
+     * Quantidade de vizinhos retornados
+     */
+    private int totalNeighbors;
+
+    /**
+     * Tempo de processamento em milissegundos
+     */
+    private long processingTimeMs;
+}
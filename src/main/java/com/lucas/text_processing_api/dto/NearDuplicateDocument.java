@@ -0,0 +1,32 @@
+package com.lucas.text_processing_api.dto;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * DTO de um texto enviado para detecção de quase-duplicatas
+ * 
+ * @author Lucas
+ * @version 1.0
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class NearDuplicateDocument {
+
+    /**
+     * Nome do texto (opcional)
+     */
+    @Size(max = 255, message = "O nome deve ter no máximo 255 caracteres")
+    private String name;
+
+    /**
+     * Conteúdo do texto
+     */
+    @NotBlank(message = "O texto não pode estar vazio")
+    @Size(max = 10_000_000, message = "O texto deve ter no máximo 10.000.000 caracteres")
+    private String text;
+}
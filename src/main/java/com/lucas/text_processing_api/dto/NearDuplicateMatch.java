@@ -0,0 +1,32 @@
+package com.lucas.text_processing_api.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * DTO de um texto já indexado parecido com o enviado
+ * 
+ * @author Lucas
+ * @version 1.0
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class NearDuplicateMatch {
+
+    /**
+     * Identificador do texto parecido
+     */
+    private int documentId;
+
+    /**
+     * Nome do texto parecido
+     */
+    private String name;
+
+    /**
+     * Similaridade de Jaccard estimada entre os shingles dos dois textos
+     */
+    private double similarity;
+}
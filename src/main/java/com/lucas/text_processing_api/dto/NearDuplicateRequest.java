@@ -0,0 +1,35 @@
+package com.lucas.text_processing_api.dto;
+
+import java.util.List;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.DecimalMax;
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.Data;
+
+/**
+ * DTO para requisições de detecção de quase-duplicatas
+ * 
+ * @author Lucas
+ * @version 1.0
+ */
+@Data
+public class NearDuplicateRequest {
+
+    /**
+     * Textos a indexar, comparados com os já indexados e entre si
+     */
+    @NotEmpty(message = "Informe ao menos um texto")
+    @Size(max = 1000, message = "Informe no máximo 1000 textos")
+    @Valid
+    private List<NearDuplicateDocument> documents;
+
+    /**
+     * Similaridade mínima estimada para considerar quase-duplicata (opcional)
+     */
+    @DecimalMin(value = "0.0", message = "A similaridade mínima deve ser no mínimo 0")
+    @DecimalMax(value = "1.0", message = "A similaridade mínima deve ser no máximo 1")
+    private Double threshold;
+}
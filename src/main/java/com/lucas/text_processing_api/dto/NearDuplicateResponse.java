@@ -0,0 +1,39 @@
+package com.lucas.text_processing_api.dto;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * DTO de resposta da detecção de quase-duplicatas
+ * 
+ * @author Lucas
+ * @version 1.0
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class NearDuplicateResponse {
+
+    /**
+     * Resultado de cada texto, na ordem de envio
+     */
+    private List<NearDuplicateResult> results;
+
+    /**
+     * Similaridade mínima usada
+     */
+    private double threshold;
+
+    /**
+     * Textos indexados após a requisição
+     */
+    private int indexedDocuments;
+
+    /**
+     * Tempo de processamento em milissegundos
+     */
+    private long processingTimeMs;
+}
@@ -0,0 +1,34 @@
+package com.lucas.text_processing_api.dto;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * DTO com as quase-duplicatas de um texto enviado
+ * 
+ * @author Lucas
+ * @version 1.0
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class NearDuplicateResult {
+
+    /**
+     * Identificador atribuído ao texto enviado
+     */
+    private int documentId;
+
+    /**
+     * Nome do texto enviado
+     */
+    private String name;
+
+    /**
+     * Textos indexados antes dele com similaridade acima do mínimo, dos mais parecidos para os menos
+     */
+    private List<NearDuplicateMatch> duplicates;
+}
@@ -0,0 +1,27 @@
+package com.lucas.text_processing_api.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * DTO da quantidade de substrings palindrômicas de um comprimento
+ * 
+ * @author Lucas
+ * @version 1.0
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class PalindromeLengthCount {
+
+    /**
+     * Comprimento em símbolos
+     */
+    private int length;
+
+    /**
+     * Ocorrências de substrings palindrômicas com esse comprimento
+     */
+    private long count;
+}
@@ -0,0 +1,39 @@
+package com.lucas.text_processing_api.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * DTO de um palíndromo maximal encontrado no texto
+ * 
+ * @author Lucas
+ * @version 1.0
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class PalindromeOccurrence {
+
+    /**
+     * Posição do primeiro byte do palíndromo
+     */
+    private long offset;
+
+    /**
+     * Comprimento em símbolos (letras ou bytes, conforme o modo)
+     */
+    private int length;
+
+    /**
+     * Bytes do texto original ocupados pelo palíndromo
+     */
+    private long byteLength;
+
+    /**
+     * Símbolos do palíndromo; ausente em palíndromos muito longos
+     */
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private String text;
+}
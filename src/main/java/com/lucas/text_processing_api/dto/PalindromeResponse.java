@@ -0,0 +1,55 @@
+package com.lucas.text_processing_api.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * DTO para respostas de busca de palíndromos em um texto
+ * 
+ * @author Lucas
+ * @version 1.0
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class PalindromeResponse {
+
+    /**
+     * Maiores palíndromos maximais, do mais longo para o mais curto
+     */
+    private List<PalindromeOccurrence> longest;
+
+    /**
+     * Ocorrências por comprimento, a partir do comprimento mínimo
+     */
+    private List<PalindromeLengthCount> counts;
+
+    /**
+     * Total de substrings palindrômicas com o comprimento mínimo
+     */
+    private long totalPalindromes;
+
+    /**
+     * Comprimento do maior palíndromo
+     */
+    private int longestLength;
+
+    /**
+     * Indica se algum palíndromo passou do comprimento medido por inteiro e
+     * foi contado pelo comprimento mínimo garantido
+     */
+    private boolean truncated;
+
+    /**
+     * Quantidade de bytes percorridos
+     */
+    private long bytesScanned;
+
+    /**
+     * Tempo de processamento em milissegundos
+     */
+    private long processingTimeMs;
+}
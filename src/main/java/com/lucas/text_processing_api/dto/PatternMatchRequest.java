@@ -0,0 +1,46 @@
+package com.lucas.text_processing_api.dto;
+
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Pattern;
+import jakarta.validation.constraints.Size;
+import lombok.Data;
+
+/**
+ * DTO para requisições de busca por padrão de palavras cruzadas
+ * 
+ * @author Lucas
+ * @version 1.1
+ */
+@Data
+public class PatternMatchRequest {
+
+    /**
+     * Padrão da palavra, com '?' para qualquer letra (ex: "a?c??e")
+     */
+    @NotBlank(message = "O padrão não pode estar vazio")
+    @Size(max = 64, message = "O padrão deve ter no máximo 64 caracteres")
+    @Pattern(regexp = "^[a-zA-Z?]+$", message = "O padrão aceita apenas letras e '?'")
+    private String pattern;
+
+    /**
+     * Letras disponíveis para as posições livres (opcional)
+     */
+    @Pattern(regexp = "^[a-zA-Z]+$", message = "Apenas letras são permitidas")
+    private String letters;
+
+    /**
+     * Quantidade máxima de palavras retornadas (opcional)
+     */
+    @Min(value = 1, message = "O limite deve ser no mínimo 1")
+    @Max(value = 1000, message = "O limite deve ser no máximo 1000")
+    private Integer limit;
+
+    /**
+     * Nome do dicionário consultado (opcional; padrão: o do papel do usuário)
+     */
+    @Size(max = 64, message = "O nome do dicionário deve ter no máximo 64 caracteres")
+    @Pattern(regexp = "^[a-zA-Z0-9_-]+$", message = "Nome de dicionário inválido")
+    private String dictionary;
+}
@@ -0,0 +1,39 @@
+package com.lucas.text_processing_api.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * DTO para respostas de busca por padrão de palavras cruzadas
+ * 
+ * @author Lucas
+ * @version 1.0
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class PatternMatchResponse {
+
+    /**
+     * Padrão consultado, em minúsculas
+     */
+    private String pattern;
+
+    /**
+     * Palavras encontradas, na ordem do dicionário
+     */
+    private List<String> words;
+
+    /**
+     * Quantidade total de palavras que atendem ao padrão, mesmo além do limite
+     */
+    private int totalMatches;
+
+    /**
+     * Tempo de processamento em milissegundos
+     */
+    private long processingTimeMs;
+}
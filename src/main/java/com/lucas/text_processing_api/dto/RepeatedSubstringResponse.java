@@ -0,0 +1,51 @@
+package com.lucas.text_processing_api.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * DTO para respostas de maior trecho repetido de um documento
+ * 
+ * @author Lucas
+ * @version 1.0
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class RepeatedSubstringResponse {
+
+    /**
+     * Identificador do documento
+     */
+    private int documentId;
+
+    /**
+     * Tamanho do maior trecho que aparece ao menos duas vezes, em bytes
+     */
+    private int length;
+
+    /**
+     * Quantidade de ocorrências do trecho, inclusive sobrepostas
+     */
+    private int occurrences;
+
+    /**
+     * Posições, em bytes, de algumas ocorrências
+     */
+    private List<Integer> offsets;
+
+    /**
+     * Trecho repetido, com letras ASCII em minúsculas; ausente se for longo demais
+     */
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private String text;
+
+    /**
+     * Tempo de processamento em milissegundos
+     */
+    private long processingTimeMs;
+}
@@ -0,0 +1,49 @@
+package com.lucas.text_processing_api.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * DTO para respostas de palavras de um documento terminadas em um sufixo
+ * 
+ * @author Lucas
+ * @version 1.0
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class RhymeResponse {
+
+    /**
+     * Identificador do documento
+     */
+    private int documentId;
+
+    /**
+     * Terminação procurada
+     */
+    private String suffix;
+
+    /**
+     * Palavras terminadas no sufixo, das mais frequentes para as menos
+     */
+    private List<WordCount> words;
+
+    /**
+     * Quantidade de palavras distintas terminadas no sufixo
+     */
+    private int distinctWords;
+
+    /**
+     * Ocorrências de palavras terminadas no sufixo
+     */
+    private long totalOccurrences;
+
+    /**
+     * Tempo de processamento em milissegundos
+     */
+    private long processingTimeMs;
+}
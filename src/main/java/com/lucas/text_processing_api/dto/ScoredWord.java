@@ -0,0 +1,34 @@
+package com.lucas.text_processing_api.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Palavra formável com as peças e sua pontuação
+ * 
+ * @author Lucas
+ * @version 1.0
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ScoredWord {
+
+    /**
+     * Palavra encontrada
+     */
+    private String word;
+
+    /**
+     * Soma dos valores das peças usadas
+     */
+    private int score;
+
+    /**
+     * Letras preenchidas por curingas, na ordem em que aparecem na palavra
+     */
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private String blankLetters;
+}
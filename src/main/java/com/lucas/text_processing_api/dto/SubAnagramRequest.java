@@ -0,0 +1,42 @@
+package com.lucas.text_processing_api.dto;
+
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Pattern;
+import jakarta.validation.constraints.Size;
+import lombok.Data;
+
+/**
+ * DTO para requisições de busca de sub-anagramas
+ * 
+ * Representa as letras disponíveis (as "peças") e o comprimento mínimo
+ * das palavras que devem ser retornadas.
+ * 
+ * @author Lucas
+ * @version 1.1
+ */
+@Data
+public class SubAnagramRequest {
+
+    /**
+     * Letras disponíveis; cada letra pode ser usada no máximo uma vez por ocorrência
+     */
+    @NotBlank(message = "As letras não podem estar vazias")
+    @Pattern(regexp = "^[a-zA-Z]+$", message = "Apenas letras são permitidas")
+    private String letters;
+
+    /**
+     * Comprimento mínimo das palavras retornadas (opcional, padrão 1)
+     */
+    @Min(value = 1, message = "O comprimento mínimo deve ser no mínimo 1")
+    @Max(value = 64, message = "O comprimento mínimo deve ser no máximo 64")
+    private Integer minLength;
+
+    /**
+     * Nome do dicionário consultado (opcional; padrão: o do papel do usuário)
+     */
+    @Size(max = 64, message = "O nome do dicionário deve ter no máximo 64 caracteres")
+    @Pattern(regexp = "^[a-zA-Z0-9_-]+$", message = "Nome de dicionário inválido")
+    private String dictionary;
+}
@@ -0,0 +1,43 @@
+package com.lucas.text_processing_api.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * DTO para respostas de busca de sub-anagramas
+ * 
+ * As palavras encontradas são agrupadas por comprimento, das mais longas
+ * para as mais curtas, e cada grupo fica em ordem alfabética.
+ * 
+ * @author Lucas
+ * @version 1.0
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class SubAnagramResponse {
+
+    /**
+     * Letras originais fornecidas como entrada
+     */
+    private String originalLetters;
+
+    /**
+     * Palavras encontradas agrupadas por comprimento
+     */
+    private Map<Integer, List<String>> wordsByLength;
+
+    /**
+     * Quantidade total de palavras encontradas
+     */
+    private int totalWords;
+
+    /**
+     * Tempo de processamento em milissegundos
+     */
+    private long processingTimeMs;
+}
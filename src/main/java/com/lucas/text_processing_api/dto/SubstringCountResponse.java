@@ -0,0 +1,44 @@
+package com.lucas.text_processing_api.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * DTO para respostas de contagem de ocorrências em um documento
+ * 
+ * @author Lucas
+ * @version 1.0
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class SubstringCountResponse {
+
+    /**
+     * Identificador do documento
+     */
+    private int documentId;
+
+    /**
+     * Substring procurada
+     */
+    private String query;
+
+    /**
+     * Quantidade de ocorrências, inclusive sobrepostas
+     */
+    private int occurrences;
+
+    /**
+     * Posições, em bytes, de algumas ocorrências
+     */
+    private List<Integer> offsets;
+
+    /**
+     * Tempo de processamento em milissegundos
+     */
+    private long processingTimeMs;
+}
@@ -0,0 +1,55 @@
+package com.lucas.text_processing_api.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * DTO para o estado de um job de processamento de texto
+ * 
+ * @author Lucas
+ * @version 1.0
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TextJobStatus {
+
+    /**
+     * Identificador do job
+     */
+    private String jobId;
+
+    /**
+     * Estado do job (QUEUED, RUNNING, COMPLETED ou FAILED)
+     */
+    private String state;
+
+    /**
+     * Bytes do arquivo já processados
+     */
+    private long bytesProcessed;
+
+    /**
+     * Tamanho do arquivo em bytes
+     */
+    private long totalBytes;
+
+    /**
+     * Percentual processado, de 0 a 100
+     */
+    private int progressPercent;
+
+    /**
+     * Grupos encontrados, presentes quando o job é concluído
+     */
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private AnagramGroupResponse result;
+
+    /**
+     * Mensagem de erro, presente quando o job falha
+     */
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private String error;
+}
@@ -0,0 +1,67 @@
+package com.lucas.text_processing_api.dto;
+
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Pattern;
+import jakarta.validation.constraints.Size;
+import lombok.Data;
+
+import java.util.Map;
+
+/**
+ * DTO para requisições de busca das palavras de maior pontuação
+ * 
+ * @author Lucas
+ * @version 1.1
+ */
+@Data
+public class TopWordsRequest {
+
+    /**
+     * Peças disponíveis; '?' representa um curinga
+     */
+    @NotBlank(message = "As peças não podem estar vazias")
+    @Pattern(regexp = "^[a-zA-Z?]+$", message = "Apenas letras e '?' são permitidos")
+    private String rack;
+
+    /**
+     * Quantidade de palavras retornadas (opcional)
+     */
+    @Min(value = 1, message = "O limite deve ser no mínimo 1")
+    @Max(value = 100, message = "O limite deve ser no máximo 100")
+    private Integer limit;
+
+    /**
+     * Comprimento mínimo das palavras (opcional)
+     */
+    @Min(value = 1, message = "O comprimento mínimo deve ser no mínimo 1")
+    @Max(value = 64, message = "O comprimento mínimo deve ser no máximo 64")
+    private Integer minLength;
+
+    /**
+     * Comprimento máximo das palavras (opcional)
+     */
+    @Min(value = 1, message = "O comprimento máximo deve ser no mínimo 1")
+    @Max(value = 64, message = "O comprimento máximo deve ser no máximo 64")
+    private Integer maxLength;
+
+    /**
+     * Padrão da palavra, com '?' para qualquer letra (opcional)
+     */
+    @Size(max = 64, message = "O padrão deve ter no máximo 64 caracteres")
+    @Pattern(regexp = "^[a-zA-Z?]+$", message = "O padrão aceita apenas letras e '?'")
+    private String pattern;
+
+    /**
+     * Valores de letras que substituem os configurados (opcional)
+     */
+    private Map<String, Integer> letterValues;
+
+    /**
+     * Nome do dicionário consultado (opcional; padrão: o do papel do usuário)
+     */
+    @Size(max = 64, message = "O nome do dicionário deve ter no máximo 64 caracteres")
+    @Pattern(regexp = "^[a-zA-Z0-9_-]+$", message = "Nome de dicionário inválido")
+    private String dictionary;
+}
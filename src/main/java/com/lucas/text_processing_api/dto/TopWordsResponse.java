@@ -0,0 +1,39 @@
+package com.lucas.text_processing_api.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * DTO para respostas de busca das palavras de maior pontuação
+ * 
+ * @author Lucas
+ * @version 1.0
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TopWordsResponse {
+
+    /**
+     * Peças fornecidas como entrada
+     */
+    private String originalRack;
+
+    /**
+     * Palavras da maior para a menor pontuação
+     */
+    private List<ScoredWord> words;
+
+    /**
+     * Quantidade de palavras retornadas
+     */
+    private int totalWords;
+
+    /**
+     * Tempo de processamento em milissegundos
+     */
+    private long processingTimeMs;
+}
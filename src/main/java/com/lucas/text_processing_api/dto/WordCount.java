@@ -0,0 +1,27 @@
+package com.lucas.text_processing_api.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * DTO de uma palavra e da quantidade de vezes em que aparece no texto
+ * 
+ * @author Lucas
+ * @version 1.0
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class WordCount {
+
+    /**
+     * Palavra, com letras ASCII em minúsculas
+     */
+    private String word;
+
+    /**
+     * Ocorrências da palavra no texto
+     */
+    private long count;
+}
@@ -0,0 +1,49 @@
+package com.lucas.text_processing_api.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * DTO para respostas de frequência de palavras de um texto
+ * 
+ * @author Lucas
+ * @version 1.0
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class WordFrequencyResponse {
+
+    /**
+     * Palavras mais frequentes, da mais frequente para a menos
+     */
+    private List<WordCount> words;
+
+    /**
+     * Quantidade de palavras distintas no texto
+     */
+    private int distinctWords;
+
+    /**
+     * Quantidade de palavras no texto, incluindo as descartadas
+     */
+    private long totalTokens;
+
+    /**
+     * Palavras descartadas por excederem o tamanho máximo
+     */
+    private long skippedTokens;
+
+    /**
+     * Quantidade de bytes lidos
+     */
+    private long bytesScanned;
+
+    /**
+     * Tempo de processamento em milissegundos
+     */
+    private long processingTimeMs;
+}
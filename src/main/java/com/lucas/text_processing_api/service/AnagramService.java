@@ -1,11 +1,16 @@
 package com.lucas.text_processing_api.service;
 
+import com.lucas.text_processing_api.dto.AnagramMode;
 import com.lucas.text_processing_api.dto.AnagramResponse;
 import com.lucas.text_processing_api.util.AnagramGenerator;
+import com.lucas.text_processing_api.util.NecklaceGenerator;
+import com.lucas.text_processing_api.util.SwapDistanceExplorer;
+import com.lucas.text_processing_api.util.dictionary.PhraseSolver;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 
+import java.math.BigInteger;
 import java.util.List;
 
 /**
@@ -15,7 +20,7 @@ import java.util.List;
  * geração de novos anagramas quando necessário e armazenamento no cache.
  * 
  * @author Lucas
- * @version 1.0
+ * @version 1.3
  */
 @Service
 @Slf4j
@@ -27,6 +32,41 @@ public class AnagramService {
     @Autowired
     private RedisCacheService cacheService;
 
+    @Autowired
+    private SwapDistanceExplorer swapDistanceExplorer;
+
+    @Autowired
+    private NecklaceGenerator necklaceGenerator;
+
+    @Autowired
+    private DictionaryService dictionaryService;
+
+    /**
+     * Prefixo do namespace de cache dos anagramas do dicionário; a versão do
+     * dicionário é acrescentada para que uma recarga invalide as entradas antigas
+     */
+    static final String DICTIONARY_CACHE_NAMESPACE = "dictionary";
+
+    /**
+     * Quantidade de resultados usada pelos modos de vizinhança quando o cliente não informa
+     */
+    static final int DEFAULT_MODE_LIMIT = 10;
+
+    /**
+     * Quantidade de resultados usada pelos modos de enumeração quando o cliente não informa
+     */
+    static final int DEFAULT_ENUMERATION_LIMIT = 10000;
+
+    /**
+     * Quantidade de frases retornadas no modo PHRASE quando o cliente não informa
+     */
+    static final int DEFAULT_PHRASE_LIMIT = 100;
+
+    /**
+     * Quantidade máxima de palavras por frase quando o cliente não informa
+     */
+    static final int DEFAULT_PHRASE_MAX_WORDS = 3;
+
     /**
      * Gera anagramas para um conjunto de letras
      * 
@@ -73,6 +113,192 @@ public class AnagramService {
         }
     }
 
+    /**
+     * Gera anagramas de acordo com o modo solicitado
+     * 
+     * O modo PERMUTATIONS (ou nulo) delega para {@link #generateAnagrams(String)}.
+     * Os demais modos retornam apenas os resultados pedidos, sem passar pela
+     * geração completa de permutações.
+     * 
+     * @param letters string contendo as letras para geração de anagramas
+     * @param mode modo de geração
+     * @param limit quantidade máxima de resultados (nulo usa o padrão)
+     * @return AnagramResponse contendo os anagramas e informações do processamento
+     */
+    public AnagramResponse generateAnagrams(String letters, AnagramMode mode, Integer limit) {
+        return generateAnagrams(letters, mode, limit, null);
+    }
+
+    /**
+     * Gera anagramas de acordo com o modo solicitado, com opções específicas
+     * do modo PHRASE
+     * 
+     * @param letters string contendo as letras para geração de anagramas
+     * @param mode modo de geração
+     * @param limit quantidade máxima de resultados (nulo usa o padrão)
+     * @param maxWords quantidade máxima de palavras por frase (nulo usa o padrão)
+     * @return AnagramResponse contendo os anagramas e informações do processamento
+     */
+    public AnagramResponse generateAnagrams(String letters, AnagramMode mode, Integer limit, Integer maxWords) {
+        return generateAnagrams(letters, mode, limit, maxWords, null);
+    }
+
+    /**
+     * Gera anagramas de acordo com o modo solicitado, escolhendo o dicionário
+     * usado pelos modos DICTIONARY e PHRASE
+     * 
+     * @param letters string contendo as letras para geração de anagramas
+     * @param mode modo de geração
+     * @param limit quantidade máxima de resultados (nulo usa o padrão)
+     * @param maxWords quantidade máxima de palavras por frase (nulo usa o padrão)
+     * @param dictionary nome do dicionário (nulo usa o do papel do usuário)
+     * @return AnagramResponse contendo os anagramas e informações do processamento
+     */
+    public AnagramResponse generateAnagrams(String letters, AnagramMode mode, Integer limit, Integer maxWords,
+                                            String dictionary) {
+        if (mode == null || mode == AnagramMode.PERMUTATIONS) {
+            return generateAnagrams(letters);
+        }
+
+        if (mode == AnagramMode.DICTIONARY) {
+            return generateDictionaryAnagrams(letters, dictionary);
+        }
+
+        if (mode == AnagramMode.PHRASE) {
+            return generatePhraseAnagrams(dictionary, letters,
+                limit != null ? limit : DEFAULT_PHRASE_LIMIT,
+                maxWords != null ? maxWords : DEFAULT_PHRASE_MAX_WORDS);
+        }
+
+        long startTime = System.currentTimeMillis();
+        int effectiveLimit = limit != null ? limit : defaultLimit(mode);
+        BigInteger totalPossible = null;
+
+        try {
+            log.info("Gerando anagramas no modo {} para letras: {}", mode, letters);
+
+            List<String> anagrams = switch (mode) {
+                case SWAP_DISTANCE -> swapDistanceExplorer.nearest(letters, effectiveLimit, false);
+                case ADJACENT_SWAP_DISTANCE -> swapDistanceExplorer.nearest(letters, effectiveLimit, true);
+                case NECKLACE -> {
+                    totalPossible = necklaceGenerator.countNecklaces(letters);
+                    yield necklaceGenerator.generateNecklaces(letters, effectiveLimit);
+                }
+                default -> throw new IllegalArgumentException("Modo não suportado: " + mode);
+            };
+
+            AnagramResponse response = new AnagramResponse(letters.toLowerCase(), anagrams);
+            response.setTotalPossible(totalPossible);
+            response.setProcessingTimeMs(System.currentTimeMillis() - startTime);
+
+            log.info("Anagramas gerados no modo {} para letras: {}. Total: {}",
+                    mode, letters, anagrams.size());
+
+            return response;
+
+        } catch (Exception e) {
+            log.error("Erro ao gerar anagramas no modo {} para letras: {}. Erro: {}",
+                    mode, letters, e.getMessage(), e);
+            throw e;
+        }
+    }
+
+    /**
+     * Retorna os anagramas que são palavras do dicionário
+     * 
+     * Consulta o cache (pela composição das letras) e, em caso de falha,
+     * o índice de assinaturas do dicionário.
+     * 
+     * @param letters string contendo as letras
+     * @param dictionary nome do dicionário (nulo usa o do papel do usuário)
+     * @return AnagramResponse contendo as palavras encontradas
+     */
+    private AnagramResponse generateDictionaryAnagrams(String letters, String dictionary) {
+        long startTime = System.currentTimeMillis();
+
+        try {
+            log.info("Buscando anagramas no dicionário para letras: {}", letters);
+
+            String namespace = dictionaryCacheNamespace(dictionaryService.currentVersion(dictionary));
+            AnagramResponse cachedResponse = cacheService.getFromCache(namespace, letters);
+            if (cachedResponse != null) {
+                cachedResponse.setProcessingTimeMs(System.currentTimeMillis() - startTime);
+                log.info("Anagramas do dicionário recuperados do cache para letras: {}", letters);
+                return cachedResponse;
+            }
+
+            List<String> anagrams = dictionaryService.findAnagrams(dictionary, letters);
+
+            AnagramResponse response = new AnagramResponse(letters.toLowerCase(), anagrams);
+            response.setProcessingTimeMs(System.currentTimeMillis() - startTime);
+
+            cacheService.saveToCache(namespace, letters, response);
+
+            log.info("Anagramas do dicionário encontrados para letras: {}. Total: {}",
+                    letters, anagrams.size());
+
+            return response;
+
+        } catch (Exception e) {
+            log.error("Erro ao buscar anagramas no dicionário para letras: {}. Erro: {}",
+                    letters, e.getMessage(), e);
+            throw e;
+        }
+    }
+
+    /**
+     * Decompõe as letras em frases de palavras do dicionário
+     * 
+     * O resultado não é armazenado em cache, pois depende dos limites
+     * informados e pode ser parcial quando o prazo da busca se esgota.
+     * 
+     * @param dictionary nome do dicionário (nulo usa o do papel do usuário)
+     * @param letters string contendo as letras
+     * @param limit quantidade máxima de frases
+     * @param maxWords quantidade máxima de palavras por frase
+     * @return AnagramResponse contendo as frases encontradas
+     */
+    private AnagramResponse generatePhraseAnagrams(String dictionary, String letters, int limit, int maxWords) {
+        long startTime = System.currentTimeMillis();
+
+        try {
+            log.info("Buscando frases para letras: {} (até {} palavras)", letters, maxWords);
+
+            PhraseSolver.Result result = dictionaryService.findPhrases(dictionary, letters, maxWords, limit);
+
+            AnagramResponse response = new AnagramResponse(letters.toLowerCase(), result.getPhrases());
+            response.setTruncated(result.isTruncated() ? Boolean.TRUE : null);
+            response.setProcessingTimeMs(System.currentTimeMillis() - startTime);
+
+            log.info("Frases encontradas para letras: {}. Total: {}, truncado: {}",
+                    letters, result.getPhrases().size(), result.isTruncated());
+
+            return response;
+
+        } catch (Exception e) {
+            log.error("Erro ao buscar frases para letras: {}. Erro: {}",
+                    letters, e.getMessage(), e);
+            throw e;
+        }
+    }
+
+    /**
+     * Namespace de cache de uma versão do dicionário
+     * 
+     * Entradas de versões anteriores deixam de ser consultadas e expiram pelo
+     * TTL, sem varrer o Redis.
+     * 
+     * @param version carimbo de versão do dicionário
+     * @return namespace versionado
+     */
+    static String dictionaryCacheNamespace(long version) {
+        return DICTIONARY_CACHE_NAMESPACE + ":" + Long.toHexString(version);
+    }
+
+    private static int defaultLimit(AnagramMode mode) {
+        return mode == AnagramMode.NECKLACE ? DEFAULT_ENUMERATION_LIMIT : DEFAULT_MODE_LIMIT;
+    }
+
     /**
      * Gera anagramas sem usar cache
      * 
@@ -0,0 +1,209 @@
+package com.lucas.text_processing_api.service;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import com.lucas.text_processing_api.util.PermutationCursor;
+import com.lucas.text_processing_api.util.stream.ByteChunkRing;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Serviço de geração de anagramas em pipeline
+ * 
+ * A geração e a serialização rodam em uma thread produtora, que preenche
+ * blocos de bytes reutilizáveis de um anel limitado. A thread da requisição
+ * apenas drena os blocos para o socket. Assim o cálculo e a escrita na rede
+ * se sobrepõem, o anel cheio freia o produtor quando o cliente é lento e
+ * nenhum objeto é alocado por anagrama.
+ * 
+ * O formato de saída é NDJSON: uma string JSON por linha.
+ * 
+ * As threads produtoras são limitadas e a fila de gerações à espera também
+ * (app.anagram.pipeline.max-queued); com a fila cheia a geração é recusada
+ * antes de qualquer byte ser escrito, em vez de acumular requisições
+ * presas esperando um produtor.
+ * 
+ * @author Lucas
+ * @version 1.2
+ */
+@Service
+@Slf4j
+public class AnagramStreamService {
+
+    /**
+     * Tipo de conteúdo da resposta em pipeline
+     */
+    public static final String NDJSON = "application/x-ndjson";
+
+    @Value("${app.anagram.pipeline.chunk-size:16384}")
+    private int chunkSize;
+
+    @Value("${app.anagram.pipeline.ring-capacity:8}")
+    private int ringCapacity;
+
+    @Value("${app.anagram.pipeline.max-letters:12}")
+    private int maxLetters;
+
+    @Value("${app.anagram.pipeline.producer-threads:0}")
+    private int producerThreads;
+
+    @Value("${app.anagram.pipeline.max-queued:32}")
+    private int maxQueued;
+
+    private final AtomicInteger producerCount = new AtomicInteger();
+    private ThreadPoolExecutor producerExecutor;
+
+    /**
+     * Cria as threads produtoras (zero threads configuradas usa uma por processador)
+     */
+    @PostConstruct
+    public void start() {
+        int threads = producerThreads > 0 ? producerThreads : Math.max(2, Runtime.getRuntime().availableProcessors());
+        producerExecutor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+            new ArrayBlockingQueue<>(Math.max(1, maxQueued)),
+            runnable -> {
+                Thread thread = new Thread(runnable, "anagram-producer-" + producerCount.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            },
+            new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    /**
+     * Valida a entrada antes de qualquer byte ser escrito na resposta
+     * 
+     * @param letters letras para geração
+     * @param limit quantidade máxima de anagramas (nulo para todos)
+     * @throws IllegalArgumentException se a entrada for inválida
+     */
+    public void validate(String letters, Integer limit) {
+        if (letters == null || letters.trim().isEmpty()) {
+            throw new IllegalArgumentException("As letras não podem estar vazias");
+        }
+
+        if (!letters.matches("^[a-zA-Z]+$")) {
+            throw new IllegalArgumentException("Apenas letras são permitidas");
+        }
+
+        if (letters.length() > maxLetters) {
+            throw new IllegalArgumentException(
+                "O modo em pipeline aceita no máximo " + maxLetters + " letras");
+        }
+
+        if (limit != null && limit < 1) {
+            throw new IllegalArgumentException("O limite deve ser no mínimo 1");
+        }
+    }
+
+    /**
+     * Gera os anagramas em uma thread produtora e os escreve no destino
+     * a partir da thread chamadora
+     * 
+     * @param letters letras para geração
+     * @param limit quantidade máxima de anagramas (nulo para todos)
+     * @param out destino (tipicamente o output stream da resposta HTTP)
+     * @return total de bytes escritos
+     * @throws IOException se a escrita falhar ou o produtor falhar
+     * @throws RejectedExecutionException se a fila de gerações estiver cheia; nada foi escrito
+     */
+    public long streamAnagrams(String letters, Integer limit, OutputStream out) throws IOException {
+        validate(letters, limit);
+
+        long startTime = System.currentTimeMillis();
+        long maxElements = limit != null ? limit : Long.MAX_VALUE;
+        ByteChunkRing ring = new ByteChunkRing(ringCapacity, Math.max(chunkSize, letters.length() + 64));
+
+        log.info("Iniciando geração em pipeline para letras: {}", letters);
+        try {
+            producerExecutor.execute(() -> produce(letters, maxElements, ring));
+        } catch (RejectedExecutionException e) {
+            log.warn("Geração em pipeline recusada, {} gerações na fila", producerExecutor.getQueue().size());
+            throw e;
+        }
+
+        long written = ring.drainTo(out);
+        log.info("Geração em pipeline concluída para letras: {}. Bytes: {}, tempo: {} ms",
+                letters, written, System.currentTimeMillis() - startTime);
+        return written;
+    }
+
+    /**
+     * Laço do produtor: percorre as permutações e codifica cada uma como
+     * uma linha NDJSON diretamente no bloco atual
+     * 
+     * O anel é sempre fechado ou falhado ao final, inclusive em um Error,
+     * para que o consumidor nunca fique esperando um produtor que morreu.
+     */
+    private void produce(String letters, long maxElements, ByteChunkRing ring) {
+        Throwable failure = null;
+        try {
+            PermutationCursor cursor = new PermutationCursor(letters);
+            int lineLength = letters.length() + 3;
+            long emitted = 0;
+
+            byte[] chunk = ring.claim();
+            int position = 0;
+
+            while (chunk != null && emitted < maxElements && cursor.next()) {
+                if (position + lineLength > chunk.length) {
+                    ring.publish(position);
+                    chunk = ring.claim();
+                    position = 0;
+                    if (chunk == null) {
+                        break;
+                    }
+                }
+
+                byte[] current = cursor.current();
+                chunk[position++] = '"';
+                System.arraycopy(current, 0, chunk, position, current.length);
+                position += current.length;
+                chunk[position++] = '"';
+                chunk[position++] = '\n';
+                emitted++;
+            }
+
+            if (chunk != null && position > 0) {
+                ring.publish(position);
+            }
+
+            if (ring.isCancelled()) {
+                log.debug("Pipeline cancelado pelo consumidor para letras: {}", letters);
+            }
+
+        } catch (Throwable e) {
+            failure = e;
+            log.error("Erro no produtor do pipeline para letras: {}. Erro: {}", letters, e.getMessage(), e);
+            if (e instanceof Error error) {
+                throw error;
+            }
+        } finally {
+            if (failure != null) {
+                ring.fail(failure);
+            } else {
+                ring.close();
+            }
+        }
+    }
+
+    /**
+     * Encerra as threads produtoras
+     */
+    @PreDestroy
+    public void shutdown() {
+        if (producerExecutor != null) {
+            producerExecutor.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,817 @@
+package com.lucas.text_processing_api.service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.ResourceLoader;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Service;
+
+import com.lucas.text_processing_api.dto.DictionaryUsage;
+import com.lucas.text_processing_api.dto.FuzzyMatch;
+import com.lucas.text_processing_api.dto.NearAnagram;
+import com.lucas.text_processing_api.dto.ScoredWord;
+import com.lucas.text_processing_api.util.collection.HashMixer;
+import com.lucas.text_processing_api.util.collection.LongArrayList;
+import com.lucas.text_processing_api.util.dictionary.CompiledDictionary;
+import com.lucas.text_processing_api.util.dictionary.DictionaryIndex;
+import com.lucas.text_processing_api.util.dictionary.FuzzyIndex;
+import com.lucas.text_processing_api.util.dictionary.DictionarySnapshot;
+import com.lucas.text_processing_api.util.dictionary.LetterHistogram;
+import com.lucas.text_processing_api.util.dictionary.LetterSignature;
+import com.lucas.text_processing_api.util.dictionary.NeighborIndex;
+import com.lucas.text_processing_api.util.dictionary.NeighborIndex.LetterEdit;
+import com.lucas.text_processing_api.util.dictionary.OverlayIndex;
+import com.lucas.text_processing_api.util.dictionary.PatternIndex;
+import com.lucas.text_processing_api.util.dictionary.PhraseSolver;
+import com.lucas.text_processing_api.util.dictionary.PrefixCompleter;
+import com.lucas.text_processing_api.util.dictionary.RackScorer;
+import com.lucas.text_processing_api.util.dictionary.SignatureIndex;
+import com.lucas.text_processing_api.util.dictionary.WordListReader;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Serviço de dicionário
+ * 
+ * Carrega a lista de palavras configurada e mantém um índice por assinatura
+ * de letras, permitindo encontrar os anagramas que são palavras reais sem
+ * gerar permutações.
+ * 
+ * Quando app.dictionary.compiled-path está configurado, o índice é gravado
+ * nesse arquivo em formato binário na primeira inicialização e, nas seguintes,
+ * apenas mapeado em memória ({@link CompiledDictionary}). O arquivo é
+ * recompilado automaticamente quando a lista de origem muda.
+ * 
+ * O dicionário pode ser recarregado sem reiniciar a aplicação: a nova versão
+ * é construída em uma thread de fundo e publicada trocando uma única
+ * referência imutável ({@link DictionarySnapshot}). Consultas em andamento
+ * terminam na versão antiga e nenhuma consulta usa locks. Com
+ * app.dictionary.watch=true, alterações no arquivo da lista disparam a
+ * recarga automaticamente.
+ * 
+ * A trie usada nas buscas de sub-anagramas e por pontuação, assim como os
+ * demais índices derivados, é construída sob demanda na primeira consulta,
+ * para não pesar na inicialização.
+ * 
+ * Além do dicionário padrão, cada arquivo "nome.txt" do diretório
+ * app.dictionary.overlays-path define um dicionário sobreposto ao padrão
+ * ({@link OverlayIndex}): linhas "+palavra" (ou só "palavra") acrescentam e
+ * "-palavra" removem. As consultas escolhem o dicionário pelo nome; sem nome,
+ * vale o associado ao papel do usuário em app.dictionary.role-dictionaries
+ * (ex: "USER=pt-br") ou, na falta dele, o padrão.
+ * 
+ * @author Lucas
+ * @version 1.7
+ */
+@Service
+@Slf4j
+public class DictionaryService {
+
+    /**
+     * Nome do dicionário carregado de app.dictionary.path
+     */
+    public static final String DEFAULT_DICTIONARY = "default";
+
+    @Autowired
+    private ResourceLoader resourceLoader;
+
+    @Value("${app.dictionary.path:classpath:dictionary/words-en.txt}")
+    private String dictionaryPath;
+
+    @Value("${app.dictionary.compiled-path:}")
+    private String compiledPath;
+
+    @Value("${app.dictionary.phrase.timeout-ms:2000}")
+    private long phraseTimeoutMs;
+
+    @Value("${app.dictionary.letter-values:}")
+    private String letterValueSpec;
+
+    @Value("${app.dictionary.watch:false}")
+    private boolean watchEnabled;
+
+    @Value("${app.dictionary.overlays-path:}")
+    private String overlaysPath;
+
+    @Value("${app.dictionary.role-dictionaries:}")
+    private String roleDictionarySpec;
+
+    /** Dicionário por papel, lido de app.dictionary.role-dictionaries na inicialização */
+    private Map<String, String> dictionaryByRole = Map.of();
+
+    private volatile DictionarySnapshot snapshot = new DictionarySnapshot(new SignatureIndex(new String[0]), 0);
+
+    /** Dicionários sobrepostos ao padrão, por nome; publicados junto com ele */
+    private volatile Map<String, DictionarySnapshot> overlays = Map.of();
+
+    /** Consultas atendidas por dicionário, acumuladas entre recargas */
+    private final Map<String, LongAdder> lookupCounters = new ConcurrentHashMap<>();
+
+    private final ForkJoinPool phrasePool = new ForkJoinPool(Runtime.getRuntime().availableProcessors());
+
+    private final ExecutorService reloadExecutor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "dictionary-reloader");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    /** Evita enfileirar várias recargas enquanto uma ainda não começou */
+    private final AtomicBoolean reloadQueued = new AtomicBoolean();
+
+    /** Versões usadas quando a origem não informa tamanho e data */
+    private final AtomicLong fallbackVersion = new AtomicLong();
+
+    private volatile WatchService watchService;
+
+    /**
+     * Carrega o dicionário configurado na inicialização
+     * 
+     * Uma falha de leitura não impede a aplicação de subir: o dicionário
+     * fica vazio e o erro é registrado.
+     */
+    @PostConstruct
+    public void load() {
+        dictionaryByRole = parseRoleDictionaries(roleDictionarySpec);
+        try {
+            reload();
+        } catch (IOException e) {
+            log.error("Não foi possível carregar o dicionário {}: {}", dictionaryPath, e.getMessage());
+        }
+
+        if (watchEnabled) {
+            startWatcher();
+        }
+    }
+
+    /**
+     * Constrói uma nova versão do dicionário e a publica
+     * 
+     * Se a trie da versão atual já foi usada, a da nova versão é construída
+     * antes da publicação, para que as consultas não paguem esse custo.
+     * 
+     * @return versão publicada
+     * @throws IOException se a lista não puder ser lida; a versão atual é mantida
+     */
+    public synchronized DictionarySnapshot reload() throws IOException {
+        long startTime = System.currentTimeMillis();
+        Resource resource = resourceLoader.getResource(dictionaryPath);
+        long stamp = sourceStamp(resource);
+
+        DictionaryIndex index = compiledPath == null || compiledPath.isBlank()
+            ? buildIndex(resource)
+            : loadCompiled(resource, stamp, Path.of(compiledPath));
+
+        long version = stamp != 0 ? stamp : fallbackVersion.incrementAndGet();
+        DictionarySnapshot next = new DictionarySnapshot(index, version);
+        if (snapshot.isTrieBuilt()) {
+            next.trie();
+        }
+        Map<String, DictionarySnapshot> nextOverlays = loadOverlays(next);
+        snapshot = next;
+        overlays = nextOverlays;
+
+        log.info("Dicionário carregado de {}: {} palavras, {} grupos, versão {}, {} sobrepostos, {} ms",
+                dictionaryPath, index.wordCount(), index.groupCount(), Long.toHexString(version),
+                nextOverlays.size(), System.currentTimeMillis() - startTime);
+        return next;
+    }
+
+    /**
+     * Agenda uma recarga em segundo plano
+     * 
+     * Pedidos feitos enquanto outra recarga aguarda na fila são agrupados.
+     * 
+     * @return true se uma nova recarga foi agendada
+     */
+    public boolean reloadAsync() {
+        if (!reloadQueued.compareAndSet(false, true)) {
+            return false;
+        }
+
+        reloadExecutor.execute(() -> {
+            reloadQueued.set(false);
+            try {
+                reload();
+            } catch (IOException | RuntimeException e) {
+                log.error("Falha ao recarregar o dicionário {}: {}", dictionaryPath, e.getMessage(), e);
+            }
+        });
+        return true;
+    }
+
+    /**
+     * Retorna os anagramas das letras que existem no dicionário
+     * 
+     * @param dictionary nome do dicionário, ou null para o do papel do usuário
+     * @param letters letras informadas pelo usuário
+     * @return palavras do dicionário com exatamente as mesmas letras
+     * @throws IllegalArgumentException se a entrada ou o dicionário forem inválidos
+     */
+    public List<String> findAnagrams(String dictionary, String letters) {
+        String normalized = normalizeLetters(letters);
+        return select(dictionary).index().anagramsOf(normalized);
+    }
+
+    /**
+     * Retorna as palavras do dicionário que podem ser formadas com um
+     * subconjunto das letras, agrupadas por comprimento
+     * 
+     * @param dictionary nome do dicionário, ou null para o do papel do usuário
+     * @param letters letras disponíveis
+     * @param minLength comprimento mínimo das palavras
+     * @return mapa de comprimento (decrescente) para palavras em ordem alfabética
+     * @throws IllegalArgumentException se a entrada ou o dicionário forem inválidos
+     */
+    public Map<Integer, List<String>> findSubAnagrams(String dictionary, String letters, int minLength) {
+        int[] counts = LetterHistogram.histogram(normalizeLetters(letters));
+        DictionarySnapshot current = select(dictionary);
+        Map<Integer, List<String>> wordsByLength = new TreeMap<>(Comparator.reverseOrder());
+
+        current.trie().forEachSubAnagram(counts, minLength, id -> {
+            String word = current.index().word(id);
+            wordsByLength.computeIfAbsent(word.length(), length -> new ArrayList<>()).add(word);
+        });
+        // Em um dicionário sobreposto as palavras acrescentadas chegam depois das da base
+        if (current.index() instanceof OverlayIndex) {
+            wordsByLength.values().forEach(Collections::sort);
+        }
+        return wordsByLength;
+    }
+
+    /**
+     * Decompõe as letras em frases de palavras do dicionário
+     * 
+     * A busca é interrompida ao atingir o limite de frases ou o prazo
+     * configurado em app.dictionary.phrase.timeout-ms; nesses casos o
+     * resultado parcial é marcado como truncado.
+     * 
+     * @param dictionary nome do dicionário, ou null para o do papel do usuário
+     * @param letters letras informadas pelo usuário
+     * @param maxWords quantidade máxima de palavras por frase
+     * @param limit quantidade máxima de frases
+     * @return frases encontradas
+     * @throws IllegalArgumentException se a entrada ou o dicionário forem inválidos
+     */
+    public PhraseSolver.Result findPhrases(String dictionary, String letters, int maxWords, int limit) {
+        String normalized = normalizeLetters(letters);
+        long deadline = System.nanoTime() + phraseTimeoutMs * 1_000_000L;
+        DictionarySnapshot current = select(dictionary);
+        return new PhraseSolver(current.index(), current.trie(), phrasePool)
+            .solve(normalized, maxWords, limit, deadline);
+    }
+
+    /**
+     * Retorna as palavras do dicionário a uma letra de distância de algum
+     * anagrama da entrada (letra acrescentada, trocada ou removida)
+     * 
+     * O resultado é ordenado por tipo de edição (adição, troca, remoção) e,
+     * dentro de cada tipo, pela ordem do dicionário.
+     * 
+     * @param dictionary nome do dicionário, ou null para o do papel do usuário
+     * @param letters letras informadas pelo usuário
+     * @param limit quantidade máxima de vizinhos
+     * @return vizinhos encontrados
+     * @throws IllegalArgumentException se a entrada ou o dicionário forem inválidos
+     */
+    public List<NearAnagram> findNearAnagrams(String dictionary, String letters, int limit) {
+        String normalized = normalizeLetters(letters);
+        DictionarySnapshot current = select(dictionary);
+
+        // Edição, id da palavra e letras empacotados em um long: ordenáveis sem objetos
+        LongArrayList found = new LongArrayList();
+        current.neighbors().forEachNeighbor(normalized, (wordId, edit, added, removed) ->
+            found.add((long) edit.ordinal() << 45 | (long) wordId << 14 | (long) added << 7 | removed));
+        found.sort();
+
+        LetterEdit[] edits = LetterEdit.values();
+        List<NearAnagram> result = new ArrayList<>(Math.min(found.size(), limit));
+        for (int i = 0; i < found.size() && i < limit; i++) {
+            long packed = found.get(i);
+            char added = (char) (packed >>> 7 & 0x7F);
+            char removed = (char) (packed & 0x7F);
+            result.add(new NearAnagram(
+                current.index().word((int) (packed >>> 14 & 0x7FFFFFFFL)),
+                edits[(int) (packed >>> 45)],
+                added != 0 ? String.valueOf(added) : null,
+                removed != 0 ? String.valueOf(removed) : null));
+        }
+        return result;
+    }
+
+    /**
+     * Retorna as palavras do dicionário a distância de edição até o limite
+     * da palavra informada ("você quis dizer")
+     * 
+     * Usa o índice de deleções da versão ({@link FuzzyIndex}) e a distância
+     * de Levenshtein limitada, sem percorrer o dicionário. O resultado é
+     * ordenado pela distância e, na mesma distância, pela ordem do dicionário.
+     * 
+     * @param dictionary nome do dicionário, ou null para o do papel do usuário
+     * @param word palavra digitada
+     * @param maxDistance distância máxima, entre 0 e {@link FuzzyIndex#MAX_DISTANCE}
+     * @param limit quantidade máxima de palavras
+     * @return palavras encontradas, das mais próximas para as mais distantes
+     * @throws IllegalArgumentException se a entrada ou o dicionário forem inválidos
+     */
+    public List<FuzzyMatch> findSimilarWords(String dictionary, String word, int maxDistance, int limit) {
+        String normalized = normalizeLetters(word);
+        if (maxDistance < 0 || maxDistance > FuzzyIndex.MAX_DISTANCE) {
+            throw new IllegalArgumentException("A distância deve estar entre 0 e " + FuzzyIndex.MAX_DISTANCE);
+        }
+        DictionarySnapshot current = select(dictionary);
+
+        // Distância e id da palavra empacotados em um long: ordenáveis sem objetos
+        LongArrayList found = new LongArrayList();
+        current.fuzzy().forEachMatch(normalized, maxDistance, (wordId, distance) ->
+            found.add((long) distance << 32 | wordId));
+        found.sort();
+
+        List<FuzzyMatch> result = new ArrayList<>(Math.min(found.size(), limit));
+        for (int i = 0; i < found.size() && i < limit; i++) {
+            long packed = found.get(i);
+            result.add(new FuzzyMatch(current.index().word((int) packed), (int) (packed >>> 32)));
+        }
+        return result;
+    }
+
+    /**
+     * Retorna as K palavras de maior pontuação formáveis com as peças
+     * 
+     * Usa branch-and-bound sobre a trie ({@link RackScorer}): ramos cujo
+     * limite superior de pontuação não supera a pior palavra retida são
+     * descartados sem serem percorridos.
+     * 
+     * @param dictionary nome do dicionário, ou null para o do papel do usuário
+     * @param rack peças disponíveis, com '?' para curingas
+     * @param limit quantidade de palavras
+     * @param minLength comprimento mínimo
+     * @param maxLength comprimento máximo
+     * @param pattern padrão da palavra com '?' para qualquer letra, ou null
+     * @param letterValues valores que substituem os configurados, ou null
+     * @return palavras da maior para a menor pontuação
+     * @throws IllegalArgumentException se a entrada ou o dicionário forem inválidos
+     */
+    public List<ScoredWord> findTopWords(String dictionary, String rack, int limit, int minLength, int maxLength,
+                                         String pattern, Map<String, Integer> letterValues) {
+        if (rack == null || rack.trim().isEmpty()) {
+            throw new IllegalArgumentException("As peças não podem estar vazias");
+        }
+        if (!rack.matches("^[a-zA-Z?]+$")) {
+            throw new IllegalArgumentException("Apenas letras e '?' são permitidos");
+        }
+        if (pattern != null && !pattern.matches("^[a-zA-Z?]+$")) {
+            throw new IllegalArgumentException("O padrão aceita apenas letras e '?'");
+        }
+
+        int[] counts = new int[LetterSignature.ALPHABET_SIZE];
+        int blanks = 0;
+        for (int i = 0; i < rack.length(); i++) {
+            char c = Character.toLowerCase(rack.charAt(i));
+            if (c == RackScorer.BLANK) {
+                blanks++;
+            } else {
+                counts[c - 'a']++;
+            }
+        }
+
+        int[] values = RackScorer.parseLetterValues(letterValueSpec, RackScorer.defaultLetterValues());
+        if (letterValues != null && !letterValues.isEmpty()) {
+            values = RackScorer.parseLetterValues(letterValues.entrySet().stream()
+                .map(entry -> entry.getKey() + "=" + entry.getValue())
+                .collect(Collectors.joining(",")), values);
+        }
+
+        DictionarySnapshot current = select(dictionary);
+        RackScorer scorer = new RackScorer(current.trie(), values);
+        List<RackScorer.Match> matches = scorer.topWords(counts, blanks, minLength, maxLength,
+            pattern != null ? pattern.toLowerCase() : null, limit);
+
+        List<ScoredWord> result = new ArrayList<>(matches.size());
+        for (RackScorer.Match match : matches) {
+            String word = current.index().word(match.getWordId());
+            result.add(new ScoredWord(word, match.getScore(), blankLetters(word, counts)));
+        }
+        return result;
+    }
+
+    /**
+     * Retorna as palavras que atendem a um padrão de palavras cruzadas
+     * 
+     * Cada posição do padrão é uma letra fixa ou '?' para qualquer letra, e
+     * as palavras têm exatamente o comprimento do padrão. Quando letras
+     * disponíveis são informadas, as posições livres só podem ser preenchidas
+     * com elas, respeitando as repetições.
+     * 
+     * @param dictionary nome do dicionário, ou null para o do papel do usuário
+     * @param pattern padrão, por exemplo "a?c??e"
+     * @param letters letras para as posições livres, ou null para qualquer letra
+     * @param limit quantidade máxima de palavras retornadas
+     * @return palavras na ordem do dicionário e total de correspondências
+     * @throws IllegalArgumentException se a entrada ou o dicionário forem inválidos
+     */
+    public PatternIndex.Result findPatternMatches(String dictionary, String pattern, String letters, int limit) {
+        if (pattern == null || pattern.trim().isEmpty()) {
+            throw new IllegalArgumentException("O padrão não pode estar vazio");
+        }
+        if (!pattern.matches("^[a-zA-Z?]+$")) {
+            throw new IllegalArgumentException("O padrão aceita apenas letras e '?'");
+        }
+        int[] available = letters != null ? LetterHistogram.histogram(normalizeLetters(letters)) : null;
+
+        return select(dictionary).patterns().match(pattern.toLowerCase(), available, limit);
+    }
+
+    /**
+     * Retorna as palavras mais frequentes que começam pelo prefixo digitado e
+     * podem ser formadas com as letras disponíveis
+     * 
+     * As letras do prefixo também são consumidas das letras disponíveis. A
+     * frequência é a ordem da lista de palavras do dicionário.
+     * 
+     * @param dictionary nome do dicionário, ou null para o do papel do usuário
+     * @param letters letras disponíveis
+     * @param prefix prefixo digitado, ou null para qualquer palavra
+     * @param limit quantidade máxima de palavras
+     * @return palavras da mais para a menos frequente
+     * @throws IllegalArgumentException se a entrada ou o dicionário forem inválidos
+     */
+    public List<String> findCompletions(String dictionary, String letters, String prefix, int limit) {
+        int[] counts = LetterHistogram.histogram(normalizeLetters(letters));
+        String normalizedPrefix = prefix != null ? prefix.toLowerCase() : "";
+        if (!normalizedPrefix.matches("^[a-z]*$")) {
+            throw new IllegalArgumentException("O prefixo aceita apenas letras");
+        }
+
+        DictionarySnapshot current = select(dictionary);
+        int[] ids = new PrefixCompleter(current.trie()).complete(normalizedPrefix, counts, limit);
+
+        List<String> words = new ArrayList<>(ids.length);
+        for (int id : ids) {
+            words.add(current.index().word(id));
+        }
+        return words;
+    }
+
+    /**
+     * @return quantidade de palavras no dicionário carregado
+     */
+    public int wordCount() {
+        return snapshot.index().wordCount();
+    }
+
+    /**
+     * @return quantidade de grupos de anagramas no dicionário carregado
+     */
+    public int groupCount() {
+        return snapshot.index().groupCount();
+    }
+
+    /**
+     * Carimbo de versão do dicionário publicado
+     * 
+     * Muda sempre que o conteúdo da lista muda e é usado para compor as
+     * chaves de cache que dependem do dicionário.
+     * 
+     * @return versão atual
+     */
+    public long currentVersion() {
+        return snapshot.version();
+    }
+
+    /**
+     * Carimbo de versão de um dicionário
+     * 
+     * A versão de um dicionário sobreposto muda quando o padrão ou o arquivo
+     * de sobreposição mudam, e é distinta entre dicionários.
+     * 
+     * @param dictionary nome do dicionário, ou null para o do papel do usuário
+     * @return versão atual do dicionário
+     * @throws IllegalArgumentException se o dicionário não existir
+     */
+    public long currentVersion(String dictionary) {
+        return resolve(resolveName(dictionary)).version();
+    }
+
+    /**
+     * Uso de memória e quantidade de consultas de cada dicionário
+     * 
+     * Para dicionários sobrepostos, a memória do índice padrão é informada
+     * como compartilhada; a própria inclui a sobreposição e as estruturas
+     * derivadas já construídas para ele.
+     * 
+     * @return um item por dicionário, começando pelo padrão
+     */
+    public List<DictionaryUsage> dictionaryUsage() {
+        List<DictionaryUsage> usage = new ArrayList<>();
+        DictionarySnapshot base = snapshot;
+        usage.add(new DictionaryUsage(DEFAULT_DICTIONARY, base.index().activeWordCount(), 0, 0,
+            Long.toHexString(base.version()), 0,
+            base.index().memoryBytes() + base.derivedBytes(), lookups(DEFAULT_DICTIONARY)));
+
+        for (Map.Entry<String, DictionarySnapshot> entry : overlays.entrySet()) {
+            DictionarySnapshot overlay = entry.getValue();
+            OverlayIndex index = (OverlayIndex) overlay.index();
+            usage.add(new DictionaryUsage(entry.getKey(), index.activeWordCount(), index.addedCount(),
+                index.removedCount(), Long.toHexString(overlay.version()), index.base().memoryBytes(),
+                index.overlayBytes() + overlay.derivedBytes(), lookups(entry.getKey())));
+        }
+        return usage;
+    }
+
+    /**
+     * Encerra as threads de busca, de recarga e o monitoramento do arquivo
+     */
+    @PreDestroy
+    public void shutdown() {
+        phrasePool.shutdownNow();
+        reloadExecutor.shutdownNow();
+
+        WatchService watcher = watchService;
+        if (watcher != null) {
+            try {
+                watcher.close();
+            } catch (IOException e) {
+                log.debug("Erro ao encerrar o monitoramento do dicionário: {}", e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Monitora o diretório da lista e agenda uma recarga quando o arquivo muda
+     * 
+     * Só é possível quando a lista é um arquivo do sistema (não um recurso do classpath).
+     */
+    private void startWatcher() {
+        Path file;
+        try {
+            file = resourceLoader.getResource(dictionaryPath).getFile().toPath().toAbsolutePath();
+        } catch (IOException e) {
+            log.warn("Monitoramento ignorado: {} não é um arquivo do sistema", dictionaryPath);
+            return;
+        }
+
+        try {
+            WatchService watcher = file.getFileSystem().newWatchService();
+            file.getParent().register(watcher,
+                StandardWatchEventKinds.ENTRY_CREATE, StandardWatchEventKinds.ENTRY_MODIFY);
+            watchService = watcher;
+
+            Thread thread = new Thread(() -> watch(watcher, file), "dictionary-watcher");
+            thread.setDaemon(true);
+            thread.start();
+            log.info("Monitorando alterações em {}", file);
+        } catch (IOException e) {
+            log.warn("Não foi possível monitorar {}: {}", file, e.getMessage());
+        }
+    }
+
+    private void watch(WatchService watcher, Path file) {
+        try {
+            while (true) {
+                WatchKey key = watcher.take();
+                for (WatchEvent<?> event : key.pollEvents()) {
+                    if (file.getFileName().equals(event.context())) {
+                        log.info("Alteração detectada em {}, recarregando dicionário", file);
+                        reloadAsync();
+                    }
+                }
+                if (!key.reset()) {
+                    return;
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ClosedWatchServiceException e) {
+            log.debug("Monitoramento do dicionário encerrado");
+        }
+    }
+
+    /**
+     * Resolve o dicionário de uma consulta e contabiliza o acesso
+     */
+    private DictionarySnapshot select(String dictionary) {
+        String name = resolveName(dictionary);
+        DictionarySnapshot selected = resolve(name);
+        lookupCounters.computeIfAbsent(name, key -> new LongAdder()).increment();
+        return selected;
+    }
+
+    /**
+     * Nome informado, ou o associado ao papel do usuário autenticado, ou o padrão
+     */
+    private String resolveName(String dictionary) {
+        if (dictionary != null && !dictionary.isBlank()) {
+            return dictionary.trim().toLowerCase();
+        }
+
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || dictionaryByRole.isEmpty()) {
+            return DEFAULT_DICTIONARY;
+        }
+
+        for (GrantedAuthority authority : authentication.getAuthorities()) {
+            String role = authority.getAuthority().replaceFirst("^ROLE_", "");
+            String name = dictionaryByRole.get(role);
+            if (name != null && (name.equals(DEFAULT_DICTIONARY) || overlays.containsKey(name))) {
+                return name;
+            }
+        }
+        return DEFAULT_DICTIONARY;
+    }
+
+    /**
+     * Lê pares PAPEL=dicionário separados por vírgula; pares malformados são ignorados
+     */
+    private static Map<String, String> parseRoleDictionaries(String spec) {
+        if (spec == null || spec.isBlank()) {
+            return Map.of();
+        }
+        Map<String, String> byRole = new HashMap<>();
+        for (String entry : spec.split(",")) {
+            String[] parts = entry.split("=");
+            if (parts.length == 2) {
+                byRole.put(parts[0].trim().toUpperCase(), parts[1].trim().toLowerCase());
+            }
+        }
+        return Map.copyOf(byRole);
+    }
+
+    private DictionarySnapshot resolve(String name) {
+        if (DEFAULT_DICTIONARY.equals(name)) {
+            return snapshot;
+        }
+        DictionarySnapshot overlay = overlays.get(name);
+        if (overlay == null) {
+            throw new IllegalArgumentException("Dicionário desconhecido: " + name);
+        }
+        return overlay;
+    }
+
+    private long lookups(String name) {
+        LongAdder counter = lookupCounters.get(name);
+        return counter != null ? counter.sum() : 0;
+    }
+
+    /**
+     * Constrói os dicionários sobrepostos definidos em app.dictionary.overlays-path
+     */
+    private Map<String, DictionarySnapshot> loadOverlays(DictionarySnapshot base) throws IOException {
+        if (overlaysPath == null || overlaysPath.isBlank()) {
+            return Map.of();
+        }
+
+        Map<String, DictionarySnapshot> loaded = new TreeMap<>();
+        List<Path> files;
+        try (var listing = Files.list(Path.of(overlaysPath))) {
+            files = listing.filter(file -> file.getFileName().toString().endsWith(".txt")).sorted().toList();
+        }
+
+        for (Path file : files) {
+            String fileName = file.getFileName().toString();
+            String name = fileName.substring(0, fileName.length() - ".txt".length()).toLowerCase();
+            if (!name.matches("^[a-z0-9_-]+$") || name.equals(DEFAULT_DICTIONARY)) {
+                log.warn("Dicionário sobreposto ignorado, nome inválido: {}", fileName);
+                continue;
+            }
+
+            List<String> added = new ArrayList<>();
+            List<String> removed = new ArrayList<>();
+            for (String line : Files.readAllLines(file)) {
+                String entry = line.trim();
+                if (entry.isEmpty() || entry.startsWith("#")) {
+                    continue;
+                }
+                boolean removal = entry.startsWith("-");
+                String word = LetterSignature.normalize(
+                    removal || entry.startsWith("+") ? entry.substring(1) : entry);
+                if (word != null) {
+                    (removal ? removed : added).add(word);
+                }
+            }
+
+            OverlayIndex index = new OverlayIndex(base.index(), added.toArray(new String[0]),
+                removed.toArray(new String[0]));
+            long version = HashMixer.mix(base.version() ^ HashMixer.mix(name.hashCode() * 31L + Files.size(file))
+                + Files.getLastModifiedTime(file).toMillis());
+            loaded.put(name, new DictionarySnapshot(index, version, base));
+            log.info("Dicionário sobreposto {}: +{} -{} palavras", name, index.addedCount(), index.removedCount());
+        }
+        return loaded;
+    }
+
+    /**
+     * Abre o dicionário compilado, recompilando-o se estiver ausente,
+     * inválido ou desatualizado em relação à lista de origem
+     */
+    private DictionaryIndex loadCompiled(Resource resource, long stamp, Path path) throws IOException {
+        if (Files.exists(path)) {
+            try {
+                CompiledDictionary compiled = CompiledDictionary.open(path);
+                if (compiled.sourceStamp() == stamp) {
+                    log.info("Dicionário compilado mapeado de {} ({} bytes)", path, compiled.mappedBytes());
+                    return compiled;
+                }
+                log.info("Dicionário compilado {} desatualizado, recompilando", path);
+            } catch (IOException e) {
+                log.warn("Dicionário compilado {} inválido, recompilando: {}", path, e.getMessage());
+            }
+        }
+
+        SignatureIndex built = buildIndex(resource);
+        try {
+            CompiledDictionary.write(built, stamp, path);
+            CompiledDictionary compiled = CompiledDictionary.open(path);
+            log.info("Dicionário compilado gravado em {} ({} bytes)", path, compiled.mappedBytes());
+            return compiled;
+        } catch (IOException e) {
+            log.warn("Não foi possível gravar o dicionário compilado {}: {}", path, e.getMessage());
+            return built;
+        }
+    }
+
+    private static SignatureIndex buildIndex(Resource resource) throws IOException {
+        try (InputStream input = resource.getInputStream()) {
+            return new SignatureIndex(WordListReader.read(input));
+        }
+    }
+
+    /**
+     * Carimbo da lista de origem (tamanho e data de modificação); 0 quando
+     * o recurso não informa esses dados
+     */
+    private static long sourceStamp(Resource resource) {
+        try {
+            return HashMixer.mix(resource.contentLength() * 31 + resource.lastModified());
+        } catch (IOException e) {
+            return 0;
+        }
+    }
+
+    /**
+     * Letras da palavra que precisam de curinga, usando peças reais sempre que houver
+     * 
+     * @return letras preenchidas por curingas, ou null se nenhuma
+     */
+    private static String blankLetters(String word, int[] counts) {
+        int[] remaining = counts.clone();
+        StringBuilder blanks = new StringBuilder();
+        for (int i = 0; i < word.length(); i++) {
+            int letter = word.charAt(i) - 'a';
+            if (remaining[letter] > 0) {
+                remaining[letter]--;
+            } else {
+                blanks.append(word.charAt(i));
+            }
+        }
+        return blanks.length() > 0 ? blanks.toString() : null;
+    }
+
+    /**
+     * Valida e normaliza as letras de uma consulta
+     * 
+     * @param letters letras informadas pelo usuário
+     * @return letras em minúsculas
+     * @throws IllegalArgumentException se a entrada for inválida
+     */
+    static String normalizeLetters(String letters) {
+        if (letters == null || letters.trim().isEmpty()) {
+            throw new IllegalArgumentException("As letras não podem estar vazias");
+        }
+
+        if (!letters.matches("^[a-zA-Z]+$")) {
+            throw new IllegalArgumentException("Apenas letras são permitidas");
+        }
+
+        return LetterSignature.normalize(letters);
+    }
+}
@@ -0,0 +1,300 @@
+package com.lucas.text_processing_api.service;
+
+import java.io.ByteArrayOutputStream;
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.lucas.text_processing_api.dto.DiffGranularity;
+import com.lucas.text_processing_api.dto.DiffSummary;
+import com.lucas.text_processing_api.util.text.DiffTokens;
+import com.lucas.text_processing_api.util.text.MyersDiff;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Serviço de diferenças entre duas versões de um texto
+ * 
+ * Os textos são divididos em linhas ou palavras ({@link DiffTokens}) e
+ * comparados pelo algoritmo de Myers em espaço linear ({@link MyersDiff}),
+ * então a memória cresce com o tamanho dos textos e não com o produto
+ * deles. O script de edição é escrito em NDJSON à medida que as operações
+ * são encontradas, uma linha por operação, e termina com uma linha de
+ * totais.
+ * 
+ * Scripts de até app.text.diff-cache-max-bytes ficam no nível compartilhado
+ * do cache, sob os hashes SHA-256 dos dois textos e a granularidade; enviar
+ * as mesmas versões de novo devolve o script guardado sem comparar.
+ * 
+ * @author Lucas
+ * @version 1.1
+ */
+@Service
+@Slf4j
+public class DiffService {
+
+    /**
+     * Tamanho máximo de cada texto comparado
+     */
+    public static final long MAX_INPUT_BYTES = 64L << 20;
+
+    /**
+     * Valor do campo "op" da linha de totais
+     */
+    public static final String SUMMARY_OP = "summary";
+
+    private static final String CACHE_NAMESPACE = "diff";
+
+    @Autowired
+    private RedisCacheService cacheService;
+
+    @Value("${app.text.diff-cost-limit:256}")
+    private int costLimit;
+
+    @Value("${app.text.diff-cache-max-bytes:4194304}")
+    private int cacheMaxBytes;
+
+    @Value("${app.text.diff-cache-ttl-minutes:60}")
+    private long cacheTtlMinutes;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    /**
+     * Valida a entrada antes de qualquer byte ser escrito na resposta
+     * 
+     * @param originalBytes tamanho do texto original
+     * @param revisedBytes tamanho do texto revisado
+     * @param granularity unidade de comparação
+     * @throws IllegalArgumentException se a entrada for inválida
+     */
+    public void validate(long originalBytes, long revisedBytes, DiffGranularity granularity) {
+        if (granularity == null) {
+            throw new IllegalArgumentException("Informe a granularidade da comparação");
+        }
+        if (originalBytes > MAX_INPUT_BYTES || revisedBytes > MAX_INPUT_BYTES) {
+            throw new IllegalArgumentException("Cada texto deve ter no máximo " + (MAX_INPUT_BYTES >> 20) + " MB");
+        }
+    }
+
+    /**
+     * Compara duas versões de um texto e escreve o script de edição
+     * 
+     * As posições do script são índices de tokens a partir de 0. Cada linha
+     * é uma operação: "equal" com a quantidade de tokens mantidos, ou
+     * "delete"/"insert" com um token e o seu texto (linhas sem o
+     * terminador).
+     * 
+     * @param original bytes do texto original
+     * @param revised bytes do texto revisado
+     * @param granularity unidade de comparação
+     * @param out destino do NDJSON (tipicamente o output stream da resposta HTTP)
+     * @return totais da comparação, também escritos como última linha
+     * @throws IOException se a escrita falhar
+     * @throws IllegalArgumentException se a entrada for inválida
+     */
+    public DiffSummary streamDiff(byte[] original, byte[] revised, DiffGranularity granularity,
+                                  OutputStream out) throws IOException {
+        validate(original.length, revised.length, granularity);
+        long startTime = System.currentTimeMillis();
+
+        String key = cacheKey(original, revised, granularity);
+        String cached = cacheService.getShared(CACHE_NAMESPACE, key, String.class);
+        if (cached != null) {
+            return replay(cached, out, startTime);
+        }
+
+        DiffTokens originalTokens = tokenize(original, granularity);
+        DiffTokens revisedTokens = tokenize(revised, granularity);
+        int distinct = DiffTokens.intern(originalTokens, revisedTokens);
+        log.debug("Comparando {} e {} tokens ({} distintos)", originalTokens.size(), revisedTokens.size(), distinct);
+
+        CapturingOutputStream capture = new CapturingOutputStream(out,
+            cacheService.isCacheEnabled() ? cacheMaxBytes : 0);
+        JsonGenerator json = objectMapper.getFactory().createGenerator(capture);
+        json.setRootValueSeparator(null);
+        ScriptWriter writer = new ScriptWriter(json, originalTokens, revisedTokens, granularity == DiffGranularity.LINE);
+        new MyersDiff(costLimit).diff(originalTokens.ids(), revisedTokens.ids(), writer);
+
+        DiffSummary summary = new DiffSummary(SUMMARY_OP, granularity, originalTokens.size(), revisedTokens.size(),
+            writer.unchanged, writer.deleted, writer.inserted, false, System.currentTimeMillis() - startTime);
+        json.writeObject(summary);
+        json.writeRaw('\n');
+        json.flush();
+
+        byte[] script = capture.captured();
+        if (script != null) {
+            cacheService.saveShared(CACHE_NAMESPACE, key, new String(script, StandardCharsets.UTF_8),
+                script.length, cacheTtlMinutes * 60);
+        } else {
+            log.debug("Script de {} bytes não guardado no cache", capture.written());
+        }
+
+        log.info("Diferença por {} concluída: {} removidos, {} inseridos, {} ms", granularity, summary.getDeleted(),
+            summary.getInserted(), summary.getProcessingTimeMs());
+        return summary;
+    }
+
+    /**
+     * Reescreve um script guardado, trocando apenas a linha de totais
+     */
+    private DiffSummary replay(String cached, OutputStream out, long startTime) throws IOException {
+        byte[] script = cached.getBytes(StandardCharsets.UTF_8);
+        int end = script.length - 1;
+        int lastLine = end;
+        while (lastLine > 0 && script[lastLine - 1] != '\n') {
+            lastLine--;
+        }
+
+        DiffSummary summary = objectMapper.readValue(script, lastLine, end - lastLine, DiffSummary.class);
+        summary.setFromCache(true);
+        summary.setProcessingTimeMs(System.currentTimeMillis() - startTime);
+
+        out.write(script, 0, lastLine);
+        out.write(objectMapper.writeValueAsBytes(summary));
+        out.write('\n');
+        out.flush();
+        log.info("Diferença por {} reaproveitada do cache", summary.getGranularity());
+        return summary;
+    }
+
+    private static DiffTokens tokenize(byte[] text, DiffGranularity granularity) {
+        return granularity == DiffGranularity.LINE ? DiffTokens.lines(text) : DiffTokens.words(text);
+    }
+
+    /**
+     * Hashes do conteúdo dos dois textos, na ordem, e a granularidade
+     */
+    private static String cacheKey(byte[] original, byte[] revised, DiffGranularity granularity) {
+        try {
+            HexFormat hex = HexFormat.of();
+            return hex.formatHex(MessageDigest.getInstance("SHA-256").digest(original)) + ":"
+                + hex.formatHex(MessageDigest.getInstance("SHA-256").digest(revised)) + ":"
+                + granularity.name().toLowerCase();
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 indisponível", e);
+        }
+    }
+
+    /**
+     * Escreve cada operação como uma linha NDJSON, sem objetos intermediários
+     */
+    private static final class ScriptWriter implements MyersDiff.EditConsumer {
+
+        private final JsonGenerator json;
+        private final DiffTokens original;
+        private final DiffTokens revised;
+        private final boolean lines;
+        private long unchanged;
+        private long deleted;
+        private long inserted;
+
+        ScriptWriter(JsonGenerator json, DiffTokens original, DiffTokens revised, boolean lines) {
+            this.json = json;
+            this.original = original;
+            this.revised = revised;
+            this.lines = lines;
+        }
+
+        @Override
+        public void equal(int originalToken, int revisedToken, int count) throws IOException {
+            json.writeStartObject();
+            json.writeStringField("op", "equal");
+            json.writeNumberField("original", originalToken);
+            json.writeNumberField("revised", revisedToken);
+            json.writeNumberField("count", count);
+            json.writeEndObject();
+            json.writeRaw('\n');
+            unchanged += count;
+        }
+
+        @Override
+        public void delete(int originalToken, int count) throws IOException {
+            for (int token = originalToken; token < originalToken + count; token++) {
+                writeToken("delete", "original", token, original);
+            }
+            deleted += count;
+        }
+
+        @Override
+        public void insert(int revisedToken, int count) throws IOException {
+            for (int token = revisedToken; token < revisedToken + count; token++) {
+                writeToken("insert", "revised", token, revised);
+            }
+            inserted += count;
+        }
+
+        private void writeToken(String op, String side, int token, DiffTokens tokens) throws IOException {
+            byte[] text = tokens.text();
+            int start = tokens.start(token);
+            int end = tokens.end(token);
+            if (lines && end > start && text[end - 1] == '\n') {
+                end--;
+                if (end > start && text[end - 1] == '\r') {
+                    end--;
+                }
+            }
+            json.writeStartObject();
+            json.writeStringField("op", op);
+            json.writeNumberField(side, token);
+            json.writeStringField("text", new String(text, start, end - start, StandardCharsets.UTF_8));
+            json.writeEndObject();
+            json.writeRaw('\n');
+        }
+    }
+
+    /**
+     * Repassa os bytes ao destino e guarda uma cópia enquanto couber no limite
+     */
+    private static final class CapturingOutputStream extends FilterOutputStream {
+
+        private final int limit;
+        private ByteArrayOutputStream copy = new ByteArrayOutputStream();
+        private long written;
+
+        CapturingOutputStream(OutputStream out, int limit) {
+            super(out);
+            this.limit = limit;
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            out.write(b);
+            keep(new byte[] {(byte) b}, 0, 1);
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            out.write(b, off, len);
+            keep(b, off, len);
+        }
+
+        private void keep(byte[] b, int off, int len) {
+            written += len;
+            if (copy != null) {
+                if (written > limit) {
+                    copy = null;
+                } else {
+                    copy.write(b, off, len);
+                }
+            }
+        }
+
+        byte[] captured() {
+            return copy != null ? copy.toByteArray() : null;
+        }
+
+        long written() {
+            return written;
+        }
+    }
+}
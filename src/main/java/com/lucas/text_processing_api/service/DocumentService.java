@@ -0,0 +1,667 @@
+package com.lucas.text_processing_api.service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.channels.FileChannel;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Service;
+
+import com.lucas.text_processing_api.dto.DocumentInfo;
+import com.lucas.text_processing_api.dto.DocumentMatch;
+import com.lucas.text_processing_api.dto.DocumentSearchResponse;
+import com.lucas.text_processing_api.dto.RepeatedSubstringResponse;
+import com.lucas.text_processing_api.dto.RhymeResponse;
+import com.lucas.text_processing_api.dto.SubstringCountResponse;
+import com.lucas.text_processing_api.dto.WordCount;
+import com.lucas.text_processing_api.util.collection.ByteSequenceCounter;
+import com.lucas.text_processing_api.util.collection.IntArrayList;
+import com.lucas.text_processing_api.util.search.FoldedMatcher;
+import com.lucas.text_processing_api.util.search.SuffixArray;
+import com.lucas.text_processing_api.util.search.TrigramIndex;
+import com.lucas.text_processing_api.util.text.ByteTokenizer;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Serviço de armazenamento e busca de documentos
+ * 
+ * Os documentos enviados são guardados com o usuário que os enviou e
+ * indexados por trigramas assim que chegam; a busca por substring consulta
+ * o índice para obter candidatos e confirma cada um no conteúdo. Cada
+ * usuário só encontra os próprios documentos.
+ * 
+ * Com app.documents.path configurado, o conteúdo e o catálogo ficam em disco
+ * e a cada app.documents.persist-every documentos os que ainda estão só no
+ * índice em memória são gravados como um novo segmento, que passa a ser lido
+ * do arquivo mapeado; segmentos vizinhos de tamanho parecido são juntados,
+ * então cada documento é regravado poucas vezes. Documentos enviados depois
+ * da última gravação são reindexados na carga. Sem o diretório, tudo fica
+ * apenas em memória.
+ * 
+ * As consultas dentro de um documento (contagem de ocorrências, maior trecho
+ * repetido e palavras terminadas em um sufixo) usam um array de sufixos
+ * construído na primeira consulta ao documento. Com o diretório
+ * configurado o array é gravado ao lado do conteúdo e mapeado em memória;
+ * sem ele fica em um buffer direto, fora do heap. As construções são
+ * serializadas para limitar a memória temporária, e os arrays abertos
+ * somam no máximo app.documents.suffix-array-max-bytes: os menos usados
+ * são descartados e reabertos (ou reconstruídos) quando consultados de novo.
+ * 
+ * @author Lucas
+ * @version 1.3
+ */
+@Service
+@Slf4j
+public class DocumentService {
+
+    /**
+     * Tamanho máximo de um documento
+     */
+    public static final int MAX_DOCUMENT_BYTES = 64 << 20;
+
+    /**
+     * Tamanho máximo da substring procurada, em bytes
+     */
+    public static final int MAX_QUERY_BYTES = 1024;
+
+    /**
+     * Quantidade máxima de documentos retornados em uma busca
+     */
+    public static final int MAX_RESULTS = 1000;
+
+    /**
+     * Quantidade de posições de ocorrência retornadas por documento
+     */
+    public static final int MAX_OFFSETS_PER_DOCUMENT = 10;
+
+    /**
+     * Tamanho máximo de documento consultado pelo array de sufixos
+     */
+    public static final int MAX_SUFFIX_ARRAY_BYTES = 16 << 20;
+
+    /**
+     * Quantidade máxima de palavras retornadas na busca por terminação
+     */
+    public static final int MAX_RHYME_LIMIT = 1000;
+
+    /**
+     * Tamanho máximo do trecho repetido retornado como texto
+     */
+    public static final int MAX_REPEAT_TEXT_BYTES = 1024;
+
+    private static final String CATALOG_FILE = "catalog.tsv";
+    private static final String SUFFIX_ARRAY_EXTENSION = ".sa";
+
+    @Value("${app.documents.path:}")
+    private String documentsPath;
+
+    @Value("${app.documents.persist-every:100}")
+    private int persistEvery;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final List<StoredDocument> documents = new ArrayList<>();
+    private TrigramIndex index = new TrigramIndex();
+    private int unsavedDocuments;
+    @Value("${app.documents.suffix-array-max-bytes:536870912}")
+    private long suffixArrayMaxBytes;
+
+    /** Arrays de sufixos abertos, em ordem de acesso; protegido pelo próprio mapa */
+    private final LinkedHashMap<Integer, SuffixArray> suffixArrays = new LinkedHashMap<>(16, 0.75f, true);
+    private long suffixArrayBytes;
+    private final Object suffixArrayBuild = new Object();
+
+    /**
+     * Documento armazenado; o conteúdo fica em memória só sem diretório configurado
+     */
+    private static final class StoredDocument {
+
+        private final int id;
+        private final String owner;
+        private final String name;
+        private final long size;
+        private final byte[] content;
+
+        StoredDocument(int id, String owner, String name, long size, byte[] content) {
+            this.id = id;
+            this.owner = owner;
+            this.name = name;
+            this.size = size;
+            this.content = content;
+        }
+    }
+
+    /**
+     * Carrega o catálogo, o índice gravado e reindexa os documentos que faltam
+     * 
+     * Os identificadores seguem o catálogo, então ele precisa estar íntegro:
+     * uma linha fora de ordem ou inválida impede a aplicação de subir, em vez
+     * de começar vazia e regravar por cima dos arquivos existentes. Só a
+     * última linha, se ficou sem o terminador por uma gravação interrompida,
+     * é descartada; conteúdos sem linha no catálogo são renomeados para
+     * .orphan e nunca reaproveitados.
+     * 
+     * @throws IllegalStateException se o armazenamento não puder ser carregado
+     */
+    @PostConstruct
+    public void load() {
+        Path directory = directory();
+        if (directory == null) {
+            return;
+        }
+
+        lock.writeLock().lock();
+        try {
+            Files.createDirectories(directory);
+            documents.clear();
+            synchronized (suffixArrays) {
+                suffixArrays.clear();
+                suffixArrayBytes = 0;
+            }
+            readCatalog(directory.resolve(CATALOG_FILE));
+            quarantineOrphans(directory);
+
+            index = openIndex(directory);
+            if (index.documentCount() > documents.size()) {
+                log.warn("Índice de documentos à frente do catálogo, reindexando");
+                TrigramIndex.deleteSegments(directory);
+                index = new TrigramIndex();
+            }
+            int persisted = index.documentCount();
+            for (int id = index.documentCount(); id < documents.size(); id++) {
+                index.add(id, content(documents.get(id)));
+            }
+            unsavedDocuments = documents.size() - persisted;
+            log.info("Armazenamento de documentos carregado: {} documentos, {} trigramas",
+                documents.size(), index.gramCount());
+        } catch (IOException | RuntimeException e) {
+            log.error("Não foi possível carregar os documentos de {}: {}", directory, e.getMessage());
+            throw new IllegalStateException("Armazenamento de documentos inválido em " + directory, e);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Armazena e indexa um documento do usuário autenticado
+     * 
+     * @param name nome do documento
+     * @param input conteúdo do documento
+     * @return dados do documento armazenado
+     * @throws IOException se o conteúdo não puder ser lido ou gravado
+     * @throws IllegalArgumentException se o documento estiver vazio ou for grande demais
+     */
+    public DocumentInfo addDocument(String name, InputStream input) throws IOException {
+        byte[] content = input.readNBytes(MAX_DOCUMENT_BYTES + 1);
+        if (content.length == 0) {
+            throw new IllegalArgumentException("O documento não pode estar vazio");
+        }
+        if (content.length > MAX_DOCUMENT_BYTES) {
+            throw new IllegalArgumentException("O documento deve ter no máximo " + (MAX_DOCUMENT_BYTES >> 20) + " MB");
+        }
+        String safeName = name == null || name.isBlank() ? "documento" : name.replaceAll("[\\t\\r\\n]", " ");
+        String owner = currentOwner();
+
+        lock.writeLock().lock();
+        try {
+            int id = documents.size();
+            Path directory = directory();
+            StoredDocument document;
+            if (directory != null) {
+                // CREATE_NEW: um identificador nunca sobrescreve um conteúdo já gravado
+                Path file = directory.resolve(id + ".txt");
+                Files.write(file, content, StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE);
+                try {
+                    Files.deleteIfExists(directory.resolve(id + SUFFIX_ARRAY_EXTENSION));
+                    Files.writeString(directory.resolve(CATALOG_FILE),
+                        id + "\t" + owner + "\t" + content.length + "\t" + safeName + "\n",
+                        StandardCharsets.UTF_8, StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+                } catch (IOException e) {
+                    Files.deleteIfExists(file);
+                    throw e;
+                }
+                document = new StoredDocument(id, owner, safeName, content.length, null);
+            } else {
+                document = new StoredDocument(id, owner, safeName, content.length, content);
+            }
+            documents.add(document);
+            index.add(id, content);
+
+            if (directory != null && ++unsavedDocuments >= persistEvery) {
+                persistIndex(directory);
+            }
+            log.debug("Documento {} armazenado para {} ({} bytes)", id, owner, content.length);
+            return new DocumentInfo(id, safeName, content.length);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * @return documentos do usuário autenticado, em ordem de envio
+     */
+    public List<DocumentInfo> listDocuments() {
+        String owner = currentOwner();
+        lock.readLock().lock();
+        try {
+            List<DocumentInfo> result = new ArrayList<>();
+            for (StoredDocument document : documents) {
+                if (document.owner.equals(owner)) {
+                    result.add(new DocumentInfo(document.id, document.name, document.size));
+                }
+            }
+            return result;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Procura uma substring nos documentos do usuário autenticado
+     * 
+     * A comparação não diferencia maiúsculas ASCII. Substrings com menos de
+     * três bytes não podem ser filtradas pelo índice e são procuradas em
+     * todos os documentos do usuário.
+     * 
+     * @param query substring procurada
+     * @param limit quantidade máxima de documentos retornados
+     * @return documentos que contêm a substring
+     * @throws IOException se o conteúdo de um documento não puder ser lido
+     * @throws IllegalArgumentException se a consulta ou o limite forem inválidos
+     */
+    public DocumentSearchResponse search(String query, int limit) throws IOException {
+        byte[] pattern = validateQuery(query);
+        if (limit < 1 || limit > MAX_RESULTS) {
+            throw new IllegalArgumentException("O limite deve estar entre 1 e " + MAX_RESULTS);
+        }
+        String owner = currentOwner();
+        long startTime = System.currentTimeMillis();
+
+        lock.readLock().lock();
+        try {
+            int[] candidates = index.candidates(pattern);
+            FoldedMatcher matcher = new FoldedMatcher(pattern);
+            int candidateCount = candidates != null ? candidates.length : documents.size();
+            List<DocumentMatch> results = new ArrayList<>();
+            int owned = 0;
+            for (int i = 0; i < candidateCount && results.size() < limit; i++) {
+                StoredDocument document = documents.get(candidates != null ? candidates[i] : i);
+                if (!document.owner.equals(owner)) {
+                    continue;
+                }
+                owned++;
+                DocumentMatch match = verify(document, matcher);
+                if (match != null) {
+                    results.add(match);
+                }
+            }
+            return new DocumentSearchResponse(query, results, owned, System.currentTimeMillis() - startTime);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Conta as ocorrências de uma substring em um documento do usuário
+     * 
+     * A comparação não diferencia maiúsculas ASCII e inclui ocorrências
+     * sobrepostas.
+     * 
+     * @param documentId identificador do documento
+     * @param query substring procurada
+     * @return contagem e posições de algumas ocorrências, ou vazio se o documento não for do usuário
+     * @throws IOException se o conteúdo ou o array de sufixos não puderem ser lidos
+     * @throws IllegalArgumentException se a consulta for inválida ou o documento grande demais
+     */
+    public Optional<SubstringCountResponse> countOccurrences(int documentId, String query) throws IOException {
+        byte[] pattern = validateQuery(query);
+        long startTime = System.currentTimeMillis();
+        Optional<StoredDocument> document = findOwned(documentId);
+        if (document.isEmpty()) {
+            return Optional.empty();
+        }
+
+        SuffixArray array = suffixArray(document.get());
+        int occurrences = array.count(pattern);
+        return Optional.of(new SubstringCountResponse(documentId, query, occurrences,
+            toList(array.offsets(pattern, MAX_OFFSETS_PER_DOCUMENT)), System.currentTimeMillis() - startTime));
+    }
+
+    /**
+     * Localiza o maior trecho que aparece ao menos duas vezes em um documento
+     * do usuário
+     * 
+     * @param documentId identificador do documento
+     * @return trecho repetido e suas ocorrências, ou vazio se o documento não for do usuário
+     * @throws IOException se o conteúdo ou o array de sufixos não puderem ser lidos
+     * @throws IllegalArgumentException se o documento for grande demais
+     */
+    public Optional<RepeatedSubstringResponse> findLongestRepeat(int documentId) throws IOException {
+        long startTime = System.currentTimeMillis();
+        Optional<StoredDocument> document = findOwned(documentId);
+        if (document.isEmpty()) {
+            return Optional.empty();
+        }
+
+        SuffixArray array = suffixArray(document.get());
+        int length = array.longestRepeatLength();
+        if (length == 0) {
+            return Optional.of(new RepeatedSubstringResponse(documentId, 0, 0, List.of(), null,
+                System.currentTimeMillis() - startTime));
+        }
+        byte[] repeat = array.bytes(array.longestRepeatOffset(), length);
+        String text = length <= MAX_REPEAT_TEXT_BYTES ? new String(repeat, StandardCharsets.UTF_8) : null;
+        return Optional.of(new RepeatedSubstringResponse(documentId, length, array.count(repeat),
+            toList(array.offsets(repeat, MAX_OFFSETS_PER_DOCUMENT)), text, System.currentTimeMillis() - startTime));
+    }
+
+    /**
+     * Lista as palavras de um documento do usuário terminadas em um sufixo
+     * 
+     * As ocorrências do sufixo seguidas de fim de palavra são localizadas no
+     * array de sufixos e estendidas para a esquerda até o início da palavra.
+     * 
+     * @param documentId identificador do documento
+     * @param suffix terminação procurada, só com caracteres de palavra
+     * @param limit quantidade máxima de palavras retornadas
+     * @return palavras terminadas no sufixo, ou vazio se o documento não for do usuário
+     * @throws IOException se o conteúdo ou o array de sufixos não puderem ser lidos
+     * @throws IllegalArgumentException se o sufixo ou o limite forem inválidos
+     */
+    public Optional<RhymeResponse> findRhymes(int documentId, String suffix, int limit) throws IOException {
+        byte[] pattern = validateQuery(suffix);
+        for (byte b : pattern) {
+            if (!ByteTokenizer.isWordByte(b)) {
+                throw new IllegalArgumentException("A terminação deve conter apenas letras");
+            }
+        }
+        if (pattern.length > ByteTokenizer.MAX_TOKEN_BYTES) {
+            throw new IllegalArgumentException("A terminação deve ter no máximo " + ByteTokenizer.MAX_TOKEN_BYTES + " bytes");
+        }
+        if (limit < 1 || limit > MAX_RHYME_LIMIT) {
+            throw new IllegalArgumentException("O limite deve estar entre 1 e " + MAX_RHYME_LIMIT);
+        }
+        long startTime = System.currentTimeMillis();
+        Optional<StoredDocument> document = findOwned(documentId);
+        if (document.isEmpty()) {
+            return Optional.empty();
+        }
+
+        SuffixArray array = suffixArray(document.get());
+        ByteSequenceCounter words = new ByteSequenceCounter(64);
+        byte[] scratch = new byte[ByteTokenizer.MAX_TOKEN_BYTES];
+        long range = array.range(pattern);
+        for (int rank = (int) (range >>> 32); rank < (int) range; rank++) {
+            int start = array.suffix(rank);
+            int end = start + pattern.length;
+            if (end < array.length() && ByteTokenizer.isWordByte(array.byteAt(end))) {
+                continue;
+            }
+            int wordStart = start;
+            while (wordStart > 0 && ByteTokenizer.isWordByte(array.byteAt(wordStart - 1))
+                    && end - wordStart < ByteTokenizer.MAX_TOKEN_BYTES) {
+                wordStart--;
+            }
+            if (wordStart > 0 && ByteTokenizer.isWordByte(array.byteAt(wordStart - 1))) {
+                continue;
+            }
+            for (int i = wordStart; i < end; i++) {
+                scratch[i - wordStart] = array.byteAt(i);
+            }
+            words.add(scratch, 0, end - wordStart, 1);
+        }
+
+        int[] top = words.topEntries(limit);
+        List<WordCount> result = new ArrayList<>(top.length);
+        for (int entry : top) {
+            result.add(new WordCount(words.toString(entry), words.count(entry)));
+        }
+        return Optional.of(new RhymeResponse(documentId, suffix, result, words.size(), words.total(),
+            System.currentTimeMillis() - startTime));
+    }
+
+    /**
+     * Grava o índice no diretório configurado antes de encerrar
+     */
+    @PreDestroy
+    public void shutdown() {
+        Path directory = directory();
+        if (directory == null) {
+            return;
+        }
+        lock.writeLock().lock();
+        try {
+            if (unsavedDocuments > 0) {
+                persistIndex(directory);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private DocumentMatch verify(StoredDocument document, FoldedMatcher matcher) throws IOException {
+        IntArrayList offsets = new IntArrayList();
+        int occurrences = matcher.count(content(document), offsets, MAX_OFFSETS_PER_DOCUMENT);
+        return occurrences > 0
+            ? new DocumentMatch(document.id, document.name, occurrences, toList(offsets.toArray())) : null;
+    }
+
+    private Optional<StoredDocument> findOwned(int documentId) {
+        String owner = currentOwner();
+        lock.readLock().lock();
+        try {
+            if (documentId < 0 || documentId >= documents.size()) {
+                return Optional.empty();
+            }
+            StoredDocument document = documents.get(documentId);
+            return document.owner.equals(owner) ? Optional.of(document) : Optional.empty();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Array de sufixos do documento: o já aberto, o gravado em disco ou um
+     * construído agora
+     */
+    private SuffixArray suffixArray(StoredDocument document) throws IOException {
+        SuffixArray array = openSuffixArray(document.id);
+        if (array != null) {
+            return array;
+        }
+        if (document.size > MAX_SUFFIX_ARRAY_BYTES) {
+            throw new IllegalArgumentException("Consultas por array de sufixos aceitam documentos de até "
+                + (MAX_SUFFIX_ARRAY_BYTES >> 20) + " MB");
+        }
+
+        synchronized (suffixArrayBuild) {
+            array = openSuffixArray(document.id);
+            if (array != null) {
+                return array;
+            }
+            Path directory = directory();
+            Path file = directory != null ? directory.resolve(document.id + SUFFIX_ARRAY_EXTENSION) : null;
+            if (file != null && Files.exists(file)) {
+                try {
+                    array = SuffixArray.load(file);
+                } catch (IOException e) {
+                    log.warn("Array de sufixos do documento {} inválido, reconstruindo: {}", document.id, e.getMessage());
+                }
+            }
+            if (array == null) {
+                long startTime = System.currentTimeMillis();
+                array = SuffixArray.build(content(document));
+                if (file != null) {
+                    array.save(file);
+                    array = SuffixArray.load(file);
+                }
+                log.info("Array de sufixos do documento {} construído em {} ms ({} bytes)",
+                    document.id, System.currentTimeMillis() - startTime, array.memoryBytes());
+            }
+            keepSuffixArray(document.id, array);
+            return array;
+        }
+    }
+
+    private SuffixArray openSuffixArray(int documentId) {
+        synchronized (suffixArrays) {
+            return suffixArrays.get(documentId);
+        }
+    }
+
+    /**
+     * Guarda o array entre os abertos e descarta os menos usados além do
+     * limite de bytes
+     * 
+     * Os descartados não são liberados à força, porque uma consulta em
+     * andamento pode ainda lê-los: o buffer direto ou mapeado é liberado
+     * pelo coletor quando a última referência some. Um array descartado é
+     * remapeado do disco ou, sem diretório, reconstruído na próxima consulta.
+     */
+    private void keepSuffixArray(int documentId, SuffixArray array) {
+        long bytes = array.memoryBytes();
+        if (bytes > suffixArrayMaxBytes) {
+            log.debug("Array de sufixos do documento {} ({} bytes) não cabe no limite de abertos", documentId, bytes);
+            return;
+        }
+        synchronized (suffixArrays) {
+            SuffixArray previous = suffixArrays.put(documentId, array);
+            if (previous != null) {
+                suffixArrayBytes -= previous.memoryBytes();
+            }
+            suffixArrayBytes += bytes;
+
+            // O array novo é o último na ordem de acesso e cabe sozinho no limite
+            Iterator<Map.Entry<Integer, SuffixArray>> eldest = suffixArrays.entrySet().iterator();
+            while (suffixArrayBytes > suffixArrayMaxBytes) {
+                Map.Entry<Integer, SuffixArray> evicted = eldest.next();
+                suffixArrayBytes -= evicted.getValue().memoryBytes();
+                eldest.remove();
+                log.debug("Limite de arrays de sufixos abertos atingido, descartado o documento {}", evicted.getKey());
+            }
+        }
+    }
+
+    private static byte[] validateQuery(String query) {
+        if (query == null || query.isEmpty()) {
+            throw new IllegalArgumentException("A consulta não pode estar vazia");
+        }
+        byte[] pattern = query.getBytes(StandardCharsets.UTF_8);
+        if (pattern.length > MAX_QUERY_BYTES) {
+            throw new IllegalArgumentException("A consulta deve ter no máximo " + MAX_QUERY_BYTES + " bytes");
+        }
+        return pattern;
+    }
+
+    private static List<Integer> toList(int[] values) {
+        List<Integer> list = new ArrayList<>(values.length);
+        for (int value : values) {
+            list.add(value);
+        }
+        return list;
+    }
+
+    /**
+     * Lê o catálogo exigindo identificadores em sequência a partir de 0
+     */
+    private void readCatalog(Path catalog) throws IOException {
+        if (!Files.exists(catalog)) {
+            return;
+        }
+        byte[] bytes = Files.readAllBytes(catalog);
+        int complete = bytes.length;
+        while (complete > 0 && bytes[complete - 1] != '\n') {
+            complete--;
+        }
+        if (complete < bytes.length) {
+            log.warn("Última linha do catálogo incompleta, descartando {} bytes", bytes.length - complete);
+            try (FileChannel channel = FileChannel.open(catalog, StandardOpenOption.WRITE)) {
+                channel.truncate(complete);
+            }
+        }
+
+        String text = new String(bytes, 0, complete, StandardCharsets.UTF_8);
+        for (String line : text.split("\n")) {
+            if (line.isEmpty()) {
+                continue;
+            }
+            String[] fields = line.split("\t", 4);
+            if (fields.length != 4 || Integer.parseInt(fields[0]) != documents.size()) {
+                throw new IllegalStateException("Linha " + (documents.size() + 1) + " do catálogo inválida");
+            }
+            documents.add(new StoredDocument(documents.size(), fields[1], fields[3],
+                Long.parseLong(fields[2]), null));
+        }
+    }
+
+    /**
+     * Renomeia conteúdos sem linha no catálogo, restos de um envio interrompido,
+     * para que o identificador possa ser usado sem sobrescrevê-los
+     */
+    private void quarantineOrphans(Path directory) throws IOException {
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(directory, "*.txt")) {
+            for (Path file : stream) {
+                String name = file.getFileName().toString();
+                String id = name.substring(0, name.length() - ".txt".length());
+                if (id.matches("\\d{1,9}") && Integer.parseInt(id) >= documents.size()) {
+                    Path orphan = directory.resolve(name + ".orphan." + System.currentTimeMillis());
+                    Files.move(file, orphan);
+                    log.warn("Conteúdo {} fora do catálogo movido para {}", name, orphan.getFileName());
+                }
+            }
+        }
+    }
+
+    private void persistIndex(Path directory) {
+        try {
+            index.persist(directory);
+            unsavedDocuments = 0;
+            log.info("Índice de documentos gravado: {} documentos em {} segmentos", index.documentCount(),
+                index.segmentCount());
+        } catch (IOException e) {
+            log.error("Não foi possível gravar o índice de documentos: {}", e.getMessage());
+        }
+    }
+
+    private byte[] content(StoredDocument document) throws IOException {
+        if (document.content != null) {
+            return document.content;
+        }
+        return Files.readAllBytes(directory().resolve(document.id + ".txt"));
+    }
+
+    private static TrigramIndex openIndex(Path directory) {
+        try {
+            return TrigramIndex.open(directory);
+        } catch (IOException e) {
+            log.warn("Índice de documentos inválido, reindexando: {}", e.getMessage());
+            return new TrigramIndex();
+        }
+    }
+
+    private Path directory() {
+        return documentsPath == null || documentsPath.isBlank() ? null : Paths.get(documentsPath);
+    }
+
+    private static String currentOwner() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        return authentication != null ? authentication.getName() : "anonymous";
+    }
+}
@@ -0,0 +1,226 @@
+package com.lucas.text_processing_api.service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Optional;
+import java.util.TreeSet;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import com.lucas.text_processing_api.dto.KeywordMatch;
+import com.lucas.text_processing_api.dto.KeywordScanResponse;
+import com.lucas.text_processing_api.dto.KeywordSetResponse;
+import com.lucas.text_processing_api.dto.WordCount;
+import com.lucas.text_processing_api.util.text.KeywordAutomaton;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Serviço de busca de muitas palavras-chave em textos
+ * 
+ * Um conjunto de palavras-chave é compilado uma vez em um autômato de
+ * Aho–Corasick ({@link KeywordAutomaton}) e guardado no nível local do
+ * cache sob um identificador derivado do próprio conjunto, então enviar as
+ * mesmas palavras-chave de novo reaproveita o autômato. As varreduras leem
+ * o texto como fluxo, em blocos, e percorrem cada byte uma única vez.
+ * 
+ * A busca não diferencia maiúsculas ASCII; demais caracteres são comparados
+ * byte a byte em UTF-8.
+ * 
+ * @author Lucas
+ * @version 1.2
+ */
+@Service
+@Slf4j
+public class KeywordService {
+
+    /**
+     * Quantidade máxima de palavras-chave em um conjunto
+     */
+    public static final int MAX_KEYWORDS = 100_000;
+
+    /**
+     * Tamanho máximo de cada palavra-chave, em bytes UTF-8
+     */
+    public static final int MAX_KEYWORD_BYTES = 256;
+
+    /**
+     * Quantidade máxima de estados do autômato (cerca de 20 bytes cada)
+     */
+    public static final int MAX_STATES = 3 << 20;
+
+    /**
+     * Quantidade máxima de contagens e de ocorrências retornadas em uma varredura
+     */
+    public static final int MAX_MATCH_LIMIT = 100_000;
+
+    private static final String CACHE_NAMESPACE = "keywords";
+    private static final int BUFFER_BYTES = 64 << 10;
+
+    @Autowired
+    private RedisCacheService cacheService;
+
+    @Value("${app.text.keyword-set-ttl-minutes:60}")
+    private long keywordSetTtlMinutes;
+
+    /**
+     * Compila um conjunto de palavras-chave, ou reaproveita o já compilado
+     * 
+     * As palavras-chave são aparadas, têm as letras ASCII convertidas para
+     * minúsculas e são deduplicadas; o identificador do conjunto é um hash
+     * delas em ordem, então a ordem de envio não importa.
+     * 
+     * @param keywords palavras-chave
+     * @return identificador e tamanho do autômato
+     * @throws IllegalArgumentException se as palavras-chave forem inválidas
+     */
+    public KeywordSetResponse compileKeywordSet(List<String> keywords) {
+        long startTime = System.currentTimeMillis();
+        if (keywords == null || keywords.isEmpty()) {
+            throw new IllegalArgumentException("Informe ao menos uma palavra-chave");
+        }
+        if (keywords.size() > MAX_KEYWORDS) {
+            throw new IllegalArgumentException("Informe no máximo " + MAX_KEYWORDS + " palavras-chave");
+        }
+
+        TreeSet<String> normalized = new TreeSet<>();
+        for (String keyword : keywords) {
+            String folded = keyword != null ? foldAscii(keyword.trim()) : "";
+            if (folded.isEmpty()) {
+                throw new IllegalArgumentException("As palavras-chave não podem estar vazias");
+            }
+            if (folded.getBytes(StandardCharsets.UTF_8).length > MAX_KEYWORD_BYTES) {
+                throw new IllegalArgumentException("Cada palavra-chave deve ter no máximo " + MAX_KEYWORD_BYTES + " bytes");
+            }
+            normalized.add(folded);
+        }
+
+        String setId = setId(normalized);
+        KeywordAutomaton automaton = cacheService.getLocal(CACHE_NAMESPACE, setId, KeywordAutomaton.class);
+        boolean fromCache = automaton != null;
+        if (!fromCache) {
+            automaton = KeywordAutomaton.compile(new ArrayList<>(normalized), MAX_STATES);
+            cacheService.saveLocal(CACHE_NAMESPACE, setId, automaton, automaton.memoryBytes(), keywordSetTtlMinutes * 60);
+            log.info("Conjunto {} compilado: {} palavras-chave, {} estados", setId, automaton.keywordCount(),
+                automaton.stateCount());
+        }
+
+        return new KeywordSetResponse(setId, automaton.keywordCount(), automaton.stateCount(),
+            automaton.memoryBytes(), fromCache, System.currentTimeMillis() - startTime);
+    }
+
+    /**
+     * Procura um conjunto já compilado
+     * 
+     * Conjuntos ficam disponíveis por app.text.keyword-set-ttl-minutes após
+     * a última compilação, enquanto couberem em app.cache.local-max-bytes;
+     * os usados há mais tempo são descartados primeiro.
+     * 
+     * @param setId identificador retornado na compilação
+     * @return autômato do conjunto, se ainda estiver no cache
+     */
+    public Optional<KeywordAutomaton> findKeywordSet(String setId) {
+        return Optional.ofNullable(cacheService.getLocal(CACHE_NAMESPACE, setId, KeywordAutomaton.class));
+    }
+
+    /**
+     * Percorre um texto lido de um fluxo procurando as palavras-chave
+     * 
+     * Todas as ocorrências são contadas, inclusive sobrepostas; só as
+     * primeiras são guardadas quando as posições são solicitadas.
+     * 
+     * @param setId identificador do conjunto
+     * @param automaton autômato do conjunto
+     * @param input conteúdo do texto (ASCII ou UTF-8)
+     * @param positions true para retornar as posições das ocorrências
+     * @param limit quantidade máxima de contagens e de ocorrências retornadas
+     * @return contagens, ocorrências e totais da varredura
+     * @throws IOException se a leitura falhar
+     * @throws IllegalArgumentException se o limite for inválido
+     */
+    public KeywordScanResponse scan(String setId, KeywordAutomaton automaton, InputStream input,
+                                    boolean positions, int limit) throws IOException {
+        if (limit < 1 || limit > MAX_MATCH_LIMIT) {
+            throw new IllegalArgumentException("O limite deve estar entre 1 e " + MAX_MATCH_LIMIT);
+        }
+        long startTime = System.currentTimeMillis();
+
+        long[] counts = new long[automaton.keywordCount()];
+        List<KeywordMatch> matches = positions ? new ArrayList<>() : null;
+        KeywordAutomaton.Scanner scanner = automaton.scanner();
+        KeywordAutomaton.MatchConsumer consumer = positions
+            ? (keywordId, end) -> {
+                counts[keywordId]++;
+                if (matches.size() < limit) {
+                    matches.add(new KeywordMatch(end - automaton.keywordLength(keywordId), automaton.keyword(keywordId)));
+                }
+            }
+            : (keywordId, end) -> counts[keywordId]++;
+
+        byte[] buffer = new byte[BUFFER_BYTES];
+        int read;
+        while ((read = input.read(buffer)) > 0) {
+            scanner.scan(buffer, 0, read, consumer);
+        }
+
+        List<Integer> found = new ArrayList<>();
+        long total = 0;
+        for (int id = 0; id < counts.length; id++) {
+            if (counts[id] > 0) {
+                found.add(id);
+                total += counts[id];
+            }
+        }
+        found.sort(Comparator.comparingLong((Integer id) -> counts[id]).reversed()
+            .thenComparingInt(id -> id));
+        List<WordCount> topCounts = new ArrayList<>(Math.min(found.size(), limit));
+        for (int i = 0; i < found.size() && i < limit; i++) {
+            topCounts.add(new WordCount(automaton.keyword(found.get(i)), counts[found.get(i)]));
+        }
+
+        log.debug("Varredura do conjunto {} em {} bytes: {} ocorrências", setId, scanner.bytesScanned(), total);
+        return new KeywordScanResponse(setId, topCounts, matches, total, scanner.bytesScanned(),
+            System.currentTimeMillis() - startTime);
+    }
+
+    /**
+     * Converte apenas as letras ASCII para minúsculas, como na varredura
+     */
+    private static String foldAscii(String keyword) {
+        char[] chars = keyword.toCharArray();
+        for (int i = 0; i < chars.length; i++) {
+            if (chars[i] >= 'A' && chars[i] <= 'Z') {
+                chars[i] = (char) (chars[i] | 0x20);
+            }
+        }
+        return new String(chars);
+    }
+
+    /**
+     * Hash das palavras-chave em ordem, cada uma precedida do seu tamanho,
+     * para que nenhum separador dentro de uma palavra-chave cause colisão
+     */
+    private static String setId(TreeSet<String> keywords) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            for (String keyword : keywords) {
+                byte[] bytes = keyword.getBytes(StandardCharsets.UTF_8);
+                digest.update(ByteBuffer.allocate(Integer.BYTES).putInt(bytes.length).array());
+                digest.update(bytes);
+            }
+            return HexFormat.of().formatHex(digest.digest(), 0, 16);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 indisponível", e);
+        }
+    }
+}
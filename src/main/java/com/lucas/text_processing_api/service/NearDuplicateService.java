@@ -0,0 +1,268 @@
+package com.lucas.text_processing_api.service;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ForkJoinPool;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Service;
+
+import com.lucas.text_processing_api.dto.NearDuplicateDocument;
+import com.lucas.text_processing_api.dto.NearDuplicateMatch;
+import com.lucas.text_processing_api.dto.NearDuplicateResponse;
+import com.lucas.text_processing_api.dto.NearDuplicateResult;
+import com.lucas.text_processing_api.util.search.LshIndex;
+import com.lucas.text_processing_api.util.search.MinHasher;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Serviço de detecção de textos quase duplicados
+ * 
+ * Cada texto recebido vira uma assinatura MinHash sobre shingles de
+ * {@value #SHINGLE_WORDS} palavras e entra em um índice LSH de
+ * {@value #BANDS} bandas de {@value #ROWS} linhas. As quase-duplicatas de um
+ * texto novo são os textos que compartilham alguma banda com ele, filtrados
+ * pela similaridade estimada das assinaturas, sem comparar o texto com todos
+ * os já indexados. Cada usuário só encontra os próprios textos.
+ * 
+ * Com app.near-duplicates.redis-mirror habilitado, as assinaturas também são
+ * gravadas no Redis e o índice é reconstruído a partir delas na
+ * inicialização; se o Redis falhar, o serviço segue apenas em memória.
+ * 
+ * @author Lucas
+ * @version 1.1
+ */
+@Service
+@Slf4j
+public class NearDuplicateService {
+
+    /**
+     * Palavras por shingle
+     */
+    public static final int SHINGLE_WORDS = 3;
+
+    /**
+     * Bandas do índice LSH
+     */
+    public static final int BANDS = 32;
+
+    /**
+     * Posições da assinatura por banda
+     */
+    public static final int ROWS = 4;
+
+    /**
+     * Similaridade mínima usada quando a requisição não informa uma
+     */
+    public static final double DEFAULT_THRESHOLD = 0.8;
+
+    /**
+     * Quantidade máxima de textos por requisição
+     */
+    public static final int MAX_DOCUMENTS = 1000;
+
+    /**
+     * Quantidade máxima de quase-duplicatas retornadas por texto
+     */
+    public static final int MAX_MATCHES = 100;
+
+    private static final long HASH_SEED = 0x5EEDC0DEL;
+    private static final String REDIS_KEY = "near_duplicate:documents";
+
+    @Autowired(required = false)
+    private RedisTemplate<String, Object> redisTemplate;
+
+    @Value("${app.near-duplicates.redis-mirror:false}")
+    private volatile boolean redisMirror;
+
+    private final ForkJoinPool signaturePool = new ForkJoinPool(Runtime.getRuntime().availableProcessors());
+    private final MinHasher hasher = new MinHasher(BANDS * ROWS, SHINGLE_WORDS, HASH_SEED);
+    private final LshIndex index = new LshIndex(BANDS, ROWS);
+    private final List<String> owners = new ArrayList<>();
+    private final List<String> names = new ArrayList<>();
+
+    /**
+     * Reconstrói o índice a partir das assinaturas gravadas no Redis
+     */
+    @PostConstruct
+    public void load() {
+        if (!mirrorEnabled()) {
+            return;
+        }
+        try {
+            Map<Object, Object> stored = redisTemplate.opsForHash().entries(REDIS_KEY);
+            TreeMap<Integer, String> ordered = new TreeMap<>();
+            stored.forEach((id, value) -> ordered.put(Integer.valueOf(id.toString()), value.toString()));
+
+            synchronized (index) {
+                for (Map.Entry<Integer, String> entry : ordered.entrySet()) {
+                    if (entry.getKey() != index.size()) {
+                        log.warn("Assinaturas de quase-duplicatas fora de sequência no Redis a partir de {}", entry.getKey());
+                        break;
+                    }
+                    String[] fields = entry.getValue().split("\t", 3);
+                    append(fields[0], fields[1], decode(fields[2]));
+                }
+            }
+            log.info("Índice de quase-duplicatas carregado do Redis: {} textos", index.size());
+        } catch (Exception e) {
+            log.warn("Não foi possível carregar as assinaturas do Redis: {}", e.getMessage());
+            redisMirror = false;
+        }
+    }
+
+    /**
+     * Indexa textos e retorna as quase-duplicatas de cada um
+     * 
+     * As assinaturas são calculadas em paralelo; depois cada texto é
+     * consultado e indexado na ordem de envio, então um texto também encontra
+     * os enviados antes dele na mesma requisição.
+     * 
+     * @param documents textos a indexar
+     * @param threshold similaridade mínima estimada, ou null para {@link #DEFAULT_THRESHOLD}
+     * @return quase-duplicatas de cada texto
+     * @throws IllegalArgumentException se os parâmetros forem inválidos
+     */
+    public NearDuplicateResponse submit(List<NearDuplicateDocument> documents, Double threshold) {
+        long startTime = System.currentTimeMillis();
+        if (documents == null || documents.isEmpty()) {
+            throw new IllegalArgumentException("Informe ao menos um texto");
+        }
+        if (documents.size() > MAX_DOCUMENTS) {
+            throw new IllegalArgumentException("Informe no máximo " + MAX_DOCUMENTS + " textos");
+        }
+        double minSimilarity = threshold != null ? threshold : DEFAULT_THRESHOLD;
+        if (minSimilarity < 0 || minSimilarity > 1) {
+            throw new IllegalArgumentException("A similaridade mínima deve estar entre 0 e 1");
+        }
+
+        List<byte[]> texts = new ArrayList<>(documents.size());
+        for (NearDuplicateDocument document : documents) {
+            if (document == null || document.getText() == null) {
+                throw new IllegalArgumentException("O texto não pode estar vazio");
+            }
+            texts.add(document.getText().getBytes(StandardCharsets.UTF_8));
+        }
+        long[][] signatures = hasher.signatures(texts, signaturePool);
+        for (int i = 0; i < signatures.length; i++) {
+            if (signatures[i] == null) {
+                throw new IllegalArgumentException("O texto " + (i + 1) + " não contém palavras");
+            }
+        }
+
+        String owner = currentOwner();
+        List<NearDuplicateResult> results = new ArrayList<>(documents.size());
+        Map<String, Object> batch = mirrorEnabled() ? new LinkedHashMap<>() : null;
+        int indexed;
+        synchronized (index) {
+            for (int i = 0; i < signatures.length; i++) {
+                List<NearDuplicateMatch> duplicates = findDuplicates(owner, signatures[i], minSimilarity);
+                String name = documents.get(i).getName();
+                if (name == null || name.isBlank()) {
+                    name = "texto-" + index.size();
+                }
+                int documentId = append(owner, name, signatures[i]);
+                if (batch != null) {
+                    batch.put(String.valueOf(documentId), mirrorValue(owner, name, signatures[i]));
+                }
+                results.add(new NearDuplicateResult(documentId, name, duplicates));
+            }
+            indexed = index.size();
+        }
+        mirror(batch);
+
+        return new NearDuplicateResponse(results, minSimilarity, indexed, System.currentTimeMillis() - startTime);
+    }
+
+    /**
+     * @return quantidade de textos indexados de todos os usuários
+     */
+    public int size() {
+        synchronized (index) {
+            return index.size();
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        signaturePool.shutdownNow();
+    }
+
+    private List<NearDuplicateMatch> findDuplicates(String owner, long[] signature, double minSimilarity) {
+        List<NearDuplicateMatch> duplicates = new ArrayList<>();
+        for (int candidate : index.candidates(signature)) {
+            if (!owners.get(candidate).equals(owner)) {
+                continue;
+            }
+            double similarity = MinHasher.similarity(signature, index.signature(candidate));
+            if (similarity >= minSimilarity) {
+                duplicates.add(new NearDuplicateMatch(candidate, names.get(candidate), similarity));
+            }
+        }
+        duplicates.sort(Comparator.comparingDouble(NearDuplicateMatch::getSimilarity).reversed()
+            .thenComparingInt(NearDuplicateMatch::getDocumentId));
+        return duplicates.size() > MAX_MATCHES ? new ArrayList<>(duplicates.subList(0, MAX_MATCHES)) : duplicates;
+    }
+
+    private int append(String owner, String name, long[] signature) {
+        owners.add(owner);
+        names.add(name);
+        return index.add(signature);
+    }
+
+    /**
+     * Grava as assinaturas novas no Redis em uma única escrita, fora do lock
+     * do índice para não segurar as outras requisições durante a ida ao Redis
+     */
+    private void mirror(Map<String, Object> batch) {
+        if (batch == null || batch.isEmpty() || !mirrorEnabled()) {
+            return;
+        }
+        try {
+            redisTemplate.opsForHash().putAll(REDIS_KEY, batch);
+        } catch (Exception e) {
+            log.warn("Falha ao espelhar assinaturas no Redis, seguindo apenas em memória: {}", e.getMessage());
+            redisMirror = false;
+        }
+    }
+
+    private static String mirrorValue(String owner, String name, long[] signature) {
+        return owner + "\t" + name.replace('\t', ' ') + "\t" + encode(signature);
+    }
+
+    private boolean mirrorEnabled() {
+        return redisMirror && redisTemplate != null;
+    }
+
+    private static String encode(long[] signature) {
+        ByteBuffer buffer = ByteBuffer.allocate(signature.length * Long.BYTES);
+        buffer.asLongBuffer().put(signature);
+        return Base64.getEncoder().encodeToString(buffer.array());
+    }
+
+    private static long[] decode(String encoded) {
+        ByteBuffer buffer = ByteBuffer.wrap(Base64.getDecoder().decode(encoded));
+        long[] signature = new long[buffer.remaining() / Long.BYTES];
+        buffer.asLongBuffer().get(signature);
+        return signature;
+    }
+
+    private static String currentOwner() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        return authentication != null ? authentication.getName() : "anonymous";
+    }
+}
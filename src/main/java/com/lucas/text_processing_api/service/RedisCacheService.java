@@ -1,5 +1,8 @@
 package com.lucas.text_processing_api.service;
 
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.Executors;
@@ -12,6 +15,7 @@ import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.stereotype.Service;
 
 import com.lucas.text_processing_api.dto.AnagramResponse;
+import com.lucas.text_processing_api.util.dictionary.LetterHistogram;
 
 import lombok.extern.slf4j.Slf4j;
 
@@ -21,8 +25,20 @@ import lombok.extern.slf4j.Slf4j;
  * Este serviço gerencia o armazenamento e recuperação de anagramas no Redis,
  * permitindo reutilização de resultados já calculados para melhorar a performance.
  * 
+ * O nível local guarda objetos compilados que não são serializados para o
+ * Redis, como autômatos de palavras-chave, em um mapa próprio limitado por
+ * app.cache.local-max-bytes: cada objeto informa o próprio tamanho e os
+ * usados há mais tempo são descartados quando o limite é passado. Limpar o
+ * cache de anagramas não afeta esse nível.
+ * 
+ * Resultados serializáveis de outros serviços, como scripts de diferenças,
+ * usam o nível compartilhado: ficam no Redis e, só quando a escrita no
+ * Redis falha, no mapa do nível local, sob o mesmo limite de memória.
+ * Limpar o cache de anagramas também não afeta esse nível, em nenhum dos
+ * dois lugares.
+ * 
  * @author Lucas
- * @version 1.0
+ * @version 1.6
  */
 @Service
 @Slf4j
@@ -37,11 +53,21 @@ public class RedisCacheService {
     @Value("${app.anagram.cache.ttl:3600}")
     private long cacheTtl;
 
+    @Value("${app.cache.local-max-bytes:268435456}")
+    private long localMaxBytes;
+
     private static final String CACHE_KEY_PREFIX = "anagram:";
     private static final String SORTED_KEY_PREFIX = "anagram_sorted:";
+    private static final String MODE_KEY_PREFIX = "anagram_mode:";
+    private static final String LOCAL_KEY_PREFIX = "local:";
+    private static final String SHARED_KEY_PREFIX = "shared:";
     
     // Cache em memória como fallback
     private final ConcurrentHashMap<String, CacheEntry> memoryCache = new ConcurrentHashMap<>();
+
+    // Nível local em ordem de acesso, para descartar os usados há mais tempo; protegido pelo próprio mapa
+    private final LinkedHashMap<String, LocalEntry> localCache = new LinkedHashMap<>(16, 0.75f, true);
+    private long localBytes;
     private final ScheduledExecutorService cleanupExecutor = Executors.newScheduledThreadPool(1);
     private boolean redisAvailable = true;
 
@@ -216,6 +242,255 @@ public class RedisCacheService {
         log.debug("Anagramas salvos no cache memória para letras: {}", letters);
     }
 
+    /**
+     * Recupera do cache um resultado de um modo de geração específico
+     * 
+     * Resultados de modos que dependem apenas da composição das letras
+     * (ex.: anagramas do dicionário) são guardados sob a chave ordenada,
+     * então "listen" e "silent" compartilham a mesma entrada.
+     * 
+     * @param namespace identificador do modo (ex.: "dictionary")
+     * @param letters letras para buscar no cache
+     * @return AnagramResponse se encontrado no cache, null caso contrário
+     */
+    public AnagramResponse getFromCache(String namespace, String letters) {
+        if (!cacheEnabled) {
+            return null;
+        }
+
+        String modeKey = createModeCacheKey(namespace, letters);
+        AnagramResponse response = null;
+
+        try {
+            if (redisAvailable) {
+                response = (AnagramResponse) redisTemplate.opsForValue().get(modeKey);
+            }
+        } catch (Exception e) {
+            log.warn("Erro ao buscar no cache Redis, usando cache em memória: {}", e.getMessage());
+            redisAvailable = false;
+        }
+
+        if (response == null) {
+            CacheEntry entry = memoryCache.get(modeKey);
+            if (entry != null && !entry.isExpired()) {
+                response = entry.getResponse();
+            }
+        }
+
+        if (response == null) {
+            log.debug("Cache miss no modo {} para letras: {}", namespace, letters);
+            return null;
+        }
+
+        log.debug("Cache hit no modo {} para letras: {}", namespace, letters);
+        AnagramResponse newResponse = new AnagramResponse(letters.toLowerCase(), response.getAnagrams());
+        newResponse.setTotalPossible(response.getTotalPossible());
+        newResponse.setFromCache(true);
+        return newResponse;
+    }
+
+    /**
+     * Armazena no cache um resultado de um modo de geração específico
+     * 
+     * @param namespace identificador do modo (ex.: "dictionary")
+     * @param letters letras originais
+     * @param response resposta com anagramas
+     */
+    public void saveToCache(String namespace, String letters, AnagramResponse response) {
+        if (!cacheEnabled) {
+            return;
+        }
+
+        String modeKey = createModeCacheKey(namespace, letters);
+
+        try {
+            if (redisAvailable) {
+                redisTemplate.opsForValue().set(modeKey, response, cacheTtl, TimeUnit.SECONDS);
+                log.debug("Resultado do modo {} salvo no Redis para letras: {}", namespace, letters);
+            }
+        } catch (Exception e) {
+            log.warn("Erro ao salvar no Redis, usando cache em memória: {}", e.getMessage());
+            redisAvailable = false;
+        }
+
+        memoryCache.put(modeKey, new CacheEntry(response, System.currentTimeMillis() + (cacheTtl * 1000)));
+    }
+
+    /**
+     * Recupera um objeto do nível local do cache
+     * 
+     * Objetos do nível local ficam apenas na memória desta instância, com a
+     * mesma limpeza periódica das entradas expiradas, e não dependem de
+     * app.anagram.cache.enabled. Cada acesso conta como uso recente para o
+     * descarte por tamanho.
+     * 
+     * @param namespace identificador do tipo de objeto (ex.: "keywords")
+     * @param key chave do objeto dentro do namespace
+     * @param type tipo esperado do objeto
+     * @return objeto armazenado, ou null se ausente, expirado, descartado ou de outro tipo
+     */
+    public <T> T getLocal(String namespace, String key, Class<T> type) {
+        LocalEntry entry = findLocal(createLocalCacheKey(namespace, key));
+        if (entry == null || !type.isInstance(entry.getValue())) {
+            log.debug("Cache local miss em {} para a chave: {}", namespace, key);
+            return null;
+        }
+
+        log.debug("Cache local hit em {} para a chave: {}", namespace, key);
+        return type.cast(entry.getValue());
+    }
+
+    /**
+     * Armazena um objeto no nível local do cache
+     * 
+     * Os objetos usados há mais tempo são descartados até o total caber em
+     * app.cache.local-max-bytes; um objeto maior que o limite não é guardado.
+     * 
+     * @param namespace identificador do tipo de objeto (ex.: "keywords")
+     * @param key chave do objeto dentro do namespace
+     * @param value objeto a armazenar
+     * @param sizeBytes memória aproximada ocupada pelo objeto
+     * @param ttlSeconds tempo de vida em segundos
+     */
+    public void saveLocal(String namespace, String key, Object value, long sizeBytes, long ttlSeconds) {
+        if (sizeBytes > localMaxBytes) {
+            log.warn("Objeto de {} bytes em {} não cabe no cache local ({} bytes)", sizeBytes, namespace, localMaxBytes);
+            return;
+        }
+
+        putLocal(createLocalCacheKey(namespace, key), value, sizeBytes, ttlSeconds);
+    }
+
+    /**
+     * Entrada do mapa do nível local, descartando-a se estiver expirada
+     */
+    private LocalEntry findLocal(String localKey) {
+        synchronized (localCache) {
+            LocalEntry entry = localCache.get(localKey);
+            if (entry != null && entry.isExpired()) {
+                localCache.remove(localKey);
+                localBytes -= entry.getBytes();
+                entry = null;
+            }
+            return entry;
+        }
+    }
+
+    /**
+     * Guarda uma entrada no mapa do nível local, descartando as usadas há mais tempo
+     */
+    private void putLocal(String localKey, Object value, long sizeBytes, long ttlSeconds) {
+        synchronized (localCache) {
+            LocalEntry previous = localCache.put(localKey,
+                new LocalEntry(value, System.currentTimeMillis() + ttlSeconds * 1000, sizeBytes));
+            if (previous != null) {
+                localBytes -= previous.getBytes();
+            }
+            localBytes += sizeBytes;
+
+            // O objeto novo é o último na ordem de acesso e cabe sozinho no limite
+            Iterator<Map.Entry<String, LocalEntry>> eldest = localCache.entrySet().iterator();
+            while (localBytes > localMaxBytes) {
+                Map.Entry<String, LocalEntry> evicted = eldest.next();
+                localBytes -= evicted.getValue().getBytes();
+                eldest.remove();
+                log.debug("Cache local cheio, descartada a chave: {}", evicted.getKey());
+            }
+        }
+    }
+
+    /**
+     * @return memória aproximada ocupada pelos objetos do nível local e pelos
+     *         do nível compartilhado guardados fora do Redis
+     */
+    public long getLocalBytes() {
+        synchronized (localCache) {
+            return localBytes;
+        }
+    }
+
+    /**
+     * Recupera um objeto do nível compartilhado do cache
+     * 
+     * Procura primeiro no Redis e depois nas cópias guardadas em memória
+     * quando a escrita no Redis falhou, e respeita app.anagram.cache.enabled.
+     * 
+     * @param namespace identificador do tipo de objeto (ex.: "diff")
+     * @param key chave do objeto dentro do namespace
+     * @param type tipo esperado do objeto
+     * @return objeto armazenado, ou null se ausente, expirado ou de outro tipo
+     */
+    public <T> T getShared(String namespace, String key, Class<T> type) {
+        if (!cacheEnabled) {
+            return null;
+        }
+
+        String sharedKey = createSharedCacheKey(namespace, key);
+        Object value = null;
+
+        try {
+            if (redisAvailable) {
+                value = redisTemplate.opsForValue().get(sharedKey);
+            }
+        } catch (Exception e) {
+            log.warn("Erro ao buscar no cache Redis, usando cache em memória: {}", e.getMessage());
+            redisAvailable = false;
+        }
+
+        if (value == null) {
+            LocalEntry entry = findLocal(sharedKey);
+            if (entry != null) {
+                value = entry.getValue();
+            }
+        }
+
+        if (!type.isInstance(value)) {
+            log.debug("Cache miss em {} para a chave: {}", namespace, key);
+            return null;
+        }
+
+        log.debug("Cache hit em {} para a chave: {}", namespace, key);
+        return type.cast(value);
+    }
+
+    /**
+     * Armazena um objeto no nível compartilhado do cache
+     * 
+     * Se o Redis não aceitar a escrita, o objeto fica no mapa do nível local
+     * e conta no limite app.cache.local-max-bytes como os demais.
+     * 
+     * @param namespace identificador do tipo de objeto (ex.: "diff")
+     * @param key chave do objeto dentro do namespace
+     * @param value objeto serializável em JSON
+     * @param sizeBytes memória aproximada ocupada pelo objeto
+     * @param ttlSeconds tempo de vida em segundos
+     */
+    public void saveShared(String namespace, String key, Object value, long sizeBytes, long ttlSeconds) {
+        if (!cacheEnabled) {
+            return;
+        }
+
+        String sharedKey = createSharedCacheKey(namespace, key);
+
+        try {
+            if (redisAvailable) {
+                redisTemplate.opsForValue().set(sharedKey, value, ttlSeconds, TimeUnit.SECONDS);
+                log.debug("Objeto de {} salvo no Redis para a chave: {}", namespace, key);
+                return;
+            }
+        } catch (Exception e) {
+            log.warn("Erro ao salvar no Redis, usando cache em memória: {}", e.getMessage());
+            redisAvailable = false;
+        }
+
+        if (sizeBytes > localMaxBytes) {
+            log.warn("Objeto de {} bytes em {} não cabe no cache em memória ({} bytes)", sizeBytes, namespace,
+                localMaxBytes);
+            return;
+        }
+        putLocal(sharedKey, value, sizeBytes, ttlSeconds);
+    }
+
     /**
      * Remove um item específico do cache
      * 
@@ -271,6 +546,10 @@ public class RedisCacheService {
 
     /**
      * Limpa todo o cache de anagramas
+     * 
+     * Os níveis local (objetos compilados, como autômatos de palavras-chave)
+     * e compartilhado (como scripts de diferenças) são mantidos, no Redis e
+     * em memória.
      */
     public void clearCache() {
         if (!cacheEnabled) {
@@ -297,6 +576,7 @@ public class RedisCacheService {
             // Busca todas as chaves que começam com o prefixo de anagramas
             Set<String> keys = redisTemplate.keys(CACHE_KEY_PREFIX + "*");
             Set<String> sortedKeys = redisTemplate.keys(SORTED_KEY_PREFIX + "*");
+            Set<String> modeKeys = redisTemplate.keys(MODE_KEY_PREFIX + "*");
             
             if (keys != null && !keys.isEmpty()) {
                 redisTemplate.delete(keys);
@@ -306,6 +586,10 @@ public class RedisCacheService {
                 redisTemplate.delete(sortedKeys);
             }
             
+            if (modeKeys != null && !modeKeys.isEmpty()) {
+                redisTemplate.delete(modeKeys);
+            }
+            
             log.info("Cache Redis de anagramas limpo com sucesso");
             
         } catch (Exception e) {
@@ -326,6 +610,15 @@ public class RedisCacheService {
      */
     private void cleanupMemoryCache() {
         memoryCache.entrySet().removeIf(entry -> entry.getValue().isExpired());
+        synchronized (localCache) {
+            localCache.values().removeIf(entry -> {
+                if (entry.isExpired()) {
+                    localBytes -= entry.getBytes();
+                    return true;
+                }
+                return false;
+            });
+        }
         log.debug("Cache em memória limpo, removidas entradas expiradas");
     }
 
@@ -361,35 +654,87 @@ public class RedisCacheService {
      * Cria uma chave de cache baseada na composição ordenada das letras
      * 
      * Esta chave permite reutilizar anagramas para conjuntos de letras
-     * com a mesma composição, mesmo em ordem diferente.
+     * com a mesma composição, mesmo em ordem diferente. As letras são
+     * ordenadas por contagem a partir do histograma.
      * 
      * @param letters letras para criar a chave ordenada
      * @return chave de cache ordenada
      */
     private String createSortedCacheKey(String letters) {
-        char[] chars = letters.toLowerCase().toCharArray();
-        java.util.Arrays.sort(chars);
-        return SORTED_KEY_PREFIX + new String(chars);
+        return SORTED_KEY_PREFIX + LetterHistogram.sortedLetters(letters);
+    }
+
+    /**
+     * Cria a chave de cache de um modo de geração
+     * 
+     * @param namespace identificador do modo
+     * @param letters letras para criar a chave
+     * @return chave de cache do modo, baseada na composição ordenada
+     */
+    private String createModeCacheKey(String namespace, String letters) {
+        return MODE_KEY_PREFIX + namespace + ":" + LetterHistogram.sortedLetters(letters);
+    }
+
+    /**
+     * Cria a chave de um objeto do nível local
+     * 
+     * @param namespace identificador do tipo de objeto
+     * @param key chave do objeto
+     * @return chave no cache em memória
+     */
+    private String createLocalCacheKey(String namespace, String key) {
+        return LOCAL_KEY_PREFIX + namespace + ":" + key;
+    }
+
+    /**
+     * Cria a chave de um objeto do nível compartilhado
+     * 
+     * @param namespace identificador do tipo de objeto
+     * @param key chave do objeto
+     * @return chave no Redis e no cache em memória
+     */
+    private String createSharedCacheKey(String namespace, String key) {
+        return SHARED_KEY_PREFIX + namespace + ":" + key;
     }
 
     /**
      * Classe interna para cache em memória
      */
     private static class CacheEntry {
-        private final AnagramResponse response;
+        private final Object value;
         private final long expiryTime;
 
-        public CacheEntry(AnagramResponse response, long expiryTime) {
-            this.response = response;
+        public CacheEntry(Object value, long expiryTime) {
+            this.value = value;
             this.expiryTime = expiryTime;
         }
 
         public AnagramResponse getResponse() {
-            return response;
+            return (AnagramResponse) value;
+        }
+
+        public Object getValue() {
+            return value;
         }
 
         public boolean isExpired() {
             return System.currentTimeMillis() > expiryTime;
         }
     }
+
+    /**
+     * Entrada do nível local, com o tamanho informado pelo objeto
+     */
+    private static class LocalEntry extends CacheEntry {
+        private final long bytes;
+
+        public LocalEntry(Object value, long expiryTime, long bytes) {
+            super(value, expiryTime);
+            this.bytes = bytes;
+        }
+
+        public long getBytes() {
+            return bytes;
+        }
+    }
 }
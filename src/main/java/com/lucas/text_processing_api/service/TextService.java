@@ -0,0 +1,518 @@
+package com.lucas.text_processing_api.service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Service;
+import org.springframework.web.multipart.MultipartFile;
+
+import com.lucas.text_processing_api.dto.PalindromeLengthCount;
+import com.lucas.text_processing_api.dto.PalindromeOccurrence;
+import com.lucas.text_processing_api.dto.PalindromeResponse;
+import com.lucas.text_processing_api.dto.WordCount;
+import com.lucas.text_processing_api.dto.WordFrequencyResponse;
+import com.lucas.text_processing_api.util.collection.ByteSequenceCounter;
+import com.lucas.text_processing_api.util.dictionary.LetterSignature;
+import com.lucas.text_processing_api.util.text.AnagramGrouper;
+import com.lucas.text_processing_api.util.text.AnagramWindowScanner;
+import com.lucas.text_processing_api.util.text.PalindromeScanner;
+import com.lucas.text_processing_api.util.text.ParallelTokenCounter;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Serviço de análise de textos
+ * 
+ * Reúne as operações sobre listas de palavras e documentos enviados pelos
+ * clientes, independentes do dicionário configurado. O trabalho pesado é
+ * dividido entre os núcleos por um pool próprio, para não competir com o
+ * pool comum da JVM.
+ * 
+ * Textos grandes são contados em blocos, sem guardar a lista de palavras:
+ * a memória cresce com as palavras distintas. Arquivos enviados para
+ * processamento assíncrono são gravados em disco, mapeados em memória e
+ * acompanhados por um job com o progresso em bytes. A fila de jobs é
+ * limitada por app.text.max-queued-jobs: com ela cheia o envio é recusado
+ * antes de o arquivo ser gravado, então clientes rápidos não enchem o disco.
+ * Cada job só é visível para o usuário que o criou.
+ * 
+ * A busca de anagramas de padrões dentro de um texto também percorre os
+ * bytes uma única vez, sem gerar os anagramas de cada padrão. A busca de
+ * palíndromos usa janelas de tamanho fixo, então textos de qualquer tamanho
+ * são percorridos com a mesma memória.
+ * 
+ * @author Lucas
+ * @version 1.5
+ */
+@Service
+@Slf4j
+public class TextService {
+
+    /**
+     * Quantidade máxima de grupos retornados em um agrupamento
+     */
+    public static final int MAX_GROUP_LIMIT = 100_000;
+
+    /**
+     * Quantidade máxima de padrões em uma busca de anagramas no texto
+     */
+    public static final int MAX_PATTERNS = 100;
+
+    /**
+     * Tamanho máximo de cada padrão buscado no texto
+     */
+    public static final int MAX_PATTERN_LENGTH = 64;
+
+    /**
+     * Quantidade máxima de trechos retornados em uma busca no texto
+     */
+    public static final int MAX_OCCURRENCE_LIMIT = 100_000;
+
+    /**
+     * Quantidade máxima de palavras retornadas na frequência de palavras
+     */
+    public static final int MAX_TOP_WORDS = 10_000;
+
+    /**
+     * Quantidade máxima de palíndromos retornados em uma busca
+     */
+    public static final int MAX_PALINDROME_LIMIT = 1_000;
+
+    /**
+     * Quantidade máxima de comprimentos retornados na contagem de palíndromos
+     */
+    public static final int MAX_PALINDROME_LENGTHS = 1_000;
+
+    /**
+     * Estados de um job de processamento
+     */
+    public enum JobState {
+        QUEUED, RUNNING, COMPLETED, FAILED
+    }
+
+    /**
+     * Processamento assíncrono de um arquivo
+     */
+    public static final class Job {
+
+        private final String id;
+        private final String owner;
+        private final long totalBytes;
+        private final AtomicLong bytesProcessed = new AtomicLong();
+        private volatile JobState state = JobState.QUEUED;
+        private volatile AnagramGrouper.Result result;
+        private volatile String error;
+        private volatile long processingTimeMs;
+        private volatile Instant finishedAt;
+
+        Job(String id, String owner, long totalBytes) {
+            this.id = id;
+            this.owner = owner;
+            this.totalBytes = totalBytes;
+        }
+
+        /**
+         * @return identificador do job
+         */
+        public String getId() {
+            return id;
+        }
+
+        /**
+         * @return estado atual
+         */
+        public JobState getState() {
+            return state;
+        }
+
+        /**
+         * @return bytes do arquivo já processados
+         */
+        public long getBytesProcessed() {
+            return bytesProcessed.get();
+        }
+
+        /**
+         * @return tamanho do arquivo em bytes
+         */
+        public long getTotalBytes() {
+            return totalBytes;
+        }
+
+        /**
+         * @return grupos encontrados, ou null se o job não foi concluído
+         */
+        public AnagramGrouper.Result getResult() {
+            return result;
+        }
+
+        /**
+         * @return mensagem de erro, ou null se o job não falhou
+         */
+        public String getError() {
+            return error;
+        }
+
+        /**
+         * @return duração do processamento em milissegundos, após o fim do job
+         */
+        public long getProcessingTimeMs() {
+            return processingTimeMs;
+        }
+
+        boolean isExpired(Instant now, Duration retention) {
+            return finishedAt != null && finishedAt.plus(retention).isBefore(now);
+        }
+    }
+
+    @Value("${app.text.job-retention-minutes:60}")
+    private long jobRetentionMinutes;
+
+    private final ForkJoinPool textPool = new ForkJoinPool(Runtime.getRuntime().availableProcessors());
+
+    @Value("${app.text.job-threads:2}")
+    private int jobThreads;
+
+    @Value("${app.text.max-queued-jobs:4}")
+    private int maxQueuedJobs;
+
+    private final AtomicInteger jobCount = new AtomicInteger();
+    private ThreadPoolExecutor jobExecutor;
+
+    private final Map<String, Job> jobs = new ConcurrentHashMap<>();
+
+    /**
+     * Cria as threads dos jobs, com fila limitada
+     */
+    @PostConstruct
+    public void start() {
+        int threads = Math.max(1, jobThreads);
+        jobExecutor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+            new ArrayBlockingQueue<>(Math.max(1, maxQueuedJobs)),
+            runnable -> {
+                Thread thread = new Thread(runnable, "text-job-" + jobCount.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            },
+            new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    /**
+     * Agrupa uma lista de palavras em classes de anagramas
+     * 
+     * @param words palavras a agrupar; as que têm caracteres fora de letras são descartadas
+     * @param minGroupSize quantidade mínima de palavras distintas por grupo
+     * @param limit quantidade máxima de grupos retornados
+     * @return grupos encontrados, dos maiores para os menores
+     * @throws IllegalArgumentException se os parâmetros forem inválidos
+     */
+    public AnagramGrouper.Result groupAnagrams(List<String> words, int minGroupSize, int limit) {
+        if (words == null || words.isEmpty()) {
+            throw new IllegalArgumentException("A lista de palavras não pode estar vazia");
+        }
+        validateGrouping(minGroupSize, limit);
+        return new AnagramGrouper(textPool).group(words, minGroupSize, limit);
+    }
+
+    /**
+     * Agrupa em classes de anagramas as palavras de um texto
+     * 
+     * O texto (UTF-8) é dividido em palavras nos caracteres ASCII que não são
+     * letras e lido em blocos contados em paralelo, sem guardar a lista de
+     * palavras.
+     * 
+     * @param input conteúdo do texto
+     * @param minGroupSize quantidade mínima de palavras distintas por grupo
+     * @param limit quantidade máxima de grupos retornados
+     * @return grupos encontrados, dos maiores para os menores
+     * @throws IOException se a leitura falhar
+     * @throws IllegalArgumentException se os parâmetros forem inválidos
+     */
+    public AnagramGrouper.Result groupAnagrams(InputStream input, int minGroupSize, int limit) throws IOException {
+        validateGrouping(minGroupSize, limit);
+
+        ParallelTokenCounter.Result counted = new ParallelTokenCounter(textPool).countStream(input, bytes -> { });
+        log.debug("Texto de {} bytes com {} palavras distintas", counted.getBytes(), counted.getTokens().size());
+        return new AnagramGrouper(textPool).group(counted.getTokens(), counted.getSkippedTokens(), minGroupSize, limit);
+    }
+
+    /**
+     * Localiza os trechos de um texto que são anagramas de algum dos padrões
+     * 
+     * @param text texto a percorrer
+     * @param patterns palavras cujos anagramas são procurados
+     * @param limit quantidade máxima de trechos retornados
+     * @return trechos encontrados, com posições em bytes UTF-8
+     * @throws IllegalArgumentException se os padrões ou o limite forem inválidos
+     */
+    public AnagramWindowScanner.Result findAnagramOccurrences(String text, List<String> patterns, int limit) {
+        if (text == null || text.isEmpty()) {
+            throw new IllegalArgumentException("O texto não pode estar vazio");
+        }
+        AnagramWindowScanner scanner = createWindowScanner(patterns, limit);
+        return scanner.scan(ByteBuffer.wrap(text.getBytes(StandardCharsets.UTF_8)), limit);
+    }
+
+    /**
+     * Localiza os trechos de um texto lido de um fluxo que são anagramas de
+     * algum dos padrões
+     * 
+     * O fluxo é percorrido uma única vez e só os últimos bytes do tamanho do
+     * maior padrão ficam em memória.
+     * 
+     * @param input conteúdo do texto
+     * @param patterns palavras cujos anagramas são procurados
+     * @param limit quantidade máxima de trechos retornados
+     * @return trechos encontrados, com posições em bytes
+     * @throws IOException se a leitura falhar
+     * @throws IllegalArgumentException se os padrões ou o limite forem inválidos
+     */
+    public AnagramWindowScanner.Result findAnagramOccurrences(InputStream input, List<String> patterns, int limit)
+            throws IOException {
+        AnagramWindowScanner scanner = createWindowScanner(patterns, limit);
+        return scanner.scan(input, limit);
+    }
+
+    /**
+     * Calcula as palavras mais frequentes de um texto lido de um fluxo
+     * 
+     * O texto é lido em blocos contados em paralelo diretamente sobre os
+     * bytes; só as palavras retornadas são convertidas para String.
+     * 
+     * @param input conteúdo do texto (ASCII ou UTF-8)
+     * @param topK quantidade máxima de palavras retornadas
+     * @return palavras mais frequentes e totais do texto
+     * @throws IOException se a leitura falhar
+     * @throws IllegalArgumentException se a quantidade for inválida
+     */
+    public WordFrequencyResponse analyzeWordFrequencies(InputStream input, int topK) throws IOException {
+        if (topK < 1 || topK > MAX_TOP_WORDS) {
+            throw new IllegalArgumentException("A quantidade de palavras deve estar entre 1 e " + MAX_TOP_WORDS);
+        }
+        long startTime = System.currentTimeMillis();
+
+        ParallelTokenCounter.Result counted = new ParallelTokenCounter(textPool).countStream(input, bytes -> { });
+        ByteSequenceCounter tokens = counted.getTokens();
+        int[] top = tokens.topEntries(topK);
+        List<WordCount> words = new ArrayList<>(top.length);
+        for (int entry : top) {
+            words.add(new WordCount(tokens.toString(entry), tokens.count(entry)));
+        }
+
+        log.debug("Frequência calculada para {} bytes e {} palavras distintas", counted.getBytes(), tokens.size());
+        return new WordFrequencyResponse(words, tokens.size(), counted.getTotalTokens(), counted.getSkippedTokens(),
+            counted.getBytes(), System.currentTimeMillis() - startTime);
+    }
+
+    /**
+     * Localiza os maiores palíndromos de um texto lido de um fluxo e conta
+     * as substrings palindrômicas por comprimento
+     * 
+     * O texto é percorrido em tempo linear, em janelas de tamanho fixo, sem
+     * ser carregado inteiro em memória.
+     * 
+     * @param input conteúdo do texto
+     * @param lettersOnly true para considerar só as letras, sem diferenciar maiúsculas
+     * @param minLength comprimento mínimo dos palíndromos retornados e contados
+     * @param limit quantidade máxima de palíndromos retornados
+     * @return palíndromos encontrados e contagem por comprimento
+     * @throws IOException se a leitura falhar
+     * @throws IllegalArgumentException se os parâmetros forem inválidos
+     */
+    public PalindromeResponse findPalindromes(InputStream input, boolean lettersOnly, int minLength, int limit)
+            throws IOException {
+        if (minLength < 1) {
+            throw new IllegalArgumentException("O comprimento mínimo deve ser positivo");
+        }
+        if (limit < 1 || limit > MAX_PALINDROME_LIMIT) {
+            throw new IllegalArgumentException("O limite deve estar entre 1 e " + MAX_PALINDROME_LIMIT);
+        }
+        long startTime = System.currentTimeMillis();
+
+        PalindromeScanner.Result result = new PalindromeScanner(lettersOnly, minLength, limit).scan(input);
+        List<PalindromeOccurrence> longest = new ArrayList<>(result.getLongest().size());
+        for (PalindromeScanner.Palindrome palindrome : result.getLongest()) {
+            longest.add(new PalindromeOccurrence(palindrome.getOffset(), palindrome.getLength(),
+                palindrome.getByteLength(), palindrome.getText()));
+        }
+        List<PalindromeLengthCount> counts = new ArrayList<>();
+        long total = 0;
+        for (int length = minLength; length <= result.getLongestLength(); length++) {
+            long count = result.count(length);
+            total += count;
+            if (count > 0 && counts.size() < MAX_PALINDROME_LENGTHS) {
+                counts.add(new PalindromeLengthCount(length, count));
+            }
+        }
+
+        log.debug("Palíndromos buscados em {} bytes. Maior: {}", result.getBytesScanned(), result.getLongestLength());
+        return new PalindromeResponse(longest, counts, total, result.getLongestLength(), result.isTruncated(),
+            result.getBytesScanned(), System.currentTimeMillis() - startTime);
+    }
+
+    /**
+     * Inicia o agrupamento assíncrono das palavras de um arquivo enviado
+     * 
+     * O arquivo é gravado em um arquivo temporário, que é mapeado em memória
+     * em trechos contados em paralelo e removido ao final do job.
+     * 
+     * @param file arquivo de texto (UTF-8)
+     * @param minGroupSize quantidade mínima de palavras distintas por grupo
+     * @param limit quantidade máxima de grupos retornados
+     * @return job criado, para consulta do progresso
+     * @throws IOException se o arquivo não puder ser gravado
+     * @throws IllegalArgumentException se o arquivo estiver vazio ou os parâmetros forem inválidos
+     * @throws RejectedExecutionException se a fila de jobs estiver cheia; nada fica gravado
+     */
+    public Job startAnagramGroupJob(MultipartFile file, int minGroupSize, int limit) throws IOException {
+        if (file == null || file.isEmpty()) {
+            throw new IllegalArgumentException("O arquivo não pode estar vazio");
+        }
+        validateGrouping(minGroupSize, limit);
+
+        // Recusa antes de gravar; a submissão abaixo ainda pode perder a corrida e é tratada igual
+        if (jobExecutor.getQueue().remainingCapacity() == 0) {
+            throw new RejectedExecutionException("Fila de jobs cheia");
+        }
+
+        Path spooled = Files.createTempFile("text-job-", ".txt");
+        try {
+            file.transferTo(spooled);
+        } catch (IOException | RuntimeException e) {
+            Files.deleteIfExists(spooled);
+            throw e;
+        }
+
+        purgeExpiredJobs();
+        Job job = new Job(UUID.randomUUID().toString(), currentOwner(), Files.size(spooled));
+        jobs.put(job.getId(), job);
+        try {
+            jobExecutor.execute(() -> runAnagramGroupJob(job, spooled, minGroupSize, limit));
+        } catch (RejectedExecutionException e) {
+            jobs.remove(job.getId());
+            Files.deleteIfExists(spooled);
+            throw e;
+        }
+        log.info("Job {} iniciado para arquivo de {} bytes", job.getId(), job.getTotalBytes());
+        return job;
+    }
+
+    /**
+     * Consulta um job de processamento
+     * 
+     * Jobs concluídos são mantidos por app.text.job-retention-minutes.
+     * 
+     * @param jobId identificador do job
+     * @return job, se existir e pertencer ao usuário atual
+     */
+    public Optional<Job> getJob(String jobId) {
+        purgeExpiredJobs();
+        String owner = currentOwner();
+        return Optional.ofNullable(jobs.get(jobId)).filter(job -> job.owner.equals(owner));
+    }
+
+    /**
+     * Finaliza o pool de processamento paralelo
+     */
+    @PreDestroy
+    public void shutdown() {
+        if (jobExecutor != null) {
+            jobExecutor.shutdownNow();
+        }
+        textPool.shutdownNow();
+    }
+
+    private void runAnagramGroupJob(Job job, Path spooled, int minGroupSize, int limit) {
+        job.state = JobState.RUNNING;
+        long startTime = System.currentTimeMillis();
+        try {
+            ParallelTokenCounter.Result counted = new ParallelTokenCounter(textPool)
+                .countFile(spooled, job.bytesProcessed::addAndGet);
+            job.result = new AnagramGrouper(textPool)
+                .group(counted.getTokens(), counted.getSkippedTokens(), minGroupSize, limit);
+            job.state = JobState.COMPLETED;
+            log.info("Job {} concluído. Palavras distintas: {}", job.getId(), counted.getTokens().size());
+        } catch (Exception e) {
+            job.error = e.getMessage() != null ? e.getMessage() : e.getClass().getSimpleName();
+            job.state = JobState.FAILED;
+            log.error("Erro no job {}: {}", job.getId(), e.getMessage(), e);
+        } finally {
+            job.processingTimeMs = System.currentTimeMillis() - startTime;
+            job.finishedAt = Instant.now();
+            try {
+                Files.deleteIfExists(spooled);
+            } catch (IOException e) {
+                log.warn("Não foi possível remover o arquivo temporário {}: {}", spooled, e.getMessage());
+            }
+        }
+    }
+
+    private void purgeExpiredJobs() {
+        Instant now = Instant.now();
+        Duration retention = Duration.ofMinutes(jobRetentionMinutes);
+        jobs.values().removeIf(job -> job.isExpired(now, retention));
+    }
+
+    private static String currentOwner() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        return authentication != null ? authentication.getName() : "anonymous";
+    }
+
+    private static AnagramWindowScanner createWindowScanner(List<String> patterns, int limit) {
+        if (patterns == null || patterns.isEmpty()) {
+            throw new IllegalArgumentException("Informe ao menos um padrão");
+        }
+        if (patterns.size() > MAX_PATTERNS) {
+            throw new IllegalArgumentException("Informe no máximo " + MAX_PATTERNS + " padrões");
+        }
+        if (limit < 1 || limit > MAX_OCCURRENCE_LIMIT) {
+            throw new IllegalArgumentException("O limite deve estar entre 1 e " + MAX_OCCURRENCE_LIMIT);
+        }
+
+        List<String> normalized = new ArrayList<>(patterns.size());
+        for (String pattern : patterns) {
+            String word = LetterSignature.normalize(pattern);
+            if (word == null) {
+                throw new IllegalArgumentException("Padrão inválido: " + pattern);
+            }
+            if (word.length() > MAX_PATTERN_LENGTH) {
+                throw new IllegalArgumentException("Os padrões devem ter no máximo " + MAX_PATTERN_LENGTH + " letras");
+            }
+            normalized.add(word);
+        }
+        return new AnagramWindowScanner(normalized);
+    }
+
+    private static void validateGrouping(int minGroupSize, int limit) {
+        if (minGroupSize < 1) {
+            throw new IllegalArgumentException("O tamanho mínimo do grupo deve ser no mínimo 1");
+        }
+        if (limit < 1 || limit > MAX_GROUP_LIMIT) {
+            throw new IllegalArgumentException("O limite deve estar entre 1 e " + MAX_GROUP_LIMIT);
+        }
+    }
+}
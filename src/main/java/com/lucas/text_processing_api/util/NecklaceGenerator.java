@@ -0,0 +1,223 @@
+package com.lucas.text_processing_api.util;
+
+import org.springframework.stereotype.Component;
+
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Gerador de colares (anagramas únicos por rotação)
+ * 
+ * Dois arranjos pertencem à mesma classe quando um é rotação do outro.
+ * O gerador produz apenas o representante canônico de cada classe (a menor
+ * rotação lexicográfica), usando o algoritmo de Sawada para colares com
+ * conteúdo fixo. Nenhum arranjo linear é gerado para depois ser descartado.
+ * 
+ * A contagem de classes é exata e usa o lema de Burnside sobre o multiconjunto
+ * de letras, sem enumerar nada.
+ * 
+ * @author Lucas
+ * @version 1.1
+ */
+@Component
+public class NecklaceGenerator {
+
+    /**
+     * Quantidade máxima de letras; limita os fatoriais da contagem e o tamanho de cada representante
+     */
+    public static final int MAX_LETTERS = 64;
+
+    /**
+     * Conta as classes de rotação para um conjunto de letras
+     * 
+     * Pelo lema de Burnside, a quantidade de colares é
+     * (1/n) * soma, para cada d que divide o mdc das multiplicidades,
+     * de phi(d) * (n/d)! / produto((c_i/d)!).
+     * 
+     * @param letters string contendo as letras
+     * @return quantidade exata de classes de rotação
+     * @throws IllegalArgumentException se a entrada for inválida ou exceder {@link #MAX_LETTERS}
+     */
+    public BigInteger countNecklaces(String letters) {
+        int[] counts = letterCounts(letters);
+        int n = letters.length();
+
+        int gcd = 0;
+        for (int count : counts) {
+            if (count > 0) {
+                gcd = gcd(gcd, count);
+            }
+        }
+
+        BigInteger sum = BigInteger.ZERO;
+        for (int d = 1; d <= gcd; d++) {
+            if (gcd % d != 0) {
+                continue;
+            }
+
+            BigInteger fixedPoints = factorial(n / d);
+            for (int count : counts) {
+                if (count > 0) {
+                    fixedPoints = fixedPoints.divide(factorial(count / d));
+                }
+            }
+            sum = sum.add(fixedPoints.multiply(BigInteger.valueOf(eulerPhi(d))));
+        }
+
+        return sum.divide(BigInteger.valueOf(n));
+    }
+
+    /**
+     * Gera os representantes canônicos das classes de rotação
+     * 
+     * Os representantes saem em ordem lexicográfica e a geração para
+     * assim que o limite é atingido.
+     * 
+     * @param letters string contendo as letras
+     * @param limit quantidade máxima de representantes
+     * @return representantes canônicos (menor rotação de cada classe)
+     * @throws IllegalArgumentException se a entrada for inválida ou exceder {@link #MAX_LETTERS}
+     */
+    public List<String> generateNecklaces(String letters, int limit) {
+        int[] counts = letterCounts(letters);
+        if (limit < 1) {
+            throw new IllegalArgumentException("O limite deve ser no mínimo 1");
+        }
+
+        // Alfabeto reduzido às letras presentes, em ordem crescente
+        int distinct = 0;
+        char[] symbols = new char[26];
+        int[] remaining = new int[26];
+        for (int i = 0; i < 26; i++) {
+            if (counts[i] > 0) {
+                symbols[distinct] = (char) ('a' + i);
+                remaining[distinct] = counts[i];
+                distinct++;
+            }
+        }
+
+        NecklaceSearch search = new NecklaceSearch(letters.length(), symbols, remaining, distinct, limit);
+        search.run();
+        return search.result;
+    }
+
+    /**
+     * Estado da enumeração de colares com conteúdo fixo (Sawada, 2003)
+     * 
+     * O arranjo é 1-indexado: a[t - p] é a letra com que a posição t precisa
+     * ser comparada para manter o prefixo como pré-colar de período p.
+     */
+    private static final class NecklaceSearch {
+
+        private final int n;
+        private final char[] symbols;
+        private final int[] remaining;
+        private final int alphabetSize;
+        private final int limit;
+        private final int[] a;
+        private final char[] buffer;
+        private final List<String> result = new ArrayList<>();
+
+        NecklaceSearch(int n, char[] symbols, int[] remaining, int alphabetSize, int limit) {
+            this.n = n;
+            this.symbols = symbols;
+            this.remaining = remaining;
+            this.alphabetSize = alphabetSize;
+            this.limit = limit;
+            this.a = new int[n + 1];
+            this.buffer = new char[n];
+        }
+
+        void run() {
+            // O representante canônico sempre começa pela menor letra
+            a[1] = 0;
+            remaining[0]--;
+            generate(2, 1);
+        }
+
+        private boolean generate(int t, int p) {
+            if (t > n) {
+                if (n % p == 0) {
+                    for (int i = 0; i < n; i++) {
+                        buffer[i] = symbols[a[i + 1]];
+                    }
+                    result.add(new String(buffer));
+                    return result.size() < limit;
+                }
+                return true;
+            }
+
+            for (int j = a[t - p]; j < alphabetSize; j++) {
+                if (remaining[j] == 0) {
+                    continue;
+                }
+
+                a[t] = j;
+                remaining[j]--;
+                boolean keepGoing = j == a[t - p] ? generate(t + 1, p) : generate(t + 1, t);
+                remaining[j]++;
+
+                if (!keepGoing) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+
+    private static int[] letterCounts(String letters) {
+        if (letters == null || letters.trim().isEmpty()) {
+            throw new IllegalArgumentException("As letras não podem estar vazias");
+        }
+
+        if (!letters.matches("^[a-zA-Z]+$")) {
+            throw new IllegalArgumentException("Apenas letras são permitidas");
+        }
+
+        if (letters.length() > MAX_LETTERS) {
+            throw new IllegalArgumentException(
+                "O modo por classes de rotação aceita no máximo " + MAX_LETTERS + " letras");
+        }
+
+        int[] counts = new int[26];
+        for (int i = 0; i < letters.length(); i++) {
+            counts[Character.toLowerCase(letters.charAt(i)) - 'a']++;
+        }
+        return counts;
+    }
+
+    private static BigInteger factorial(int value) {
+        BigInteger result = BigInteger.ONE;
+        for (int i = 2; i <= value; i++) {
+            result = result.multiply(BigInteger.valueOf(i));
+        }
+        return result;
+    }
+
+    private static int eulerPhi(int value) {
+        int result = value;
+        int remainder = value;
+        for (int p = 2; p * p <= remainder; p++) {
+            if (remainder % p == 0) {
+                while (remainder % p == 0) {
+                    remainder /= p;
+                }
+                result -= result / p;
+            }
+        }
+        if (remainder > 1) {
+            result -= result / remainder;
+        }
+        return result;
+    }
+
+    private static int gcd(int a, int b) {
+        while (b != 0) {
+            int t = a % b;
+            a = b;
+            b = t;
+        }
+        return a;
+    }
+}
@@ -0,0 +1,77 @@
+package com.lucas.text_processing_api.util;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * Cursor sobre as permutações distintas de um multiconjunto de letras
+ * 
+ * Mantém um único arranjo em bytes e avança para a próxima permutação em
+ * ordem lexicográfica (algoritmo clássico "next permutation"). Como letras
+ * repetidas nunca geram a mesma permutação duas vezes, não há deduplicação,
+ * e nenhum objeto é alocado por elemento.
+ * 
+ * @author Lucas
+ * @version 1.0
+ */
+public final class PermutationCursor {
+
+    private final byte[] current;
+    private boolean started;
+
+    /**
+     * Cria um cursor posicionado antes da primeira permutação
+     * 
+     * @param letters letras (apenas a-z, já validadas)
+     */
+    public PermutationCursor(String letters) {
+        this.current = letters.toLowerCase().getBytes(StandardCharsets.US_ASCII);
+        Arrays.sort(this.current);
+    }
+
+    /**
+     * Avança para a próxima permutação
+     * 
+     * @return true se há uma permutação disponível em {@link #current()}
+     */
+    public boolean next() {
+        if (!started) {
+            started = true;
+            return current.length > 0;
+        }
+
+        int i = current.length - 2;
+        while (i >= 0 && current[i] >= current[i + 1]) {
+            i--;
+        }
+        if (i < 0) {
+            return false;
+        }
+
+        int j = current.length - 1;
+        while (current[j] <= current[i]) {
+            j--;
+        }
+        swap(i, j);
+
+        for (int left = i + 1, right = current.length - 1; left < right; left++, right--) {
+            swap(left, right);
+        }
+        return true;
+    }
+
+    /**
+     * Permutação atual; o array é reutilizado a cada chamada de {@link #next()}
+     * 
+     * @return bytes da permutação atual
+     */
+    public byte[] current() {
+        return current;
+    }
+
+    private void swap(int i, int j) {
+        byte temp = current[i];
+        current[i] = current[j];
+        current[j] = temp;
+    }
+}
@@ -0,0 +1,152 @@
+package com.lucas.text_processing_api.util;
+
+import com.lucas.text_processing_api.util.collection.LongHashSet;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Explorador de arranjos por distância de trocas
+ * 
+ * Faz uma busca em largura a partir da palavra original, onde cada passo
+ * troca duas posições (ou apenas posições adjacentes). Como a busca avança
+ * nível a nível, os arranjos saem em ordem crescente de distância e a
+ * exploração para assim que os K mais próximos são encontrados, sem gerar
+ * nem ordenar o conjunto completo de permutações.
+ * 
+ * Cada arranjo é empacotado em um long (5 bits por letra), o que permite
+ * usar um conjunto primitivo de visitados.
+ * 
+ * @author Lucas
+ * @version 1.0
+ */
+@Component
+public class SwapDistanceExplorer {
+
+    /**
+     * Quantidade máxima de letras que cabe em um long com 5 bits por letra
+     */
+    public static final int MAX_LETTERS = 12;
+
+    private static final int BITS_PER_LETTER = 5;
+    private static final long LETTER_MASK = (1L << BITS_PER_LETTER) - 1;
+
+    /**
+     * Retorna os K arranjos mais próximos da palavra original
+     * 
+     * A palavra original (distância 0) não faz parte do resultado.
+     * Arranjos com a mesma distância aparecem na ordem em que foram descobertos.
+     * 
+     * @param letters palavra original
+     * @param limit quantidade máxima de arranjos (K)
+     * @param adjacentOnly true para considerar apenas trocas entre posições adjacentes
+     * @return arranjos em ordem crescente de distância
+     * @throws IllegalArgumentException se a entrada for inválida
+     */
+    public List<String> nearest(String letters, int limit, boolean adjacentOnly) {
+        if (letters == null || letters.trim().isEmpty()) {
+            throw new IllegalArgumentException("As letras não podem estar vazias");
+        }
+
+        if (!letters.matches("^[a-zA-Z]+$")) {
+            throw new IllegalArgumentException("Apenas letras são permitidas");
+        }
+
+        if (letters.length() > MAX_LETTERS) {
+            throw new IllegalArgumentException(
+                "O modo por distância de trocas aceita no máximo " + MAX_LETTERS + " letras");
+        }
+
+        if (limit < 1) {
+            throw new IllegalArgumentException("O limite deve ser no mínimo 1");
+        }
+
+        int length = letters.length();
+        long origin = pack(letters.toLowerCase());
+
+        List<String> result = new ArrayList<>(Math.min(limit, 1024));
+        LongHashSet visited = new LongHashSet(Math.min(limit, 1 << 16) * 2);
+        visited.add(origin);
+
+        long[] frontier = { origin };
+        int frontierSize = 1;
+        long[] next = new long[16];
+
+        while (frontierSize > 0) {
+            int nextSize = 0;
+
+            for (int f = 0; f < frontierSize; f++) {
+                long current = frontier[f];
+
+                for (int i = 0; i < length - 1; i++) {
+                    long left = letterAt(current, i);
+                    int lastJ = adjacentOnly ? i + 1 : length - 1;
+
+                    for (int j = i + 1; j <= lastJ; j++) {
+                        long right = letterAt(current, j);
+                        if (left == right) {
+                            continue;
+                        }
+
+                        long neighbor = swap(current, i, left, j, right);
+                        if (!visited.add(neighbor)) {
+                            continue;
+                        }
+
+                        result.add(unpack(neighbor, length));
+                        if (result.size() >= limit) {
+                            return result;
+                        }
+
+                        if (nextSize == next.length) {
+                            next = Arrays.copyOf(next, nextSize << 1);
+                        }
+                        next[nextSize++] = neighbor;
+                    }
+                }
+            }
+
+            long[] swapBuffer = frontier;
+            frontier = next;
+            frontierSize = nextSize;
+            next = swapBuffer.length >= 16 ? swapBuffer : new long[16];
+        }
+
+        return result;
+    }
+
+    /**
+     * Empacota uma palavra em minúsculas em um long
+     * 
+     * As letras são gravadas como 1..26 para que nenhum arranjo resulte em 0,
+     * valor reservado pelo conjunto de visitados.
+     */
+    private static long pack(String word) {
+        long packed = 0;
+        for (int i = 0; i < word.length(); i++) {
+            packed |= (long) (word.charAt(i) - 'a' + 1) << (i * BITS_PER_LETTER);
+        }
+        return packed;
+    }
+
+    private static String unpack(long packed, int length) {
+        char[] chars = new char[length];
+        for (int i = 0; i < length; i++) {
+            chars[i] = (char) ('a' + letterAt(packed, i) - 1);
+        }
+        return new String(chars);
+    }
+
+    private static long letterAt(long packed, int position) {
+        return (packed >>> (position * BITS_PER_LETTER)) & LETTER_MASK;
+    }
+
+    private static long swap(long packed, int i, long left, int j, long right) {
+        int shiftI = i * BITS_PER_LETTER;
+        int shiftJ = j * BITS_PER_LETTER;
+        long cleared = packed & ~(LETTER_MASK << shiftI) & ~(LETTER_MASK << shiftJ);
+        return cleared | (right << shiftI) | (left << shiftJ);
+    }
+}
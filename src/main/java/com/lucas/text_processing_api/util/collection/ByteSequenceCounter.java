@@ -0,0 +1,282 @@
+package com.lucas.text_processing_api.util.collection;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * Contador de sequências de bytes com endereçamento aberto
+ * 
+ * As sequências distintas são copiadas uma única vez para uma arena de
+ * bytes contígua; cada entrada guarda apenas deslocamento, tamanho, hash e
+ * contagem em arrays primitivos paralelos, e a tabela de sondagem linear
+ * guarda o índice da entrada. Contar uma sequência já vista não aloca nada,
+ * então a memória cresce com as sequências distintas, não com o volume
+ * contado.
+ * 
+ * Não é thread-safe: o uso típico é um contador por thread, combinados ao
+ * final com {@link #merge(ByteSequenceCounter)}.
+ * 
+ * @author Lucas
+ * @version 1.2
+ */
+public final class ByteSequenceCounter {
+
+    private static final float LOAD_FACTOR = 0.5f;
+
+    private byte[] arena;
+    private int arenaSize;
+    private int[] offsets;
+    private int[] lengths;
+    private int[] hashes;
+    private long[] counts;
+    private int size;
+    private long total;
+
+    /** Índice da entrada mais 1 em cada posição; 0 indica posição vazia */
+    private int[] table;
+    private int mask;
+    private int resizeThreshold;
+
+    /**
+     * Consome uma entrada do contador
+     */
+    @FunctionalInterface
+    public interface EntryConsumer {
+
+        /**
+         * @param data arena com os bytes da sequência (não deve ser modificada)
+         * @param offset início da sequência na arena
+         * @param length tamanho da sequência
+         * @param count quantidade de vezes que a sequência foi contada
+         */
+        void accept(byte[] data, int offset, int length, long count);
+    }
+
+    /**
+     * @param expectedSize quantidade esperada de sequências distintas
+     */
+    public ByteSequenceCounter(int expectedSize) {
+        int capacity = Math.max(expectedSize, 4);
+        this.arena = new byte[capacity * 8];
+        this.offsets = new int[capacity];
+        this.lengths = new int[capacity];
+        this.hashes = new int[capacity];
+        this.counts = new long[capacity];
+        allocateTable(HashMixer.tableSizeFor((int) Math.ceil(capacity / LOAD_FACTOR)));
+    }
+
+    /**
+     * Soma uma contagem à sequência, inserindo-a se ainda não existir
+     * 
+     * @param bytes origem dos bytes
+     * @param from início da sequência
+     * @param length tamanho da sequência
+     * @param count valor a somar
+     */
+    public void add(byte[] bytes, int from, int length, long count) {
+        int hash = hash(bytes, from, length);
+        int slot = hash & mask;
+        while (table[slot] != 0) {
+            int entry = table[slot] - 1;
+            if (hashes[entry] == hash && lengths[entry] == length
+                    && Arrays.equals(arena, offsets[entry], offsets[entry] + length, bytes, from, from + length)) {
+                counts[entry] += count;
+                total += count;
+                return;
+            }
+            slot = (slot + 1) & mask;
+        }
+
+        int entry = append(bytes, from, length, hash, count);
+        table[slot] = entry + 1;
+        total += count;
+        if (size > resizeThreshold) {
+            allocateTable(table.length * 2);
+        }
+    }
+
+    /**
+     * Contagem atual de uma sequência
+     * 
+     * @param bytes origem dos bytes
+     * @param from início da sequência
+     * @param length tamanho da sequência
+     * @return contagem, ou 0 se a sequência não foi contada
+     */
+    public long get(byte[] bytes, int from, int length) {
+        int hash = hash(bytes, from, length);
+        int slot = hash & mask;
+        while (table[slot] != 0) {
+            int entry = table[slot] - 1;
+            if (hashes[entry] == hash && lengths[entry] == length
+                    && Arrays.equals(arena, offsets[entry], offsets[entry] + length, bytes, from, from + length)) {
+                return counts[entry];
+            }
+            slot = (slot + 1) & mask;
+        }
+        return 0;
+    }
+
+    /**
+     * Soma as contagens de outro contador a este
+     * 
+     * @param other contador de origem, que não é modificado
+     */
+    public void merge(ByteSequenceCounter other) {
+        for (int entry = 0; entry < other.size; entry++) {
+            add(other.arena, other.offsets[entry], other.lengths[entry], other.counts[entry]);
+        }
+    }
+
+    /**
+     * Percorre as sequências na ordem em que foram vistas pela primeira vez
+     * 
+     * @param consumer função chamada para cada sequência distinta
+     */
+    public void forEach(EntryConsumer consumer) {
+        for (int entry = 0; entry < size; entry++) {
+            consumer.accept(arena, offsets[entry], lengths[entry], counts[entry]);
+        }
+    }
+
+    /**
+     * Entradas com as maiores contagens
+     * 
+     * Usa um {@link TopKHeap} de tamanho K, então selecionar as entradas custa
+     * O(n log K) sem ordenar todas as sequências.
+     * 
+     * @param k quantidade máxima de entradas
+     * @return índices das entradas, da maior contagem para a menor
+     */
+    public int[] topEntries(int k) {
+        int capacity = Math.min(k, size);
+        if (capacity < 1) {
+            return new int[0];
+        }
+        TopKHeap heap = new TopKHeap(capacity);
+        for (int entry = 0; entry < size; entry++) {
+            if (!heap.isFull() || counts[entry] > heap.minKey()) {
+                heap.offer(counts[entry], entry);
+            }
+        }
+        long[] keys = new long[capacity];
+        int[] entries = new int[capacity];
+        heap.drainDescending(keys, entries);
+        return entries;
+    }
+
+    /**
+     * @param entry índice da entrada, na ordem de inserção
+     * @return contagem da entrada
+     */
+    public long count(int entry) {
+        return counts[entry];
+    }
+
+    /**
+     * Arena com os bytes de todas as entradas
+     * 
+     * A referência muda quando a arena cresce; só é válida enquanto nada
+     * mais for contado.
+     * 
+     * @return arena (não deve ser modificada)
+     */
+    public byte[] arena() {
+        return arena;
+    }
+
+    /**
+     * @param entry índice da entrada, na ordem de inserção
+     * @return início da entrada na arena
+     */
+    public int offset(int entry) {
+        return offsets[entry];
+    }
+
+    /**
+     * @param entry índice da entrada, na ordem de inserção
+     * @return tamanho da entrada, em bytes
+     */
+    public int length(int entry) {
+        return lengths[entry];
+    }
+
+    /**
+     * @param entry índice da entrada, na ordem de inserção
+     * @return bytes da entrada decodificados como UTF-8
+     */
+    public String toString(int entry) {
+        return new String(arena, offsets[entry], lengths[entry], StandardCharsets.UTF_8);
+    }
+
+    /**
+     * @return quantidade de sequências distintas
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * @return soma de todas as contagens
+     */
+    public long total() {
+        return total;
+    }
+
+    /**
+     * Memória aproximada ocupada pela arena, entradas e tabela
+     * 
+     * @return bytes ocupados
+     */
+    public long memoryBytes() {
+        return arena.length
+            + (long) offsets.length * (Integer.BYTES * 3 + Long.BYTES)
+            + (long) table.length * Integer.BYTES;
+    }
+
+    private int append(byte[] bytes, int from, int length, int hash, long count) {
+        if (arenaSize + length > arena.length) {
+            long grown = Math.max((long) arena.length * 2, (long) arenaSize + length);
+            if (grown > Integer.MAX_VALUE - 8) {
+                throw new IllegalStateException("Sequências distintas excedem a capacidade do contador");
+            }
+            arena = Arrays.copyOf(arena, (int) grown);
+        }
+        if (size == offsets.length) {
+            int capacity = size * 2;
+            offsets = Arrays.copyOf(offsets, capacity);
+            lengths = Arrays.copyOf(lengths, capacity);
+            hashes = Arrays.copyOf(hashes, capacity);
+            counts = Arrays.copyOf(counts, capacity);
+        }
+
+        System.arraycopy(bytes, from, arena, arenaSize, length);
+        offsets[size] = arenaSize;
+        lengths[size] = length;
+        hashes[size] = hash;
+        counts[size] = count;
+        arenaSize += length;
+        return size++;
+    }
+
+    private void allocateTable(int tableSize) {
+        this.table = new int[tableSize];
+        this.mask = tableSize - 1;
+        this.resizeThreshold = (int) (tableSize * LOAD_FACTOR);
+        for (int entry = 0; entry < size; entry++) {
+            int slot = hashes[entry] & mask;
+            while (table[slot] != 0) {
+                slot = (slot + 1) & mask;
+            }
+            table[slot] = entry + 1;
+        }
+    }
+
+    private static int hash(byte[] bytes, int from, int length) {
+        long h = length;
+        for (int i = from; i < from + length; i++) {
+            h = h * 31 + bytes[i];
+        }
+        return (int) HashMixer.mix(h);
+    }
+}
@@ -0,0 +1,44 @@
+package com.lucas.text_processing_api.util.collection;
+
+/**
+ * Funções de espalhamento para as tabelas primitivas
+ * 
+ * Chaves empacotadas costumam variar apenas nos bits baixos ou altos;
+ * o mix garante que todos os bits influenciem o índice da tabela.
+ * 
+ * @author Lucas
+ * @version 1.0
+ */
+public final class HashMixer {
+
+    private HashMixer() {
+    }
+
+    /**
+     * Finalizador do SplitMix64
+     * 
+     * @param key valor a espalhar
+     * @return valor com bits bem distribuídos
+     */
+    public static long mix(long key) {
+        long h = key;
+        h = (h ^ (h >>> 30)) * 0xbf58476d1ce4e5b9L;
+        h = (h ^ (h >>> 27)) * 0x94d049bb133111ebL;
+        return h ^ (h >>> 31);
+    }
+
+    /**
+     * Menor potência de 2 maior ou igual à capacidade (mínimo 2)
+     * 
+     * @param capacity quantidade de posições desejada
+     * @return tamanho de tabela potência de 2
+     * @throws IllegalArgumentException se exceder o maior int potência de 2
+     */
+    public static int tableSizeFor(int capacity) {
+        int n = Integer.highestOneBit(Math.max(capacity - 1, 1)) << 1;
+        if (n <= 0) {
+            throw new IllegalArgumentException("Capacidade excede o limite suportado: " + capacity);
+        }
+        return n;
+    }
+}
@@ -0,0 +1,91 @@
+package com.lucas.text_processing_api.util.collection;
+
+import java.util.Arrays;
+
+/**
+ * Lista de int crescente sem boxing
+ * 
+ * Usada na construção de estruturas compactas, em que uma List&lt;Integer&gt;
+ * custaria um objeto por elemento.
+ * 
+ * @author Lucas
+ * @version 1.1
+ */
+public class IntArrayList {
+
+    private int[] values;
+    private int size;
+
+    public IntArrayList() {
+        this(16);
+    }
+
+    /**
+     * @param initialCapacity capacidade inicial
+     */
+    public IntArrayList(int initialCapacity) {
+        this.values = new int[Math.max(initialCapacity, 4)];
+    }
+
+    /**
+     * Adiciona um valor ao final
+     * 
+     * @param value valor a adicionar
+     */
+    public void add(int value) {
+        if (size == values.length) {
+            values = Arrays.copyOf(values, size << 1);
+        }
+        values[size++] = value;
+    }
+
+    /**
+     * @param index posição
+     * @return valor na posição
+     */
+    public int get(int index) {
+        if (index >= size) {
+            throw new IndexOutOfBoundsException("Índice " + index + " fora da lista de tamanho " + size);
+        }
+        return values[index];
+    }
+
+    /**
+     * @param index posição
+     * @param value novo valor
+     */
+    public void set(int index, int value) {
+        if (index >= size) {
+            throw new IndexOutOfBoundsException("Índice " + index + " fora da lista de tamanho " + size);
+        }
+        values[index] = value;
+    }
+
+    /**
+     * Descarta os valores a partir de uma posição, mantendo a capacidade
+     * 
+     * Permite usar a lista como pilha sem realocar a cada remoção.
+     * 
+     * @param newSize quantidade de valores mantidos
+     */
+    public void truncate(int newSize) {
+        if (newSize < 0 || newSize > size) {
+            throw new IndexOutOfBoundsException("Tamanho " + newSize + " fora da lista de tamanho " + size);
+        }
+        size = newSize;
+    }
+
+    /**
+     * @return quantidade de valores
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * @return cópia dos valores com o tamanho exato
+     */
+    public int[] toArray() {
+        return Arrays.copyOf(values, size);
+    }
+}
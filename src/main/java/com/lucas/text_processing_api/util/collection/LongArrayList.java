@@ -0,0 +1,74 @@
+package com.lucas.text_processing_api.util.collection;
+
+import java.util.Arrays;
+
+/**
+ * Lista de long crescente sem boxing
+ * 
+ * Usada para acumular resultados empacotados em long, que são ordenados no
+ * próprio array em vez de passar por uma List&lt;Long&gt; com um objeto por
+ * elemento.
+ * 
+ * @author Lucas
+ * @version 1.0
+ */
+public class LongArrayList {
+
+    private long[] values;
+    private int size;
+
+    public LongArrayList() {
+        this(16);
+    }
+
+    /**
+     * @param initialCapacity capacidade inicial
+     */
+    public LongArrayList(int initialCapacity) {
+        this.values = new long[Math.max(initialCapacity, 4)];
+    }
+
+    /**
+     * Adiciona um valor ao final
+     * 
+     * @param value valor a adicionar
+     */
+    public void add(long value) {
+        if (size == values.length) {
+            values = Arrays.copyOf(values, size << 1);
+        }
+        values[size++] = value;
+    }
+
+    /**
+     * @param index posição
+     * @return valor na posição
+     */
+    public long get(int index) {
+        if (index >= size) {
+            throw new IndexOutOfBoundsException("Índice " + index + " fora da lista de tamanho " + size);
+        }
+        return values[index];
+    }
+
+    /**
+     * Ordena os valores em ordem crescente, no próprio array
+     */
+    public void sort() {
+        Arrays.sort(values, 0, size);
+    }
+
+    /**
+     * @return quantidade de valores
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * @return cópia dos valores com o tamanho exato
+     */
+    public long[] toArray() {
+        return Arrays.copyOf(values, size);
+    }
+}
@@ -0,0 +1,110 @@
+package com.lucas.text_processing_api.util.collection;
+
+/**
+ * Conjunto de longs com endereçamento aberto
+ * 
+ * Armazena chaves primitivas em um único array com sondagem linear,
+ * evitando o boxing e os nós de entrada de um HashSet&lt;Long&gt;.
+ * O valor 0 é reservado para marcar posições vazias.
+ * 
+ * @author Lucas
+ * @version 1.0
+ */
+public class LongHashSet {
+
+    private static final float LOAD_FACTOR = 0.5f;
+
+    private long[] keys;
+    private int size;
+    private int mask;
+    private int resizeThreshold;
+
+    /**
+     * Cria um conjunto com capacidade inicial para a quantidade esperada de chaves
+     * 
+     * @param expectedSize quantidade esperada de chaves
+     */
+    public LongHashSet(int expectedSize) {
+        int capacity = HashMixer.tableSizeFor((int) Math.ceil(Math.max(expectedSize, 4) / LOAD_FACTOR));
+        allocate(capacity);
+    }
+
+    /**
+     * Adiciona uma chave ao conjunto
+     * 
+     * @param key chave diferente de zero
+     * @return true se a chave foi adicionada, false se já existia
+     */
+    public boolean add(long key) {
+        if (key == 0) {
+            throw new IllegalArgumentException("A chave 0 é reservada");
+        }
+
+        int index = slot(key);
+        while (keys[index] != 0) {
+            if (keys[index] == key) {
+                return false;
+            }
+            index = (index + 1) & mask;
+        }
+
+        keys[index] = key;
+        if (++size > resizeThreshold) {
+            rehash(keys.length << 1);
+        }
+        return true;
+    }
+
+    /**
+     * Verifica se a chave pertence ao conjunto
+     * 
+     * @param key chave a verificar
+     * @return true se a chave estiver presente
+     */
+    public boolean contains(long key) {
+        if (key == 0) {
+            return false;
+        }
+
+        int index = slot(key);
+        while (keys[index] != 0) {
+            if (keys[index] == key) {
+                return true;
+            }
+            index = (index + 1) & mask;
+        }
+        return false;
+    }
+
+    /**
+     * @return quantidade de chaves armazenadas
+     */
+    public int size() {
+        return size;
+    }
+
+    private int slot(long key) {
+        return (int) HashMixer.mix(key) & mask;
+    }
+
+    private void allocate(int capacity) {
+        keys = new long[capacity];
+        mask = capacity - 1;
+        resizeThreshold = (int) (capacity * LOAD_FACTOR);
+    }
+
+    private void rehash(int newCapacity) {
+        long[] oldKeys = keys;
+        allocate(newCapacity);
+
+        for (long key : oldKeys) {
+            if (key != 0) {
+                int index = slot(key);
+                while (keys[index] != 0) {
+                    index = (index + 1) & mask;
+                }
+                keys[index] = key;
+            }
+        }
+    }
+}
@@ -0,0 +1,200 @@
+package com.lucas.text_processing_api.util.collection;
+
+import java.util.Arrays;
+
+/**
+ * Mapa de long para int com endereçamento aberto
+ * 
+ * Chaves e valores ficam em arrays primitivos paralelos com sondagem linear.
+ * O valor 0 é reservado como chave vazia e o método {@link #get(long)}
+ * retorna -1 quando a chave não existe.
+ * 
+ * @author Lucas
+ * @version 1.0
+ */
+public class LongIntHashMap {
+
+    /**
+     * Valor retornado quando a chave não existe
+     */
+    public static final int MISSING = -1;
+
+    private static final float LOAD_FACTOR = 0.5f;
+
+    private long[] keys;
+    private int[] values;
+    private int size;
+    private int mask;
+    private int resizeThreshold;
+
+    /**
+     * Cria um mapa com capacidade inicial para a quantidade esperada de chaves
+     * 
+     * @param expectedSize quantidade esperada de chaves
+     */
+    public LongIntHashMap(int expectedSize) {
+        allocate(HashMixer.tableSizeFor((int) Math.ceil(Math.max(expectedSize, 4) / LOAD_FACTOR)));
+    }
+
+    /**
+     * Associa um valor à chave, substituindo o anterior
+     * 
+     * @param key chave diferente de zero
+     * @param value valor a associar
+     * @return valor anterior ou {@link #MISSING}
+     */
+    public int put(long key, int value) {
+        if (key == 0) {
+            throw new IllegalArgumentException("A chave 0 é reservada");
+        }
+
+        int index = slot(key);
+        while (keys[index] != 0) {
+            if (keys[index] == key) {
+                int previous = values[index];
+                values[index] = value;
+                return previous;
+            }
+            index = (index + 1) & mask;
+        }
+
+        keys[index] = key;
+        values[index] = value;
+        if (++size > resizeThreshold) {
+            rehash(keys.length << 1);
+        }
+        return MISSING;
+    }
+
+    /**
+     * Associa o valor apenas se a chave ainda não existir
+     * 
+     * @param key chave diferente de zero
+     * @param value valor a associar
+     * @return valor já existente, ou {@link #MISSING} se o valor foi inserido
+     */
+    public int putIfAbsent(long key, int value) {
+        int existing = get(key);
+        if (existing != MISSING) {
+            return existing;
+        }
+        put(key, value);
+        return MISSING;
+    }
+
+    /**
+     * Soma um delta ao valor da chave (inicia em zero se ausente)
+     * 
+     * @param key chave diferente de zero
+     * @param delta valor a somar
+     * @return novo valor
+     */
+    public int addTo(long key, int delta) {
+        if (key == 0) {
+            throw new IllegalArgumentException("A chave 0 é reservada");
+        }
+
+        int index = slot(key);
+        while (keys[index] != 0) {
+            if (keys[index] == key) {
+                values[index] += delta;
+                return values[index];
+            }
+            index = (index + 1) & mask;
+        }
+
+        keys[index] = key;
+        values[index] = delta;
+        if (++size > resizeThreshold) {
+            rehash(keys.length << 1);
+        }
+        return delta;
+    }
+
+    /**
+     * Recupera o valor associado à chave
+     * 
+     * @param key chave a buscar
+     * @return valor associado ou {@link #MISSING}
+     */
+    public int get(long key) {
+        if (key == 0) {
+            return MISSING;
+        }
+
+        int index = slot(key);
+        while (keys[index] != 0) {
+            if (keys[index] == key) {
+                return values[index];
+            }
+            index = (index + 1) & mask;
+        }
+        return MISSING;
+    }
+
+    /**
+     * @return quantidade de chaves armazenadas
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Percorre todas as entradas do mapa
+     * 
+     * @param consumer função chamada para cada par chave/valor
+     */
+    public void forEach(LongIntConsumer consumer) {
+        for (int i = 0; i < keys.length; i++) {
+            if (keys[i] != 0) {
+                consumer.accept(keys[i], values[i]);
+            }
+        }
+    }
+
+    /**
+     * Memória aproximada ocupada pelos arrays do mapa
+     * 
+     * @return bytes ocupados
+     */
+    public long memoryBytes() {
+        return (long) keys.length * Long.BYTES + (long) values.length * Integer.BYTES;
+    }
+
+    private int slot(long key) {
+        return (int) HashMixer.mix(key) & mask;
+    }
+
+    private void allocate(int capacity) {
+        keys = new long[capacity];
+        values = new int[capacity];
+        Arrays.fill(values, MISSING);
+        mask = capacity - 1;
+        resizeThreshold = (int) (capacity * LOAD_FACTOR);
+    }
+
+    private void rehash(int newCapacity) {
+        long[] oldKeys = keys;
+        int[] oldValues = values;
+        allocate(newCapacity);
+
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldKeys[i] != 0) {
+                int index = slot(oldKeys[i]);
+                while (keys[index] != 0) {
+                    index = (index + 1) & mask;
+                }
+                keys[index] = oldKeys[i];
+                values[index] = oldValues[i];
+            }
+        }
+    }
+
+    /**
+     * Consumidor de pares long/int sem boxing
+     */
+    @FunctionalInterface
+    public interface LongIntConsumer {
+        void accept(long key, int value);
+    }
+}
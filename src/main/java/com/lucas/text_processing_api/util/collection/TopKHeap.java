@@ -0,0 +1,149 @@
+package com.lucas.text_processing_api.util.collection;
+
+/**
+ * Min-heap limitado para seleção dos K maiores elementos
+ * 
+ * Guarda pares (chave long, valor int) em arrays primitivos. A raiz é a
+ * menor chave retida, então decidir se um novo elemento entra custa uma
+ * comparação e, quando entra, O(log K). Sem boxing nem alocação por
+ * elemento, o que importa quando milhões de candidatos são oferecidos.
+ * 
+ * Não é thread-safe.
+ * 
+ * @author Lucas
+ * @version 1.1
+ */
+public final class TopKHeap {
+
+    private final long[] keys;
+    private final int[] values;
+    private int size;
+
+    /**
+     * @param capacity quantidade máxima de elementos retidos
+     */
+    public TopKHeap(int capacity) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("Capacidade deve ser positiva: " + capacity);
+        }
+        this.keys = new long[capacity];
+        this.values = new int[capacity];
+    }
+
+    /**
+     * Oferece um elemento; ele é retido se estiver entre os K maiores
+     * 
+     * @param key chave de ordenação (maior é melhor)
+     * @param value valor associado
+     * @return true se o elemento foi retido
+     */
+    public boolean offer(long key, int value) {
+        if (size < keys.length) {
+            keys[size] = key;
+            values[size] = value;
+            siftUp(size++);
+            return true;
+        }
+        if (key <= keys[0]) {
+            return false;
+        }
+        keys[0] = key;
+        values[0] = value;
+        siftDown(0);
+        return true;
+    }
+
+    /**
+     * @return true se o heap já retém K elementos
+     */
+    public boolean isFull() {
+        return size == keys.length;
+    }
+
+    /**
+     * @return menor chave retida
+     * @throws IllegalStateException se o heap estiver vazio
+     */
+    public long minKey() {
+        if (size == 0) {
+            throw new IllegalStateException("Heap vazio");
+        }
+        return keys[0];
+    }
+
+    /**
+     * Valor associado à menor chave, que é o próximo a sair do heap cheio
+     * 
+     * @return valor da raiz
+     * @throws IllegalStateException se o heap estiver vazio
+     */
+    public int minValue() {
+        if (size == 0) {
+            throw new IllegalStateException("Heap vazio");
+        }
+        return values[0];
+    }
+
+    /**
+     * @return quantidade de elementos retidos
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Esvazia o heap copiando os elementos em ordem decrescente de chave
+     * 
+     * @param keysOut destino das chaves (tamanho mínimo {@link #size()})
+     * @param valuesOut destino dos valores (tamanho mínimo {@link #size()})
+     * @return quantidade de elementos copiados
+     */
+    public int drainDescending(long[] keysOut, int[] valuesOut) {
+        int count = size;
+        while (size > 0) {
+            int last = --size;
+            keysOut[last] = keys[0];
+            valuesOut[last] = values[0];
+            keys[0] = keys[last];
+            values[0] = values[last];
+            siftDown(0);
+        }
+        return count;
+    }
+
+    private void siftUp(int slot) {
+        long key = keys[slot];
+        int value = values[slot];
+        while (slot > 0) {
+            int parent = (slot - 1) >>> 1;
+            if (keys[parent] <= key) {
+                break;
+            }
+            keys[slot] = keys[parent];
+            values[slot] = values[parent];
+            slot = parent;
+        }
+        keys[slot] = key;
+        values[slot] = value;
+    }
+
+    private void siftDown(int slot) {
+        long key = keys[slot];
+        int value = values[slot];
+        int half = size >>> 1;
+        while (slot < half) {
+            int child = 2 * slot + 1;
+            if (child + 1 < size && keys[child + 1] < keys[child]) {
+                child++;
+            }
+            if (key <= keys[child]) {
+                break;
+            }
+            keys[slot] = keys[child];
+            values[slot] = values[child];
+            slot = child;
+        }
+        keys[slot] = key;
+        values[slot] = value;
+    }
+}
@@ -0,0 +1,284 @@
+package com.lucas.text_processing_api.util.dictionary;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.function.IntConsumer;
+
+import com.lucas.text_processing_api.util.collection.HashMixer;
+
+/**
+ * Dicionário compilado em formato binário e lido por mapeamento de memória
+ * 
+ * O arquivo é gerado uma única vez a partir de um {@link SignatureIndex} e
+ * aberto com {@link FileChannel#map}. As consultas leem diretamente das
+ * páginas mapeadas, sem reconstruir nada no heap: a inicialização fica
+ * praticamente instantânea e várias JVMs no mesmo host compartilham o
+ * cache de páginas do sistema operacional.
+ * 
+ * Layout (inteiros big-endian):
+ * <pre>
+ * cabeçalho (32 bytes): magic, versão, palavras, grupos, tamanho da tabela,
+ *                       tamanho do pool, carimbo da origem (long)
+ * tabela de assinaturas: long[tabela] assinaturas (0 = vazio), int[tabela] grupos
+ * grupos (CSR):          int[grupos + 1] inícios, int[palavras] ids
+ * palavras:              int[palavras + 1] offsets no pool, byte[pool] ASCII
+ * </pre>
+ * 
+ * A tabela usa sondagem linear com o mesmo espalhamento das tabelas
+ * primitivas em memória ({@link HashMixer}). O formato é limitado a 2 GB,
+ * o máximo de um único buffer mapeado.
+ * 
+ * @author Lucas
+ * @version 1.0
+ */
+public final class CompiledDictionary implements DictionaryIndex {
+
+    /**
+     * Identificador do formato ("TPD1")
+     */
+    static final int MAGIC = 0x54504431;
+
+    /**
+     * Versão do layout; arquivos de outras versões são recusados
+     */
+    static final int FORMAT_VERSION = 1;
+
+    private static final int HEADER_BYTES = 32;
+
+    private final MappedByteBuffer buffer;
+    private final int wordCount;
+    private final int groupCount;
+    private final int tableMask;
+    private final long sourceStamp;
+
+    private final int tableKeysOffset;
+    private final int tableGroupsOffset;
+    private final int groupStartOffset;
+    private final int groupWordsOffset;
+    private final int wordOffsetsOffset;
+    private final int poolOffset;
+
+    private CompiledDictionary(MappedByteBuffer buffer, int wordCount, int groupCount,
+                               int tableSize, long sourceStamp) {
+        this.buffer = buffer;
+        this.wordCount = wordCount;
+        this.groupCount = groupCount;
+        this.tableMask = tableSize - 1;
+        this.sourceStamp = sourceStamp;
+
+        this.tableKeysOffset = HEADER_BYTES;
+        this.tableGroupsOffset = tableKeysOffset + tableSize * Long.BYTES;
+        this.groupStartOffset = tableGroupsOffset + tableSize * Integer.BYTES;
+        this.groupWordsOffset = groupStartOffset + (groupCount + 1) * Integer.BYTES;
+        this.wordOffsetsOffset = groupWordsOffset + wordCount * Integer.BYTES;
+        this.poolOffset = wordOffsetsOffset + (wordCount + 1) * Integer.BYTES;
+    }
+
+    /**
+     * Grava o índice no formato compilado
+     * 
+     * O arquivo é escrito em um temporário no mesmo diretório e movido para
+     * o destino ao final, então leitores nunca veem um arquivo incompleto.
+     * 
+     * @param index índice em memória
+     * @param sourceStamp carimbo da lista de origem, usado para detectar arquivos desatualizados
+     * @param target arquivo de destino
+     * @throws IOException se a escrita falhar
+     */
+    public static void write(SignatureIndex index, long sourceStamp, Path target) throws IOException {
+        int words = index.wordCount();
+        int groups = index.groupCount();
+        int[] groupStart = index.groupStart();
+        int[] groupWords = index.groupWords();
+
+        // Tabela de assinaturas com fator de carga 0,5
+        int tableSize = HashMixer.tableSizeFor(Math.max(groups, 2) * 2);
+        int mask = tableSize - 1;
+        long[] tableKeys = new long[tableSize];
+        int[] tableGroups = new int[tableSize];
+        for (int g = 0; g < groups; g++) {
+            long signature = LetterSignature.of(index.word(groupWords[groupStart[g]]));
+            int slot = (int) HashMixer.mix(signature) & mask;
+            while (tableKeys[slot] != 0) {
+                slot = (slot + 1) & mask;
+            }
+            tableKeys[slot] = signature;
+            tableGroups[slot] = g;
+        }
+
+        int[] wordOffsets = new int[words + 1];
+        for (int id = 0; id < words; id++) {
+            wordOffsets[id + 1] = wordOffsets[id] + index.word(id).length();
+        }
+
+        long totalBytes = HEADER_BYTES
+            + (long) tableSize * (Long.BYTES + Integer.BYTES)
+            + (long) (groups + 1 + words + words + 1) * Integer.BYTES
+            + wordOffsets[words];
+        if (totalBytes > Integer.MAX_VALUE) {
+            throw new IOException("Dicionário grande demais para o formato compilado: " + totalBytes + " bytes");
+        }
+
+        Path absoluteTarget = target.toAbsolutePath();
+        Path directory = absoluteTarget.getParent();
+        Files.createDirectories(directory);
+        Path temp = Files.createTempFile(directory, absoluteTarget.getFileName().toString(), ".tmp");
+
+        try {
+            try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temp), 1 << 16))) {
+                out.writeInt(MAGIC);
+                out.writeInt(FORMAT_VERSION);
+                out.writeInt(words);
+                out.writeInt(groups);
+                out.writeInt(tableSize);
+                out.writeInt(wordOffsets[words]);
+                out.writeLong(sourceStamp);
+
+                for (long key : tableKeys) {
+                    out.writeLong(key);
+                }
+                for (int group : tableGroups) {
+                    out.writeInt(group);
+                }
+                for (int start : groupStart) {
+                    out.writeInt(start);
+                }
+                for (int id : groupWords) {
+                    out.writeInt(id);
+                }
+                for (int offset : wordOffsets) {
+                    out.writeInt(offset);
+                }
+                for (int id = 0; id < words; id++) {
+                    out.write(index.word(id).getBytes(StandardCharsets.US_ASCII));
+                }
+            }
+            Files.move(temp, absoluteTarget, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    /**
+     * Abre um dicionário compilado por mapeamento de memória
+     * 
+     * @param path arquivo compilado
+     * @return dicionário pronto para consultas
+     * @throws IOException se o arquivo não existir, for de outra versão ou estiver corrompido
+     */
+    public static CompiledDictionary open(Path path) throws IOException {
+        MappedByteBuffer buffer;
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size < HEADER_BYTES || size > Integer.MAX_VALUE) {
+                throw new IOException("Tamanho inválido de dicionário compilado: " + size);
+            }
+            // O mapeamento continua válido depois que o canal é fechado
+            buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+        }
+
+        if (buffer.getInt(0) != MAGIC) {
+            throw new IOException("Arquivo não é um dicionário compilado: " + path);
+        }
+        int version = buffer.getInt(4);
+        if (version != FORMAT_VERSION) {
+            throw new IOException("Versão de dicionário compilado não suportada: " + version);
+        }
+
+        int words = buffer.getInt(8);
+        int groups = buffer.getInt(12);
+        int tableSize = buffer.getInt(16);
+        int poolSize = buffer.getInt(20);
+        long sourceStamp = buffer.getLong(24);
+
+        if (words < 0 || groups < 0 || groups > words || poolSize < 0
+                || tableSize < 2 || Integer.bitCount(tableSize) != 1) {
+            throw new IOException("Cabeçalho de dicionário compilado inválido: " + path);
+        }
+
+        long expected = HEADER_BYTES
+            + (long) tableSize * (Long.BYTES + Integer.BYTES)
+            + (long) (groups + 1 + words + words + 1) * Integer.BYTES
+            + poolSize;
+        if (expected != buffer.capacity()) {
+            throw new IOException("Dicionário compilado truncado ou corrompido: " + path);
+        }
+
+        return new CompiledDictionary(buffer, words, groups, tableSize, sourceStamp);
+    }
+
+    /**
+     * @return carimbo da lista de origem gravado na compilação
+     */
+    public long sourceStamp() {
+        return sourceStamp;
+    }
+
+    /**
+     * @return tamanho do arquivo mapeado em bytes (fora do heap)
+     */
+    public long mappedBytes() {
+        return buffer.capacity();
+    }
+
+    @Override
+    public int wordCount() {
+        return wordCount;
+    }
+
+    @Override
+    public int groupCount() {
+        return groupCount;
+    }
+
+    @Override
+    public String word(int id) {
+        if (id < 0 || id >= wordCount) {
+            throw new IndexOutOfBoundsException("Id de palavra inválido: " + id);
+        }
+
+        int start = buffer.getInt(wordOffsetsOffset + id * Integer.BYTES);
+        int end = buffer.getInt(wordOffsetsOffset + (id + 1) * Integer.BYTES);
+        byte[] bytes = new byte[end - start];
+        buffer.get(poolOffset + start, bytes);
+        return new String(bytes, StandardCharsets.US_ASCII);
+    }
+
+    @Override
+    public void forEachWithSignature(long signature, IntConsumer consumer) {
+        if (signature == 0) {
+            return;
+        }
+
+        int slot = (int) HashMixer.mix(signature) & tableMask;
+        long key;
+        while ((key = buffer.getLong(tableKeysOffset + slot * Long.BYTES)) != 0) {
+            if (key == signature) {
+                int group = buffer.getInt(tableGroupsOffset + slot * Integer.BYTES);
+                int start = buffer.getInt(groupStartOffset + group * Integer.BYTES);
+                int end = buffer.getInt(groupStartOffset + (group + 1) * Integer.BYTES);
+                for (int i = start; i < end; i++) {
+                    consumer.accept(buffer.getInt(groupWordsOffset + i * Integer.BYTES));
+                }
+                return;
+            }
+            slot = (slot + 1) & tableMask;
+        }
+    }
+
+    /**
+     * Os dados ficam nas páginas mapeadas; o heap guarda apenas os offsets
+     */
+    @Override
+    public long memoryBytes() {
+        return 0;
+    }
+}
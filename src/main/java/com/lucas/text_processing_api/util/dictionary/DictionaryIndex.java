@@ -0,0 +1,86 @@
+package com.lucas.text_processing_api.util.dictionary;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.IntConsumer;
+
+/**
+ * Índice somente leitura de um dicionário de palavras
+ * 
+ * Os ids das palavras vão de 0 a {@link #wordCount()} - 1, na ordem da lista
+ * de origem. Índices sobrepostos a outro ({@link OverlayIndex}) podem ter ids
+ * removidos: quem percorre os ids deve ignorar os inativos. As implementações
+ * são imutáveis e podem ser lidas por várias threads sem sincronização.
+ * 
+ * @author Lucas
+ * @version 1.1
+ */
+public interface DictionaryIndex {
+
+    /**
+     * @return quantidade de ids do índice, incluindo os inativos
+     */
+    int wordCount();
+
+    /**
+     * @param id id da palavra
+     * @return true se a palavra faz parte do dicionário
+     */
+    default boolean isActive(int id) {
+        return true;
+    }
+
+    /**
+     * @return quantidade de palavras ativas no índice
+     */
+    default int activeWordCount() {
+        return wordCount();
+    }
+
+    /**
+     * @return quantidade de grupos de anagramas distintos
+     */
+    int groupCount();
+
+    /**
+     * @param id id da palavra
+     * @return palavra correspondente
+     */
+    String word(int id);
+
+    /**
+     * Percorre os ids das palavras ativas com a assinatura informada
+     * 
+     * Os ids não são verificados contra colisões de assinatura; use
+     * {@link #anagramsOf(String)} quando precisar do resultado exato.
+     * 
+     * @param signature assinatura de composição
+     * @param consumer função chamada para cada id
+     */
+    void forEachWithSignature(long signature, IntConsumer consumer);
+
+    /**
+     * Memória de heap aproximada ocupada pela estrutura do índice (sem as strings)
+     * 
+     * @return bytes ocupados
+     */
+    long memoryBytes();
+
+    /**
+     * Retorna as palavras do dicionário com exatamente as letras informadas
+     * 
+     * @param letters letras normalizadas (a-z)
+     * @return palavras na ordem do dicionário
+     */
+    default List<String> anagramsOf(String letters) {
+        int[] counts = LetterSignature.histogram(letters);
+        List<String> result = new ArrayList<>();
+        forEachWithSignature(LetterSignature.of(counts), id -> {
+            String word = word(id);
+            if (LetterSignature.sameLetters(word, counts, letters.length())) {
+                result.add(word);
+            }
+        });
+        return result;
+    }
+}
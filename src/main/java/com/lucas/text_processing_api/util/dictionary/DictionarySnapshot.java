@@ -0,0 +1,167 @@
+package com.lucas.text_processing_api.util.dictionary;
+
+/**
+ * Versão imutável de um dicionário carregado
+ * 
+ * Reúne o índice e as estruturas derivadas dele. As consultas leem a
+ * referência da versão atual uma única vez e usam apenas ela, então uma
+ * recarga publicada no meio da consulta não mistura estruturas de versões
+ * diferentes. As estruturas derivadas são construídas sob demanda, uma
+ * única vez por versão.
+ * 
+ * A versão de um dicionário sobreposto guarda a versão da base e deriva as
+ * próprias estruturas das dela: a trie e os índices da base são
+ * compartilhados e só as palavras acrescentadas ganham estruturas novas.
+ * 
+ * @author Lucas
+ * @version 1.2
+ */
+public final class DictionarySnapshot {
+
+    private final DictionaryIndex index;
+    private final long version;
+    private final DictionarySnapshot base;
+
+    private volatile DictionaryTrie trie;
+    private volatile NeighborIndex neighbors;
+    private volatile PatternIndex patterns;
+    private volatile FuzzyIndex fuzzy;
+
+    /**
+     * @param index índice do dicionário
+     * @param version carimbo da lista de origem; muda quando o conteúdo muda
+     */
+    public DictionarySnapshot(DictionaryIndex index, long version) {
+        this.index = index;
+        this.version = version;
+        this.base = null;
+    }
+
+    /**
+     * @param index dicionário sobreposto ao índice da base
+     * @param version carimbo da lista de origem; muda quando o conteúdo muda
+     * @param base versão do dicionário base, cujas estruturas derivadas são compartilhadas
+     */
+    public DictionarySnapshot(OverlayIndex index, long version, DictionarySnapshot base) {
+        if (index.base() != base.index()) {
+            throw new IllegalArgumentException("O dicionário sobreposto não usa o índice da base");
+        }
+        this.index = index;
+        this.version = version;
+        this.base = base;
+    }
+
+    /**
+     * @return índice por assinatura
+     */
+    public DictionaryIndex index() {
+        return index;
+    }
+
+    /**
+     * @return carimbo de versão do dicionário
+     */
+    public long version() {
+        return version;
+    }
+
+    /**
+     * @return true se a trie desta versão já foi construída
+     */
+    public boolean isTrieBuilt() {
+        return trie != null;
+    }
+
+    /**
+     * Trie das palavras, construída na primeira chamada
+     * 
+     * @return trie desta versão
+     */
+    public DictionaryTrie trie() {
+        DictionaryTrie current = trie;
+        if (current == null) {
+            synchronized (this) {
+                current = trie;
+                if (current == null) {
+                    current = base != null ? base.trie().overlay((OverlayIndex) index) : new DictionaryTrie(index);
+                    trie = current;
+                }
+            }
+        }
+        return current;
+    }
+
+    /**
+     * Índice de vizinhos por deleção, construído na primeira chamada
+     * 
+     * @return índice de vizinhos desta versão
+     */
+    public NeighborIndex neighbors() {
+        NeighborIndex current = neighbors;
+        if (current == null) {
+            synchronized (this) {
+                current = neighbors;
+                if (current == null) {
+                    current = base != null ? base.neighbors().overlay((OverlayIndex) index) : new NeighborIndex(index);
+                    neighbors = current;
+                }
+            }
+        }
+        return current;
+    }
+
+    /**
+     * Índice posicional de padrões, construído na primeira chamada
+     * 
+     * @return índice de padrões desta versão
+     */
+    public PatternIndex patterns() {
+        PatternIndex current = patterns;
+        if (current == null) {
+            synchronized (this) {
+                current = patterns;
+                if (current == null) {
+                    current = base != null ? base.patterns().overlay((OverlayIndex) index) : new PatternIndex(index);
+                    patterns = current;
+                }
+            }
+        }
+        return current;
+    }
+
+    /**
+     * Índice por distância de edição, construído na primeira chamada
+     * 
+     * @return índice de distância de edição desta versão
+     */
+    public FuzzyIndex fuzzy() {
+        FuzzyIndex current = fuzzy;
+        if (current == null) {
+            synchronized (this) {
+                current = fuzzy;
+                if (current == null) {
+                    current = base != null ? base.fuzzy().overlay((OverlayIndex) index) : new FuzzyIndex(index);
+                    fuzzy = current;
+                }
+            }
+        }
+        return current;
+    }
+
+    /**
+     * Memória ocupada pelas estruturas derivadas já construídas nesta versão
+     * 
+     * @return bytes ocupados pela trie e pelos índices de vizinhos, padrões e distância de edição;
+     *         em um dicionário sobreposto, só os das palavras acrescentadas
+     */
+    public long derivedBytes() {
+        DictionaryTrie builtTrie = trie;
+        NeighborIndex builtNeighbors = neighbors;
+        PatternIndex builtPatterns = patterns;
+        FuzzyIndex builtFuzzy = fuzzy;
+        return (builtTrie != null ? builtTrie.memoryBytes() : 0)
+            + (builtNeighbors != null ? builtNeighbors.memoryBytes() : 0)
+            + (builtPatterns != null ? builtPatterns.memoryBytes() : 0)
+            + (builtFuzzy != null ? builtFuzzy.memoryBytes() : 0);
+    }
+}
@@ -0,0 +1,375 @@
+package com.lucas.text_processing_api.util.dictionary;
+
+import java.util.Arrays;
+import java.util.function.IntConsumer;
+
+import com.lucas.text_processing_api.util.collection.IntArrayList;
+import com.lucas.text_processing_api.util.collection.LongIntHashMap;
+
+/**
+ * Trie compacta das palavras do dicionário
+ * 
+ * Os nós ficam em arrays primitivos no formato CSR: as arestas de cada nó
+ * são contíguas e ordenadas por letra, e cada nó terminal guarda o id da
+ * palavra correspondente. A raiz é o nó 0.
+ * 
+ * A busca de sub-anagramas percorre a trie decrementando o histograma de
+ * letras disponíveis: um ramo só é visitado se a letra ainda estiver
+ * disponível, então o trabalho é proporcional aos nós alcançáveis e não
+ * à quantidade de subconjuntos das letras.
+ * 
+ * Cada nó também resume a própria subárvore: a maior quantidade de letras
+ * que ainda pode ser acrescentada e o conjunto de letras que aparecem abaixo
+ * dele. Buscas com poda usam esses resumos para descartar ramos inteiros.
+ * 
+ * O mesmo vale para a frequência: a lista de palavras vem aproximadamente
+ * em ordem de frequência, então o menor id da subárvore é a palavra mais
+ * frequente abaixo do nó. As arestas de cada nó também ficam disponíveis
+ * nessa ordem, para que buscas dos K mais frequentes visitem primeiro os
+ * ramos mais promissores.
+ * 
+ * Um dicionário sobreposto ({@link OverlayIndex}) não constrói outra trie:
+ * {@link #overlay(OverlayIndex)} devolve uma visão que compartilha os nós da
+ * base, esconde os terminais removidos e traz uma trie pequena só com as
+ * palavras acrescentadas ({@link #added()}). Nessa visão os resumos dos nós
+ * da base continuam contando as palavras removidas, o que só os torna
+ * limites mais folgados para a poda.
+ * 
+ * A trie é imutável depois de construída e pode ser lida por várias
+ * threads sem sincronização.
+ * 
+ * @author Lucas
+ * @version 1.3
+ */
+public final class DictionaryTrie {
+
+    /**
+     * Valor de {@link #terminalWord(int)} para nós que não encerram palavra
+     */
+    public static final int NO_WORD = -1;
+
+    private final int[] edgeStart;
+    private final byte[] edgeLabel;
+    private final int[] edgeTarget;
+    private final int[] terminalWord;
+    private final int[] depth;
+    private final int[] height;
+    private final int[] letterMask;
+    private final int[] bestWord;
+    private final int[] rankedEdge;
+    private final DictionaryIndex filter;
+    private final DictionaryTrie added;
+
+    /**
+     * Constrói a trie a partir das palavras do índice
+     * 
+     * @param index dicionário de origem; os ids dos terminais são os ids do índice
+     */
+    public DictionaryTrie(DictionaryIndex index) {
+        this(index, 0);
+    }
+
+    /**
+     * Constrói a trie com as palavras ativas a partir de um id
+     */
+    private DictionaryTrie(DictionaryIndex index, int firstId) {
+        int words = index.wordCount();
+        this.filter = null;
+        this.added = null;
+
+        // Inserção em ordem lexicográfica: as arestas de cada nó nascem ordenadas por letra
+        int active = 0;
+        for (int id = firstId; id < words; id++) {
+            if (index.isActive(id)) {
+                active++;
+            }
+        }
+        Integer[] order = new Integer[active];
+        String[] cache = new String[words - firstId];
+        active = 0;
+        for (int id = firstId; id < words; id++) {
+            if (index.isActive(id)) {
+                order[active++] = id;
+                cache[id - firstId] = index.word(id);
+            }
+        }
+        Arrays.sort(order, (a, b) -> cache[a - firstId].compareTo(cache[b - firstId]));
+
+        LongIntHashMap children = new LongIntHashMap(order.length * 2);
+        IntArrayList parents = new IntArrayList();
+        IntArrayList labels = new IntArrayList();
+        IntArrayList terminals = new IntArrayList();
+        IntArrayList depths = new IntArrayList();
+        terminals.add(NO_WORD);
+        depths.add(0);
+        int nodes = 1;
+
+        for (Integer id : order) {
+            String word = cache[id - firstId];
+            int node = 0;
+            for (int i = 0; i < word.length(); i++) {
+                int letter = word.charAt(i) - 'a';
+                long key = ((long) node << 5 | letter) + 1;
+                int child = children.get(key);
+                if (child == LongIntHashMap.MISSING) {
+                    child = nodes++;
+                    children.put(key, child);
+                    parents.add(node);
+                    labels.add(letter);
+                    terminals.add(NO_WORD);
+                    depths.add(i + 1);
+                }
+                node = child;
+            }
+            terminals.set(node, id);
+        }
+
+        // Agrupa as arestas por nó de origem (ordenação por contagem, estável)
+        int edges = nodes - 1;
+        this.edgeStart = new int[nodes + 1];
+        for (int e = 0; e < edges; e++) {
+            edgeStart[parents.get(e) + 1]++;
+        }
+        for (int n = 0; n < nodes; n++) {
+            edgeStart[n + 1] += edgeStart[n];
+        }
+
+        this.edgeLabel = new byte[edges];
+        this.edgeTarget = new int[edges];
+        int[] cursor = Arrays.copyOf(edgeStart, nodes);
+        for (int e = 0; e < edges; e++) {
+            int slot = cursor[parents.get(e)]++;
+            edgeLabel[slot] = (byte) labels.get(e);
+            edgeTarget[slot] = e + 1;
+        }
+
+        this.terminalWord = terminals.toArray();
+        this.depth = depths.toArray();
+
+        // Resumos das subárvores: filhos sempre têm id maior que o pai
+        this.height = new int[nodes];
+        this.letterMask = new int[nodes];
+        this.bestWord = new int[nodes];
+        for (int n = 0; n < nodes; n++) {
+            bestWord[n] = terminalWord[n] != NO_WORD ? terminalWord[n] : Integer.MAX_VALUE;
+        }
+        for (int e = edges - 1; e >= 0; e--) {
+            int child = e + 1;
+            int parent = parents.get(e);
+            height[parent] = Math.max(height[parent], height[child] + 1);
+            letterMask[parent] |= letterMask[child] | 1 << labels.get(e);
+            bestWord[parent] = Math.min(bestWord[parent], bestWord[child]);
+        }
+
+        // Arestas de cada nó ordenadas pela palavra mais frequente do destino
+        this.rankedEdge = new int[edges];
+        for (int n = 0; n < nodes; n++) {
+            for (int e = edgeStart[n]; e < edgeStart[n + 1]; e++) {
+                int slot = e;
+                while (slot > edgeStart[n] && bestWord[edgeTarget[rankedEdge[slot - 1]]] > bestWord[edgeTarget[e]]) {
+                    rankedEdge[slot] = rankedEdge[slot - 1];
+                    slot--;
+                }
+                rankedEdge[slot] = e;
+            }
+        }
+    }
+
+    /**
+     * Visão da base com os nós compartilhados
+     */
+    private DictionaryTrie(DictionaryTrie base, DictionaryIndex filter, DictionaryTrie added) {
+        this.edgeStart = base.edgeStart;
+        this.edgeLabel = base.edgeLabel;
+        this.edgeTarget = base.edgeTarget;
+        this.terminalWord = base.terminalWord;
+        this.depth = base.depth;
+        this.height = base.height;
+        this.letterMask = base.letterMask;
+        this.bestWord = base.bestWord;
+        this.rankedEdge = base.rankedEdge;
+        this.filter = filter;
+        this.added = added;
+    }
+
+    /**
+     * Trie de um dicionário sobreposto a esta base
+     * 
+     * Só as palavras acrescentadas ganham nós novos, em uma trie separada;
+     * os terminais das palavras removidas deixam de aparecer.
+     * 
+     * @param overlay dicionário sobreposto ao índice desta trie
+     * @return visão que compartilha os nós desta trie
+     */
+    public DictionaryTrie overlay(OverlayIndex overlay) {
+        return new DictionaryTrie(this, overlay, new DictionaryTrie(overlay, overlay.base().wordCount()));
+    }
+
+    /**
+     * @return trie das palavras acrescentadas por um dicionário sobreposto, ou null
+     */
+    DictionaryTrie added() {
+        return added;
+    }
+
+    /**
+     * @return quantidade de nós, incluindo a raiz
+     */
+    public int nodeCount() {
+        return terminalWord.length;
+    }
+
+    /**
+     * @param node nó da trie
+     * @return id da palavra encerrada no nó, ou {@link #NO_WORD}
+     */
+    public int terminalWord(int node) {
+        int word = terminalWord[node];
+        return word == NO_WORD || filter == null || filter.isActive(word) ? word : NO_WORD;
+    }
+
+    /**
+     * @param node nó da trie
+     * @return comprimento do prefixo representado pelo nó
+     */
+    public int depth(int node) {
+        return depth[node];
+    }
+
+    /**
+     * @param node nó da trie
+     * @return maior quantidade de letras que ainda leva a uma palavra abaixo do nó
+     */
+    public int height(int node) {
+        return height[node];
+    }
+
+    /**
+     * @param node nó da trie
+     * @return máscara (bit 0 para 'a') das letras das arestas abaixo do nó
+     */
+    public int letterMask(int node) {
+        return letterMask[node];
+    }
+
+    /**
+     * @param node nó da trie
+     * @return menor id (palavra mais frequente) da subárvore, ou {@link #NO_WORD};
+     *         em um dicionário sobreposto pode ser uma palavra removida, e vale só como limite
+     */
+    public int bestWord(int node) {
+        return bestWord[node] != Integer.MAX_VALUE ? bestWord[node] : NO_WORD;
+    }
+
+    /**
+     * @param node nó da trie
+     * @return índice da primeira aresta do nó
+     */
+    int firstEdge(int node) {
+        return edgeStart[node];
+    }
+
+    /**
+     * @param node nó da trie
+     * @return índice seguinte à última aresta do nó
+     */
+    int endEdge(int node) {
+        return edgeStart[node + 1];
+    }
+
+    /**
+     * @param edge índice da aresta
+     * @return letra da aresta (0 para 'a')
+     */
+    int edgeLetter(int edge) {
+        return edgeLabel[edge];
+    }
+
+    /**
+     * @param edge índice da aresta
+     * @return nó de destino da aresta
+     */
+    int edgeTarget(int edge) {
+        return edgeTarget[edge];
+    }
+
+    /**
+     * Aresta do nó na ordem de frequência
+     * 
+     * @param slot posição entre {@link #firstEdge(int)} e {@link #endEdge(int)}
+     * @return índice da aresta; os destinos vêm do mais para o menos frequente
+     */
+    int rankedEdge(int slot) {
+        return rankedEdge[slot];
+    }
+
+    /**
+     * Segue a aresta com a letra informada
+     * 
+     * @param node nó de origem
+     * @param letter letra (0 para 'a')
+     * @return nó de destino, ou -1 se não houver aresta
+     */
+    int child(int node, int letter) {
+        for (int e = edgeStart[node]; e < edgeStart[node + 1]; e++) {
+            if (edgeLabel[e] == letter) {
+                return edgeTarget[e];
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Percorre as palavras que podem ser formadas com um subconjunto das letras
+     * 
+     * As palavras são visitadas em ordem lexicográfica (em um dicionário
+     * sobreposto, as acrescentadas vêm depois das da base). O histograma é
+     * modificado durante a busca e restaurado ao final.
+     * 
+     * @param counts letras disponíveis por índice (0 para 'a')
+     * @param minLength comprimento mínimo das palavras visitadas
+     * @param consumer função chamada com o id de cada palavra encontrada
+     */
+    public void forEachSubAnagram(int[] counts, int minLength, IntConsumer consumer) {
+        visit(0, counts, minLength, consumer);
+        if (added != null) {
+            added.forEachSubAnagram(counts, minLength, consumer);
+        }
+    }
+
+    private void visit(int node, int[] counts, int minLength, IntConsumer consumer) {
+        int word = terminalWord(node);
+        if (word != NO_WORD && depth[node] >= minLength) {
+            consumer.accept(word);
+        }
+
+        for (int e = edgeStart[node]; e < edgeStart[node + 1]; e++) {
+            int letter = edgeLabel[e];
+            if (counts[letter] > 0) {
+                counts[letter]--;
+                visit(edgeTarget[e], counts, minLength, consumer);
+                counts[letter]++;
+            }
+        }
+    }
+
+    /**
+     * Memória aproximada ocupada pelos arrays da trie
+     * 
+     * @return bytes ocupados; em um dicionário sobreposto, só os da trie das acrescentadas
+     */
+    public long memoryBytes() {
+        if (added != null) {
+            return added.memoryBytes();
+        }
+        return (long) edgeStart.length * Integer.BYTES
+            + edgeLabel.length
+            + (long) edgeTarget.length * Integer.BYTES
+            + (long) terminalWord.length * Integer.BYTES
+            + (long) depth.length * Integer.BYTES
+            + (long) height.length * Integer.BYTES
+            + (long) letterMask.length * Integer.BYTES
+            + (long) bestWord.length * Integer.BYTES
+            + (long) rankedEdge.length * Integer.BYTES;
+    }
+}
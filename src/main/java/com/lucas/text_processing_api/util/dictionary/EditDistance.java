@@ -0,0 +1,74 @@
+package com.lucas.text_processing_api.util.dictionary;
+
+/**
+ * Distância de Levenshtein limitada
+ * 
+ * Calcula só a faixa diagonal de largura 2k+1 da matriz de programação
+ * dinâmica: células fora dela já custam mais que k. A linha é abandonada
+ * assim que o menor valor da faixa passa de k, então pares distantes custam
+ * poucas linhas. As duas linhas da matriz são fornecidas pelo chamador e
+ * reaproveitadas entre chamadas; o cálculo não aloca nada.
+ * 
+ * @author Lucas
+ * @version 1.0
+ */
+public final class EditDistance {
+
+    private EditDistance() {
+    }
+
+    /**
+     * Distância entre duas sequências, se não passar do limite
+     * 
+     * @param source primeira sequência
+     * @param target segunda sequência
+     * @param maxDistance distância máxima de interesse
+     * @param previous linha de trabalho com ao menos target.length() + 1 posições
+     * @param current linha de trabalho com ao menos target.length() + 1 posições
+     * @return distância de edição, ou maxDistance + 1 se for maior que o limite
+     */
+    public static int bounded(CharSequence source, CharSequence target, int maxDistance,
+                              int[] previous, int[] current) {
+        int n = source.length();
+        int m = target.length();
+        int over = maxDistance + 1;
+        if (Math.abs(n - m) > maxDistance) {
+            return over;
+        }
+
+        int band = Math.min(m, maxDistance);
+        for (int j = 0; j <= band; j++) {
+            previous[j] = j;
+        }
+        if (band < m) {
+            previous[band + 1] = over;
+        }
+
+        for (int i = 1; i <= n; i++) {
+            int from = Math.max(1, i - maxDistance);
+            int to = Math.min(m, i + maxDistance);
+            current[from - 1] = from == 1 ? i : over;
+            int rowMin = current[from - 1];
+            char c = source.charAt(i - 1);
+
+            for (int j = from; j <= to; j++) {
+                int value = previous[j - 1] + (c == target.charAt(j - 1) ? 0 : 1);
+                value = Math.min(value, Math.min(previous[j], current[j - 1]) + 1);
+                value = Math.min(value, over);
+                current[j] = value;
+                rowMin = Math.min(rowMin, value);
+            }
+            if (to < m) {
+                current[to + 1] = over;
+            }
+            if (rowMin > maxDistance) {
+                return over;
+            }
+
+            int[] swap = previous;
+            previous = current;
+            current = swap;
+        }
+        return previous[m];
+    }
+}
@@ -0,0 +1,244 @@
+package com.lucas.text_processing_api.util.dictionary;
+
+import com.lucas.text_processing_api.util.collection.HashMixer;
+import com.lucas.text_processing_api.util.collection.IntArrayList;
+import com.lucas.text_processing_api.util.collection.LongHashSet;
+import com.lucas.text_processing_api.util.collection.LongIntHashMap;
+
+/**
+ * Índice de palavras por distância de edição, com vizinhança de deleções
+ * 
+ * Cada palavra é registrada sob o hash de cada sequência obtida removendo
+ * até {@link #MAX_DISTANCE} letras dos seus primeiros {@link #PREFIX_LENGTH}
+ * caracteres. Duas palavras a distância de edição até k compartilham alguma
+ * dessas sequências, então a consulta gera as deleções da entrada, lê os
+ * buckets correspondentes e confirma cada candidato com a distância de
+ * Levenshtein limitada ({@link EditDistance}). Nenhuma consulta percorre o
+ * dicionário, e limitar as deleções ao prefixo mantém o índice em poucas
+ * dezenas de entradas por palavra.
+ * 
+ * Colisões de hash só acrescentam candidatos, sempre confirmados pela
+ * distância real.
+ * 
+ * Um dicionário sobreposto usa {@link #overlay(OverlayIndex)}: os buckets da
+ * base são compartilhados, os candidatos removidos são descartados e as
+ * palavras acrescentadas ganham um índice de deleções próprio.
+ * 
+ * @author Lucas
+ * @version 1.1
+ */
+public final class FuzzyIndex {
+
+    /**
+     * Maior distância de edição atendida pelo índice
+     */
+    public static final int MAX_DISTANCE = 2;
+
+    /**
+     * Caracteres iniciais de cada palavra cujas deleções são indexadas
+     */
+    public static final int PREFIX_LENGTH = 7;
+
+    /** Deleções distintas de um prefixo: 1 + 7 + 21 */
+    private static final int MAX_DELETES = 1 + PREFIX_LENGTH + PREFIX_LENGTH * (PREFIX_LENGTH - 1) / 2;
+
+    /**
+     * Consumidor de palavras encontradas
+     */
+    @FunctionalInterface
+    public interface MatchConsumer {
+
+        /**
+         * @param wordId id da palavra
+         * @param distance distância de edição até a entrada
+         */
+        void accept(int wordId, int distance);
+    }
+
+    private final DictionaryIndex index;
+    private final LongIntHashMap bucketByKey;
+    private final int[] bucketStart;
+    private final int[] bucketWords;
+    private final FuzzyIndex added;
+
+    /**
+     * Constrói o índice de deleções a partir do dicionário
+     * 
+     * @param index dicionário de origem
+     */
+    public FuzzyIndex(DictionaryIndex index) {
+        this(index, 0);
+    }
+
+    /**
+     * Constrói o índice de deleções com as palavras ativas a partir de um id
+     */
+    private FuzzyIndex(DictionaryIndex index, int firstId) {
+        this.index = index;
+        this.added = null;
+
+        // 1ª passada: bucket de cada deleção distinta de cada palavra
+        int words = index.wordCount() - firstId;
+        long[] keys = new long[MAX_DELETES];
+        IntArrayList entryBucket = new IntArrayList(words * 8);
+        IntArrayList entryWord = new IntArrayList(words * 8);
+        this.bucketByKey = new LongIntHashMap(words * 8);
+        int buckets = 0;
+        for (int id = firstId; id < index.wordCount(); id++) {
+            if (!index.isActive(id)) {
+                continue;
+            }
+            int count = deleteKeys(index.word(id), MAX_DISTANCE, keys);
+            for (int k = 0; k < count; k++) {
+                int bucket = bucketByKey.putIfAbsent(keys[k], buckets);
+                if (bucket == LongIntHashMap.MISSING) {
+                    bucket = buckets++;
+                }
+                entryBucket.add(bucket);
+                entryWord.add(id);
+            }
+        }
+
+        // 2ª passada: layout compacto (CSR)
+        this.bucketStart = new int[buckets + 1];
+        for (int e = 0; e < entryBucket.size(); e++) {
+            bucketStart[entryBucket.get(e) + 1]++;
+        }
+        for (int b = 0; b < buckets; b++) {
+            bucketStart[b + 1] += bucketStart[b];
+        }
+        this.bucketWords = new int[entryBucket.size()];
+        int[] cursor = new int[buckets];
+        for (int e = 0; e < entryBucket.size(); e++) {
+            int bucket = entryBucket.get(e);
+            bucketWords[bucketStart[bucket] + cursor[bucket]++] = entryWord.get(e);
+        }
+    }
+
+    /**
+     * Visão da base com os buckets compartilhados
+     */
+    private FuzzyIndex(FuzzyIndex base, DictionaryIndex index, FuzzyIndex added) {
+        this.index = index;
+        this.bucketByKey = base.bucketByKey;
+        this.bucketStart = base.bucketStart;
+        this.bucketWords = base.bucketWords;
+        this.added = added;
+    }
+
+    /**
+     * Índice de distância de edição de um dicionário sobreposto a esta base
+     * 
+     * @param overlay dicionário sobreposto ao índice deste
+     * @return visão que compartilha os buckets deste índice
+     */
+    public FuzzyIndex overlay(OverlayIndex overlay) {
+        return new FuzzyIndex(this, overlay, new FuzzyIndex(overlay, overlay.base().wordCount()));
+    }
+
+    /**
+     * Percorre as palavras a distância de edição até o limite da entrada
+     * 
+     * Cada palavra é informada uma única vez, na ordem em que os buckets são
+     * lidos; quem chama ordena o resultado.
+     * 
+     * @param word palavra normalizada (a-z)
+     * @param maxDistance distância máxima, entre 0 e {@link #MAX_DISTANCE}
+     * @param consumer função chamada para cada palavra encontrada
+     */
+    public void forEachMatch(String word, int maxDistance, MatchConsumer consumer) {
+        if (maxDistance < 0 || maxDistance > MAX_DISTANCE) {
+            throw new IllegalArgumentException("A distância deve estar entre 0 e " + MAX_DISTANCE);
+        }
+
+        long[] keys = new long[MAX_DELETES];
+        int count = deleteKeys(word, maxDistance, keys);
+        int[] previous = new int[word.length() + 1];
+        int[] current = new int[word.length() + 1];
+        LongHashSet checked = new LongHashSet(64);
+
+        for (FuzzyIndex part = this; part != null; part = part.added) {
+            for (int k = 0; k < count; k++) {
+                int bucket = part.bucketByKey.get(keys[k]);
+                if (bucket == LongIntHashMap.MISSING) {
+                    continue;
+                }
+                for (int i = part.bucketStart[bucket]; i < part.bucketStart[bucket + 1]; i++) {
+                    int id = part.bucketWords[i];
+                    // Ids deslocados em 1: o conjunto reserva a chave 0
+                    if (!index.isActive(id) || !checked.add(id + 1L)) {
+                        continue;
+                    }
+                    int distance = EditDistance.bounded(index.word(id), word, maxDistance, previous, current);
+                    if (distance <= maxDistance) {
+                        consumer.accept(id, distance);
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Memória aproximada ocupada pelo índice de deleções
+     * 
+     * @return bytes ocupados; em um dicionário sobreposto, só os das palavras acrescentadas
+     */
+    public long memoryBytes() {
+        if (added != null) {
+            return added.memoryBytes();
+        }
+        return bucketByKey.memoryBytes()
+            + (long) bucketStart.length * Integer.BYTES
+            + (long) bucketWords.length * Integer.BYTES;
+    }
+
+    /**
+     * Hashes distintos das sequências obtidas removendo até maxDeletes letras do prefixo
+     * 
+     * @return quantidade de hashes gravados em keys
+     */
+    private static int deleteKeys(String word, int maxDeletes, long[] keys) {
+        int length = Math.min(word.length(), PREFIX_LENGTH);
+        int count = 0;
+        count = addKey(keys, count, hash(word, length, -1, -1));
+        if (maxDeletes >= 1) {
+            for (int i = 0; i < length; i++) {
+                count = addKey(keys, count, hash(word, length, i, -1));
+            }
+        }
+        if (maxDeletes >= 2) {
+            for (int i = 0; i < length; i++) {
+                for (int j = i + 1; j < length; j++) {
+                    count = addKey(keys, count, hash(word, length, i, j));
+                }
+            }
+        }
+        return count;
+    }
+
+    private static int addKey(long[] keys, int count, long key) {
+        for (int k = 0; k < count; k++) {
+            if (keys[k] == key) {
+                return count;
+            }
+        }
+        keys[count] = key;
+        return count + 1;
+    }
+
+    /**
+     * Hash do prefixo sem as posições skipA e skipB; nunca 0
+     */
+    private static long hash(String word, int length, int skipA, int skipB) {
+        long h = 0;
+        int kept = 0;
+        for (int i = 0; i < length; i++) {
+            if (i != skipA && i != skipB) {
+                h = h * 31 + word.charAt(i);
+                kept++;
+            }
+        }
+        long key = HashMixer.mix(h ^ (long) kept << 56);
+        return key == 0 ? 1 : key;
+    }
+}
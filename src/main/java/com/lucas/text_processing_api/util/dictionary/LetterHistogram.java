@@ -0,0 +1,192 @@
+package com.lucas.text_processing_api.util.dictionary;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * Contagem de letras de textos e chaves canônicas de composição
+ * 
+ * Conta as letras ASCII (sem diferenciar maiúsculas) e ignora os demais
+ * bytes. Para intervalos longos de bytes usa o núcleo da Vector API
+ * ({@link VectorLetterHistogram}) quando a JVM é iniciada com
+ * --add-modules jdk.incubator.vector; sem o módulo, ou em intervalos curtos
+ * onde preparar vetores custa mais que o laço, usa o laço escalar. Os dois
+ * caminhos produzem exatamente o mesmo histograma.
+ * 
+ * Os usos típicos são lotes de palavras curtas, um histograma por palavra
+ * (agrupamento de anagramas, chaves de cache, consultas ao dicionário):
+ * abaixo de {@link #VECTOR_THRESHOLD} bytes cada palavra segue pelo laço
+ * escalar. O núcleo vetorial entra nos intervalos longos, como tokens
+ * extensos e textos inteiros.
+ * 
+ * A chave canônica de um conjunto de letras é a sequência das letras em
+ * ordem alfabética. Ela é montada a partir do histograma (ordenação por
+ * contagem, linear) em vez de ordenar os caracteres por comparação.
+ * 
+ * @author Lucas
+ * @version 1.1
+ */
+public final class LetterHistogram {
+
+    /**
+     * Tamanho mínimo de intervalo para usar o núcleo vetorial
+     */
+    public static final int VECTOR_THRESHOLD = 64;
+
+    private static final boolean VECTORIZED = detectVectorSupport();
+
+    private LetterHistogram() {
+    }
+
+    /**
+     * @return true se o núcleo vetorial está disponível nesta JVM
+     */
+    public static boolean isVectorized() {
+        return VECTORIZED;
+    }
+
+    /**
+     * Acumula as letras de um intervalo de bytes
+     * 
+     * @param text bytes do texto (ASCII ou UTF-8; bytes não ASCII são ignorados)
+     * @param from início do intervalo
+     * @param to fim do intervalo (exclusivo)
+     * @param counts contadores por letra (0 para 'a'), incrementados
+     * @return quantidade de letras contadas
+     */
+    public static int count(byte[] text, int from, int to, int[] counts) {
+        if (VECTORIZED && to - from >= VECTOR_THRESHOLD) {
+            long stop = VectorLetterHistogram.count(text, from, to, counts);
+            return (int) (stop >>> 32) + countScalar(text, (int) stop, to, counts);
+        }
+        return countScalar(text, from, to, counts);
+    }
+
+    /**
+     * Acumula as letras de uma sequência de caracteres
+     * 
+     * Caracteres fora de ISO-8859-1 são ignorados como os demais que não
+     * são letras ASCII.
+     * 
+     * @param letters caracteres de origem
+     * @param counts contadores por letra (0 para 'a'), incrementados
+     * @return quantidade de letras contadas; igual ao tamanho só se todos os caracteres forem letras ASCII
+     */
+    public static int count(CharSequence letters, int[] counts) {
+        byte[] bytes = letters.toString().getBytes(StandardCharsets.ISO_8859_1);
+        return count(bytes, 0, bytes.length, counts);
+    }
+
+    /**
+     * Acumula as letras de um intervalo de bytes sem usar o núcleo vetorial
+     * 
+     * @param text bytes do texto
+     * @param from início do intervalo
+     * @param to fim do intervalo (exclusivo)
+     * @param counts contadores por letra (0 para 'a'), incrementados
+     * @return quantidade de letras contadas
+     */
+    public static int countScalar(byte[] text, int from, int to, int[] counts) {
+        int total = 0;
+        for (int i = from; i < to; i++) {
+            // Bytes negativos (não ASCII) continuam negativos após o OR
+            int letter = (text[i] | 0x20) - 'a';
+            if (letter >= 0 && letter < LetterSignature.ALPHABET_SIZE) {
+                counts[letter]++;
+                total++;
+            }
+        }
+        return total;
+    }
+
+    /**
+     * Calcula o histograma de um intervalo de bytes
+     * 
+     * @param text bytes do texto
+     * @param from início do intervalo
+     * @param to fim do intervalo (exclusivo)
+     * @return contadores por letra (0 para 'a')
+     */
+    public static int[] histogram(byte[] text, int from, int to) {
+        int[] counts = new int[LetterSignature.ALPHABET_SIZE];
+        count(text, from, to, counts);
+        return counts;
+    }
+
+    /**
+     * Calcula o histograma das letras de uma sequência de caracteres
+     * 
+     * @param letters caracteres de origem
+     * @return contadores por letra (0 para 'a')
+     */
+    public static int[] histogram(CharSequence letters) {
+        int[] counts = new int[LetterSignature.ALPHABET_SIZE];
+        count(letters, counts);
+        return counts;
+    }
+
+    /**
+     * Calcula a assinatura de composição das letras de um intervalo de bytes
+     * 
+     * @param text bytes do texto
+     * @param from início do intervalo
+     * @param to fim do intervalo (exclusivo)
+     * @return assinatura igual a {@link LetterSignature#of(CharSequence)} das mesmas letras
+     */
+    public static long signature(byte[] text, int from, int to) {
+        return LetterSignature.of(histogram(text, from, to));
+    }
+
+    /**
+     * Chave canônica: as letras em minúsculas e em ordem alfabética
+     * 
+     * Entradas só com letras a-z/A-Z são ordenadas por contagem; qualquer
+     * outro caractere faz a chave ser montada pela ordenação comum, com o
+     * mesmo resultado de minúsculas seguidas de {@link Arrays#sort(char[])}.
+     * 
+     * @param letters letras de origem
+     * @return letras ordenadas
+     */
+    public static String sortedLetters(CharSequence letters) {
+        int[] counts = new int[LetterSignature.ALPHABET_SIZE];
+        if (count(letters, counts) != letters.length()) {
+            char[] chars = letters.toString().toLowerCase().toCharArray();
+            Arrays.sort(chars);
+            return new String(chars);
+        }
+        return sortedLetters(counts);
+    }
+
+    /**
+     * Chave canônica de um histograma: cada letra repetida pela sua contagem
+     * 
+     * @param counts contadores por letra (0 para 'a')
+     * @return letras em ordem alfabética
+     */
+    public static String sortedLetters(int[] counts) {
+        int length = 0;
+        for (int count : counts) {
+            length += count;
+        }
+
+        char[] sorted = new char[length];
+        int position = 0;
+        for (int letter = 0; letter < counts.length; letter++) {
+            for (int k = counts[letter]; k > 0; k--) {
+                sorted[position++] = (char) ('a' + letter);
+            }
+        }
+        return new String(sorted);
+    }
+
+    private static boolean detectVectorSupport() {
+        if (ModuleLayer.boot().findModule("jdk.incubator.vector").isEmpty()) {
+            return false;
+        }
+        try {
+            return VectorLetterHistogram.lanes() > 1;
+        } catch (LinkageError e) {
+            return false;
+        }
+    }
+}
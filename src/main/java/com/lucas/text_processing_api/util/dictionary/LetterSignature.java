@@ -0,0 +1,162 @@
+package com.lucas.text_processing_api.util.dictionary;
+
+import java.text.Normalizer;
+import java.util.Locale;
+
+/**
+ * Assinatura de composição de letras
+ * 
+ * Cada letra recebe uma constante aleatória de 64 bits e a assinatura de
+ * uma palavra é a soma das constantes de suas letras. Palavras com o mesmo
+ * histograma de letras têm a mesma assinatura, e a soma permite atualizar
+ * a assinatura em O(1) ao adicionar ou remover uma letra.
+ * 
+ * Um histograma de 26 contadores não cabe de forma exata em 64 bits, então
+ * a assinatura é um hash: colisões são astronomicamente raras, mas quem
+ * precisa de exatidão confirma o candidato com {@link #sameLetters}.
+ * 
+ * As constantes são fixas (não dependem da execução), o que permite gravar
+ * assinaturas em arquivos e no Redis.
+ * 
+ * @author Lucas
+ * @version 1.0
+ */
+public final class LetterSignature {
+
+    /**
+     * Tamanho do alfabeto suportado (a-z)
+     */
+    public static final int ALPHABET_SIZE = 26;
+
+    private static final long[] LETTER_KEYS = new long[ALPHABET_SIZE];
+
+    static {
+        // SplitMix64 com semente fixa: constantes estáveis entre execuções
+        long state = 0x5DEECE66DL;
+        for (int i = 0; i < ALPHABET_SIZE; i++) {
+            state += 0x9E3779B97F4A7C15L;
+            long z = state;
+            z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+            z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+            LETTER_KEYS[i] = z ^ (z >>> 31);
+        }
+    }
+
+    private LetterSignature() {
+    }
+
+    /**
+     * Constante associada a uma letra
+     * 
+     * @param letterIndex índice da letra (0 para 'a')
+     * @return constante de 64 bits da letra
+     */
+    public static long letterKey(int letterIndex) {
+        return LETTER_KEYS[letterIndex];
+    }
+
+    /**
+     * Calcula a assinatura de uma palavra em minúsculas (a-z)
+     * 
+     * @param word palavra normalizada
+     * @return assinatura da composição de letras
+     */
+    public static long of(CharSequence word) {
+        long signature = 0;
+        for (int i = 0; i < word.length(); i++) {
+            signature += LETTER_KEYS[word.charAt(i) - 'a'];
+        }
+        return signature;
+    }
+
+    /**
+     * Calcula a assinatura a partir de um histograma
+     * 
+     * @param counts contadores por letra
+     * @return assinatura da composição de letras
+     */
+    public static long of(int[] counts) {
+        long signature = 0;
+        for (int i = 0; i < ALPHABET_SIZE; i++) {
+            signature += LETTER_KEYS[i] * counts[i];
+        }
+        return signature;
+    }
+
+    /**
+     * Calcula o histograma de letras de uma palavra em minúsculas
+     * 
+     * @param word palavra normalizada
+     * @return contadores por letra
+     */
+    public static int[] histogram(CharSequence word) {
+        int[] counts = new int[ALPHABET_SIZE];
+        for (int i = 0; i < word.length(); i++) {
+            counts[word.charAt(i) - 'a']++;
+        }
+        return counts;
+    }
+
+    /**
+     * Verifica se a palavra tem exatamente o histograma informado
+     * 
+     * @param word palavra normalizada
+     * @param counts histograma esperado
+     * @param length soma dos contadores do histograma
+     * @return true se a composição for idêntica
+     */
+    public static boolean sameLetters(CharSequence word, int[] counts, int length) {
+        if (word.length() != length) {
+            return false;
+        }
+
+        int[] remaining = counts.clone();
+        for (int i = 0; i < word.length(); i++) {
+            if (--remaining[word.charAt(i) - 'a'] < 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Normaliza uma palavra para o alfabeto a-z
+     * 
+     * Converte para minúsculas e remove acentos (ex.: "Coração" vira "coracao").
+     * 
+     * @param raw palavra original
+     * @return palavra normalizada, ou null se restarem caracteres fora de a-z
+     */
+    public static String normalize(String raw) {
+        if (raw == null) {
+            return null;
+        }
+
+        String trimmed = raw.trim();
+        if (trimmed.isEmpty()) {
+            return null;
+        }
+
+        String lower = trimmed.toLowerCase(Locale.ROOT);
+        if (!isAsciiLetters(lower)) {
+            lower = Normalizer.normalize(lower, Normalizer.Form.NFD).replaceAll("\\p{M}", "");
+            if (!isAsciiLetters(lower)) {
+                return null;
+            }
+        }
+        return lower;
+    }
+
+    private static boolean isAsciiLetters(String value) {
+        if (value.isEmpty()) {
+            return false;
+        }
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c < 'a' || c > 'z') {
+                return false;
+            }
+        }
+        return true;
+    }
+}
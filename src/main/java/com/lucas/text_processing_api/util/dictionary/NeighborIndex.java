@@ -0,0 +1,276 @@
+package com.lucas.text_processing_api.util.dictionary;
+
+import com.lucas.text_processing_api.util.collection.IntArrayList;
+import com.lucas.text_processing_api.util.collection.LongHashSet;
+import com.lucas.text_processing_api.util.collection.LongIntHashMap;
+
+/**
+ * Índice de vizinhos de anagrama: palavras com uma letra a mais, a menos ou trocada
+ * 
+ * Adições e remoções são consultas diretas ao índice de assinaturas: como a
+ * assinatura é uma soma, basta somar ou subtrair a constante de cada letra.
+ * Trocas usam um índice de vizinhança por deleção: cada grupo de anagramas é
+ * registrado sob as assinaturas obtidas removendo cada uma de suas letras.
+ * Remover uma letra da entrada e consultar esse índice devolve os grupos que
+ * diferem dela em exatamente uma letra. Nenhuma consulta percorre o dicionário.
+ * 
+ * Todos os candidatos são confirmados pelo histograma, então colisões de
+ * assinatura nunca aparecem no resultado.
+ * 
+ * Um dicionário sobreposto usa {@link #overlay(OverlayIndex)}: os buckets da
+ * base são compartilhados e os grupos são lidos pelo índice sobreposto, que
+ * já esconde as palavras removidas. Só os grupos novos, que não existem na
+ * base, entram em um índice de deleções próprio.
+ * 
+ * @author Lucas
+ * @version 1.1
+ */
+public final class NeighborIndex {
+
+    /**
+     * Tipo de edição que leva da entrada ao vizinho
+     */
+    public enum LetterEdit {
+        /** O vizinho tem uma letra a mais */
+        ADDED,
+        /** O vizinho tem uma letra trocada */
+        CHANGED,
+        /** O vizinho tem uma letra a menos */
+        REMOVED
+    }
+
+    /**
+     * Consumidor de vizinhos encontrados
+     */
+    @FunctionalInterface
+    public interface NeighborConsumer {
+
+        /**
+         * @param wordId id da palavra vizinha
+         * @param edit tipo de edição
+         * @param added letra acrescentada ('\0' se nenhuma)
+         * @param removed letra removida ('\0' se nenhuma)
+         */
+        void accept(int wordId, LetterEdit edit, char added, char removed);
+    }
+
+    /** Chave usada no lugar de 0, reservado pelo mapa; buckets são sempre verificados */
+    private static final long ZERO_KEY = 0x9E3779B97F4A7C15L;
+
+    private final DictionaryIndex index;
+    private final LongIntHashMap bucketByKey;
+    private final int[] bucketStart;
+    private final int[] bucketWords;
+    private final NeighborIndex added;
+
+    /**
+     * Constrói o índice de deleções a partir do dicionário
+     * 
+     * @param index dicionário de origem
+     */
+    public NeighborIndex(DictionaryIndex index) {
+        this(index, 0, null);
+    }
+
+    /**
+     * Constrói o índice de deleções com as palavras ativas a partir de um id,
+     * sem os grupos que já existem em covered
+     */
+    private NeighborIndex(DictionaryIndex index, int firstId, DictionaryIndex covered) {
+        this.index = index;
+        this.added = null;
+
+        // Um representante por grupo de anagramas
+        int groups = Math.min(index.groupCount(), index.wordCount() - firstId);
+        LongHashSet seen = new LongHashSet(groups);
+        IntArrayList representatives = new IntArrayList(groups);
+        for (int id = firstId; id < index.wordCount(); id++) {
+            if (!index.isActive(id)) {
+                continue;
+            }
+            long signature = LetterSignature.of(index.word(id));
+            if (seen.add(nonZero(signature)) && (covered == null || !hasGroup(covered, signature))) {
+                representatives.add(id);
+            }
+        }
+
+        // 1ª passada: buckets por assinatura com uma letra a menos
+        IntArrayList entryBucket = new IntArrayList(representatives.size() * 4);
+        IntArrayList entryWord = new IntArrayList(representatives.size() * 4);
+        this.bucketByKey = new LongIntHashMap(representatives.size() * 4);
+        int buckets = 0;
+        for (int r = 0; r < representatives.size(); r++) {
+            int id = representatives.get(r);
+            String word = index.word(id);
+            long signature = LetterSignature.of(word);
+            int[] counts = LetterSignature.histogram(word);
+            for (int letter = 0; letter < LetterSignature.ALPHABET_SIZE; letter++) {
+                if (counts[letter] == 0) {
+                    continue;
+                }
+                long key = nonZero(signature - LetterSignature.letterKey(letter));
+                int bucket = bucketByKey.putIfAbsent(key, buckets);
+                if (bucket == LongIntHashMap.MISSING) {
+                    bucket = buckets++;
+                }
+                entryBucket.add(bucket);
+                entryWord.add(id);
+            }
+        }
+
+        // 2ª passada: layout compacto (CSR)
+        this.bucketStart = new int[buckets + 1];
+        for (int e = 0; e < entryBucket.size(); e++) {
+            bucketStart[entryBucket.get(e) + 1]++;
+        }
+        for (int b = 0; b < buckets; b++) {
+            bucketStart[b + 1] += bucketStart[b];
+        }
+        this.bucketWords = new int[entryBucket.size()];
+        int[] cursor = new int[buckets];
+        for (int e = 0; e < entryBucket.size(); e++) {
+            int bucket = entryBucket.get(e);
+            bucketWords[bucketStart[bucket] + cursor[bucket]++] = entryWord.get(e);
+        }
+    }
+
+    /**
+     * Visão da base com os buckets compartilhados
+     */
+    private NeighborIndex(NeighborIndex base, DictionaryIndex index, NeighborIndex added) {
+        this.index = index;
+        this.bucketByKey = base.bucketByKey;
+        this.bucketStart = base.bucketStart;
+        this.bucketWords = base.bucketWords;
+        this.added = added;
+    }
+
+    /**
+     * Índice de vizinhos de um dicionário sobreposto a esta base
+     * 
+     * @param overlay dicionário sobreposto ao índice deste
+     * @return visão que compartilha os buckets deste índice
+     */
+    public NeighborIndex overlay(OverlayIndex overlay) {
+        return new NeighborIndex(this, overlay,
+            new NeighborIndex(overlay, overlay.base().wordCount(), overlay.base()));
+    }
+
+    /**
+     * Percorre as palavras a uma edição de letra de algum anagrama da entrada
+     * 
+     * A ordem é: adições (por letra), trocas (por letra removida) e remoções
+     * (por letra); dentro de cada consulta, na ordem do dicionário.
+     * 
+     * @param letters letras normalizadas (a-z)
+     * @param consumer função chamada para cada vizinho
+     */
+    public void forEachNeighbor(String letters, NeighborConsumer consumer) {
+        int[] counts = LetterSignature.histogram(letters);
+        long signature = LetterSignature.of(counts);
+        int length = letters.length();
+
+        // Uma letra a mais
+        for (int letter = 0; letter < LetterSignature.ALPHABET_SIZE; letter++) {
+            counts[letter]++;
+            emitGroup(signature + LetterSignature.letterKey(letter), counts, length + 1,
+                LetterEdit.ADDED, (char) ('a' + letter), '\0', consumer);
+            counts[letter]--;
+        }
+
+        // Uma letra trocada: remove da entrada e consulta o índice de deleções
+        for (int removed = 0; removed < LetterSignature.ALPHABET_SIZE; removed++) {
+            if (counts[removed] == 0) {
+                continue;
+            }
+            counts[removed]--;
+            for (NeighborIndex part = this; part != null; part = part.added) {
+                int bucket = part.bucketByKey.get(nonZero(signature - LetterSignature.letterKey(removed)));
+                if (bucket == LongIntHashMap.MISSING) {
+                    continue;
+                }
+                for (int i = part.bucketStart[bucket]; i < part.bucketStart[bucket + 1]; i++) {
+                    String candidate = index.word(part.bucketWords[i]);
+                    int added = singleExtraLetter(candidate, counts, length - 1);
+                    if (added >= 0 && added != removed) {
+                        counts[added]++;
+                        emitGroup(LetterSignature.of(candidate), counts, length,
+                            LetterEdit.CHANGED, (char) ('a' + added), (char) ('a' + removed), consumer);
+                        counts[added]--;
+                    }
+                }
+            }
+            counts[removed]++;
+        }
+
+        // Uma letra a menos
+        if (length > 1) {
+            for (int letter = 0; letter < LetterSignature.ALPHABET_SIZE; letter++) {
+                if (counts[letter] == 0) {
+                    continue;
+                }
+                counts[letter]--;
+                emitGroup(signature - LetterSignature.letterKey(letter), counts, length - 1,
+                    LetterEdit.REMOVED, '\0', (char) ('a' + letter), consumer);
+                counts[letter]++;
+            }
+        }
+    }
+
+    /**
+     * Memória aproximada ocupada pelo índice de deleções
+     * 
+     * @return bytes ocupados; em um dicionário sobreposto, só os dos grupos novos
+     */
+    public long memoryBytes() {
+        if (added != null) {
+            return added.memoryBytes();
+        }
+        return bucketByKey.memoryBytes()
+            + (long) bucketStart.length * Integer.BYTES
+            + (long) bucketWords.length * Integer.BYTES;
+    }
+
+    private void emitGroup(long signature, int[] counts, int length, LetterEdit edit,
+                           char added, char removed, NeighborConsumer consumer) {
+        index.forEachWithSignature(signature, id -> {
+            if (LetterSignature.sameLetters(index.word(id), counts, length)) {
+                consumer.accept(id, edit, added, removed);
+            }
+        });
+    }
+
+    private static boolean hasGroup(DictionaryIndex index, long signature) {
+        boolean[] found = {false};
+        index.forEachWithSignature(signature, id -> found[0] |= index.isActive(id));
+        return found[0];
+    }
+
+    /**
+     * Verifica se a palavra é o histograma informado mais exatamente uma letra
+     * 
+     * @return índice da letra extra, ou -1
+     */
+    private static int singleExtraLetter(String word, int[] counts, int length) {
+        if (word.length() != length + 1) {
+            return -1;
+        }
+
+        int[] remaining = counts.clone();
+        int extra = -1;
+        for (int i = 0; i < word.length(); i++) {
+            int letter = word.charAt(i) - 'a';
+            if (--remaining[letter] < 0) {
+                if (extra >= 0) {
+                    return -1;
+                }
+                extra = letter;
+            }
+        }
+        return extra;
+    }
+
+    private static long nonZero(long key) {
+        return key == 0 ? ZERO_KEY : key;
+    }
+}
@@ -0,0 +1,181 @@
+package com.lucas.text_processing_api.util.dictionary;
+
+import java.util.LinkedHashSet;
+import java.util.Set;
+import java.util.function.IntConsumer;
+
+import com.lucas.text_processing_api.util.collection.LongHashSet;
+
+/**
+ * Dicionário definido como diferença sobre um índice base compartilhado
+ * 
+ * Em vez de copiar o dicionário base, guarda apenas um bitset com as
+ * palavras removidas (um bit por palavra da base) e um índice próprio com
+ * as palavras acrescentadas. Os ids da base são preservados; as palavras
+ * acrescentadas recebem os ids seguintes. Vários dicionários podem se
+ * sobrepor à mesma base sem duplicá-la.
+ * 
+ * Uma palavra listada como removida não aparece mesmo que também esteja
+ * entre as acrescentadas.
+ * 
+ * @author Lucas
+ * @version 1.0
+ */
+public final class OverlayIndex implements DictionaryIndex {
+
+    private final DictionaryIndex base;
+    private final int baseCount;
+    private final long[] removed;
+    private final int removedCount;
+    private final SignatureIndex added;
+    private final int groupCount;
+
+    /**
+     * @param base índice compartilhado
+     * @param addedWords palavras normalizadas a acrescentar
+     * @param removedWords palavras normalizadas a remover
+     */
+    public OverlayIndex(DictionaryIndex base, String[] addedWords, String[] removedWords) {
+        this.base = base;
+        this.baseCount = base.wordCount();
+        this.removed = new long[(baseCount + 63) >>> 6];
+
+        // Remoções: apenas palavras ativas da base ocupam bits
+        Set<String> removedSet = new LinkedHashSet<>();
+        int removals = 0;
+        for (String word : removedWords) {
+            removedSet.add(word);
+            int id = baseId(word);
+            if (id >= 0 && isActive(id)) {
+                removed[id >>> 6] |= 1L << id;
+                removals++;
+            }
+        }
+        this.removedCount = removals;
+
+        // Acréscimos: ignora o que a base já tem e o que foi removido
+        Set<String> additions = new LinkedHashSet<>();
+        for (String word : addedWords) {
+            if (!removedSet.contains(word) && baseId(word) < 0) {
+                additions.add(word);
+            }
+        }
+        this.added = new SignatureIndex(additions.toArray(new String[0]));
+
+        this.groupCount = countGroups(removedSet);
+    }
+
+    @Override
+    public int wordCount() {
+        return baseCount + added.wordCount();
+    }
+
+    @Override
+    public boolean isActive(int id) {
+        return id >= baseCount || (removed[id >>> 6] & 1L << id) == 0;
+    }
+
+    @Override
+    public int activeWordCount() {
+        return base.activeWordCount() - removedCount + added.wordCount();
+    }
+
+    @Override
+    public int groupCount() {
+        return groupCount;
+    }
+
+    @Override
+    public String word(int id) {
+        return id < baseCount ? base.word(id) : added.word(id - baseCount);
+    }
+
+    @Override
+    public void forEachWithSignature(long signature, IntConsumer consumer) {
+        base.forEachWithSignature(signature, id -> {
+            if (isActive(id)) {
+                consumer.accept(id);
+            }
+        });
+        added.forEachWithSignature(signature, id -> consumer.accept(baseCount + id));
+    }
+
+    /**
+     * @return memória da base mais a da sobreposição
+     */
+    @Override
+    public long memoryBytes() {
+        return base.memoryBytes() + overlayBytes();
+    }
+
+    /**
+     * Memória exclusiva deste dicionário: bitset de remoções e índice de acréscimos
+     * 
+     * @return bytes ocupados
+     */
+    public long overlayBytes() {
+        return (long) removed.length * Long.BYTES + added.memoryBytes();
+    }
+
+    /**
+     * @return índice base compartilhado
+     */
+    public DictionaryIndex base() {
+        return base;
+    }
+
+    /**
+     * @return quantidade de palavras acrescentadas à base
+     */
+    public int addedCount() {
+        return added.wordCount();
+    }
+
+    /**
+     * @return quantidade de palavras da base removidas
+     */
+    public int removedCount() {
+        return removedCount;
+    }
+
+    private int baseId(String word) {
+        int[] found = {-1};
+        base.forEachWithSignature(LetterSignature.of(word), id -> {
+            if (found[0] < 0 && base.word(id).equals(word)) {
+                found[0] = id;
+            }
+        });
+        return found[0];
+    }
+
+    /**
+     * Grupos da base que continuam com palavras, mais os grupos novos dos acréscimos
+     */
+    private int countGroups(Set<String> removedWords) {
+        int groups = base.groupCount();
+
+        LongHashSet emptied = new LongHashSet(Math.max(removedWords.size(), 1));
+        for (String word : removedWords) {
+            long signature = LetterSignature.of(word);
+            if (baseId(word) >= 0 && !hasActiveBaseWord(signature) && emptied.add(signature)) {
+                groups--;
+            }
+        }
+
+        int[] starts = added.groupStart();
+        int[] members = added.groupWords();
+        for (int group = 0; group + 1 < starts.length; group++) {
+            long signature = LetterSignature.of(added.word(members[starts[group]]));
+            if (!hasActiveBaseWord(signature)) {
+                groups++;
+            }
+        }
+        return groups;
+    }
+
+    private boolean hasActiveBaseWord(long signature) {
+        boolean[] found = {false};
+        base.forEachWithSignature(signature, id -> found[0] |= isActive(id));
+        return found[0];
+    }
+}
@@ -0,0 +1,305 @@
+package com.lucas.text_processing_api.util.dictionary;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Índice posicional para consultas de padrão (palavras cruzadas)
+ * 
+ * As palavras são separadas por comprimento e, dentro de cada comprimento,
+ * cada par (posição, letra) tem um bitset com as palavras que têm aquela
+ * letra naquela posição. Um padrão como "a?c??e" é respondido com o AND dos
+ * bitsets das posições fixas: o custo é proporcional a N/64 palavras do
+ * comprimento, sem comparar strings nem executar expressões regulares.
+ * 
+ * O filtro opcional de letras disponíveis restringe as posições livres:
+ * cada uma recebe o OR dos bitsets das letras disponíveis, e os candidatos
+ * restantes são confirmados contra a multiplicidade do histograma.
+ * 
+ * Bitsets de pares que não ocorrem no dicionário não são alocados.
+ * 
+ * Um dicionário sobreposto usa {@link #overlay(OverlayIndex)}: os bitsets da
+ * base são compartilhados, os candidatos removidos são descartados na
+ * leitura e as palavras acrescentadas ganham bitsets próprios, consultados
+ * depois dos da base.
+ * 
+ * @author Lucas
+ * @version 1.1
+ */
+public final class PatternIndex {
+
+    /**
+     * Caractere que representa uma posição livre no padrão
+     */
+    public static final char ANY = '?';
+
+    private final DictionaryIndex index;
+    private final int[][] wordsByLength;
+    private final long[][][] bitsByLength;
+    private final PatternIndex added;
+
+    /**
+     * Resultado de uma consulta de padrão
+     */
+    public static final class Result {
+
+        private final List<String> words;
+        private final int totalMatches;
+
+        Result(List<String> words, int totalMatches) {
+            this.words = words;
+            this.totalMatches = totalMatches;
+        }
+
+        /**
+         * @return palavras retornadas, na ordem do dicionário
+         */
+        public List<String> getWords() {
+            return words;
+        }
+
+        /**
+         * @return quantidade total de palavras que atendem ao padrão
+         */
+        public int getTotalMatches() {
+            return totalMatches;
+        }
+    }
+
+    /**
+     * Constrói os bitsets a partir do dicionário
+     * 
+     * @param index dicionário de origem
+     */
+    public PatternIndex(DictionaryIndex index) {
+        this(index, 0);
+    }
+
+    /**
+     * Constrói os bitsets com as palavras ativas a partir de um id
+     */
+    private PatternIndex(DictionaryIndex index, int firstId) {
+        this.index = index;
+        this.added = null;
+
+        int maxLength = 0;
+        int[] lengthCounts = new int[1];
+        for (int id = firstId; id < index.wordCount(); id++) {
+            if (!index.isActive(id)) {
+                continue;
+            }
+            int length = index.word(id).length();
+            if (length >= lengthCounts.length) {
+                lengthCounts = Arrays.copyOf(lengthCounts, Math.max(length + 1, lengthCounts.length * 2));
+            }
+            lengthCounts[length]++;
+            maxLength = Math.max(maxLength, length);
+        }
+
+        this.wordsByLength = new int[maxLength + 1][];
+        this.bitsByLength = new long[maxLength + 1][][];
+        for (int length = 0; length <= maxLength; length++) {
+            wordsByLength[length] = new int[lengthCounts[length]];
+            bitsByLength[length] = new long[length * LetterSignature.ALPHABET_SIZE][];
+        }
+
+        int[] filled = new int[maxLength + 1];
+        for (int id = firstId; id < index.wordCount(); id++) {
+            if (!index.isActive(id)) {
+                continue;
+            }
+            String word = index.word(id);
+            int length = word.length();
+            int slot = filled[length]++;
+            wordsByLength[length][slot] = id;
+
+            long[][] bits = bitsByLength[length];
+            int blocks = (wordsByLength[length].length + 63) >>> 6;
+            for (int position = 0; position < length; position++) {
+                int key = position * LetterSignature.ALPHABET_SIZE + word.charAt(position) - 'a';
+                if (bits[key] == null) {
+                    bits[key] = new long[blocks];
+                }
+                bits[key][slot >>> 6] |= 1L << slot;
+            }
+        }
+    }
+
+    /**
+     * Visão da base com os bitsets compartilhados
+     */
+    private PatternIndex(PatternIndex base, DictionaryIndex index, PatternIndex added) {
+        this.index = index;
+        this.wordsByLength = base.wordsByLength;
+        this.bitsByLength = base.bitsByLength;
+        this.added = added;
+    }
+
+    /**
+     * Índice de padrões de um dicionário sobreposto a esta base
+     * 
+     * @param overlay dicionário sobreposto ao índice deste
+     * @return visão que compartilha os bitsets deste índice
+     */
+    public PatternIndex overlay(OverlayIndex overlay) {
+        return new PatternIndex(this, overlay, new PatternIndex(overlay, overlay.base().wordCount()));
+    }
+
+    /**
+     * Busca as palavras que atendem ao padrão
+     * 
+     * @param pattern padrão normalizado (a-z e {@link #ANY})
+     * @param available letras que podem preencher as posições livres, por
+     *                  índice (0 para 'a'), ou null para não restringir
+     * @param limit quantidade máxima de palavras retornadas
+     * @return palavras encontradas e total de correspondências
+     */
+    public Result match(String pattern, int[] available, int limit) {
+        List<String> words = new ArrayList<>(Math.min(limit, 64));
+        int total = collect(pattern, available, limit, words);
+        if (added != null) {
+            total += added.collect(pattern, available, limit, words);
+        }
+        return new Result(words, total);
+    }
+
+    /**
+     * Acrescenta as palavras encontradas até o limite
+     * 
+     * @return quantidade de palavras que atendem ao padrão
+     */
+    private int collect(String pattern, int[] available, int limit, List<String> words) {
+        int length = pattern.length();
+        if (length >= wordsByLength.length || wordsByLength[length].length == 0) {
+            return 0;
+        }
+
+        int[] ids = wordsByLength[length];
+        long[][] bits = bitsByLength[length];
+        long[] candidates = null;
+
+        // AND das posições fixas
+        for (int position = 0; position < length; position++) {
+            char c = pattern.charAt(position);
+            if (c == ANY) {
+                continue;
+            }
+            long[] column = bits[position * LetterSignature.ALPHABET_SIZE + c - 'a'];
+            if (column == null) {
+                return 0;
+            }
+            candidates = and(candidates, column);
+        }
+
+        // Posições livres: OR das letras disponíveis
+        if (available != null) {
+            for (int position = 0; position < length; position++) {
+                if (pattern.charAt(position) != ANY) {
+                    continue;
+                }
+                long[] allowed = null;
+                for (int letter = 0; letter < LetterSignature.ALPHABET_SIZE; letter++) {
+                    long[] column = bits[position * LetterSignature.ALPHABET_SIZE + letter];
+                    if (available[letter] > 0 && column != null) {
+                        allowed = or(allowed, column);
+                    }
+                }
+                if (allowed == null) {
+                    return 0;
+                }
+                candidates = and(candidates, allowed);
+            }
+        }
+
+        if (candidates == null) {
+            candidates = allWords(ids.length);
+        }
+
+        int total = 0;
+        for (int block = 0; block < candidates.length; block++) {
+            long word = candidates[block];
+            while (word != 0) {
+                int slot = block << 6 | Long.numberOfTrailingZeros(word);
+                word &= word - 1;
+
+                // Em um dicionário sobreposto, a palavra pode ter sido removida
+                if (!index.isActive(ids[slot])) {
+                    continue;
+                }
+                String candidate = index.word(ids[slot]);
+                if (available != null && !fitsFreePositions(candidate, pattern, available)) {
+                    continue;
+                }
+                total++;
+                if (words.size() < limit) {
+                    words.add(candidate);
+                }
+            }
+        }
+        return total;
+    }
+
+    /**
+     * Memória aproximada ocupada pelos bitsets e listas por comprimento
+     * 
+     * @return bytes ocupados; em um dicionário sobreposto, só os das palavras acrescentadas
+     */
+    public long memoryBytes() {
+        if (added != null) {
+            return added.memoryBytes();
+        }
+        long bytes = 0;
+        for (int length = 0; length < wordsByLength.length; length++) {
+            bytes += (long) wordsByLength[length].length * Integer.BYTES;
+            for (long[] column : bitsByLength[length]) {
+                if (column != null) {
+                    bytes += (long) column.length * Long.BYTES;
+                }
+            }
+        }
+        return bytes;
+    }
+
+    private static long[] and(long[] accumulated, long[] column) {
+        if (accumulated == null) {
+            return column.clone();
+        }
+        for (int i = 0; i < accumulated.length; i++) {
+            accumulated[i] &= column[i];
+        }
+        return accumulated;
+    }
+
+    private static long[] or(long[] accumulated, long[] column) {
+        if (accumulated == null) {
+            return column.clone();
+        }
+        for (int i = 0; i < accumulated.length; i++) {
+            accumulated[i] |= column[i];
+        }
+        return accumulated;
+    }
+
+    private static long[] allWords(int count) {
+        long[] all = new long[(count + 63) >>> 6];
+        Arrays.fill(all, -1L);
+        if ((count & 63) != 0) {
+            all[all.length - 1] = (1L << count) - 1;
+        }
+        return all;
+    }
+
+    /**
+     * Verifica se as letras das posições livres cabem no histograma disponível
+     */
+    private static boolean fitsFreePositions(String word, String pattern, int[] available) {
+        int[] remaining = available.clone();
+        for (int position = 0; position < word.length(); position++) {
+            if (pattern.charAt(position) == ANY && --remaining[word.charAt(position) - 'a'] < 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,410 @@
+package com.lucas.text_processing_api.util.dictionary;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+import com.lucas.text_processing_api.util.collection.LongIntHashMap;
+
+/**
+ * Resolvedor de anagramas em frases com várias palavras do dicionário
+ * 
+ * As palavras candidatas (as que cabem nas letras da entrada) são obtidas
+ * pela trie e agrupadas por assinatura, de modo que a busca escolhe grupos
+ * de anagramas e não palavras individuais. A busca subtrai o histograma de
+ * cada grupo escolhido do restante e só considera grupos com índice maior
+ * ou igual ao último escolhido, então a mesma combinação nunca é emitida em
+ * outra ordem.
+ * 
+ * O restante é codificado de forma exata em base mista (contagem de cada
+ * letra da entrada + 1), o que permite atualizá-lo em O(1) e memorizar os
+ * restantes comprovadamente sem solução. A primeira palavra de cada frase é
+ * distribuída entre as threads de um {@link ForkJoinPool}; o resultado final
+ * segue a ordem dos grupos e é determinístico.
+ * 
+ * @author Lucas
+ * @version 1.1
+ */
+public final class PhraseSolver {
+
+    /**
+     * Quantidade máxima de letras aceita; garante que o código do restante caiba em um long
+     */
+    public static final int MAX_LETTERS = 30;
+
+    private static final int DEADLINE_CHECK_INTERVAL = 1024;
+
+    private final DictionaryIndex index;
+    private final DictionaryTrie trie;
+    private final ForkJoinPool pool;
+
+    /**
+     * @param index dicionário consultado
+     * @param trie trie do mesmo dicionário
+     * @param pool pool usado para paralelizar a escolha da primeira palavra
+     */
+    public PhraseSolver(DictionaryIndex index, DictionaryTrie trie, ForkJoinPool pool) {
+        this.index = index;
+        this.trie = trie;
+        this.pool = pool;
+    }
+
+    /**
+     * Encontra frases cujas palavras usam exatamente as letras informadas
+     * 
+     * @param letters letras normalizadas (a-z)
+     * @param maxWords quantidade máxima de palavras por frase
+     * @param limit quantidade máxima de frases retornadas
+     * @param deadlineNanos instante limite em {@link System#nanoTime()}
+     * @return frases encontradas e indicação de corte por limite ou prazo
+     * @throws IllegalArgumentException se a entrada exceder {@link #MAX_LETTERS}
+     */
+    public Result solve(String letters, int maxWords, int limit, long deadlineNanos) {
+        if (letters.length() > MAX_LETTERS) {
+            throw new IllegalArgumentException(
+                "O modo de frases aceita no máximo " + MAX_LETTERS + " letras");
+        }
+        if (maxWords < 1 || limit < 1) {
+            throw new IllegalArgumentException("O limite de palavras e de frases deve ser no mínimo 1");
+        }
+
+        int[] counts = LetterSignature.histogram(letters);
+        Candidates candidates = collectCandidates(counts);
+        if (candidates.size() == 0) {
+            return new Result(List.of(), false);
+        }
+
+        List<FirstWordTask> tasks = new ArrayList<>(candidates.size());
+        for (int g = 0; g < candidates.size(); g++) {
+            tasks.add(new FirstWordTask(candidates, counts, letters.length(), g, maxWords, limit, deadlineNanos));
+        }
+
+        pool.invoke(new RecursiveTask<Void>() {
+            @Override
+            protected Void compute() {
+                invokeAll(tasks);
+                return null;
+            }
+        });
+
+        List<String> phrases = new ArrayList<>();
+        boolean truncated = false;
+        for (FirstWordTask task : tasks) {
+            Search search = task.join();
+            truncated |= search.aborted;
+            for (String phrase : search.phrases) {
+                if (phrases.size() == limit) {
+                    truncated = true;
+                    break;
+                }
+                phrases.add(phrase);
+            }
+        }
+        return new Result(phrases, truncated);
+    }
+
+    /**
+     * Agrupa por assinatura as palavras que cabem no histograma, das mais
+     * longas para as mais curtas
+     */
+    private Candidates collectCandidates(int[] counts) {
+        LongIntHashMap groupBySignature = new LongIntHashMap(64);
+        List<List<String>> groups = new ArrayList<>();
+
+        trie.forEachSubAnagram(counts.clone(), 1, id -> {
+            String word = index.word(id);
+            int group = groupBySignature.putIfAbsent(LetterSignature.of(word), groups.size());
+            if (group == LongIntHashMap.MISSING) {
+                groups.add(new ArrayList<>());
+                group = groups.size() - 1;
+            } else {
+                // Colisão de assinatura: descarta a palavra em vez de misturar composições
+                String first = groups.get(group).get(0);
+                if (!LetterSignature.sameLetters(word, LetterSignature.histogram(first), first.length())) {
+                    return;
+                }
+            }
+            groups.get(group).add(word);
+        });
+
+        // As palavras já chegam em ordem alfabética, exceto com as acrescentadas de um dicionário sobreposto
+        if (trie.added() != null) {
+            groups.forEach(Collections::sort);
+        }
+        // Ordena os grupos por tamanho
+        groups.sort(Comparator.<List<String>>comparingInt(group -> group.get(0).length()).reversed()
+            .thenComparing(group -> group.get(0)));
+        return new Candidates(groups, counts);
+    }
+
+    /**
+     * Resultado da busca de frases
+     */
+    public static final class Result {
+
+        private final List<String> phrases;
+        private final boolean truncated;
+
+        Result(List<String> phrases, boolean truncated) {
+            this.phrases = phrases;
+            this.truncated = truncated;
+        }
+
+        /**
+         * @return frases encontradas, palavras separadas por espaço
+         */
+        public List<String> getPhrases() {
+            return phrases;
+        }
+
+        /**
+         * @return true se a busca foi interrompida pelo limite de resultados ou pelo prazo
+         */
+        public boolean isTruncated() {
+            return truncated;
+        }
+    }
+
+    /**
+     * Grupos candidatos com histogramas compactos e códigos em base mista
+     */
+    private static final class Candidates {
+
+        final List<List<String>> words;
+        final int[] lengths;
+        final byte[][] groupLetters;
+        final byte[][] groupCounts;
+        final long[] groupCodes;
+
+        Candidates(List<List<String>> words, int[] inputCounts) {
+            this.words = words;
+            int size = words.size();
+            this.lengths = new int[size];
+            this.groupLetters = new byte[size][];
+            this.groupCounts = new byte[size][];
+            this.groupCodes = new long[size];
+
+            long[] weights = new long[LetterSignature.ALPHABET_SIZE];
+            long weight = 1;
+            for (int letter = 0; letter < LetterSignature.ALPHABET_SIZE; letter++) {
+                weights[letter] = weight;
+                weight *= inputCounts[letter] + 1;
+            }
+
+            for (int g = 0; g < size; g++) {
+                String word = words.get(g).get(0);
+                int[] histogram = LetterSignature.histogram(word);
+                int distinct = 0;
+                for (int count : histogram) {
+                    if (count > 0) {
+                        distinct++;
+                    }
+                }
+
+                lengths[g] = word.length();
+                groupLetters[g] = new byte[distinct];
+                groupCounts[g] = new byte[distinct];
+                int k = 0;
+                for (int letter = 0; letter < LetterSignature.ALPHABET_SIZE; letter++) {
+                    if (histogram[letter] > 0) {
+                        groupLetters[g][k] = (byte) letter;
+                        groupCounts[g][k] = (byte) histogram[letter];
+                        groupCodes[g] += histogram[letter] * weights[letter];
+                        k++;
+                    }
+                }
+            }
+        }
+
+        int size() {
+            return words.size();
+        }
+
+        boolean fits(int group, int[] remaining) {
+            byte[] letters = groupLetters[group];
+            byte[] counts = groupCounts[group];
+            for (int k = 0; k < letters.length; k++) {
+                if (remaining[letters[k]] < counts[k]) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        void apply(int group, int[] remaining, int sign) {
+            byte[] letters = groupLetters[group];
+            byte[] counts = groupCounts[group];
+            for (int k = 0; k < letters.length; k++) {
+                remaining[letters[k]] += sign * counts[k];
+            }
+        }
+    }
+
+    /**
+     * Busca com uma primeira palavra fixa; cada tarefa tem sua própria memória
+     */
+    private static final class FirstWordTask extends RecursiveTask<Search> {
+
+        private final transient Search search;
+
+        FirstWordTask(Candidates candidates, int[] counts, int length, int firstGroup,
+                      int maxWords, int limit, long deadlineNanos) {
+            this.search = new Search(candidates, counts, length, firstGroup, maxWords, limit, deadlineNanos);
+        }
+
+        @Override
+        protected Search compute() {
+            search.run();
+            return search;
+        }
+    }
+
+    /**
+     * Estado da busca em profundidade a partir de uma primeira palavra
+     */
+    private static final class Search {
+
+        final Candidates candidates;
+        final int[] remaining;
+        final int firstGroup;
+        final int maxWords;
+        final int limit;
+        final long deadlineNanos;
+        final int[] chosen;
+
+        /** Código do restante e palavras disponíveis para o menor grupo inicial sem solução */
+        final LongIntHashMap deadStart = new LongIntHashMap(256);
+        final List<String> phrases = new ArrayList<>();
+
+        int remainingLength;
+        long remainingCode;
+        long visited;
+        boolean aborted;
+
+        Search(Candidates candidates, int[] counts, int length, int firstGroup,
+               int maxWords, int limit, long deadlineNanos) {
+            this.candidates = candidates;
+            this.remaining = counts.clone();
+            this.firstGroup = firstGroup;
+            this.maxWords = maxWords;
+            this.limit = limit;
+            this.deadlineNanos = deadlineNanos;
+            this.chosen = new int[maxWords];
+            this.remainingLength = length;
+
+            long code = 0;
+            long weight = 1;
+            for (int letter = 0; letter < LetterSignature.ALPHABET_SIZE; letter++) {
+                code += counts[letter] * weight;
+                weight *= counts[letter] + 1;
+            }
+            this.remainingCode = code;
+        }
+
+        void run() {
+            if (System.nanoTime() > deadlineNanos) {
+                aborted = true;
+                return;
+            }
+
+            choose(firstGroup, 0);
+            if (remainingLength == 0) {
+                emit(1);
+            } else if (maxWords > 1) {
+                search(firstGroup, 1);
+            }
+        }
+
+        /**
+         * @return true se alguma frase foi encontrada a partir deste estado
+         */
+        private boolean search(int start, int depth) {
+            int wordsLeft = maxWords - depth;
+            long memoKey = remainingCode * (maxWords + 1) + wordsLeft + 1;
+            int knownDead = deadStart.get(memoKey);
+            if (knownDead != LongIntHashMap.MISSING && start >= knownDead) {
+                return false;
+            }
+
+            boolean found = false;
+            for (int g = start; g < candidates.size() && !aborted; g++) {
+                // Grupos em ordem decrescente de tamanho: nada adiante cobre o restante
+                if (remainingLength > wordsLeft * candidates.lengths[g]) {
+                    break;
+                }
+                if (candidates.lengths[g] > remainingLength || !candidates.fits(g, remaining)) {
+                    continue;
+                }
+                if (++visited % DEADLINE_CHECK_INTERVAL == 0 && System.nanoTime() > deadlineNanos) {
+                    aborted = true;
+                    break;
+                }
+
+                choose(g, depth);
+                if (remainingLength == 0) {
+                    emit(depth + 1);
+                    found = true;
+                } else if (wordsLeft > 1 && search(g, depth + 1)) {
+                    found = true;
+                }
+                undo(g);
+            }
+
+            if (!found && !aborted) {
+                deadStart.put(memoKey, knownDead == LongIntHashMap.MISSING ? start : Math.min(start, knownDead));
+            }
+            return found;
+        }
+
+        private void choose(int group, int depth) {
+            chosen[depth] = group;
+            candidates.apply(group, remaining, -1);
+            remainingLength -= candidates.lengths[group];
+            remainingCode -= candidates.groupCodes[group];
+        }
+
+        private void undo(int group) {
+            candidates.apply(group, remaining, 1);
+            remainingLength += candidates.lengths[group];
+            remainingCode += candidates.groupCodes[group];
+        }
+
+        /**
+         * Expande a combinação de grupos em frases; grupos repetidos usam
+         * índices de palavra não decrescentes para não repetir frases
+         */
+        private void emit(int words) {
+            int[] wordIndex = new int[words];
+            while (true) {
+                if (phrases.size() == limit) {
+                    aborted = true;
+                    return;
+                }
+
+                StringBuilder phrase = new StringBuilder();
+                for (int i = 0; i < words; i++) {
+                    if (i > 0) {
+                        phrase.append(' ');
+                    }
+                    phrase.append(candidates.words.get(chosen[i]).get(wordIndex[i]));
+                }
+                phrases.add(phrase.toString());
+
+                int position = words - 1;
+                while (position >= 0 && wordIndex[position] == candidates.words.get(chosen[position]).size() - 1) {
+                    position--;
+                }
+                if (position < 0) {
+                    return;
+                }
+                wordIndex[position]++;
+                for (int i = position + 1; i < words; i++) {
+                    wordIndex[i] = chosen[i] == chosen[i - 1] ? wordIndex[i - 1] : 0;
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,115 @@
+package com.lucas.text_processing_api.util.dictionary;
+
+import com.lucas.text_processing_api.util.collection.TopKHeap;
+
+/**
+ * Autocompletar de prefixo restrito às letras disponíveis
+ * 
+ * Desce pela trie seguindo o prefixo digitado, consumindo as letras, e a
+ * partir do nó alcançado busca as K palavras mais frequentes que ainda podem
+ * ser completadas com as letras restantes. A frequência é a ordem da lista
+ * de palavras: menor id, mais frequente.
+ * 
+ * Cada nó da trie conhece a palavra mais frequente da própria subárvore e
+ * visita os filhos nessa ordem. Quando o min-heap dos K melhores está cheio
+ * e o próximo filho não pode superar o pior retido, os filhos seguintes
+ * também não podem, e a busca abandona o nó inteiro. Na prática poucas
+ * dezenas de nós são visitadas, independentemente do tamanho do dicionário.
+ * 
+ * Em um dicionário sobreposto a trie das palavras acrescentadas é
+ * percorrida em seguida, com o mesmo heap.
+ * 
+ * @author Lucas
+ * @version 1.1
+ */
+public final class PrefixCompleter {
+
+    private final DictionaryTrie trie;
+
+    /**
+     * @param trie trie do dicionário
+     */
+    public PrefixCompleter(DictionaryTrie trie) {
+        this.trie = trie;
+    }
+
+    /**
+     * Busca as palavras mais frequentes que começam pelo prefixo
+     * 
+     * O próprio prefixo é incluído quando é uma palavra. As letras do
+     * prefixo também precisam vir do histograma. O histograma é modificado
+     * durante a busca e restaurado ao final.
+     * 
+     * @param prefix prefixo normalizado (a-z), possivelmente vazio
+     * @param counts letras disponíveis por índice (0 para 'a')
+     * @param limit quantidade K de palavras retornadas
+     * @return ids das palavras, da mais para a menos frequente
+     */
+    public int[] complete(String prefix, int[] counts, int limit) {
+        if (limit < 1) {
+            return new int[0];
+        }
+
+        TopKHeap heap = new TopKHeap(limit);
+        for (DictionaryTrie part = trie; part != null; part = part.added()) {
+            collect(part, prefix, counts, heap);
+        }
+
+        long[] keys = new long[heap.size()];
+        int[] words = new int[heap.size()];
+        heap.drainDescending(keys, words);
+        return words;
+    }
+
+    private static void collect(DictionaryTrie trie, String prefix, int[] counts, TopKHeap heap) {
+        int node = 0;
+        int consumed = 0;
+        while (consumed < prefix.length() && node >= 0) {
+            int letter = prefix.charAt(consumed) - 'a';
+            if (counts[letter] == 0) {
+                node = -1;
+                break;
+            }
+            counts[letter]--;
+            consumed++;
+            node = trie.child(node, letter);
+        }
+
+        if (node >= 0) {
+            visit(trie, node, counts, heap);
+        }
+        for (int i = 0; i < consumed; i++) {
+            counts[prefix.charAt(i) - 'a']++;
+        }
+    }
+
+    private static void visit(DictionaryTrie trie, int node, int[] counts, TopKHeap heap) {
+        int word = trie.terminalWord(node);
+        if (word != DictionaryTrie.NO_WORD) {
+            heap.offer(rank(word), word);
+        }
+
+        for (int slot = trie.firstEdge(node); slot < trie.endEdge(node); slot++) {
+            int e = trie.rankedEdge(slot);
+            int child = trie.edgeTarget(e);
+            // Filhos em ordem de frequência: se este não supera o pior retido, nenhum seguinte supera
+            if (heap.isFull() && rank(trie.bestWord(child)) <= heap.minKey()) {
+                return;
+            }
+
+            int letter = trie.edgeLetter(e);
+            if (counts[letter] > 0) {
+                counts[letter]--;
+                visit(trie, child, counts, heap);
+                counts[letter]++;
+            }
+        }
+    }
+
+    /**
+     * Chave do heap: maior para palavras mais frequentes
+     */
+    private static long rank(int wordId) {
+        return Integer.MAX_VALUE - (long) wordId;
+    }
+}
@@ -0,0 +1,298 @@
+package com.lucas.text_processing_api.util.dictionary;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import com.lucas.text_processing_api.util.collection.TopKHeap;
+
+/**
+ * Busca das K palavras de maior pontuação formáveis com um conjunto de peças
+ * 
+ * A pontuação de uma palavra é a soma dos valores das peças usadas; curingas
+ * valem zero. Para uma palavra fixa, usar a peça real sempre que houver é
+ * ótimo (vale ao menos o mesmo que o curinga e o curinga livre é mais útil
+ * depois), então a busca não precisa ramificar na escolha do curinga.
+ * 
+ * A busca é um branch-and-bound sobre a trie: antes de descer por um ramo,
+ * calcula um limite superior com a pontuação já acumulada mais as melhores
+ * peças restantes que ainda aparecem na subárvore, limitadas pela altura
+ * dela. Se o limite não supera a pior palavra retida no min-heap dos K
+ * melhores, o ramo inteiro é descartado.
+ * 
+ * Empates são resolvidos pela ordem lexicográfica, que é a ordem de visita
+ * da trie; por isso o resultado é determinístico. Em um dicionário
+ * sobreposto a trie das palavras acrescentadas é visitada depois da base,
+ * e nos empates as acrescentadas vêm depois.
+ * 
+ * @author Lucas
+ * @version 1.1
+ */
+public final class RackScorer {
+
+    /**
+     * Caractere que representa um curinga no conjunto de peças e no padrão
+     */
+    public static final char BLANK = '?';
+
+    /**
+     * Maior valor aceito para uma letra
+     */
+    public static final int MAX_LETTER_VALUE = 1000;
+
+    /** Valores das letras do Scrabble em inglês, de 'a' a 'z' */
+    private static final int[] SCRABBLE_VALUES = {
+        1, 3, 3, 2, 1, 4, 2, 4, 1, 8, 5, 1, 3, 1, 1, 3, 10, 1, 1, 1, 1, 4, 4, 8, 4, 10
+    };
+
+    private final DictionaryTrie trie;
+    private final int[] letterValues;
+    private final int[] lettersByValue;
+
+    /**
+     * Palavra encontrada e sua pontuação
+     */
+    public static final class Match {
+
+        private final int wordId;
+        private final int score;
+
+        Match(int wordId, int score) {
+            this.wordId = wordId;
+            this.score = score;
+        }
+
+        /**
+         * @return id da palavra no dicionário
+         */
+        public int getWordId() {
+            return wordId;
+        }
+
+        /**
+         * @return pontuação da palavra com as peças informadas
+         */
+        public int getScore() {
+            return score;
+        }
+    }
+
+    /**
+     * @param trie trie do dicionário
+     * @param letterValues valor de cada letra (índice 0 para 'a')
+     */
+    public RackScorer(DictionaryTrie trie, int[] letterValues) {
+        if (letterValues.length != LetterSignature.ALPHABET_SIZE) {
+            throw new IllegalArgumentException("São necessários valores para as 26 letras");
+        }
+        for (int value : letterValues) {
+            if (value < 0 || value > MAX_LETTER_VALUE) {
+                throw new IllegalArgumentException("Valor de letra fora do intervalo: " + value);
+            }
+        }
+
+        this.trie = trie;
+        this.letterValues = letterValues.clone();
+
+        Integer[] order = new Integer[LetterSignature.ALPHABET_SIZE];
+        for (int letter = 0; letter < order.length; letter++) {
+            order[letter] = letter;
+        }
+        Arrays.sort(order, (a, b) -> Integer.compare(this.letterValues[b], this.letterValues[a]));
+        this.lettersByValue = Arrays.stream(order).mapToInt(Integer::intValue).toArray();
+    }
+
+    /**
+     * @return cópia dos valores padrão (Scrabble em inglês)
+     */
+    public static int[] defaultLetterValues() {
+        return SCRABBLE_VALUES.clone();
+    }
+
+    /**
+     * Lê valores de letras no formato "a=1,b=3,..." sobre uma base
+     * 
+     * @param spec especificação; vazia ou nula mantém a base
+     * @param base valores usados para as letras não informadas
+     * @return novos valores
+     * @throws IllegalArgumentException se a especificação for inválida
+     */
+    public static int[] parseLetterValues(String spec, int[] base) {
+        int[] values = base.clone();
+        if (spec == null || spec.isBlank()) {
+            return values;
+        }
+
+        for (String entry : spec.split(",")) {
+            String[] parts = entry.split("=");
+            if (parts.length != 2 || !parts[0].trim().matches("^[a-zA-Z]$")) {
+                throw new IllegalArgumentException("Valor de letra inválido: " + entry.trim());
+            }
+            int value;
+            try {
+                value = Integer.parseInt(parts[1].trim());
+            } catch (NumberFormatException e) {
+                throw new IllegalArgumentException("Valor de letra inválido: " + entry.trim());
+            }
+            if (value < 0 || value > MAX_LETTER_VALUE) {
+                throw new IllegalArgumentException("Valor de letra fora do intervalo: " + entry.trim());
+            }
+            values[Character.toLowerCase(parts[0].trim().charAt(0)) - 'a'] = value;
+        }
+        return values;
+    }
+
+    /**
+     * Busca as palavras de maior pontuação
+     * 
+     * O padrão restringe a forma da palavra: cada posição é uma letra fixa ou
+     * {@link #BLANK} para qualquer letra, e o comprimento deve ser igual ao do
+     * padrão. As letras fixas também precisam vir das peças disponíveis.
+     * 
+     * O histograma é modificado durante a busca e restaurado ao final.
+     * 
+     * @param counts peças disponíveis por letra (0 para 'a')
+     * @param blanks quantidade de curingas
+     * @param minLength comprimento mínimo
+     * @param maxLength comprimento máximo
+     * @param pattern padrão normalizado (a-z e {@link #BLANK}), ou null
+     * @param limit quantidade K de palavras retornadas
+     * @return até K palavras, da maior para a menor pontuação
+     */
+    public List<Match> topWords(int[] counts, int blanks, int minLength, int maxLength,
+                                String pattern, int limit) {
+        int min = minLength;
+        int max = maxLength;
+        int[] fixed = null;
+        if (pattern != null) {
+            min = Math.max(min, pattern.length());
+            max = Math.min(max, pattern.length());
+            fixed = new int[pattern.length()];
+            for (int i = 0; i < fixed.length; i++) {
+                char c = pattern.charAt(i);
+                fixed[i] = c == BLANK ? -1 : c - 'a';
+            }
+        }
+        if (min > max || limit < 1) {
+            return List.of();
+        }
+
+        int tiles = blanks;
+        for (int count : counts) {
+            tiles += count;
+        }
+
+        Search search = new Search(counts, blanks, tiles, min, max, fixed, new TopKHeap(limit));
+        for (DictionaryTrie part = trie; part != null; part = part.added()) {
+            search.trie = part;
+            search.visit(0, 0);
+        }
+
+        TopKHeap heap = search.heap;
+        long[] keys = new long[heap.size()];
+        int[] words = new int[heap.size()];
+        int found = heap.drainDescending(keys, words);
+
+        List<Match> result = new ArrayList<>(found);
+        for (int i = 0; i < found; i++) {
+            result.add(new Match(words[i], (int) (keys[i] >>> 32)));
+        }
+        return result;
+    }
+
+    /**
+     * Estado de uma busca: peças restantes e os K melhores até agora
+     */
+    private final class Search {
+
+        private final int[] counts;
+        private final int minLength;
+        private final int maxLength;
+        private final int[] fixed;
+        private final TopKHeap heap;
+        private DictionaryTrie trie;
+        private int blanks;
+        private int tiles;
+        private int sequence;
+
+        Search(int[] counts, int blanks, int tiles, int minLength, int maxLength, int[] fixed, TopKHeap heap) {
+            this.counts = counts;
+            this.blanks = blanks;
+            this.tiles = tiles;
+            this.minLength = minLength;
+            this.maxLength = maxLength;
+            this.fixed = fixed;
+            this.heap = heap;
+        }
+
+        void visit(int node, int score) {
+            int depth = trie.depth(node);
+            int word = trie.terminalWord(node);
+            if (word != DictionaryTrie.NO_WORD && depth >= minLength) {
+                // Empate na pontuação: quem foi visitado antes (menor lexicograficamente) vence
+                heap.offer((long) score << 32 | (0xFFFFFFFFL - sequence++), word);
+            }
+            if (depth == maxLength || tiles == 0) {
+                return;
+            }
+
+            for (int e = trie.firstEdge(node); e < trie.endEdge(node); e++) {
+                int letter = trie.edgeLetter(e);
+                if (fixed != null && fixed[depth] >= 0 && fixed[depth] != letter) {
+                    continue;
+                }
+
+                boolean blank = counts[letter] == 0;
+                if (blank && blanks == 0) {
+                    continue;
+                }
+                int gain = blank ? 0 : letterValues[letter];
+                if (blank) {
+                    blanks--;
+                } else {
+                    counts[letter]--;
+                }
+                tiles--;
+
+                int child = trie.edgeTarget(e);
+                if (worthVisiting(child, depth + 1, score + gain)) {
+                    visit(child, score + gain);
+                }
+
+                tiles++;
+                if (blank) {
+                    blanks++;
+                } else {
+                    counts[letter]++;
+                }
+            }
+        }
+
+        private boolean worthVisiting(int node, int depth, int score) {
+            int reach = Math.min(Math.min(maxLength - depth, trie.height(node)), tiles);
+            if (depth + reach < minLength) {
+                return false;
+            }
+            if (!heap.isFull()) {
+                return true;
+            }
+            return upperBound(trie.letterMask(node), reach, score) > heap.minKey() >>> 32;
+        }
+
+        /**
+         * Pontuação acumulada mais as melhores peças restantes presentes na subárvore
+         */
+        private long upperBound(int mask, int reach, int score) {
+            long bound = score;
+            for (int i = 0; i < lettersByValue.length && reach > 0; i++) {
+                int letter = lettersByValue[i];
+                if ((mask >>> letter & 1) != 0 && counts[letter] > 0) {
+                    int take = Math.min(counts[letter], reach);
+                    bound += (long) take * letterValues[letter];
+                    reach -= take;
+                }
+            }
+            return bound;
+        }
+    }
+}
@@ -0,0 +1,114 @@
+package com.lucas.text_processing_api.util.dictionary;
+
+import com.lucas.text_processing_api.util.collection.LongIntHashMap;
+
+import java.util.function.IntConsumer;
+
+/**
+ * Índice de palavras por assinatura de letras
+ * 
+ * Agrupa as palavras do dicionário pela assinatura de composição
+ * ({@link LetterSignature}). A tabela é um mapa primitivo de assinatura para
+ * grupo, e os grupos ficam em formato compacto (CSR): um array de início por
+ * grupo e um único array com os ids das palavras. Encontrar os anagramas reais
+ * de uma entrada é uma única consulta, sem gerar permutações.
+ * 
+ * O índice é imutável depois de construído e pode ser lido por várias
+ * threads sem sincronização. Para evitar a indexação a cada inicialização,
+ * o índice pode ser gravado em formato binário com {@link CompiledDictionary}.
+ * 
+ * @author Lucas
+ * @version 1.0
+ */
+public final class SignatureIndex implements DictionaryIndex {
+
+    private final String[] words;
+    private final LongIntHashMap groupBySignature;
+    private final int[] groupStart;
+    private final int[] groupWords;
+
+    /**
+     * Constrói o índice
+     * 
+     * @param words palavras normalizadas e sem repetição; o id de cada
+     *              palavra é sua posição no array
+     */
+    public SignatureIndex(String[] words) {
+        this.words = words;
+        this.groupBySignature = new LongIntHashMap(words.length);
+
+        // 1ª passada: atribui grupos e conta palavras por grupo
+        int[] groupOfWord = new int[words.length];
+        int[] groupSizes = new int[Math.max(words.length, 1)];
+        int groups = 0;
+        for (int id = 0; id < words.length; id++) {
+            long signature = LetterSignature.of(words[id]);
+            int group = groupBySignature.putIfAbsent(signature, groups);
+            if (group == LongIntHashMap.MISSING) {
+                group = groups++;
+            }
+            groupOfWord[id] = group;
+            groupSizes[group]++;
+        }
+
+        // 2ª passada: prefixos e preenchimento dos grupos (ids em ordem crescente)
+        this.groupStart = new int[groups + 1];
+        for (int g = 0; g < groups; g++) {
+            groupStart[g + 1] = groupStart[g] + groupSizes[g];
+        }
+
+        this.groupWords = new int[words.length];
+        int[] cursor = new int[groups];
+        for (int id = 0; id < words.length; id++) {
+            int group = groupOfWord[id];
+            groupWords[groupStart[group] + cursor[group]++] = id;
+        }
+    }
+
+    @Override
+    public int wordCount() {
+        return words.length;
+    }
+
+    @Override
+    public int groupCount() {
+        return groupStart.length - 1;
+    }
+
+    @Override
+    public String word(int id) {
+        return words[id];
+    }
+
+    @Override
+    public void forEachWithSignature(long signature, IntConsumer consumer) {
+        int group = groupBySignature.get(signature);
+        if (group == LongIntHashMap.MISSING) {
+            return;
+        }
+        for (int i = groupStart[group]; i < groupStart[group + 1]; i++) {
+            consumer.accept(groupWords[i]);
+        }
+    }
+
+    /**
+     * Início de cada grupo em {@link #groupWords()}, com uma posição extra no fim
+     */
+    int[] groupStart() {
+        return groupStart;
+    }
+
+    /**
+     * Ids das palavras agrupados por assinatura
+     */
+    int[] groupWords() {
+        return groupWords;
+    }
+
+    @Override
+    public long memoryBytes() {
+        return groupBySignature.memoryBytes()
+            + (long) groupStart.length * Integer.BYTES
+            + (long) groupWords.length * Integer.BYTES;
+    }
+}
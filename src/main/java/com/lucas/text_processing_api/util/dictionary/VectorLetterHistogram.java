@@ -0,0 +1,60 @@
+package com.lucas.text_processing_api.util.dictionary;
+
+import jdk.incubator.vector.ByteVector;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * Núcleo vetorial da contagem de letras (Vector API, módulo incubador)
+ * 
+ * Só é carregado quando o módulo jdk.incubator.vector está presente; caso
+ * contrário {@link LetterHistogram} usa o laço escalar. Processa blocos do
+ * tamanho do vetor preferido da plataforma e devolve a posição onde parou,
+ * deixando o restante para o laço escalar.
+ * 
+ * @author Lucas
+ * @version 1.1
+ */
+final class VectorLetterHistogram {
+
+    private static final VectorSpecies<Byte> SPECIES = ByteVector.SPECIES_PREFERRED;
+
+    private VectorLetterHistogram() {
+    }
+
+    /**
+     * @return quantidade de bytes por vetor na plataforma
+     */
+    static int lanes() {
+        return SPECIES.length();
+    }
+
+    /**
+     * Acumula as letras ASCII dos blocos completos do intervalo
+     * 
+     * @param text bytes do texto
+     * @param from início do intervalo
+     * @param to fim do intervalo (exclusivo)
+     * @param counts contadores por letra, incrementados
+     * @return letras contadas no alto e, no baixo, a posição a partir da qual o restante deve ser contado
+     */
+    static long count(byte[] text, int from, int to, int[] counts) {
+        int lanes = SPECIES.length();
+        int end = from + SPECIES.loopBound(to - from);
+        int i = from;
+        long total = 0;
+        for (; i < end; i += lanes) {
+            // Maiúsculas viram minúsculas; letras ficam em 0..25 e o resto fora (sem sinal)
+            ByteVector letters = ByteVector.fromArray(SPECIES, text, i).or((byte) 0x20).sub((byte) 'a');
+            int found = letters.compare(VectorOperators.UNSIGNED_LT, (byte) LetterSignature.ALPHABET_SIZE).trueCount();
+            if (found == 0) {
+                continue;
+            }
+            total += found;
+            for (int letter = 0; letter < LetterSignature.ALPHABET_SIZE; letter++) {
+                counts[letter] += letters.eq((byte) letter).trueCount();
+            }
+        }
+        return total << 32 | i;
+    }
+}
@@ -0,0 +1,56 @@
+package com.lucas.text_processing_api.util.dictionary;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Leitor de listas de palavras
+ * 
+ * Formato: uma palavra por linha; linhas vazias e iniciadas por '#' são
+ * ignoradas. As palavras são normalizadas com {@link LetterSignature#normalize}
+ * (minúsculas, sem acentos) e as que contêm outros caracteres são descartadas.
+ * Repetições mantêm apenas a primeira ocorrência, preservando a ordem do arquivo.
+ * 
+ * @author Lucas
+ * @version 1.0
+ */
+public final class WordListReader {
+
+    private WordListReader() {
+    }
+
+    /**
+     * Lê e normaliza a lista de palavras
+     * 
+     * @param input conteúdo da lista (UTF-8)
+     * @return palavras normalizadas, sem repetição, na ordem do arquivo
+     * @throws IOException se a leitura falhar
+     */
+    public static String[] read(InputStream input) throws IOException {
+        List<String> words = new ArrayList<>();
+        Set<String> seen = new HashSet<>();
+
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(input, StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (line.isBlank() || line.startsWith("#")) {
+                    continue;
+                }
+
+                String word = LetterSignature.normalize(line);
+                if (word != null && seen.add(word)) {
+                    words.add(word);
+                }
+            }
+        }
+
+        return words.toArray(new String[0]);
+    }
+}
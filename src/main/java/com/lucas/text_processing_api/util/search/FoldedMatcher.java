@@ -0,0 +1,107 @@
+package com.lucas.text_processing_api.util.search;
+
+import com.lucas.text_processing_api.util.collection.IntArrayList;
+
+/**
+ * Busca de uma substring de bytes sem diferenciar maiúsculas ASCII, em tempo linear
+ * 
+ * Usa o algoritmo de Knuth-Morris-Pratt sobre a consulta já em minúsculas:
+ * a tabela de falhas diz, para cada prefixo casado, o maior prefixo que
+ * também é sufixo dele, então uma divergência nunca faz o texto recuar e
+ * cada byte é lido uma vez. Depois de uma ocorrência a busca continua pela
+ * mesma tabela, o que encontra também as sobrepostas sem recomeçar; o total
+ * é O(n + m) mesmo em textos como "aaaa…" com consultas "aaa".
+ * 
+ * A consulta é compilada uma vez e pode ser usada em vários textos.
+ * 
+ * @author Lucas
+ * @version 1.0
+ */
+public final class FoldedMatcher {
+
+    private final byte[] pattern;
+    private final int[] failure;
+
+    /**
+     * @param query substring procurada, com pelo menos um byte
+     * @throws IllegalArgumentException se a consulta estiver vazia
+     */
+    public FoldedMatcher(byte[] query) {
+        if (query.length == 0) {
+            throw new IllegalArgumentException("A consulta não pode estar vazia");
+        }
+        pattern = new byte[query.length];
+        for (int i = 0; i < query.length; i++) {
+            pattern[i] = fold(query[i]);
+        }
+
+        // failure[k]: tamanho do maior prefixo próprio de pattern[0..k] que também é sufixo dele
+        failure = new int[pattern.length];
+        int matched = 0;
+        for (int i = 1; i < pattern.length; i++) {
+            while (matched > 0 && pattern[i] != pattern[matched]) {
+                matched = failure[matched - 1];
+            }
+            if (pattern[i] == pattern[matched]) {
+                matched++;
+            }
+            failure[i] = matched;
+        }
+    }
+
+    /**
+     * Procura a primeira ocorrência a partir de uma posição
+     * 
+     * @param text texto
+     * @param from posição inicial
+     * @return posição da ocorrência, ou -1 se não houver
+     */
+    public int indexOf(byte[] text, int from) {
+        int matched = 0;
+        for (int i = Math.max(from, 0); i < text.length; i++) {
+            matched = advance(matched, fold(text[i]));
+            if (matched == pattern.length) {
+                return i - pattern.length + 1;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Conta todas as ocorrências, inclusive sobrepostas, em uma passada
+     * 
+     * @param text texto
+     * @param offsets destino das primeiras posições de ocorrência
+     * @param maxOffsets quantidade máxima de posições guardadas
+     * @return quantidade de ocorrências
+     */
+    public int count(byte[] text, IntArrayList offsets, int maxOffsets) {
+        int occurrences = 0;
+        int matched = 0;
+        for (int i = 0; i < text.length; i++) {
+            matched = advance(matched, fold(text[i]));
+            if (matched == pattern.length) {
+                if (occurrences < maxOffsets) {
+                    offsets.add(i - pattern.length + 1);
+                }
+                occurrences++;
+                matched = failure[matched - 1];
+            }
+        }
+        return occurrences;
+    }
+
+    private int advance(int matched, byte b) {
+        if (matched == pattern.length) {
+            matched = failure[matched - 1];
+        }
+        while (matched > 0 && b != pattern[matched]) {
+            matched = failure[matched - 1];
+        }
+        return b == pattern[matched] ? matched + 1 : matched;
+    }
+
+    private static byte fold(byte b) {
+        return b >= 'A' && b <= 'Z' ? (byte) (b | 0x20) : b;
+    }
+}
@@ -0,0 +1,129 @@
+package com.lucas.text_processing_api.util.search;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import com.lucas.text_processing_api.util.collection.HashMixer;
+import com.lucas.text_processing_api.util.collection.IntArrayList;
+import com.lucas.text_processing_api.util.collection.LongIntHashMap;
+
+/**
+ * Índice LSH por bandas de assinaturas MinHash
+ * 
+ * A assinatura é dividida em {@code bands} bandas de {@code rows} posições;
+ * documentos com alguma banda idêntica caem no mesmo balde e viram
+ * candidatos, sem comparar a consulta com todos os documentos. Com r linhas
+ * por banda e b bandas, documentos de similaridade s são candidatos com
+ * probabilidade 1 - (1 - s^r)^b.
+ * 
+ * Cada balde é uma lista encadeada em arrays primitivos: o mapa de cada
+ * banda aponta para a última entrada do balde e cada entrada (documento,
+ * banda) aponta para a anterior. Não é thread-safe.
+ * 
+ * @author Lucas
+ * @version 1.0
+ */
+public final class LshIndex {
+
+    private final int bands;
+    private final int rows;
+    private final LongIntHashMap[] bucketHeads;
+    private final IntArrayList nextEntry = new IntArrayList();
+    private final List<long[]> signatures = new ArrayList<>();
+
+    /**
+     * @param bands quantidade de bandas
+     * @param rows posições da assinatura por banda
+     */
+    public LshIndex(int bands, int rows) {
+        this.bands = bands;
+        this.rows = rows;
+        this.bucketHeads = new LongIntHashMap[bands];
+        for (int band = 0; band < bands; band++) {
+            bucketHeads[band] = new LongIntHashMap(1024);
+        }
+    }
+
+    /**
+     * Acrescenta um documento
+     * 
+     * @param signature assinatura com bands * rows posições
+     * @return identificador do documento, sequencial a partir de 0
+     */
+    public int add(long[] signature) {
+        checkLength(signature);
+        int docId = signatures.size();
+        signatures.add(signature);
+        for (int band = 0; band < bands; band++) {
+            long key = bandKey(signature, band);
+            int previous = bucketHeads[band].put(key, docId * bands + band);
+            nextEntry.add(previous);
+        }
+        return docId;
+    }
+
+    /**
+     * Documentos que compartilham ao menos uma banda com a assinatura
+     * 
+     * @param signature assinatura consultada
+     * @return identificadores distintos em ordem crescente
+     */
+    public int[] candidates(long[] signature) {
+        checkLength(signature);
+        IntArrayList found = new IntArrayList();
+        for (int band = 0; band < bands; band++) {
+            int entry = bucketHeads[band].get(bandKey(signature, band));
+            while (entry != LongIntHashMap.MISSING) {
+                found.add(entry / bands);
+                entry = nextEntry.get(entry);
+            }
+        }
+
+        int[] docs = found.toArray();
+        Arrays.sort(docs);
+        int distinct = 0;
+        for (int i = 0; i < docs.length; i++) {
+            if (i == 0 || docs[i] != docs[i - 1]) {
+                docs[distinct++] = docs[i];
+            }
+        }
+        return Arrays.copyOf(docs, distinct);
+    }
+
+    /**
+     * @param docId identificador do documento
+     * @return assinatura do documento
+     */
+    public long[] signature(int docId) {
+        return signatures.get(docId);
+    }
+
+    /**
+     * @return quantidade de documentos
+     */
+    public int size() {
+        return signatures.size();
+    }
+
+    /**
+     * Chave do balde de uma banda: hash das posições da banda, nunca 0
+     * 
+     * @param signature assinatura
+     * @param band índice da banda
+     * @return chave do balde
+     */
+    public long bandKey(long[] signature, int band) {
+        long hash = band;
+        for (int i = band * rows; i < (band + 1) * rows; i++) {
+            hash = HashMixer.mix(hash ^ signature[i]);
+        }
+        return hash == 0 ? 1 : hash;
+    }
+
+    private void checkLength(long[] signature) {
+        if (signature.length != bands * rows) {
+            throw new IllegalArgumentException("Assinatura deve ter " + bands * rows + " posições");
+        }
+    }
+}
@@ -0,0 +1,192 @@
+package com.lucas.text_processing_api.util.search;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+import com.lucas.text_processing_api.util.collection.HashMixer;
+import com.lucas.text_processing_api.util.text.ByteTokenizer;
+
+/**
+ * Assinaturas MinHash de textos sobre shingles de palavras
+ * 
+ * O texto é dividido em palavras direto sobre os bytes (as mesmas regras de
+ * {@link ByteTokenizer}, sem diferenciar maiúsculas ASCII); cada palavra vira
+ * um hash de 64 bits e cada sequência de {@code shingleWords} palavras
+ * consecutivas vira o hash do shingle. Cada posição da assinatura guarda o
+ * menor valor de uma função de hash diferente sobre os shingles, então a
+ * fração de posições iguais entre duas assinaturas estima a similaridade de
+ * Jaccard dos conjuntos de shingles.
+ * 
+ * As funções são transformações afins com constantes sorteadas de uma
+ * semente fixa, o que torna as assinaturas comparáveis entre execuções. Nada
+ * é alocado por palavra ou shingle: só a assinatura e um anel com os hashes
+ * das últimas palavras.
+ * 
+ * @author Lucas
+ * @version 1.0
+ */
+public final class MinHasher {
+
+    /** Documentos por tarefa na geração paralela de assinaturas */
+    private static final int BATCH_SPLIT = 4;
+
+    private final long[] multipliers;
+    private final long[] increments;
+    private final int shingleWords;
+
+    /**
+     * @param numHashes tamanho da assinatura
+     * @param shingleWords palavras por shingle
+     * @param seed semente das funções de hash
+     */
+    public MinHasher(int numHashes, int shingleWords, long seed) {
+        if (numHashes < 1 || shingleWords < 1) {
+            throw new IllegalArgumentException("Tamanho da assinatura e do shingle devem ser positivos");
+        }
+        SplittableRandom random = new SplittableRandom(seed);
+        this.multipliers = new long[numHashes];
+        this.increments = new long[numHashes];
+        for (int i = 0; i < numHashes; i++) {
+            multipliers[i] = random.nextLong() | 1;
+            increments[i] = random.nextLong();
+        }
+        this.shingleWords = shingleWords;
+    }
+
+    /**
+     * @return tamanho das assinaturas
+     */
+    public int numHashes() {
+        return multipliers.length;
+    }
+
+    /**
+     * Calcula a assinatura de um texto
+     * 
+     * Textos com menos palavras que um shingle formam um único shingle com
+     * todas elas.
+     * 
+     * @param text bytes do texto (ASCII ou UTF-8)
+     * @return assinatura, ou null se o texto não tem palavras
+     */
+    public long[] signature(byte[] text) {
+        long[] signature = new long[multipliers.length];
+        Arrays.fill(signature, Long.MAX_VALUE);
+        long[] recent = new long[shingleWords];
+        long words = 0;
+        long wordHash = 0;
+        boolean inWord = false;
+
+        for (int i = 0; i <= text.length; i++) {
+            byte b = i < text.length ? text[i] : (byte) ' ';
+            if (ByteTokenizer.isWordByte(b)) {
+                wordHash = wordHash * 31 + (b >= 'A' && b <= 'Z' ? b | 0x20 : b);
+                inWord = true;
+            } else if (inWord) {
+                recent[(int) (words % shingleWords)] = HashMixer.mix(wordHash);
+                words++;
+                if (words >= shingleWords) {
+                    update(signature, shingleHash(recent, words, shingleWords));
+                }
+                wordHash = 0;
+                inWord = false;
+            }
+        }
+
+        if (words == 0) {
+            return null;
+        }
+        if (words < shingleWords) {
+            update(signature, shingleHash(recent, words, (int) words));
+        }
+        return signature;
+    }
+
+    /**
+     * Calcula as assinaturas de vários textos em paralelo
+     * 
+     * @param texts bytes dos textos
+     * @param pool pool usado para dividir os textos entre threads
+     * @return assinaturas na ordem dos textos (null para textos sem palavras)
+     */
+    public long[][] signatures(List<byte[]> texts, ForkJoinPool pool) {
+        long[][] signatures = new long[texts.size()][];
+        SignatureTask task = new SignatureTask(texts, signatures, 0, texts.size());
+        if (texts.size() <= BATCH_SPLIT) {
+            task.compute();
+        } else {
+            pool.invoke(task);
+        }
+        return signatures;
+    }
+
+    /**
+     * Estima a similaridade de Jaccard pela fração de posições iguais
+     * 
+     * @param left primeira assinatura
+     * @param right segunda assinatura, do mesmo tamanho
+     * @return similaridade estimada entre 0 e 1
+     */
+    public static double similarity(long[] left, long[] right) {
+        int equal = 0;
+        for (int i = 0; i < left.length; i++) {
+            if (left[i] == right[i]) {
+                equal++;
+            }
+        }
+        return (double) equal / left.length;
+    }
+
+    private void update(long[] signature, long shingle) {
+        for (int i = 0; i < signature.length; i++) {
+            long value = multipliers[i] * shingle + increments[i];
+            value ^= value >>> 32;
+            if (value < signature[i]) {
+                signature[i] = value;
+            }
+        }
+    }
+
+    /** Combina os hashes das últimas palavras na ordem em que apareceram */
+    private static long shingleHash(long[] recent, long words, int count) {
+        long hash = count;
+        for (long w = words - count; w < words; w++) {
+            hash = hash * 0x9E3779B97F4A7C15L + recent[(int) (w % recent.length)];
+        }
+        return HashMixer.mix(hash);
+    }
+
+    /**
+     * Calcula as assinaturas de um intervalo de textos, dividindo-o enquanto for grande
+     */
+    private final class SignatureTask extends RecursiveAction {
+
+        private final List<byte[]> texts;
+        private final long[][] signatures;
+        private final int from;
+        private final int to;
+
+        SignatureTask(List<byte[]> texts, long[][] signatures, int from, int to) {
+            this.texts = texts;
+            this.signatures = signatures;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= BATCH_SPLIT) {
+                for (int i = from; i < to; i++) {
+                    signatures[i] = signature(texts.get(i));
+                }
+                return;
+            }
+            int middle = (from + to) >>> 1;
+            invokeAll(new SignatureTask(texts, signatures, from, middle),
+                new SignatureTask(texts, signatures, middle, to));
+        }
+    }
+}
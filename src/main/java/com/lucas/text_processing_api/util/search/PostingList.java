@@ -0,0 +1,120 @@
+package com.lucas.text_processing_api.util.search;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+import com.lucas.text_processing_api.util.collection.IntArrayList;
+
+/**
+ * Lista crescente de identificadores de documento comprimida
+ * 
+ * Cada identificador é gravado como a diferença para o anterior em varint
+ * (7 bits por byte, bit alto indicando continuação), então documentos
+ * próximos custam um byte. Os identificadores só podem ser acrescentados
+ * em ordem crescente; repetir o último é ignorado, o que permite acrescentar
+ * um documento uma vez para cada n-grama dele sem deduplicar antes.
+ * 
+ * @author Lucas
+ * @version 1.0
+ */
+public final class PostingList {
+
+    private byte[] data = new byte[4];
+    private int length;
+    private int size;
+    private int lastDoc = -1;
+
+    /**
+     * Acrescenta um documento
+     * 
+     * @param docId identificador, maior ou igual ao último acrescentado
+     * @throws IllegalArgumentException se o identificador for menor que o último
+     */
+    public void add(int docId) {
+        if (docId == lastDoc) {
+            return;
+        }
+        if (docId < lastDoc) {
+            throw new IllegalArgumentException("Documentos devem ser acrescentados em ordem crescente");
+        }
+        if (length + 5 > data.length) {
+            data = Arrays.copyOf(data, Math.max(data.length * 2, length + 5));
+        }
+        length = writeVarInt(data, length, docId - lastDoc - 1);
+        lastDoc = docId;
+        size++;
+    }
+
+    /**
+     * @return quantidade de documentos
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * @return último documento acrescentado, ou -1 se vazia
+     */
+    public int lastDoc() {
+        return lastDoc;
+    }
+
+    /**
+     * @return bytes codificados (válidos até {@link #length()})
+     */
+    public byte[] data() {
+        return data;
+    }
+
+    /**
+     * @return quantidade de bytes codificados
+     */
+    public int length() {
+        return length;
+    }
+
+    /**
+     * Memória aproximada ocupada pela lista
+     * 
+     * @return bytes ocupados
+     */
+    public long memoryBytes() {
+        return data.length + 32L;
+    }
+
+    /**
+     * Decodifica uma lista gravada por {@link #add(int)}
+     * 
+     * @param encoded bytes codificados (heap ou mapeados)
+     * @param offset início da lista
+     * @param length quantidade de bytes da lista
+     * @param previousDoc último documento antes da lista, ou -1
+     * @param out destino dos identificadores
+     */
+    public static void decode(ByteBuffer encoded, int offset, int length, int previousDoc, IntArrayList out) {
+        int doc = previousDoc;
+        int position = offset;
+        int end = offset + length;
+        while (position < end) {
+            int delta = 0;
+            int shift = 0;
+            byte b;
+            do {
+                b = encoded.get(position++);
+                delta |= (b & 0x7F) << shift;
+                shift += 7;
+            } while (b < 0);
+            doc += delta + 1;
+            out.add(doc);
+        }
+    }
+
+    private static int writeVarInt(byte[] target, int position, int value) {
+        while ((value & ~0x7F) != 0) {
+            target[position++] = (byte) ((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        target[position++] = (byte) value;
+        return position;
+    }
+}
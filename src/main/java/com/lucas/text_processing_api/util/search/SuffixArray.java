@@ -0,0 +1,448 @@
+package com.lucas.text_processing_api.util.search;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+
+/**
+ * Array de sufixos com LCP dos bytes de um documento
+ * 
+ * A construção usa o SA-IS (ordenação por sufixos induzida), linear no
+ * tamanho do texto, e o LCP entre sufixos vizinhos é calculado pelo
+ * algoritmo de Kasai, também linear. Letras ASCII são indexadas em
+ * minúsculas, então as consultas não diferenciam maiúsculas.
+ * 
+ * Texto, sufixos e LCP ficam em um único buffer fora do heap: direto logo
+ * após a construção, ou um arquivo mapeado em memória depois de
+ * {@link #save(Path)} e {@link #load(Path)}. Os arrays temporários da
+ * construção são descartados ao final, e as consultas leem o buffer sem
+ * copiar nada para o heap.
+ * 
+ * Uma substring de m bytes ocupa um intervalo contíguo do array, localizado
+ * por duas buscas binárias de O(m log n) comparações. O maior trecho
+ * repetido é o maior valor do LCP e é calculado na construção.
+ * 
+ * Imutável e seguro para leitura concorrente.
+ * 
+ * @author Lucas
+ * @version 1.0
+ */
+public final class SuffixArray {
+
+    private static final int MAGIC = 0x53414631;
+    private static final int FORMAT_VERSION = 1;
+    private static final int HEADER_BYTES = 24;
+    private static final int ALPHABET_UPPER = 255;
+
+    private final ByteBuffer data;
+    private final int length;
+    private final int suffixStart;
+    private final int lcpStart;
+
+    private SuffixArray(ByteBuffer data) {
+        this.data = data;
+        this.length = data.getInt(8);
+        this.suffixStart = suffixStart(length);
+        this.lcpStart = suffixStart + length * Integer.BYTES;
+    }
+
+    /**
+     * Constrói o array de sufixos de um texto
+     * 
+     * @param text bytes do documento
+     * @return array de sufixos em um buffer direto
+     * @throws IllegalArgumentException se o texto estiver vazio ou não couber em um buffer
+     */
+    public static SuffixArray build(byte[] text) {
+        int n = text.length;
+        if (n == 0) {
+            throw new IllegalArgumentException("O texto não pode estar vazio");
+        }
+        long total = (long) suffixStart(n) + 2L * n * Integer.BYTES;
+        if (total > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Texto grande demais para o array de sufixos");
+        }
+
+        int[] symbols = new int[n];
+        for (int i = 0; i < n; i++) {
+            symbols[i] = fold(text[i]) & 0xFF;
+        }
+        int[] suffixes = sais(symbols, ALPHABET_UPPER);
+        int[] lcp = lcp(symbols, suffixes);
+
+        int repeatLength = 0;
+        int repeatOffset = 0;
+        for (int i = 0; i < lcp.length; i++) {
+            if (lcp[i] > repeatLength) {
+                repeatLength = lcp[i];
+                repeatOffset = suffixes[i];
+            }
+        }
+
+        ByteBuffer data = ByteBuffer.allocateDirect((int) total);
+        data.putInt(0, MAGIC);
+        data.putInt(4, FORMAT_VERSION);
+        data.putInt(8, n);
+        data.putInt(12, repeatOffset);
+        data.putInt(16, repeatLength);
+        for (int i = 0; i < n; i++) {
+            data.put(HEADER_BYTES + i, (byte) symbols[i]);
+        }
+        int suffixStart = suffixStart(n);
+        for (int i = 0; i < n; i++) {
+            data.putInt(suffixStart + i * Integer.BYTES, suffixes[i]);
+            data.putInt(suffixStart + (n + i) * Integer.BYTES, lcp[i]);
+        }
+        return new SuffixArray(data);
+    }
+
+    /**
+     * Grava o array em um arquivo
+     * 
+     * O arquivo é escrito ao lado do destino e movido sobre ele ao final, então
+     * uma falha no meio não corrompe um array gravado antes.
+     * 
+     * @param file destino
+     * @throws IOException se o arquivo não puder ser gravado
+     */
+    public void save(Path file) throws IOException {
+        Path temp = file.resolveSibling(file.getFileName() + ".tmp");
+        try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING)) {
+            ByteBuffer source = data.duplicate().clear();
+            while (source.hasRemaining()) {
+                channel.write(source);
+            }
+        }
+        Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    /**
+     * Carrega um array gravado por {@link #save(Path)}, mapeando o arquivo
+     * 
+     * @param file arquivo do array
+     * @return array apoiado no arquivo mapeado
+     * @throws IOException se o arquivo não puder ser lido ou for inválido
+     */
+    public static SuffixArray load(Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size < HEADER_BYTES || size > Integer.MAX_VALUE) {
+                throw new IOException("Arquivo de array de sufixos inválido: " + file);
+            }
+            MappedByteBuffer data = channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+            if (data.getInt(0) != MAGIC || data.getInt(4) != FORMAT_VERSION) {
+                throw new IOException("Formato de array de sufixos não reconhecido: " + file);
+            }
+            int n = data.getInt(8);
+            if (n < 1 || size != suffixStart(n) + 2L * n * Integer.BYTES) {
+                throw new IOException("Arquivo de array de sufixos truncado: " + file);
+            }
+            return new SuffixArray(data);
+        }
+    }
+
+    /**
+     * @return quantidade de bytes do texto
+     */
+    public int length() {
+        return length;
+    }
+
+    /**
+     * @param position posição no texto
+     * @return byte do texto indexado (letras ASCII em minúsculas)
+     */
+    public byte byteAt(int position) {
+        return data.get(HEADER_BYTES + position);
+    }
+
+    /**
+     * Copia um trecho do texto indexado
+     * 
+     * @param position início do trecho
+     * @param count quantidade de bytes
+     * @return bytes do trecho (letras ASCII em minúsculas)
+     */
+    public byte[] bytes(int position, int count) {
+        byte[] result = new byte[count];
+        data.get(HEADER_BYTES + position, result);
+        return result;
+    }
+
+    /**
+     * @param rank posição na ordem dos sufixos
+     * @return início do sufixo nessa posição
+     */
+    public int suffix(int rank) {
+        return data.getInt(suffixStart + rank * Integer.BYTES);
+    }
+
+    /**
+     * @param rank posição na ordem dos sufixos
+     * @return prefixo comum entre o sufixo dessa posição e o seguinte (0 no último)
+     */
+    public int lcp(int rank) {
+        return data.getInt(lcpStart + rank * Integer.BYTES);
+    }
+
+    /**
+     * @return início da primeira ocorrência encontrada do maior trecho repetido
+     */
+    public int longestRepeatOffset() {
+        return data.getInt(12);
+    }
+
+    /**
+     * @return tamanho do maior trecho que aparece ao menos duas vezes, ou 0
+     */
+    public int longestRepeatLength() {
+        return data.getInt(16);
+    }
+
+    /**
+     * Intervalo da ordem dos sufixos que começam com o padrão
+     * 
+     * @param pattern bytes procurados (letras ASCII sem diferenciar maiúsculas)
+     * @return primeira posição nos 32 bits altos e fim exclusivo nos baixos; vazio se iguais
+     */
+    public long range(byte[] pattern) {
+        int from = bound(pattern, false);
+        int to = bound(pattern, true);
+        return (long) from << 32 | to;
+    }
+
+    /**
+     * @param pattern bytes procurados
+     * @return quantidade de ocorrências, inclusive sobrepostas
+     */
+    public int count(byte[] pattern) {
+        long range = range(pattern);
+        return (int) range - (int) (range >>> 32);
+    }
+
+    /**
+     * Posições das ocorrências de um padrão, em ordem crescente
+     * 
+     * @param pattern bytes procurados
+     * @param limit quantidade máxima de posições, as primeiras na ordem dos sufixos
+     * @return posições ordenadas
+     */
+    public int[] offsets(byte[] pattern, int limit) {
+        long range = range(pattern);
+        int from = (int) (range >>> 32);
+        int count = Math.min((int) range - from, limit);
+        int[] offsets = new int[count];
+        for (int i = 0; i < count; i++) {
+            offsets[i] = suffix(from + i);
+        }
+        Arrays.sort(offsets);
+        return offsets;
+    }
+
+    /**
+     * @return memória ocupada pelo buffer, fora do heap
+     */
+    public long memoryBytes() {
+        return data.capacity();
+    }
+
+    /**
+     * Primeira posição cujo sufixo é maior ou igual ao padrão (ou, com
+     * upper, maior que qualquer sufixo que começa com ele)
+     */
+    private int bound(byte[] pattern, boolean upper) {
+        int low = 0;
+        int high = length;
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            int compared = compare(suffix(middle), pattern);
+            if (compared < 0 || upper && compared == 0) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Compara o início do sufixo com o padrão; 0 se o sufixo começa com ele
+     */
+    private int compare(int position, byte[] pattern) {
+        int available = Math.min(pattern.length, length - position);
+        for (int k = 0; k < available; k++) {
+            int a = byteAt(position + k) & 0xFF;
+            int b = fold(pattern[k]) & 0xFF;
+            if (a != b) {
+                return a - b;
+            }
+        }
+        return available == pattern.length ? 0 : -1;
+    }
+
+    private static int suffixStart(int n) {
+        return HEADER_BYTES + ((n + 3) & ~3);
+    }
+
+    private static byte fold(byte b) {
+        return b >= 'A' && b <= 'Z' ? (byte) (b | 0x20) : b;
+    }
+
+    /**
+     * LCP de Kasai: lcp[i] é o prefixo comum entre os sufixos i e i + 1
+     */
+    private static int[] lcp(int[] s, int[] suffixes) {
+        int n = s.length;
+        int[] rank = new int[n];
+        for (int i = 0; i < n; i++) {
+            rank[suffixes[i]] = i;
+        }
+        int[] lcp = new int[n];
+        int h = 0;
+        for (int i = 0; i < n; i++) {
+            if (h > 0) {
+                h--;
+            }
+            if (rank[i] == 0) {
+                continue;
+            }
+            int j = suffixes[rank[i] - 1];
+            while (j + h < n && i + h < n && s[j + h] == s[i + h]) {
+                h++;
+            }
+            lcp[rank[i] - 1] = h;
+        }
+        return lcp;
+    }
+
+    /**
+     * SA-IS: classifica os sufixos em L e S, ordena os LMS por indução e,
+     * quando há LMS repetidos, resolve a ordem deles recursivamente em um
+     * texto reduzido com no máximo metade do tamanho
+     * 
+     * @param s símbolos do texto, entre 0 e upper
+     * @param upper maior símbolo possível
+     * @return início dos sufixos em ordem crescente
+     */
+    static int[] sais(int[] s, int upper) {
+        int n = s.length;
+        if (n == 1) {
+            return new int[] {0};
+        }
+        if (n == 2) {
+            return s[0] < s[1] ? new int[] {0, 1} : new int[] {1, 0};
+        }
+
+        int[] sa = new int[n];
+        boolean[] smaller = new boolean[n];
+        for (int i = n - 2; i >= 0; i--) {
+            smaller[i] = s[i] == s[i + 1] ? smaller[i + 1] : s[i] < s[i + 1];
+        }
+        int[] sumL = new int[upper + 1];
+        int[] sumS = new int[upper + 1];
+        for (int i = 0; i < n; i++) {
+            if (!smaller[i]) {
+                sumS[s[i]]++;
+            } else if (s[i] + 1 <= upper) {
+                sumL[s[i] + 1]++;
+            }
+        }
+        for (int i = 0; i <= upper; i++) {
+            sumS[i] += sumL[i];
+            if (i < upper) {
+                sumL[i + 1] += sumS[i];
+            }
+        }
+
+        int[] lmsMap = new int[n + 1];
+        Arrays.fill(lmsMap, -1);
+        int m = 0;
+        for (int i = 1; i < n; i++) {
+            if (!smaller[i - 1] && smaller[i]) {
+                lmsMap[i] = m++;
+            }
+        }
+        int[] lms = new int[m];
+        for (int i = 1, k = 0; i < n; i++) {
+            if (!smaller[i - 1] && smaller[i]) {
+                lms[k++] = i;
+            }
+        }
+        induce(s, sa, smaller, sumL, sumS, lms, m);
+
+        if (m > 0) {
+            int[] sortedLms = new int[m];
+            for (int i = 0, k = 0; i < n; i++) {
+                if (lmsMap[sa[i]] != -1) {
+                    sortedLms[k++] = sa[i];
+                }
+            }
+            int[] reduced = new int[m];
+            int reducedUpper = 0;
+            reduced[lmsMap[sortedLms[0]]] = 0;
+            for (int i = 1; i < m; i++) {
+                int left = sortedLms[i - 1];
+                int right = sortedLms[i];
+                int endLeft = lmsMap[left] + 1 < m ? lms[lmsMap[left] + 1] : n;
+                int endRight = lmsMap[right] + 1 < m ? lms[lmsMap[right] + 1] : n;
+                boolean same = true;
+                if (endLeft - left != endRight - right) {
+                    same = false;
+                } else {
+                    while (left < endLeft && s[left] == s[right]) {
+                        left++;
+                        right++;
+                    }
+                    if (left == n || s[left] != s[right]) {
+                        same = false;
+                    }
+                }
+                if (!same) {
+                    reducedUpper++;
+                }
+                reduced[lmsMap[sortedLms[i]]] = reducedUpper;
+            }
+
+            int[] reducedSa = sais(reduced, reducedUpper);
+            for (int i = 0; i < m; i++) {
+                sortedLms[i] = lms[reducedSa[i]];
+            }
+            induce(s, sa, smaller, sumL, sumS, sortedLms, m);
+        }
+        return sa;
+    }
+
+    private static void induce(int[] s, int[] sa, boolean[] smaller, int[] sumL, int[] sumS, int[] lms, int m) {
+        int n = s.length;
+        Arrays.fill(sa, -1);
+        int[] buffer = sumS.clone();
+        for (int i = 0; i < m; i++) {
+            int d = lms[i];
+            if (d != n) {
+                sa[buffer[s[d]]++] = d;
+            }
+        }
+        System.arraycopy(sumL, 0, buffer, 0, sumL.length);
+        sa[buffer[s[n - 1]]++] = n - 1;
+        for (int i = 0; i < n; i++) {
+            int v = sa[i];
+            if (v >= 1 && !smaller[v - 1]) {
+                sa[buffer[s[v - 1]]++] = v - 1;
+            }
+        }
+        System.arraycopy(sumL, 0, buffer, 0, sumL.length);
+        for (int i = n - 1; i >= 0; i--) {
+            int v = sa[i];
+            if (v >= 1 && smaller[v - 1]) {
+                sa[--buffer[s[v - 1] + 1]] = v - 1;
+            }
+        }
+    }
+}
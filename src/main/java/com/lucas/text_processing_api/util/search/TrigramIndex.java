@@ -0,0 +1,489 @@
+package com.lucas.text_processing_api.util.search;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import com.lucas.text_processing_api.util.collection.IntArrayList;
+import com.lucas.text_processing_api.util.collection.LongIntHashMap;
+
+/**
+ * Índice invertido de trigramas de bytes para busca de substrings
+ * 
+ * Cada sequência de 3 bytes de um documento (letras ASCII em minúsculas)
+ * aponta para a lista comprimida ({@link PostingList}) dos documentos que a
+ * contêm. Uma substring com pelo menos 3 bytes só pode estar nos documentos
+ * presentes em todas as listas dos seus trigramas; a interseção começa pela
+ * lista mais curta e o resultado são candidatos, que ainda precisam ser
+ * confirmados no conteúdo. O índice pode dar falsos positivos, nunca falsos
+ * negativos.
+ * 
+ * O índice é formado por segmentos gravados, cada um um arquivo mapeado em
+ * memória com um intervalo contíguo de documentos, e por um segmento em
+ * memória que recebe os documentos acrescentados depois. Os identificadores
+ * de documento são crescentes, então as listas dos segmentos se concatenam
+ * já ordenadas.
+ * 
+ * {@link #persist(Path)} grava só o segmento em memória como um novo
+ * arquivo, passa a usá-lo mapeado e junta o último segmento ao anterior
+ * enquanto ele for ao menos do mesmo tamanho; cada junção ao menos dobra o
+ * segmento que recebe os documentos, então cada documento é regravado
+ * O(log n) vezes e o custo total das gravações fica O(n log n).
+ * {@link #open(Path)} reabre a sequência de segmentos de um diretório.
+ * 
+ * Não é thread-safe: escritas devem ser serializadas com as leituras.
+ * 
+ * @author Lucas
+ * @version 1.2
+ */
+public final class TrigramIndex {
+
+    /**
+     * Tamanho dos n-gramas indexados, em bytes
+     */
+    public static final int GRAM_BYTES = 3;
+
+    private static final int MAGIC = 0x54474931;
+    private static final int FORMAT_VERSION = 2;
+    private static final int HEADER_BYTES = 20;
+    private static final int ENTRY_BYTES = 16;
+    private static final String SEGMENT_PREFIX = "trigrams-";
+    private static final String SEGMENT_EXTENSION = ".idx";
+    private static final Pattern SEGMENT_NAME = Pattern.compile("trigrams-(\\d+)-(\\d+)\\.idx");
+
+    private final List<Segment> segments = new ArrayList<>();
+    private LongIntHashMap gramSlots = new LongIntHashMap(1024);
+    private List<PostingList> postings = new ArrayList<>();
+    private int memoryFirstDoc;
+    private int documentCount;
+
+    /**
+     * Segmento gravado: diretório de trigramas no heap e listas no arquivo mapeado
+     */
+    private static final class Segment {
+
+        private final Path file;
+        private final int firstDoc;
+        private final int endDoc;
+        private final int[] grams;
+        private final int[] frequencies;
+        private final int[] offsets;
+        private final int[] lengths;
+        private final ByteBuffer data;
+
+        Segment(Path file, int firstDoc, int endDoc, int[] grams, int[] frequencies, int[] offsets, int[] lengths,
+                ByteBuffer data) {
+            this.file = file;
+            this.firstDoc = firstDoc;
+            this.endDoc = endDoc;
+            this.grams = grams;
+            this.frequencies = frequencies;
+            this.offsets = offsets;
+            this.lengths = lengths;
+            this.data = data;
+        }
+
+        int find(long key) {
+            return Arrays.binarySearch(grams, (int) (key - 1));
+        }
+
+        long bytes() {
+            return data.capacity();
+        }
+    }
+
+    /**
+     * Indexa um documento
+     * 
+     * @param docId identificador, maior ou igual a {@link #documentCount()}
+     * @param content conteúdo do documento
+     * @throws IllegalArgumentException se o identificador já foi usado
+     */
+    public void add(int docId, byte[] content) {
+        if (docId < documentCount) {
+            throw new IllegalArgumentException("Documento já indexado: " + docId);
+        }
+        for (int i = 0; i + GRAM_BYTES <= content.length; i++) {
+            long key = gramKey(content, i);
+            int slot = gramSlots.get(key);
+            if (slot == LongIntHashMap.MISSING) {
+                slot = postings.size();
+                postings.add(new PostingList());
+                gramSlots.put(key, slot);
+            }
+            postings.get(slot).add(docId);
+        }
+        documentCount = docId + 1;
+    }
+
+    /**
+     * @return identificador seguinte ao último documento indexado
+     */
+    public int documentCount() {
+        return documentCount;
+    }
+
+    /**
+     * @return quantidade de segmentos gravados em uso
+     */
+    public int segmentCount() {
+        return segments.size();
+    }
+
+    /**
+     * Documentos que contêm todos os trigramas da consulta
+     * 
+     * @param query substring procurada
+     * @return identificadores candidatos em ordem crescente, ou null se a
+     *         consulta tem menos de {@link #GRAM_BYTES} bytes e não pode ser filtrada
+     */
+    public int[] candidates(byte[] query) {
+        if (query.length < GRAM_BYTES) {
+            return null;
+        }
+
+        long[] keys = new long[query.length - GRAM_BYTES + 1];
+        for (int i = 0; i < keys.length; i++) {
+            keys[i] = gramKey(query, i);
+        }
+        Arrays.sort(keys);
+        int distinct = 0;
+        for (int i = 0; i < keys.length; i++) {
+            if (i == 0 || keys[i] != keys[i - 1]) {
+                keys[distinct++] = keys[i];
+            }
+        }
+
+        // Ordena por frequência para começar a interseção pela menor lista
+        long[] byFrequency = new long[distinct];
+        for (int i = 0; i < distinct; i++) {
+            long frequency = frequency(keys[i]);
+            if (frequency == 0) {
+                return new int[0];
+            }
+            byFrequency[i] = frequency << 32 | i;
+        }
+        Arrays.sort(byFrequency);
+
+        int[] result = postings(keys[(int) byFrequency[0]], segments, true);
+        for (int i = 1; i < distinct && result.length > 0; i++) {
+            result = intersect(result, postings(keys[(int) byFrequency[i]], segments, true));
+        }
+        return result;
+    }
+
+    /**
+     * @return quantidade de trigramas distintos somada por segmento (os comuns contam uma vez em cada)
+     */
+    public int gramCount() {
+        int count = postings.size();
+        for (Segment segment : segments) {
+            count += segment.grams.length;
+        }
+        return count;
+    }
+
+    /**
+     * Memória de heap aproximada ocupada pelo índice (as listas mapeadas não contam)
+     * 
+     * @return bytes ocupados
+     */
+    public long memoryBytes() {
+        long bytes = gramSlots.memoryBytes();
+        for (Segment segment : segments) {
+            bytes += (long) segment.grams.length * Integer.BYTES * 4;
+        }
+        for (PostingList posting : postings) {
+            bytes += posting.memoryBytes();
+        }
+        return bytes;
+    }
+
+    /**
+     * Grava o segmento em memória em um novo arquivo do diretório e junta os
+     * últimos segmentos enquanto o mais novo for ao menos do tamanho do anterior
+     * 
+     * Depois da gravação o segmento passa a ser lido do arquivo mapeado e a
+     * memória que ele ocupava é liberada. Arquivos de segmentos substituídos
+     * por uma junção são apagados.
+     * 
+     * @param directory diretório dos segmentos
+     * @throws IOException se um segmento não puder ser gravado ou mapeado
+     */
+    public void persist(Path directory) throws IOException {
+        if (documentCount > memoryFirstDoc) {
+            Path file = segmentFile(directory, memoryFirstDoc, documentCount);
+            write(file, List.of(), true, memoryFirstDoc, documentCount);
+            segments.add(read(file));
+            gramSlots = new LongIntHashMap(1024);
+            postings = new ArrayList<>();
+            memoryFirstDoc = documentCount;
+        }
+
+        while (segments.size() >= 2) {
+            Segment last = segments.get(segments.size() - 1);
+            Segment previous = segments.get(segments.size() - 2);
+            if (last.bytes() < previous.bytes()) {
+                break;
+            }
+            Path file = segmentFile(directory, previous.firstDoc, last.endDoc);
+            write(file, List.of(previous, last), false, previous.firstDoc, last.endDoc);
+            segments.set(segments.size() - 2, read(file));
+            segments.remove(segments.size() - 1);
+            deleteQuietly(previous.file);
+            deleteQuietly(last.file);
+        }
+    }
+
+    /**
+     * Reabre os segmentos gravados por {@link #persist(Path)} em um diretório
+     * 
+     * Os segmentos são encadeados a partir do documento 0, preferindo o que
+     * cobre mais documentos; arquivos fora da sequência (restos de uma junção
+     * interrompida) ou inválidos são apagados e os documentos que eles
+     * cobririam devem ser reindexados.
+     * 
+     * @param directory diretório dos segmentos
+     * @return índice com os segmentos encontrados
+     * @throws IOException se o diretório não puder ser listado
+     */
+    public static TrigramIndex open(Path directory) throws IOException {
+        List<long[]> names = new ArrayList<>();
+        List<Path> files = new ArrayList<>();
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(directory, SEGMENT_PREFIX + "*" + SEGMENT_EXTENSION)) {
+            for (Path file : stream) {
+                Matcher matcher = SEGMENT_NAME.matcher(file.getFileName().toString());
+                if (matcher.matches()) {
+                    names.add(new long[] {Long.parseLong(matcher.group(1)), Long.parseLong(matcher.group(2)), files.size()});
+                    files.add(file);
+                }
+            }
+        }
+        // Por início crescente e, no mesmo início, pelo maior fim
+        names.sort((a, b) -> a[0] != b[0] ? Long.compare(a[0], b[0]) : Long.compare(b[1], a[1]));
+
+        TrigramIndex index = new TrigramIndex();
+        for (long[] name : names) {
+            Path file = files.get((int) name[2]);
+            if (name[0] == index.documentCount && name[1] > name[0]) {
+                try {
+                    Segment segment = read(file);
+                    if (segment.firstDoc == name[0] && segment.endDoc == name[1]) {
+                        index.segments.add(segment);
+                        index.documentCount = segment.endDoc;
+                        continue;
+                    }
+                } catch (IOException e) {
+                    // Inválido: os documentos do intervalo são reindexados por quem abriu o índice
+                }
+            }
+            deleteQuietly(file);
+        }
+        index.memoryFirstDoc = index.documentCount;
+        return index;
+    }
+
+    /**
+     * Apaga os segmentos gravados em um diretório
+     * 
+     * @param directory diretório dos segmentos
+     * @throws IOException se o diretório não puder ser listado
+     */
+    public static void deleteSegments(Path directory) throws IOException {
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(directory, SEGMENT_PREFIX + "*" + SEGMENT_EXTENSION)) {
+            for (Path file : stream) {
+                deleteQuietly(file);
+            }
+        }
+    }
+
+    private static Segment read(Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size < HEADER_BYTES || size > Integer.MAX_VALUE) {
+                throw new IOException("Arquivo de índice inválido: " + file);
+            }
+            MappedByteBuffer data = channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+            if (data.getInt(0) != MAGIC || data.getInt(4) != FORMAT_VERSION) {
+                throw new IOException("Formato de índice não reconhecido: " + file);
+            }
+            int firstDoc = data.getInt(8);
+            int endDoc = data.getInt(12);
+            int count = data.getInt(16);
+            if (firstDoc < 0 || endDoc < firstDoc || (long) HEADER_BYTES + (long) count * ENTRY_BYTES > size) {
+                throw new IOException("Arquivo de índice truncado: " + file);
+            }
+
+            int[] grams = new int[count];
+            int[] frequencies = new int[count];
+            int[] offsets = new int[count];
+            int[] lengths = new int[count];
+            for (int i = 0; i < count; i++) {
+                int entry = HEADER_BYTES + i * ENTRY_BYTES;
+                grams[i] = data.getInt(entry);
+                frequencies[i] = data.getInt(entry + 4);
+                offsets[i] = data.getInt(entry + 8);
+                lengths[i] = data.getInt(entry + 12);
+                if ((long) offsets[i] + lengths[i] > size) {
+                    throw new IOException("Arquivo de índice truncado: " + file);
+                }
+            }
+            return new Segment(file, firstDoc, endDoc, grams, frequencies, offsets, lengths, data);
+        }
+    }
+
+    /**
+     * Grava os trigramas dos segmentos indicados (e do segmento em memória)
+     * em um arquivo, com as listas concatenadas na ordem dos documentos
+     */
+    private void write(Path file, List<Segment> sources, boolean memory, int firstDoc, int endDoc) throws IOException {
+        int total = memory ? postings.size() : 0;
+        for (Segment segment : sources) {
+            total += segment.grams.length;
+        }
+        long[] keys = new long[total];
+        int count = 0;
+        for (Segment segment : sources) {
+            for (int gram : segment.grams) {
+                keys[count++] = gram + 1L;
+            }
+        }
+        if (memory) {
+            long[] memoryKeys = new long[postings.size()];
+            gramSlots.forEach((key, slot) -> memoryKeys[slot] = key);
+            for (long key : memoryKeys) {
+                keys[count++] = key;
+            }
+        }
+        Arrays.sort(keys);
+        int distinct = 0;
+        for (int i = 0; i < count; i++) {
+            if (i == 0 || keys[i] != keys[i - 1]) {
+                keys[distinct++] = keys[i];
+            }
+        }
+        count = distinct;
+
+        PostingList[] merged = new PostingList[count];
+        long dataBytes = 0;
+        for (int i = 0; i < count; i++) {
+            merged[i] = new PostingList();
+            for (int doc : postings(keys[i], sources, memory)) {
+                merged[i].add(doc);
+            }
+            dataBytes += merged[i].length();
+        }
+        long size = HEADER_BYTES + (long) count * ENTRY_BYTES + dataBytes;
+        if (size > Integer.MAX_VALUE) {
+            throw new IOException("Índice excede o tamanho máximo de arquivo mapeado");
+        }
+
+        Path temp = file.resolveSibling(file.getFileName() + ".tmp");
+        try (OutputStream stream = Files.newOutputStream(temp);
+             DataOutputStream out = new DataOutputStream(new BufferedOutputStream(stream, 1 << 16))) {
+            out.writeInt(MAGIC);
+            out.writeInt(FORMAT_VERSION);
+            out.writeInt(firstDoc);
+            out.writeInt(endDoc);
+            out.writeInt(count);
+            int offset = HEADER_BYTES + count * ENTRY_BYTES;
+            for (int i = 0; i < count; i++) {
+                out.writeInt((int) (keys[i] - 1));
+                out.writeInt(merged[i].size());
+                out.writeInt(offset);
+                out.writeInt(merged[i].length());
+                offset += merged[i].length();
+            }
+            for (PostingList posting : merged) {
+                out.write(posting.data(), 0, posting.length());
+            }
+        }
+        Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    private long frequency(long key) {
+        long frequency = 0;
+        for (Segment segment : segments) {
+            int entry = segment.find(key);
+            if (entry >= 0) {
+                frequency += segment.frequencies[entry];
+            }
+        }
+        int slot = gramSlots.get(key);
+        if (slot != LongIntHashMap.MISSING) {
+            frequency += postings.get(slot).size();
+        }
+        return frequency;
+    }
+
+    private int[] postings(long key, List<Segment> sources, boolean memory) {
+        IntArrayList docs = new IntArrayList();
+        for (Segment segment : sources) {
+            int entry = segment.find(key);
+            if (entry >= 0) {
+                PostingList.decode(segment.data, segment.offsets[entry], segment.lengths[entry], -1, docs);
+            }
+        }
+        int slot = memory ? gramSlots.get(key) : LongIntHashMap.MISSING;
+        if (slot != LongIntHashMap.MISSING) {
+            PostingList posting = postings.get(slot);
+            PostingList.decode(ByteBuffer.wrap(posting.data()), 0, posting.length(), -1, docs);
+        }
+        return docs.toArray();
+    }
+
+    private static Path segmentFile(Path directory, int firstDoc, int endDoc) {
+        return directory.resolve(SEGMENT_PREFIX + firstDoc + "-" + endDoc + SEGMENT_EXTENSION);
+    }
+
+    /** Um arquivo que não pôde ser apagado fica fora da sequência e é apagado na próxima abertura */
+    private static void deleteQuietly(Path file) {
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            // Ignorado de propósito
+        }
+    }
+
+    private static int[] intersect(int[] left, int[] right) {
+        int[] out = new int[Math.min(left.length, right.length)];
+        int size = 0;
+        int i = 0;
+        int j = 0;
+        while (i < left.length && j < right.length) {
+            if (left[i] < right[j]) {
+                i++;
+            } else if (left[i] > right[j]) {
+                j++;
+            } else {
+                out[size++] = left[i];
+                i++;
+                j++;
+            }
+        }
+        return Arrays.copyOf(out, size);
+    }
+
+    /** Chave do trigrama no mapa (os 24 bits dos bytes mais 1, pois a chave 0 é reservada) */
+    private static long gramKey(byte[] bytes, int from) {
+        return ((fold(bytes[from]) & 0xFF) << 16 | (fold(bytes[from + 1]) & 0xFF) << 8 | (fold(bytes[from + 2]) & 0xFF)) + 1L;
+    }
+
+    private static byte fold(byte b) {
+        return b >= 'A' && b <= 'Z' ? (byte) (b | 0x20) : b;
+    }
+}
@@ -0,0 +1,174 @@
+package com.lucas.text_processing_api.util.stream;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Anel limitado de blocos de bytes para um produtor e um consumidor
+ * 
+ * Os blocos são alocados uma única vez e reutilizados: o produtor preenche
+ * o bloco livre seguinte e o publica; o consumidor escreve o bloco publicado
+ * no destino e o devolve. Quando o anel está cheio o produtor espera, o que
+ * aplica contrapressão natural ao ritmo da escrita na rede.
+ * 
+ * Apenas uma thread pode chamar os métodos de produtor e apenas uma thread
+ * pode chamar os métodos de consumidor.
+ * 
+ * @author Lucas
+ * @version 1.0
+ */
+public final class ByteChunkRing {
+
+    private static final int SPINS_BEFORE_PARK = 128;
+    private static final long PARK_NANOS = 50_000L;
+
+    private final byte[][] chunks;
+    private final int[] lengths;
+    private final int mask;
+
+    /** Quantidade de blocos publicados pelo produtor */
+    private final AtomicLong head = new AtomicLong();
+
+    /** Quantidade de blocos já consumidos */
+    private final AtomicLong tail = new AtomicLong();
+
+    private volatile boolean closed;
+    private volatile boolean cancelled;
+    private volatile Throwable failure;
+
+    /**
+     * Cria o anel
+     * 
+     * @param capacity quantidade de blocos (potência de 2)
+     * @param chunkSize tamanho de cada bloco em bytes
+     */
+    public ByteChunkRing(int capacity, int chunkSize) {
+        if (capacity < 2 || Integer.bitCount(capacity) != 1) {
+            throw new IllegalArgumentException("A capacidade do anel deve ser uma potência de 2 maior que 1");
+        }
+        if (chunkSize < 64) {
+            throw new IllegalArgumentException("O bloco deve ter pelo menos 64 bytes");
+        }
+
+        this.chunks = new byte[capacity][chunkSize];
+        this.lengths = new int[capacity];
+        this.mask = capacity - 1;
+    }
+
+    /**
+     * Obtém o próximo bloco livre para escrita, esperando se o anel estiver cheio
+     * 
+     * @return bloco livre, ou null se o consumidor cancelou
+     */
+    public byte[] claim() {
+        long position = head.get();
+        int idle = 0;
+        while (position - tail.getAcquire() > mask) {
+            if (cancelled) {
+                return null;
+            }
+            idle = backoff(idle);
+        }
+        return cancelled ? null : chunks[(int) position & mask];
+    }
+
+    /**
+     * Publica o bloco obtido em {@link #claim()}
+     * 
+     * @param length quantidade de bytes válidos no bloco
+     */
+    public void publish(int length) {
+        long position = head.get();
+        lengths[(int) position & mask] = length;
+        head.setRelease(position + 1);
+    }
+
+    /**
+     * Sinaliza que o produtor terminou
+     */
+    public void close() {
+        closed = true;
+    }
+
+    /**
+     * Sinaliza que o produtor falhou; o consumidor relança o erro
+     * 
+     * @param error causa da falha
+     */
+    public void fail(Throwable error) {
+        failure = error;
+        closed = true;
+    }
+
+    /**
+     * @return true se o consumidor desistiu (ex.: cliente desconectou)
+     */
+    public boolean isCancelled() {
+        return cancelled;
+    }
+
+    /**
+     * Consome todos os blocos até o produtor terminar, escrevendo-os no destino
+     * 
+     * Em caso de erro de escrita o anel é cancelado para que o produtor pare.
+     * 
+     * @param out destino dos bytes
+     * @return total de bytes escritos
+     * @throws IOException se a escrita falhar ou o produtor tiver falhado
+     */
+    public long drainTo(OutputStream out) throws IOException {
+        long written = 0;
+        long position = tail.get();
+        int idle = 0;
+
+        try {
+            while (true) {
+                if (position < head.getAcquire()) {
+                    int slot = (int) position & mask;
+                    out.write(chunks[slot], 0, lengths[slot]);
+                    written += lengths[slot];
+                    tail.setRelease(++position);
+                    idle = 0;
+                    continue;
+                }
+
+                if (closed) {
+                    // Revalida após observar o fechamento para não perder o último bloco
+                    if (position < head.getAcquire()) {
+                        continue;
+                    }
+                    break;
+                }
+                idle = backoff(idle);
+            }
+        } catch (IOException | RuntimeException e) {
+            cancel();
+            throw e;
+        }
+
+        Throwable error = failure;
+        if (error != null) {
+            throw new IOException("Falha no produtor do pipeline: " + error.getMessage(), error);
+        }
+        out.flush();
+        return written;
+    }
+
+    /**
+     * Cancela o anel; o produtor recebe null no próximo claim
+     */
+    public void cancel() {
+        cancelled = true;
+    }
+
+    private static int backoff(int idle) {
+        if (idle < SPINS_BEFORE_PARK) {
+            Thread.onSpinWait();
+        } else {
+            LockSupport.parkNanos(PARK_NANOS);
+        }
+        return idle + 1;
+    }
+}
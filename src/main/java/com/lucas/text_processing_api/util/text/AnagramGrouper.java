@@ -0,0 +1,445 @@
+package com.lucas.text_processing_api.util.text;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+import com.lucas.text_processing_api.util.collection.ByteSequenceCounter;
+import com.lucas.text_processing_api.util.collection.LongIntHashMap;
+import com.lucas.text_processing_api.util.dictionary.LetterHistogram;
+import com.lucas.text_processing_api.util.dictionary.LetterSignature;
+
+/**
+ * Agrupamento de listas de palavras em classes de anagramas
+ * 
+ * Cada palavra tem as letras contadas por {@link LetterHistogram} e é
+ * localizada pela assinatura do histograma em um mapa primitivo de long
+ * para int, sem ordenar caracteres nem criar uma chave String por palavra.
+ * Palavras já contadas em bytes são histogramadas direto da arena do
+ * contador; só as que têm outros caracteres passam pela normalização.
+ * Palavras repetidas são reconhecidas dentro do grupo por igualdade; só uma
+ * palavra nova no grupo é confirmada contra o histograma do grupo, o que
+ * separa as colisões da assinatura.
+ * 
+ * Listas grandes são divididas em blocos processados em paralelo, cada um
+ * com o próprio mapa; os mapas parciais são combinados ao final. O
+ * resultado não depende da divisão: grupos e palavras são ordenados antes
+ * de serem retornados.
+ * 
+ * Palavras já contadas em um {@link ByteSequenceCounter} são agrupadas uma
+ * vez por palavra distinta, com a contagem acumulada, sem reconstruir a
+ * lista de ocorrências.
+ * 
+ * @author Lucas
+ * @version 1.4
+ */
+public final class AnagramGrouper {
+
+    /** Tamanho mínimo de bloco para dividir o trabalho entre threads */
+    private static final int SPLIT_THRESHOLD = 1 << 14;
+
+    private final ForkJoinPool pool;
+
+    /**
+     * Classe de anagramas encontrada
+     */
+    public static final class Group {
+
+        private final String letters;
+        private final List<String> words;
+        private final long occurrences;
+
+        Group(String letters, List<String> words, long occurrences) {
+            this.letters = letters;
+            this.words = words;
+            this.occurrences = occurrences;
+        }
+
+        /**
+         * @return letras do grupo em ordem alfabética
+         */
+        public String getLetters() {
+            return letters;
+        }
+
+        /**
+         * @return palavras distintas do grupo, em ordem alfabética
+         */
+        public List<String> getWords() {
+            return words;
+        }
+
+        /**
+         * @return ocorrências de todas as palavras do grupo na entrada
+         */
+        public long getOccurrences() {
+            return occurrences;
+        }
+    }
+
+    /**
+     * Resultado de um agrupamento
+     */
+    public static final class Result {
+
+        private final List<Group> groups;
+        private final int totalGroups;
+        private final int distinctWords;
+        private final long totalTokens;
+        private final long skippedTokens;
+
+        Result(List<Group> groups, int totalGroups, int distinctWords, long totalTokens, long skippedTokens) {
+            this.groups = groups;
+            this.totalGroups = totalGroups;
+            this.distinctWords = distinctWords;
+            this.totalTokens = totalTokens;
+            this.skippedTokens = skippedTokens;
+        }
+
+        /**
+         * @return grupos retornados, dos maiores para os menores
+         */
+        public List<Group> getGroups() {
+            return groups;
+        }
+
+        /**
+         * @return quantidade de grupos com o tamanho mínimo, mesmo além do limite
+         */
+        public int getTotalGroups() {
+            return totalGroups;
+        }
+
+        /**
+         * @return quantidade de palavras distintas válidas
+         */
+        public int getDistinctWords() {
+            return distinctWords;
+        }
+
+        /**
+         * @return quantidade de palavras recebidas
+         */
+        public long getTotalTokens() {
+            return totalTokens;
+        }
+
+        /**
+         * @return palavras descartadas por conterem caracteres fora de a-z
+         */
+        public long getSkippedTokens() {
+            return skippedTokens;
+        }
+    }
+
+    /**
+     * @param pool pool usado para processar os blocos em paralelo
+     */
+    public AnagramGrouper(ForkJoinPool pool) {
+        this.pool = pool;
+    }
+
+    /**
+     * Agrupa as palavras em classes de anagramas
+     * 
+     * Os grupos são ordenados pela quantidade de palavras distintas, depois
+     * pelas ocorrências e por fim pelas letras.
+     * 
+     * @param tokens palavras a agrupar; são normalizadas e as inválidas descartadas
+     * @param minGroupSize quantidade mínima de palavras distintas por grupo
+     * @param limit quantidade máxima de grupos retornados
+     * @return grupos encontrados
+     */
+    public Result group(List<String> tokens, int minGroupSize, int limit) {
+        return group(new ListSource(tokens), minGroupSize, limit);
+    }
+
+    /**
+     * Agrupa as palavras distintas de um contador em classes de anagramas
+     * 
+     * Cada palavra distinta entra no grupo com a contagem acumulada no
+     * contador.
+     * 
+     * @param tokens palavras contadas (bytes UTF-8); são normalizadas e as inválidas descartadas
+     * @param skippedTokens palavras já descartadas antes da contagem
+     * @param minGroupSize quantidade mínima de palavras distintas por grupo
+     * @param limit quantidade máxima de grupos retornados
+     * @return grupos encontrados, com os totais incluindo as palavras já descartadas
+     */
+    public Result group(ByteSequenceCounter tokens, long skippedTokens, int minGroupSize, int limit) {
+        Partial partial = collect(new CounterSource(tokens));
+        partial.totalTokens += skippedTokens;
+        partial.skippedTokens += skippedTokens;
+        return partial.toResult(minGroupSize, limit);
+    }
+
+    private Result group(TokenSource tokens, int minGroupSize, int limit) {
+        return collect(tokens).toResult(minGroupSize, limit);
+    }
+
+    private Partial collect(TokenSource tokens) {
+        return tokens.size() <= SPLIT_THRESHOLD
+            ? new GroupTask(tokens, 0, tokens.size()).compute()
+            : pool.invoke(new GroupTask(tokens, 0, tokens.size()));
+    }
+
+    /**
+     * Palavras de entrada acessadas por posição, cada uma com sua contagem
+     */
+    private interface TokenSource {
+
+        int size();
+
+        String token(int index);
+
+        long count(int index);
+
+        /**
+         * Acumula as letras da palavra nos contadores (zerados)
+         * 
+         * @return true se a palavra tem apenas letras ASCII
+         */
+        boolean histogram(int index, int[] counts);
+    }
+
+    private static final class ListSource implements TokenSource {
+
+        private final List<String> tokens;
+
+        ListSource(List<String> tokens) {
+            this.tokens = tokens;
+        }
+
+        @Override
+        public int size() {
+            return tokens.size();
+        }
+
+        @Override
+        public String token(int index) {
+            return tokens.get(index);
+        }
+
+        @Override
+        public long count(int index) {
+            return 1;
+        }
+
+        @Override
+        public boolean histogram(int index, int[] counts) {
+            String token = tokens.get(index);
+            return LetterHistogram.count(token, counts) == token.length();
+        }
+    }
+
+    private static final class CounterSource implements TokenSource {
+
+        private final ByteSequenceCounter tokens;
+
+        CounterSource(ByteSequenceCounter tokens) {
+            this.tokens = tokens;
+        }
+
+        @Override
+        public int size() {
+            return tokens.size();
+        }
+
+        @Override
+        public String token(int index) {
+            return tokens.toString(index);
+        }
+
+        @Override
+        public long count(int index) {
+            return tokens.count(index);
+        }
+
+        @Override
+        public boolean histogram(int index, int[] counts) {
+            int from = tokens.offset(index);
+            int length = tokens.length(index);
+            return LetterHistogram.count(tokens.arena(), from, from + length, counts) == length;
+        }
+    }
+
+    /**
+     * Agrupa um intervalo das palavras, dividindo-o enquanto for grande
+     */
+    private static final class GroupTask extends RecursiveTask<Partial> {
+
+        private final TokenSource tokens;
+        private final int from;
+        private final int to;
+
+        GroupTask(TokenSource tokens, int from, int to) {
+            this.tokens = tokens;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected Partial compute() {
+            if (to - from <= SPLIT_THRESHOLD) {
+                Partial partial = new Partial(to - from);
+                int[] counts = new int[LetterSignature.ALPHABET_SIZE];
+                for (int i = from; i < to; i++) {
+                    partial.accept(tokens, i, counts);
+                }
+                return partial;
+            }
+
+            int middle = (from + to) >>> 1;
+            GroupTask right = new GroupTask(tokens, middle, to);
+            right.fork();
+            Partial left = new GroupTask(tokens, from, middle).compute();
+            left.merge(right.join());
+            return left;
+        }
+    }
+
+    /**
+     * Grupos de um bloco: mapa de assinatura para grupo, com encadeamento
+     * para assinaturas que colidem entre composições diferentes
+     */
+    private static final class Partial {
+
+        private final LongIntHashMap groupBySignature;
+        private final List<Builder> groups = new ArrayList<>();
+        private long totalTokens;
+        private long skippedTokens;
+
+        Partial(int expectedWords) {
+            this.groupBySignature = new LongIntHashMap(Math.min(expectedWords, SPLIT_THRESHOLD));
+        }
+
+        void accept(TokenSource tokens, int index, int[] counts) {
+            long count = tokens.count(index);
+            totalTokens += count;
+            Arrays.fill(counts, 0);
+            String word;
+            if (tokens.histogram(index, counts)) {
+                word = tokens.token(index).toLowerCase(Locale.ROOT);
+            } else {
+                word = LetterSignature.normalize(tokens.token(index));
+                if (word == null) {
+                    skippedTokens += count;
+                    return;
+                }
+                Arrays.fill(counts, 0);
+                LetterHistogram.count(word, counts);
+            }
+            add(word, LetterSignature.of(counts), counts, count);
+        }
+
+        void add(String word, long signature, int[] histogram, long count) {
+            int group = groupBySignature.get(signature);
+            if (group == LongIntHashMap.MISSING) {
+                groupBySignature.put(signature, newGroup(word, histogram, count));
+                return;
+            }
+
+            while (true) {
+                Builder builder = groups.get(group);
+                if (builder.increment(word, count)) {
+                    return;
+                }
+                if (Arrays.equals(histogram, builder.histogram)) {
+                    builder.append(word, count);
+                    return;
+                }
+                if (builder.nextCollision < 0) {
+                    builder.nextCollision = newGroup(word, histogram, count);
+                    return;
+                }
+                group = builder.nextCollision;
+            }
+        }
+
+        void merge(Partial other) {
+            totalTokens += other.totalTokens;
+            skippedTokens += other.skippedTokens;
+            for (Builder builder : other.groups) {
+                long signature = LetterSignature.of(builder.histogram);
+                for (int i = 0; i < builder.size; i++) {
+                    add(builder.words[i], signature, builder.histogram, builder.counts[i]);
+                }
+            }
+        }
+
+        Result toResult(int minGroupSize, int limit) {
+            List<Group> selected = new ArrayList<>();
+            int distinct = 0;
+            for (Builder builder : groups) {
+                distinct += builder.size;
+                if (builder.size >= minGroupSize) {
+                    selected.add(builder.build());
+                }
+            }
+
+            selected.sort(Comparator.comparingInt((Group g) -> g.getWords().size()).reversed()
+                .thenComparing(Comparator.comparingLong(Group::getOccurrences).reversed())
+                .thenComparing(Group::getLetters));
+
+            List<Group> page = selected.size() > limit ? new ArrayList<>(selected.subList(0, limit)) : selected;
+            return new Result(page, selected.size(), distinct, totalTokens, skippedTokens);
+        }
+
+        private int newGroup(String word, int[] histogram, long count) {
+            Builder builder = new Builder(histogram.clone());
+            builder.append(word, count);
+            groups.add(builder);
+            return groups.size() - 1;
+        }
+    }
+
+    /**
+     * Palavras distintas de um grupo e suas contagens
+     */
+    private static final class Builder {
+
+        private final int[] histogram;
+        private String[] words = new String[2];
+        private long[] counts = new long[2];
+        private int size;
+        private int nextCollision = -1;
+
+        Builder(int[] histogram) {
+            this.histogram = histogram;
+        }
+
+        boolean increment(String word, long count) {
+            for (int i = 0; i < size; i++) {
+                if (words[i].equals(word)) {
+                    counts[i] += count;
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        void append(String word, long count) {
+            if (size == words.length) {
+                words = Arrays.copyOf(words, size * 2);
+                counts = Arrays.copyOf(counts, size * 2);
+            }
+            words[size] = word;
+            counts[size++] = count;
+        }
+
+        Group build() {
+            String[] sorted = Arrays.copyOf(words, size);
+            Arrays.sort(sorted);
+            long occurrences = 0;
+            for (int i = 0; i < size; i++) {
+                occurrences += counts[i];
+            }
+
+            return new Group(LetterHistogram.sortedLetters(histogram), List.of(sorted), occurrences);
+        }
+    }
+}
@@ -0,0 +1,305 @@
+package com.lucas.text_processing_api.util.text;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import com.lucas.text_processing_api.util.collection.HashMixer;
+import com.lucas.text_processing_api.util.collection.LongIntHashMap;
+import com.lucas.text_processing_api.util.dictionary.LetterHistogram;
+import com.lucas.text_processing_api.util.dictionary.LetterSignature;
+
+/**
+ * Localização de todos os trechos de um texto que são anagramas de padrões
+ * 
+ * O texto é percorrido uma única vez, byte a byte. Para cada tamanho de
+ * padrão é mantida uma janela deslizante com a contagem das 26 letras, de
+ * um balde extra para os demais bytes e a soma das constantes das letras
+ * ({@link LetterSignature#letterKey(int)}), atualizada ao entrar e sair
+ * cada byte. Essa soma é a assinatura da composição da janela: quando a
+ * janela só tem letras, ela é procurada em um mapa das assinaturas das
+ * composições daquele tamanho e, só se estiver lá, o histograma é
+ * conferido. O custo por byte depende da quantidade de tamanhos distintos,
+ * não da quantidade de padrões. Padrões que são anagramas entre si
+ * compartilham a mesma composição.
+ * 
+ * Maiúsculas e minúsculas ASCII são equivalentes; qualquer outro byte
+ * (espaço, pontuação ou parte de caractere UTF-8) impede a coincidência da
+ * janela que o contém. Só os últimos bytes do tamanho do maior padrão são
+ * guardados, o que permite percorrer fluxos e arquivos mapeados de qualquer
+ * tamanho.
+ * 
+ * @author Lucas
+ * @version 1.2
+ */
+public final class AnagramWindowScanner {
+
+    /** Balde da janela para bytes que não são letras ASCII */
+    private static final int OTHER = LetterSignature.ALPHABET_SIZE;
+
+    private static final int READ_BUFFER_BYTES = 1 << 16;
+
+    private final LengthGroup[] groups;
+    private final int maxLength;
+
+    /**
+     * Trecho do texto que é anagrama de um ou mais padrões
+     */
+    public static final class Occurrence {
+
+        private final long offset;
+        private final String text;
+        private final List<String> patterns;
+
+        Occurrence(long offset, String text, List<String> patterns) {
+            this.offset = offset;
+            this.text = text;
+            this.patterns = patterns;
+        }
+
+        /**
+         * @return posição do início do trecho, em bytes
+         */
+        public long getOffset() {
+            return offset;
+        }
+
+        /**
+         * @return trecho encontrado, em minúsculas
+         */
+        public String getText() {
+            return text;
+        }
+
+        /**
+         * @return padrões dos quais o trecho é anagrama
+         */
+        public List<String> getPatterns() {
+            return patterns;
+        }
+    }
+
+    /**
+     * Resultado de uma busca
+     */
+    public static final class Result {
+
+        private final List<Occurrence> occurrences;
+        private final long totalOccurrences;
+        private final long bytesScanned;
+
+        Result(List<Occurrence> occurrences, long totalOccurrences, long bytesScanned) {
+            this.occurrences = occurrences;
+            this.totalOccurrences = totalOccurrences;
+            this.bytesScanned = bytesScanned;
+        }
+
+        /**
+         * @return trechos retornados, na ordem do texto
+         */
+        public List<Occurrence> getOccurrences() {
+            return occurrences;
+        }
+
+        /**
+         * @return quantidade de trechos encontrados, mesmo além do limite
+         */
+        public long getTotalOccurrences() {
+            return totalOccurrences;
+        }
+
+        /**
+         * @return quantidade de bytes percorridos
+         */
+        public long getBytesScanned() {
+            return bytesScanned;
+        }
+    }
+
+    /**
+     * @param patterns padrões já normalizados (somente letras a-z), não vazio
+     */
+    public AnagramWindowScanner(Collection<String> patterns) {
+        Map<Integer, Map<String, List<String>>> byLength = new TreeMap<>();
+        for (String pattern : patterns) {
+            List<String> words = byLength
+                .computeIfAbsent(pattern.length(), length -> new LinkedHashMap<>())
+                .computeIfAbsent(LetterHistogram.sortedLetters(pattern), letters -> new ArrayList<>());
+            if (!words.contains(pattern)) {
+                words.add(pattern);
+            }
+        }
+
+        this.groups = new LengthGroup[byLength.size()];
+        int index = 0;
+        int longest = 0;
+        for (Map.Entry<Integer, Map<String, List<String>>> entry : byLength.entrySet()) {
+            groups[index++] = new LengthGroup(entry.getKey(), entry.getValue().values());
+            longest = entry.getKey();
+        }
+        this.maxLength = longest;
+    }
+
+    /**
+     * Procura os trechos em um intervalo de bytes, como um arquivo mapeado
+     * 
+     * @param text bytes do texto, da posição atual até o limite
+     * @param limit quantidade máxima de trechos retornados
+     * @return trechos encontrados
+     */
+    public Result scan(ByteBuffer text, int limit) {
+        Scan scan = new Scan(limit);
+        for (int i = text.position(); i < text.limit(); i++) {
+            scan.accept(text.get(i));
+        }
+        return scan.toResult();
+    }
+
+    /**
+     * Procura os trechos em um fluxo, lido em blocos até o fim
+     * 
+     * @param input fluxo do texto, que não é fechado
+     * @param limit quantidade máxima de trechos retornados
+     * @return trechos encontrados
+     * @throws IOException se o fluxo não puder ser lido
+     */
+    public Result scan(InputStream input, int limit) throws IOException {
+        Scan scan = new Scan(limit);
+        byte[] buffer = new byte[READ_BUFFER_BYTES];
+        int read;
+        while ((read = input.read(buffer)) != -1) {
+            for (int i = 0; i < read; i++) {
+                scan.accept(buffer[i]);
+            }
+        }
+        return scan.toResult();
+    }
+
+    private static int bucket(byte b) {
+        int letter = (b | 0x20) - 'a';
+        return letter >= 0 && letter < LetterSignature.ALPHABET_SIZE ? letter : OTHER;
+    }
+
+    /**
+     * Estado de uma busca: últimos bytes lidos e janelas de cada tamanho
+     */
+    private final class Scan {
+
+        private final byte[] recent;
+        private final int recentMask;
+        private final int[][] windows;
+        private final long[] signatures;
+        private final int limit;
+        private final List<Occurrence> occurrences = new ArrayList<>();
+        private long position;
+        private long total;
+
+        Scan(int limit) {
+            this.limit = limit;
+            this.recent = new byte[HashMixer.tableSizeFor(maxLength + 1)];
+            this.recentMask = recent.length - 1;
+            this.windows = new int[groups.length][OTHER + 1];
+            this.signatures = new long[groups.length];
+        }
+
+        void accept(byte b) {
+            int in = bucket(b);
+            for (int g = 0; g < groups.length; g++) {
+                LengthGroup group = groups[g];
+                int[] window = windows[g];
+                long signature = signatures[g];
+                window[in]++;
+                if (in != OTHER) {
+                    signature += LetterSignature.letterKey(in);
+                }
+                if (position >= group.length) {
+                    int out = bucket(recent[(int) (position - group.length) & recentMask]);
+                    window[out]--;
+                    if (out != OTHER) {
+                        signature -= LetterSignature.letterKey(out);
+                    }
+                }
+                signatures[g] = signature;
+
+                if (position + 1 >= group.length && window[OTHER] == 0) {
+                    int composition = group.find(signature, window);
+                    if (composition >= 0) {
+                        emit(group, composition, b);
+                    }
+                }
+            }
+            recent[(int) position & recentMask] = b;
+            position++;
+        }
+
+        private void emit(LengthGroup group, int composition, byte last) {
+            total++;
+            if (occurrences.size() >= limit) {
+                return;
+            }
+            char[] text = new char[group.length];
+            for (int k = 0; k < group.length - 1; k++) {
+                text[k] = (char) (recent[(int) (position - group.length + 1 + k) & recentMask] | 0x20);
+            }
+            text[group.length - 1] = (char) (last | 0x20);
+            occurrences.add(new Occurrence(position - group.length + 1, new String(text), group.words[composition]));
+        }
+
+        Result toResult() {
+            return new Result(occurrences, total, position);
+        }
+    }
+
+    /**
+     * Composições de letras dos padrões de um mesmo tamanho, localizadas
+     * pela assinatura, com encadeamento para assinaturas que colidem
+     */
+    private static final class LengthGroup {
+
+        private final int length;
+        private final int[][] targets;
+        private final List<String>[] words;
+        private final LongIntHashMap bySignature;
+        private final int[] nextCollision;
+
+        @SuppressWarnings("unchecked")
+        LengthGroup(int length, Collection<List<String>> compositions) {
+            this.length = length;
+            this.targets = new int[compositions.size()][];
+            this.words = new List[compositions.size()];
+            this.bySignature = new LongIntHashMap(compositions.size());
+            this.nextCollision = new int[compositions.size()];
+            int c = 0;
+            for (List<String> composition : compositions) {
+                targets[c] = LetterHistogram.histogram(composition.get(0));
+                words[c] = List.copyOf(composition);
+                nextCollision[c] = bySignature.put(nonZero(LetterSignature.of(targets[c])), c);
+                c++;
+            }
+        }
+
+        /**
+         * @return composição com o mesmo histograma da janela, ou -1
+         */
+        int find(long signature, int[] window) {
+            for (int c = bySignature.get(nonZero(signature)); c >= 0; c = nextCollision[c]) {
+                if (Arrays.equals(targets[c], 0, OTHER, window, 0, OTHER)) {
+                    return c;
+                }
+            }
+            return -1;
+        }
+
+        /** O mapa reserva a chave 0; a conferência do histograma separa a troca */
+        private static long nonZero(long signature) {
+            return signature == 0 ? 1 : signature;
+        }
+    }
+}
@@ -0,0 +1,114 @@
+package com.lucas.text_processing_api.util.text;
+
+import java.nio.ByteBuffer;
+
+import com.lucas.text_processing_api.util.collection.ByteSequenceCounter;
+
+/**
+ * Divisão de textos em palavras diretamente sobre os bytes
+ * 
+ * Uma palavra é uma sequência de letras ASCII ou de bytes não ASCII (que
+ * em UTF-8 só aparecem dentro de caracteres multibyte, como as letras
+ * acentuadas); qualquer outro byte ASCII separa palavras. Assim um corte
+ * em um separador nunca divide um caractere UTF-8 ao meio.
+ * 
+ * As palavras são copiadas para um buffer de trabalho já em minúsculas
+ * (ASCII) e contadas sem criar uma String por palavra. Palavras com mais de
+ * {@link #MAX_TOKEN_BYTES} bytes são descartadas e apenas contabilizadas.
+ * 
+ * @author Lucas
+ * @version 1.0
+ */
+public final class ByteTokenizer {
+
+    /**
+     * Maior palavra contada, em bytes
+     */
+    public static final int MAX_TOKEN_BYTES = 64;
+
+    private ByteTokenizer() {
+    }
+
+    /**
+     * @param b byte do texto
+     * @return true se o byte faz parte de uma palavra
+     */
+    public static boolean isWordByte(byte b) {
+        return b < 0 || (b | 0x20) - 'a' >= 0 && (b | 0x20) - 'a' < 26;
+    }
+
+    /**
+     * Conta as palavras de um intervalo
+     * 
+     * O intervalo deve começar e terminar em limites de palavra (separador,
+     * início ou fim do texto).
+     * 
+     * @param text bytes do texto
+     * @param from início do intervalo
+     * @param to fim do intervalo (exclusivo)
+     * @param scratch buffer de trabalho com pelo menos {@link #MAX_TOKEN_BYTES} bytes
+     * @param counter contador que recebe as palavras
+     * @return quantidade de palavras descartadas por excederem o tamanho máximo
+     */
+    public static long countTokens(ByteBuffer text, int from, int to, byte[] scratch, ByteSequenceCounter counter) {
+        long skipped = 0;
+        int length = 0;
+        for (int i = from; i < to; i++) {
+            byte b = text.get(i);
+            if (isWordByte(b)) {
+                if (length < MAX_TOKEN_BYTES) {
+                    scratch[length] = b >= 'A' && b <= 'Z' ? (byte) (b | 0x20) : b;
+                }
+                length++;
+            } else if (length > 0) {
+                skipped += flush(scratch, length, counter);
+                length = 0;
+            }
+        }
+        if (length > 0) {
+            skipped += flush(scratch, length, counter);
+        }
+        return skipped;
+    }
+
+    /**
+     * Posição do primeiro separador a partir de uma posição
+     * 
+     * @param text bytes do texto
+     * @param from posição inicial
+     * @param to fim do intervalo (exclusivo)
+     * @return posição do separador, ou to se não houver
+     */
+    public static int nextBoundary(ByteBuffer text, int from, int to) {
+        int i = from;
+        while (i < to && isWordByte(text.get(i))) {
+            i++;
+        }
+        return i;
+    }
+
+    /**
+     * Posição seguinte ao último separador do intervalo
+     * 
+     * @param text bytes do texto
+     * @param from início do intervalo
+     * @param to fim do intervalo (exclusivo)
+     * @return posição logo após o último separador, ou -1 se não houver
+     */
+    public static int lastBoundary(byte[] text, int from, int to) {
+        for (int i = to - 1; i >= from; i--) {
+            if (!isWordByte(text[i])) {
+                return i + 1;
+            }
+        }
+        return -1;
+    }
+
+    private static int flush(byte[] scratch, int length, ByteSequenceCounter counter) {
+        if (length > MAX_TOKEN_BYTES) {
+            return 1;
+        }
+        counter.add(scratch, 0, length, 1);
+        return 0;
+    }
+}
@@ -0,0 +1,241 @@
+package com.lucas.text_processing_api.util.text;
+
+import java.util.Arrays;
+
+import com.lucas.text_processing_api.util.collection.HashMixer;
+
+/**
+ * Texto dividido em tokens para a comparação por {@link MyersDiff}
+ * 
+ * Os tokens particionam o texto: cada um começa onde o anterior termina,
+ * então basta um array com os inícios (e o fim do texto) para localizá-los,
+ * sem copiar nenhum byte. Por linhas, cada token é uma linha com o seu
+ * terminador; por palavras, cada token é uma sequência de letras e dígitos,
+ * uma sequência de espaços ou um único byte de pontuação.
+ * 
+ * Antes da comparação os tokens dos dois textos recebem identificadores
+ * inteiros ({@link #intern(DiffTokens, DiffTokens)}), iguais para tokens
+ * com os mesmos bytes, e o algoritmo compara apenas inteiros.
+ * 
+ * @author Lucas
+ * @version 1.0
+ */
+public final class DiffTokens {
+
+    private static final float LOAD_FACTOR = 0.5f;
+
+    private final byte[] text;
+    private final int[] starts;
+    private final int size;
+    private int[] ids;
+
+    private DiffTokens(byte[] text, int[] starts) {
+        this.text = text;
+        this.starts = starts;
+        this.size = starts.length - 1;
+    }
+
+    /**
+     * Divide um texto em linhas, cada uma com o seu terminador
+     * 
+     * @param text bytes do texto
+     * @return tokens do texto
+     */
+    public static DiffTokens lines(byte[] text) {
+        int count = 0;
+        for (int i = 0; i < text.length; i++) {
+            if (text[i] == '\n') {
+                count++;
+            }
+        }
+        if (text.length > 0 && text[text.length - 1] != '\n') {
+            count++;
+        }
+
+        int[] starts = new int[count + 1];
+        int token = 1;
+        for (int i = 0; i < text.length; i++) {
+            if (text[i] == '\n') {
+                starts[token++] = i + 1;
+            }
+        }
+        starts[count] = text.length;
+        return new DiffTokens(text, starts);
+    }
+
+    /**
+     * Divide um texto em palavras, sequências de espaços e pontuação
+     * 
+     * @param text bytes do texto
+     * @return tokens do texto
+     */
+    public static DiffTokens words(byte[] text) {
+        int[] starts = new int[countWords(text, null) + 1];
+        countWords(text, starts);
+        starts[starts.length - 1] = text.length;
+        return new DiffTokens(text, starts);
+    }
+
+    /**
+     * Conta os tokens por palavras e, se houver destino, grava os inícios
+     */
+    private static int countWords(byte[] text, int[] starts) {
+        int count = 0;
+        int previous = -1;
+        for (int i = 0; i < text.length; i++) {
+            int kind = kind(text[i]);
+            if (kind != previous || kind == 0) {
+                if (starts != null) {
+                    starts[count] = i;
+                }
+                count++;
+            }
+            previous = kind;
+        }
+        return count;
+    }
+
+    /**
+     * Classe de um byte: 0 pontuação (um token por byte), 1 espaço, 2 palavra
+     */
+    private static int kind(byte b) {
+        if (ByteTokenizer.isWordByte(b) || (b >= '0' && b <= '9')) {
+            return 2;
+        }
+        return b == ' ' || b == '\t' || b == '\n' || b == '\r' || b == '\f' || b == 0x0B ? 1 : 0;
+    }
+
+    /**
+     * Atribui identificadores aos tokens de dois textos
+     * 
+     * Tokens com os mesmos bytes recebem o mesmo identificador, nos dois
+     * textos. A tabela guarda apenas um token de referência por valor
+     * distinto, então a memória extra cresce com os tokens distintos.
+     * 
+     * @param original tokens do texto original
+     * @param revised tokens do texto revisado
+     * @return quantidade de tokens distintos
+     */
+    public static int intern(DiffTokens original, DiffTokens revised) {
+        Interner interner = new Interner();
+        original.ids = interner.assign(original);
+        revised.ids = interner.assign(revised);
+        return interner.distinct;
+    }
+
+    /**
+     * @return quantidade de tokens
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * @param token índice do token
+     * @return posição do primeiro byte do token
+     */
+    public int start(int token) {
+        return starts[token];
+    }
+
+    /**
+     * @param token índice do token
+     * @return posição seguinte ao último byte do token
+     */
+    public int end(int token) {
+        return starts[token + 1];
+    }
+
+    /**
+     * @return bytes do texto, compartilhados com os tokens
+     */
+    public byte[] text() {
+        return text;
+    }
+
+    /**
+     * @return identificadores dos tokens, atribuídos por {@link #intern(DiffTokens, DiffTokens)}
+     * @throws IllegalStateException se os identificadores ainda não foram atribuídos
+     */
+    public int[] ids() {
+        if (ids == null) {
+            throw new IllegalStateException("Os identificadores dos tokens ainda não foram atribuídos");
+        }
+        return ids;
+    }
+
+    /**
+     * Tabela de sondagem linear dos valores distintos, que apontam para um
+     * token de referência em vez de copiar os bytes
+     */
+    private static final class Interner {
+
+        private byte[][] texts = new byte[16][];
+        private int[] froms = new int[16];
+        private int[] lengths = new int[16];
+        private int[] hashes = new int[16];
+        private int[] table = new int[64];
+        private int mask = table.length - 1;
+        private int distinct;
+
+        int[] assign(DiffTokens tokens) {
+            int[] ids = new int[tokens.size];
+            for (int token = 0; token < tokens.size; token++) {
+                int from = tokens.starts[token];
+                ids[token] = idOf(tokens.text, from, tokens.starts[token + 1] - from);
+            }
+            return ids;
+        }
+
+        private int idOf(byte[] text, int from, int length) {
+            int hash = hash(text, from, length);
+            int slot = hash & mask;
+            while (table[slot] != 0) {
+                int id = table[slot] - 1;
+                if (hashes[id] == hash && lengths[id] == length
+                        && Arrays.equals(texts[id], froms[id], froms[id] + length, text, from, from + length)) {
+                    return id;
+                }
+                slot = (slot + 1) & mask;
+            }
+
+            if (distinct == hashes.length) {
+                int capacity = distinct * 2;
+                texts = Arrays.copyOf(texts, capacity);
+                froms = Arrays.copyOf(froms, capacity);
+                lengths = Arrays.copyOf(lengths, capacity);
+                hashes = Arrays.copyOf(hashes, capacity);
+            }
+            int id = distinct++;
+            texts[id] = text;
+            froms[id] = from;
+            lengths[id] = length;
+            hashes[id] = hash;
+            table[slot] = id + 1;
+            if (distinct > table.length * LOAD_FACTOR) {
+                rehash(HashMixer.tableSizeFor(table.length * 2));
+            }
+            return id;
+        }
+
+        private void rehash(int tableSize) {
+            table = new int[tableSize];
+            mask = tableSize - 1;
+            for (int id = 0; id < distinct; id++) {
+                int slot = hashes[id] & mask;
+                while (table[slot] != 0) {
+                    slot = (slot + 1) & mask;
+                }
+                table[slot] = id + 1;
+            }
+        }
+
+        private static int hash(byte[] bytes, int from, int length) {
+            long h = length;
+            for (int i = from; i < from + length; i++) {
+                h = h * 31 + bytes[i];
+            }
+            return (int) HashMixer.mix(h);
+        }
+    }
+}
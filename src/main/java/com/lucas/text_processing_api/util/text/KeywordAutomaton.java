@@ -0,0 +1,300 @@
+package com.lucas.text_processing_api.util.text;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import com.lucas.text_processing_api.util.collection.IntArrayList;
+import com.lucas.text_processing_api.util.collection.LongIntHashMap;
+
+/**
+ * Autômato de Aho–Corasick para procurar muitas palavras-chave de uma vez
+ * 
+ * As palavras-chave são compiladas em uma trie de bytes com links de falha.
+ * Os estados são numerados em largura, então os rasos vêm primeiro: os
+ * primeiros estados, até {@link #DENSE_CELLS} células, têm linhas completas
+ * em uma tabela int[] de estados × classes de byte, com as transições
+ * ausentes já resolvidas, e custam uma leitura por byte. Os estados mais
+ * profundos guardam só os filhos (contíguos pela numeração em largura) e
+ * seguem os links de falha até achar o filho ou cair em um estado denso;
+ * como os links sempre diminuem a profundidade, o custo amortizado continua
+ * constante por byte e o texto é percorrido uma única vez,
+ * independentemente da quantidade de palavras-chave.
+ * 
+ * Assim a memória cresce com a quantidade de estados (cerca de 20 bytes
+ * cada) e não com estados × classes: 100 mil palavras-chave comuns cabem
+ * em poucas dezenas de MB.
+ * 
+ * Os bytes são agrupados em classes: cada byte que aparece em alguma
+ * palavra-chave tem a sua, letras ASCII maiúsculas e minúsculas
+ * compartilham a mesma (a busca não diferencia maiúsculas ASCII) e todos os
+ * demais bytes formam a classe 0, que sempre volta à raiz.
+ * 
+ * O autômato é imutável e pode ser usado por várias threads; o estado de
+ * cada varredura fica no {@link Scanner}, o que permite processar um fluxo
+ * em blocos.
+ * 
+ * @author Lucas
+ * @version 1.1
+ */
+public final class KeywordAutomaton {
+
+    /**
+     * Quantidade máxima de células da tabela dos estados densos (4 MB)
+     */
+    public static final int DENSE_CELLS = 1 << 20;
+
+    private final String[] keywords;
+    private final int[] keywordLengths;
+    private final int[] byteClass;
+    private final int classes;
+    private final int states;
+    private final int denseStates;
+    private final int[] dense;
+    private final int[] firstChild;
+    private final int[] labels;
+    private final int[] fail;
+    private final int[] keywordAt;
+    private final int[] outputLink;
+
+    /**
+     * Consumidor de ocorrências encontradas
+     */
+    @FunctionalInterface
+    public interface MatchConsumer {
+
+        /**
+         * @param keywordId índice da palavra-chave na lista compilada
+         * @param endOffset posição do byte seguinte ao fim da ocorrência
+         */
+        void accept(int keywordId, long endOffset);
+    }
+
+    private KeywordAutomaton(String[] keywords, int[] keywordLengths, int[] byteClass, int classes, int states,
+                             int denseStates, int[] dense, int[] firstChild, int[] labels, int[] fail,
+                             int[] keywordAt, int[] outputLink) {
+        this.keywords = keywords;
+        this.keywordLengths = keywordLengths;
+        this.byteClass = byteClass;
+        this.classes = classes;
+        this.states = states;
+        this.denseStates = denseStates;
+        this.dense = dense;
+        this.firstChild = firstChild;
+        this.labels = labels;
+        this.fail = fail;
+        this.keywordAt = keywordAt;
+        this.outputLink = outputLink;
+    }
+
+    /**
+     * Compila as palavras-chave
+     * 
+     * @param keywords palavras-chave distintas e não vazias, com letras ASCII em minúsculas
+     * @param maxStates quantidade máxima de estados da trie
+     * @return autômato compilado
+     * @throws IllegalArgumentException se a trie passar do limite
+     */
+    public static KeywordAutomaton compile(List<String> keywords, int maxStates) {
+        byte[][] encoded = new byte[keywords.size()][];
+        int[] byteClass = new int[256];
+        int classes = 1;
+        for (int k = 0; k < encoded.length; k++) {
+            encoded[k] = keywords.get(k).getBytes(StandardCharsets.UTF_8);
+            for (byte b : encoded[k]) {
+                int value = b & 0xFF;
+                if (byteClass[value] == 0) {
+                    byteClass[value] = classes++;
+                    if (value >= 'a' && value <= 'z') {
+                        byteClass[value - 32] = byteClass[value];
+                    }
+                }
+            }
+        }
+
+        // Trie na ordem de criação: arestas em um mapa (estado, classe) -> filho e filhos em listas de irmãos
+        LongIntHashMap edges = new LongIntHashMap(1024);
+        IntArrayList createdLabel = new IntArrayList();
+        IntArrayList createdFirstChild = new IntArrayList();
+        IntArrayList createdSibling = new IntArrayList();
+        IntArrayList createdKeyword = new IntArrayList();
+        createdLabel.add(0);
+        createdFirstChild.add(-1);
+        createdSibling.add(-1);
+        createdKeyword.add(-1);
+        int[] lengths = new int[encoded.length];
+        for (int k = 0; k < encoded.length; k++) {
+            int state = 0;
+            for (byte b : encoded[k]) {
+                int label = byteClass[b & 0xFF];
+                long edge = (long) state * classes + label;
+                int child = edges.get(edge);
+                if (child == LongIntHashMap.MISSING) {
+                    child = createdLabel.size();
+                    if (child >= maxStates) {
+                        throw new IllegalArgumentException("O conjunto de palavras-chave é grande demais para ser compilado");
+                    }
+                    edges.put(edge, child);
+                    createdLabel.add(label);
+                    createdFirstChild.add(-1);
+                    createdSibling.add(createdFirstChild.get(state));
+                    createdFirstChild.set(state, child);
+                    createdKeyword.add(-1);
+                }
+                state = child;
+            }
+            createdKeyword.set(state, k);
+            lengths[k] = encoded[k].length;
+        }
+        int states = createdLabel.size();
+
+        // Numeração em largura: os filhos de cada estado ficam contíguos, a partir de firstChild
+        int[] order = new int[states];
+        int[] firstChild = new int[states + 1];
+        int[] labels = new int[states];
+        int[] keywordAt = new int[states];
+        int tail = 1;
+        for (int head = 0; head < states; head++) {
+            int created = order[head];
+            labels[head] = createdLabel.get(created);
+            keywordAt[head] = createdKeyword.get(created);
+            firstChild[head] = tail;
+            for (int child = createdFirstChild.get(created); child >= 0; child = createdSibling.get(child)) {
+                order[tail++] = child;
+            }
+        }
+        firstChild[states] = tail;
+
+        // Links de falha em largura; as linhas densas copiam as transições ausentes do estado de falha
+        int denseStates = Math.max(1, Math.min(states, DENSE_CELLS / classes));
+        int[] dense = new int[denseStates * classes];
+        int[] fail = new int[states];
+        int[] outputLink = new int[states];
+        KeywordAutomaton automaton = new KeywordAutomaton(keywords.toArray(new String[0]), lengths, byteClass,
+            classes, states, denseStates, dense, firstChild, labels, fail, keywordAt, outputLink);
+        for (int state = 0; state < states; state++) {
+            for (int child = firstChild[state]; child < firstChild[state + 1]; child++) {
+                int childFail = state == 0 ? 0 : automaton.next(fail[state], labels[child]);
+                fail[child] = childFail;
+                outputLink[child] = keywordAt[childFail] >= 0 ? childFail : outputLink[childFail];
+            }
+            if (state < denseStates) {
+                int row = state * classes;
+                int failRow = fail[state] * classes;
+                for (int c = 0; c < classes; c++) {
+                    dense[row + c] = state == 0 ? 0 : dense[failRow + c];
+                }
+                for (int child = firstChild[state]; child < firstChild[state + 1]; child++) {
+                    dense[row + labels[child]] = child;
+                }
+            }
+        }
+        return automaton;
+    }
+
+    /**
+     * Transição de um estado por uma classe de byte
+     * 
+     * Estados profundos procuram o filho e, sem ele, seguem o link de
+     * falha até um estado denso.
+     */
+    private int next(int state, int label) {
+        while (state >= denseStates) {
+            for (int child = firstChild[state]; child < firstChild[state + 1]; child++) {
+                if (labels[child] == label) {
+                    return child;
+                }
+            }
+            state = fail[state];
+        }
+        return dense[state * classes + label];
+    }
+
+    /**
+     * @return nova varredura a partir do início do texto
+     */
+    public Scanner scanner() {
+        return new Scanner();
+    }
+
+    /**
+     * @param keywordId índice da palavra-chave
+     * @return palavra-chave compilada
+     */
+    public String keyword(int keywordId) {
+        return keywords[keywordId];
+    }
+
+    /**
+     * @param keywordId índice da palavra-chave
+     * @return tamanho da palavra-chave em bytes UTF-8
+     */
+    public int keywordLength(int keywordId) {
+        return keywordLengths[keywordId];
+    }
+
+    /**
+     * @return quantidade de palavras-chave
+     */
+    public int keywordCount() {
+        return keywords.length;
+    }
+
+    /**
+     * @return quantidade de estados do autômato
+     */
+    public int stateCount() {
+        return states;
+    }
+
+    /**
+     * Memória aproximada ocupada pelas tabelas do autômato
+     * 
+     * @return bytes ocupados, sem contar as Strings das palavras-chave
+     */
+    public long memoryBytes() {
+        return (long) dense.length * Integer.BYTES
+            + (long) states * Integer.BYTES * 5
+            + (long) keywords.length * Integer.BYTES;
+    }
+
+    /**
+     * Varredura de um texto, possivelmente recebido em blocos
+     */
+    public final class Scanner {
+
+        private int state;
+        private long offset;
+
+        private Scanner() {
+        }
+
+        /**
+         * Continua a varredura com o próximo bloco do texto
+         * 
+         * @param bytes bloco do texto
+         * @param from início do bloco
+         * @param to fim do bloco (exclusivo)
+         * @param consumer função chamada para cada ocorrência, na ordem em que terminam
+         */
+        public void scan(byte[] bytes, int from, int to, MatchConsumer consumer) {
+            int current = state;
+            for (int i = from; i < to; i++) {
+                current = next(current, byteClass[bytes[i] & 0xFF]);
+                int output = keywordAt[current] >= 0 ? current : outputLink[current];
+                while (output != 0) {
+                    consumer.accept(keywordAt[output], offset + (i - from) + 1);
+                    output = outputLink[output];
+                }
+            }
+            state = current;
+            offset += to - from;
+        }
+
+        /**
+         * @return bytes já percorridos
+         */
+        public long bytesScanned() {
+            return offset;
+        }
+    }
+}
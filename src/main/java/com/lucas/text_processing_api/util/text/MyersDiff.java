@@ -0,0 +1,360 @@
+package com.lucas.text_processing_api.util.text;
+
+import java.io.IOException;
+
+import com.lucas.text_processing_api.util.collection.IntArrayList;
+
+/**
+ * Diferença entre duas sequências pelo algoritmo O(ND) de Myers
+ * 
+ * Usa o refinamento em espaço linear: em vez de guardar um caminho por
+ * custo, cada passo procura a "cobra do meio" (o trecho diagonal no meio de
+ * um caminho mínimo) avançando ao mesmo tempo do início e do fim, e divide o
+ * problema em duas metades ao redor dela. Só dois arrays de diagonais, do
+ * tamanho N + M, são alocados e reaproveitados em todas as divisões; as
+ * metades pendentes ficam em uma pilha explícita, então nem a memória nem a
+ * pilha de chamadas crescem com o tamanho das entradas. O tempo é
+ * O((N + M) D), com D o tamanho do script de edição.
+ * 
+ * Prefixos e sufixos comuns são descontados antes de cada divisão. Como no
+ * diff do GNU, uma divisão que passa de um custo limite desiste do caminho
+ * mínimo e corta no ponto mais avançado até ali: o script continua correto,
+ * mas pode não ser o menor, e o tempo fica limitado mesmo em entradas sem
+ * nada em comum. Scripts de até duas vezes o limite saem sempre mínimos.
+ * 
+ * As operações são entregues em ordem, à medida que as divisões são
+ * resolvidas, com as remoções antes das inserções em cada trecho alterado.
+ * 
+ * @author Lucas
+ * @version 1.0
+ */
+public final class MyersDiff {
+
+    /**
+     * Custo limite padrão de cada divisão
+     */
+    public static final int DEFAULT_COST_LIMIT = 256;
+
+    private static final int SOLVE = 0;
+    private static final int MATCH = 1;
+
+    private final int costLimit;
+
+    /**
+     * Recebe as operações do script de edição, em ordem
+     */
+    public interface EditConsumer {
+
+        /**
+         * @param original posição do primeiro token no original
+         * @param revised posição do primeiro token no revisado
+         * @param count quantidade de tokens iguais
+         * @throws IOException se a escrita da operação falhar
+         */
+        void equal(int original, int revised, int count) throws IOException;
+
+        /**
+         * @param original posição do primeiro token removido do original
+         * @param count quantidade de tokens removidos
+         * @throws IOException se a escrita da operação falhar
+         */
+        void delete(int original, int count) throws IOException;
+
+        /**
+         * @param revised posição do primeiro token inserido no revisado
+         * @param count quantidade de tokens inseridos
+         * @throws IOException se a escrita da operação falhar
+         */
+        void insert(int revised, int count) throws IOException;
+    }
+
+    public MyersDiff() {
+        this(DEFAULT_COST_LIMIT);
+    }
+
+    /**
+     * @param costLimit custo a partir do qual uma divisão deixa de buscar o caminho mínimo
+     */
+    public MyersDiff(int costLimit) {
+        if (costLimit < 1) {
+            throw new IllegalArgumentException("O custo limite deve ser no mínimo 1");
+        }
+        this.costLimit = costLimit;
+    }
+
+    /**
+     * Compara duas sequências de identificadores
+     * 
+     * @param original identificadores dos tokens do original
+     * @param revised identificadores dos tokens do revisado
+     * @param consumer destino das operações
+     * @throws IOException se o destino falhar
+     */
+    public void diff(int[] original, int[] revised, EditConsumer consumer) throws IOException {
+        new Comparison(original, revised, consumer, costLimit).run();
+    }
+
+    /**
+     * Estado de uma comparação: entradas, arrays de diagonais e o trecho
+     * alterado ainda não entregue
+     */
+    private static final class Comparison {
+
+        private final int[] a;
+        private final int[] b;
+        private final EditConsumer consumer;
+        private final int costLimit;
+        private final int[] forward;
+        private final int[] backward;
+        private final int offset;
+        private final IntArrayList stack = new IntArrayList();
+
+        // Trecho igual pendente e fim da última operação entregue
+        private int matchX;
+        private int matchY;
+        private int matchCount;
+        private int doneX;
+        private int doneY;
+
+        Comparison(int[] a, int[] b, EditConsumer consumer, int costLimit) {
+            this.a = a;
+            this.b = b;
+            this.consumer = consumer;
+            this.costLimit = costLimit;
+            // Diagonais de -(M + 1) a N + 1
+            this.forward = new int[a.length + b.length + 3];
+            this.backward = new int[a.length + b.length + 3];
+            this.offset = b.length + 1;
+        }
+
+        void run() throws IOException {
+            push(SOLVE, 0, a.length, 0, b.length);
+            while (stack.size() > 0) {
+                int top = stack.size();
+                int kind = stack.get(top - 5);
+                int xoff = stack.get(top - 4);
+                int xlim = stack.get(top - 3);
+                int yoff = stack.get(top - 2);
+                int ylim = stack.get(top - 1);
+                stack.truncate(top - 5);
+                if (kind == MATCH) {
+                    match(xoff, yoff, xlim - xoff);
+                } else {
+                    solve(xoff, xlim, yoff, ylim);
+                }
+            }
+            flush(a.length, b.length);
+        }
+
+        /**
+         * Desconta prefixo e sufixo comuns e divide o restante na cobra do
+         * meio; a metade da esquerda fica no topo da pilha
+         */
+        private void solve(int xoff, int xlim, int yoff, int ylim) throws IOException {
+            int start = xoff;
+            while (xoff < xlim && yoff < ylim && a[xoff] == b[yoff]) {
+                xoff++;
+                yoff++;
+            }
+            match(start, yoff - (xoff - start), xoff - start);
+
+            int end = xlim;
+            while (xlim > xoff && ylim > yoff && a[xlim - 1] == b[ylim - 1]) {
+                xlim--;
+                ylim--;
+            }
+            if (xlim < end) {
+                push(MATCH, xlim, end, ylim, ylim + (end - xlim));
+            }
+
+            // Só remoções ou só inserções: o trecho sai como lacuna entre iguais
+            if (xoff == xlim || yoff == ylim) {
+                return;
+            }
+
+            long split = middleSnake(xoff, xlim, yoff, ylim);
+            int xmid = (int) (split >>> 32);
+            int ymid = (int) split;
+            push(SOLVE, xmid, xlim, ymid, ylim);
+            push(SOLVE, xoff, xmid, yoff, ymid);
+        }
+
+        /**
+         * Ponto de divisão de um caminho mínimo entre (xoff, yoff) e (xlim, ylim)
+         * 
+         * As diagonais são numeradas por k = x - y. O avanço a partir do
+         * início guarda em forward[k] o maior x alcançado com custo c e o
+         * recuo a partir do fim guarda em backward[k] o menor x; os dois se
+         * encontram em uma diagonal quando o custo soma D.
+         * 
+         * @return x no alto e y no baixo de um long
+         */
+        private long middleSnake(int xoff, int xlim, int yoff, int ylim) {
+            int[] fd = forward;
+            int[] bd = backward;
+            int o = offset;
+            int dmin = xoff - ylim;
+            int dmax = xlim - yoff;
+            int fmid = xoff - yoff;
+            int bmid = xlim - ylim;
+            int fmin = fmid;
+            int fmax = fmid;
+            int bmin = bmid;
+            int bmax = bmid;
+            boolean odd = ((fmid - bmid) & 1) != 0;
+
+            fd[o + fmid] = xoff;
+            bd[o + bmid] = xlim;
+
+            for (int c = 1; ; c++) {
+                // Sentinelas nas diagonais vizinhas da faixa, que cresce um passo por custo
+                if (fmin > dmin) {
+                    fd[o + --fmin - 1] = -1;
+                } else {
+                    ++fmin;
+                }
+                if (fmax < dmax) {
+                    fd[o + ++fmax + 1] = -1;
+                } else {
+                    --fmax;
+                }
+                for (int d = fmax; d >= fmin; d -= 2) {
+                    int tlo = fd[o + d - 1];
+                    int thi = fd[o + d + 1];
+                    int x = tlo >= thi ? tlo + 1 : thi;
+                    int y = x - d;
+                    while (x < xlim && y < ylim && a[x] == b[y]) {
+                        x++;
+                        y++;
+                    }
+                    fd[o + d] = x;
+                    if (odd && bmin <= d && d <= bmax && bd[o + d] <= x) {
+                        return pack(x, y);
+                    }
+                }
+
+                if (bmin > dmin) {
+                    bd[o + --bmin - 1] = Integer.MAX_VALUE;
+                } else {
+                    ++bmin;
+                }
+                if (bmax < dmax) {
+                    bd[o + ++bmax + 1] = Integer.MAX_VALUE;
+                } else {
+                    --bmax;
+                }
+                for (int d = bmax; d >= bmin; d -= 2) {
+                    int tlo = bd[o + d - 1];
+                    int thi = bd[o + d + 1];
+                    int x = tlo < thi ? tlo : thi - 1;
+                    int y = x - d;
+                    while (x > xoff && y > yoff && a[x - 1] == b[y - 1]) {
+                        x--;
+                        y--;
+                    }
+                    bd[o + d] = x;
+                    if (!odd && fmin <= d && d <= fmax && x <= fd[o + d]) {
+                        return pack(x, y);
+                    }
+                }
+
+                if (c >= costLimit) {
+                    return approximateSplit(xoff, xlim, yoff, ylim, fmin, fmax, bmin, bmax);
+                }
+            }
+        }
+
+        /**
+         * Divisão sem garantia de mínimo: o ponto mais avançado do início
+         * ou do fim, o que tiver percorrido mais
+         */
+        private long approximateSplit(int xoff, int xlim, int yoff, int ylim,
+                                      int fmin, int fmax, int bmin, int bmax) {
+            int o = offset;
+            int fxybest = -1;
+            int fxbest = 0;
+            for (int d = fmax; d >= fmin; d -= 2) {
+                int x = Math.min(forward[o + d], xlim);
+                int y = x - d;
+                if (y > ylim) {
+                    x = ylim + d;
+                    y = ylim;
+                }
+                if (x + y > fxybest) {
+                    fxybest = x + y;
+                    fxbest = x;
+                }
+            }
+
+            int bxybest = Integer.MAX_VALUE;
+            int bxbest = 0;
+            for (int d = bmax; d >= bmin; d -= 2) {
+                int x = Math.max(xoff, backward[o + d]);
+                int y = x - d;
+                if (y < yoff) {
+                    x = yoff + d;
+                    y = yoff;
+                }
+                if (x + y < bxybest) {
+                    bxybest = x + y;
+                    bxbest = x;
+                }
+            }
+
+            if ((xlim + ylim) - bxybest < fxybest - (xoff + yoff)) {
+                return pack(fxbest, fxybest - fxbest);
+            }
+            return pack(bxbest, bxybest - bxbest);
+        }
+
+        /**
+         * Acumula um trecho igual; as lacunas entre trechos iguais viram
+         * remoções e inserções
+         */
+        private void match(int x, int y, int count) throws IOException {
+            if (count == 0) {
+                return;
+            }
+            if (matchCount > 0 && matchX + matchCount == x && matchY + matchCount == y) {
+                matchCount += count;
+                return;
+            }
+            flush(x, y);
+            matchX = x;
+            matchY = y;
+            matchCount = count;
+        }
+
+        /**
+         * Entrega o trecho igual pendente e o trecho alterado até (x, y)
+         */
+        private void flush(int x, int y) throws IOException {
+            if (matchCount > 0) {
+                consumer.equal(matchX, matchY, matchCount);
+                doneX = matchX + matchCount;
+                doneY = matchY + matchCount;
+                matchCount = 0;
+            }
+            if (x > doneX) {
+                consumer.delete(doneX, x - doneX);
+            }
+            if (y > doneY) {
+                consumer.insert(doneY, y - doneY);
+            }
+            doneX = x;
+            doneY = y;
+        }
+
+        private void push(int kind, int xoff, int xlim, int yoff, int ylim) {
+            stack.add(kind);
+            stack.add(xoff);
+            stack.add(xlim);
+            stack.add(yoff);
+            stack.add(ylim);
+        }
+
+        private static long pack(int x, int y) {
+            return ((long) x << 32) | (y & 0xffffffffL);
+        }
+    }
+}
@@ -0,0 +1,408 @@
+package com.lucas.text_processing_api.util.text;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+
+import com.lucas.text_processing_api.util.collection.TopKHeap;
+import com.lucas.text_processing_api.util.dictionary.LetterSignature;
+
+/**
+ * Palíndromos de um texto pelo algoritmo de Manacher
+ * 
+ * O texto é lido em janelas de tamanho fixo que se sobrepõem em duas faixas
+ * de contexto. Em cada janela o algoritmo de Manacher calcula, em tempo
+ * linear, o raio do maior palíndromo em cada centro (ímpar e par); cada
+ * centro pertence a exatamente uma janela, a que tem ao menos uma faixa de
+ * contexto de cada lado dele. Assim nenhum palíndromo é contado duas vezes
+ * e a memória fica limitada ao tamanho da janela, qualquer que seja o
+ * tamanho do texto. A sobreposição refaz só uma fração constante do
+ * trabalho.
+ * 
+ * Palíndromos de até {@link #maxExactLength()} símbolos são sempre exatos.
+ * Um palíndromo mais longo alcança a borda da janela e é contado pelo
+ * comprimento visto até ali, que é um limite inferior; o resultado indica
+ * quando isso acontece.
+ * 
+ * A contagem por comprimento é a de ocorrências de substrings
+ * palindrômicas: um palíndromo maximal de comprimento L contém um
+ * palíndromo de cada comprimento L, L-2, L-4..., então basta contar os
+ * maximais e acumular do maior comprimento para o menor.
+ * 
+ * No modo de letras só as letras ASCII são consideradas, sem diferenciar
+ * maiúsculas, e as posições retornadas continuam sendo as dos bytes
+ * originais. No modo bruto cada byte é um símbolo.
+ * 
+ * @author Lucas
+ * @version 1.0
+ */
+public final class PalindromeScanner {
+
+    /**
+     * Tamanho máximo de palíndromo cujo texto é retornado
+     */
+    public static final int MAX_TEXT_LENGTH = 1024;
+
+    /** Símbolos de cada janela processada */
+    static final int DEFAULT_WINDOW = 1 << 20;
+
+    /** Símbolos de contexto de cada lado dos centros de uma janela */
+    static final int DEFAULT_CONTEXT = 1 << 15;
+
+    private static final int READ_BUFFER_BYTES = 1 << 16;
+
+    private final boolean lettersOnly;
+    private final int minLength;
+    private final int limit;
+    private final int window;
+    private final int context;
+
+    /**
+     * Palíndromo maximal encontrado
+     */
+    public static final class Palindrome {
+
+        private final long offset;
+        private final int length;
+        private final long byteLength;
+        private final String text;
+
+        Palindrome(long offset, int length, long byteLength, String text) {
+            this.offset = offset;
+            this.length = length;
+            this.byteLength = byteLength;
+            this.text = text;
+        }
+
+        /**
+         * @return posição do primeiro byte do palíndromo
+         */
+        public long getOffset() {
+            return offset;
+        }
+
+        /**
+         * @return quantidade de símbolos (letras ou bytes) do palíndromo
+         */
+        public int getLength() {
+            return length;
+        }
+
+        /**
+         * @return quantidade de bytes do texto original ocupados pelo palíndromo
+         */
+        public long getByteLength() {
+            return byteLength;
+        }
+
+        /**
+         * @return símbolos do palíndromo, ou null se passar de {@link #MAX_TEXT_LENGTH}
+         */
+        public String getText() {
+            return text;
+        }
+    }
+
+    /**
+     * Resultado de uma varredura
+     */
+    public static final class Result {
+
+        private final List<Palindrome> longest;
+        private final long[] counts;
+        private final boolean truncated;
+        private final long bytesScanned;
+
+        Result(List<Palindrome> longest, long[] counts, boolean truncated, long bytesScanned) {
+            this.longest = longest;
+            this.counts = counts;
+            this.truncated = truncated;
+            this.bytesScanned = bytesScanned;
+        }
+
+        /**
+         * @return maiores palíndromos maximais, do mais longo para o mais curto
+         */
+        public List<Palindrome> getLongest() {
+            return longest;
+        }
+
+        /**
+         * @param length comprimento em símbolos
+         * @return ocorrências de substrings palindrômicas com esse comprimento
+         */
+        public long count(int length) {
+            return length > 0 && length < counts.length ? counts[length] : 0;
+        }
+
+        /**
+         * @return comprimento do maior palíndromo, ou 0 se o texto não tem símbolos
+         */
+        public int getLongestLength() {
+            return counts.length - 1;
+        }
+
+        /**
+         * @return true se algum palíndromo alcançou a borda de uma janela e pode ser maior
+         */
+        public boolean isTruncated() {
+            return truncated;
+        }
+
+        /**
+         * @return quantidade de bytes percorridos
+         */
+        public long getBytesScanned() {
+            return bytesScanned;
+        }
+    }
+
+    /**
+     * @param lettersOnly true para considerar só as letras ASCII, sem diferenciar maiúsculas
+     * @param minLength comprimento mínimo dos palíndromos retornados
+     * @param limit quantidade máxima de palíndromos retornados
+     */
+    public PalindromeScanner(boolean lettersOnly, int minLength, int limit) {
+        this(lettersOnly, minLength, limit, DEFAULT_WINDOW, DEFAULT_CONTEXT);
+    }
+
+    PalindromeScanner(boolean lettersOnly, int minLength, int limit, int window, int context) {
+        if (context < 1 || window <= 2 * context) {
+            throw new IllegalArgumentException("A janela deve ser maior que o dobro do contexto");
+        }
+        this.lettersOnly = lettersOnly;
+        this.minLength = Math.max(minLength, 1);
+        this.limit = limit;
+        this.window = window;
+        this.context = context;
+    }
+
+    /**
+     * @return maior comprimento de palíndromo sempre medido por inteiro
+     */
+    public int maxExactLength() {
+        return 2 * context;
+    }
+
+    /**
+     * Procura os palíndromos em um fluxo, lido em blocos até o fim
+     * 
+     * @param input fluxo do texto, que não é fechado
+     * @return palíndromos encontrados e contagem por comprimento
+     * @throws IOException se o fluxo não puder ser lido
+     */
+    public Result scan(InputStream input) throws IOException {
+        Scan scan = new Scan();
+        byte[] buffer = new byte[READ_BUFFER_BYTES];
+        int read;
+        while ((read = input.read(buffer)) != -1) {
+            scan.accept(buffer, read);
+        }
+        return scan.finish();
+    }
+
+    /**
+     * Estado de uma varredura: janela atual, raios e palíndromos retidos
+     */
+    private final class Scan {
+
+        private final byte[] symbols = new byte[window];
+        private final long[] positions = lettersOnly ? new long[window] : null;
+        private final int[] odd = new int[window];
+        private final int[] even = new int[window];
+        private final Candidates candidates = new Candidates(limit);
+        private long[] maximal = new long[64];
+        private int longest;
+        private int size;
+        private long base;
+        private boolean first = true;
+        private boolean truncated;
+        private long bytes;
+
+        void accept(byte[] buffer, int length) {
+            for (int i = 0; i < length; i++) {
+                byte b = buffer[i];
+                if (lettersOnly) {
+                    // Bytes negativos (não ASCII) continuam negativos após o OR
+                    int letter = (b | 0x20) - 'a';
+                    if (letter < 0 || letter >= LetterSignature.ALPHABET_SIZE) {
+                        continue;
+                    }
+                    positions[size] = bytes + i;
+                    symbols[size++] = (byte) ('a' + letter);
+                } else {
+                    symbols[size++] = b;
+                }
+                if (size == window) {
+                    process(false);
+                    slide();
+                }
+            }
+            bytes += length;
+        }
+
+        Result finish() {
+            if (size > 0) {
+                process(true);
+            }
+            long[] counts = new long[longest + 1];
+            for (int length = longest; length > 0; length--) {
+                counts[length] = maximal[length] + (length + 2 <= longest ? counts[length + 2] : 0);
+            }
+            return new Result(candidates.drain(), counts, truncated, bytes);
+        }
+
+        /**
+         * Registra os centros que pertencem à janela; as bordas que não são
+         * início ou fim do texto podem cortar palíndromos
+         */
+        private void process(boolean last) {
+            int n = size;
+            computeRadii(n);
+            boolean leftOpen = !first;
+            boolean rightOpen = !last;
+            int from = first ? 0 : context;
+            int to = last ? n : n - context;
+            for (int i = from; i < to; i++) {
+                int k = odd[i];
+                record(i - k + 1, 2 * k - 1, (leftOpen && i - k + 1 == 0) || (rightOpen && i + k == n));
+                k = even[i];
+                if (k > 0) {
+                    record(i - k, 2 * k, (leftOpen && i - k == 0) || (rightOpen && i + k == n));
+                }
+            }
+            candidates.capture(symbols);
+        }
+
+        private void computeRadii(int n) {
+            byte[] s = symbols;
+            for (int i = 0, l = 0, r = -1; i < n; i++) {
+                int k = i > r ? 1 : Math.min(odd[l + r - i], r - i + 1);
+                while (i - k >= 0 && i + k < n && s[i - k] == s[i + k]) {
+                    k++;
+                }
+                odd[i] = k;
+                if (i + k - 1 > r) {
+                    l = i - k + 1;
+                    r = i + k - 1;
+                }
+            }
+            for (int i = 0, l = 0, r = -1; i < n; i++) {
+                int k = i > r ? 0 : Math.min(even[l + r - i + 1], r - i + 1);
+                while (i - k - 1 >= 0 && i + k < n && s[i - k - 1] == s[i + k]) {
+                    k++;
+                }
+                even[i] = k;
+                if (i + k - 1 > r) {
+                    l = i - k;
+                    r = i + k - 1;
+                }
+            }
+        }
+
+        private void record(int start, int length, boolean open) {
+            truncated |= open;
+            if (length >= maximal.length) {
+                maximal = Arrays.copyOf(maximal, Math.max(length + 1, maximal.length * 2));
+            }
+            maximal[length]++;
+            longest = Math.max(longest, length);
+            if (length >= minLength && candidates.accepts(length)) {
+                long offset;
+                long byteLength;
+                if (lettersOnly) {
+                    offset = positions[start];
+                    byteLength = positions[start + length - 1] - offset + 1;
+                } else {
+                    offset = base + start;
+                    byteLength = length;
+                }
+                candidates.offer(start, length, offset, byteLength);
+            }
+        }
+
+        /**
+         * Mantém as duas faixas de contexto no início da janela
+         */
+        private void slide() {
+            int keep = 2 * context;
+            int drop = size - keep;
+            System.arraycopy(symbols, drop, symbols, 0, keep);
+            if (positions != null) {
+                System.arraycopy(positions, drop, positions, 0, keep);
+            }
+            base += drop;
+            size = keep;
+            first = false;
+        }
+    }
+
+    /**
+     * Maiores palíndromos vistos até aqui, em posições reaproveitadas
+     * 
+     * O texto só é copiado ao final de cada janela e apenas para os
+     * palíndromos que continuam retidos, então um texto com milhões de
+     * candidatos crescentes não copia cada um deles.
+     */
+    private static final class Candidates {
+
+        private final TopKHeap heap;
+        private final int[] starts;
+        private final int[] lengths;
+        private final long[] offsets;
+        private final long[] byteLengths;
+        private final String[] texts;
+        private final boolean[] pending;
+        private int used;
+
+        Candidates(int capacity) {
+            this.heap = new TopKHeap(capacity);
+            this.starts = new int[capacity];
+            this.lengths = new int[capacity];
+            this.offsets = new long[capacity];
+            this.byteLengths = new long[capacity];
+            this.texts = new String[capacity];
+            this.pending = new boolean[capacity];
+        }
+
+        boolean accepts(int length) {
+            return !heap.isFull() || length > heap.minKey();
+        }
+
+        void offer(int start, int length, long offset, long byteLength) {
+            int slot = heap.isFull() ? heap.minValue() : used++;
+            starts[slot] = start;
+            lengths[slot] = length;
+            offsets[slot] = offset;
+            byteLengths[slot] = byteLength;
+            texts[slot] = null;
+            pending[slot] = true;
+            heap.offer(length, slot);
+        }
+
+        void capture(byte[] symbols) {
+            for (int slot = 0; slot < used; slot++) {
+                if (pending[slot]) {
+                    if (lengths[slot] <= MAX_TEXT_LENGTH) {
+                        texts[slot] = new String(symbols, starts[slot], lengths[slot], StandardCharsets.UTF_8);
+                    }
+                    pending[slot] = false;
+                }
+            }
+        }
+
+        List<Palindrome> drain() {
+            List<Palindrome> palindromes = new ArrayList<>(used);
+            for (int slot = 0; slot < used; slot++) {
+                palindromes.add(new Palindrome(offsets[slot], lengths[slot], byteLengths[slot], texts[slot]));
+            }
+            palindromes.sort(Comparator.comparingInt(Palindrome::getLength).reversed()
+                .thenComparingLong(Palindrome::getOffset));
+            return palindromes;
+        }
+    }
+}
@@ -0,0 +1,299 @@
+package com.lucas.text_processing_api.util.text;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.LongConsumer;
+
+import com.lucas.text_processing_api.util.collection.ByteSequenceCounter;
+
+/**
+ * Contagem paralela das palavras de textos grandes
+ * 
+ * O texto nunca é carregado inteiro: arquivos são divididos em trechos
+ * mapeados em memória, cortados em separadores de palavra, e fluxos são
+ * lidos em blocos de tamanho fixo com no máximo alguns blocos em
+ * processamento ao mesmo tempo. Cada thread do pool acumula as palavras em
+ * um {@link ByteSequenceCounter} próprio, sem sincronização no laço
+ * principal; os contadores são combinados uma única vez ao final. A memória
+ * usada cresce com as palavras distintas, não com o tamanho do texto.
+ * 
+ * @author Lucas
+ * @version 1.0
+ */
+public final class ParallelTokenCounter {
+
+    /** Tamanho aproximado de cada trecho mapeado de um arquivo */
+    static final int CHUNK_BYTES = 32 << 20;
+
+    /** Tamanho de cada bloco lido de um fluxo */
+    static final int BLOCK_BYTES = 8 << 20;
+
+    private static final int EXPECTED_DISTINCT_TOKENS = 1 << 16;
+
+    private final ForkJoinPool pool;
+    private final int chunkBytes;
+    private final int blockBytes;
+
+    /**
+     * Resultado de uma contagem
+     */
+    public static final class Result {
+
+        private final ByteSequenceCounter tokens;
+        private final long skippedTokens;
+        private final long bytes;
+
+        Result(ByteSequenceCounter tokens, long skippedTokens, long bytes) {
+            this.tokens = tokens;
+            this.skippedTokens = skippedTokens;
+            this.bytes = bytes;
+        }
+
+        /**
+         * @return palavras distintas (em minúsculas ASCII) e suas contagens
+         */
+        public ByteSequenceCounter getTokens() {
+            return tokens;
+        }
+
+        /**
+         * @return palavras descartadas por excederem {@link ByteTokenizer#MAX_TOKEN_BYTES}
+         */
+        public long getSkippedTokens() {
+            return skippedTokens;
+        }
+
+        /**
+         * @return quantidade de palavras encontradas, incluindo as descartadas
+         */
+        public long getTotalTokens() {
+            return tokens.total() + skippedTokens;
+        }
+
+        /**
+         * @return quantidade de bytes lidos
+         */
+        public long getBytes() {
+            return bytes;
+        }
+    }
+
+    /**
+     * @param pool pool usado para contar os trechos em paralelo
+     */
+    public ParallelTokenCounter(ForkJoinPool pool) {
+        this(pool, CHUNK_BYTES, BLOCK_BYTES);
+    }
+
+    ParallelTokenCounter(ForkJoinPool pool, int chunkBytes, int blockBytes) {
+        if (blockBytes <= ByteTokenizer.MAX_TOKEN_BYTES) {
+            throw new IllegalArgumentException("O bloco deve ser maior que a maior palavra contada");
+        }
+        this.pool = pool;
+        this.chunkBytes = chunkBytes;
+        this.blockBytes = blockBytes;
+    }
+
+    /**
+     * Conta as palavras de um arquivo
+     * 
+     * @param file arquivo de texto (ASCII ou UTF-8)
+     * @param progress recebe a quantidade de bytes de cada trecho concluído;
+     *                 pode ser chamado por várias threads ao mesmo tempo
+     * @return palavras contadas
+     * @throws IOException se o arquivo não puder ser lido
+     */
+    public Result countFile(Path file, LongConsumer progress) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long size = channel.size();
+            Workers workers = new Workers();
+            List<ForkJoinTask<?>> tasks = new ArrayList<>();
+
+            long start = 0;
+            while (start < size) {
+                long end = alignToBoundary(channel, Math.min(start + chunkBytes, size), size);
+                long chunkStart = start;
+                int length = (int) (end - start);
+                tasks.add(pool.submit(() -> {
+                    try {
+                        MappedByteBuffer chunk = channel.map(FileChannel.MapMode.READ_ONLY, chunkStart, length);
+                        workers.local().count(chunk, 0, length);
+                        progress.accept(length);
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                }));
+                start = end;
+            }
+
+            RuntimeException failure = null;
+            for (ForkJoinTask<?> task : tasks) {
+                try {
+                    task.join();
+                } catch (RuntimeException e) {
+                    failure = failure == null ? e : failure;
+                }
+            }
+            if (failure instanceof UncheckedIOException io) {
+                throw io.getCause();
+            }
+            if (failure != null) {
+                throw failure;
+            }
+            return workers.merge(size);
+        }
+    }
+
+    /**
+     * Conta as palavras de um fluxo
+     * 
+     * O fluxo é lido pela thread que chama o método, em blocos cortados no
+     * último separador; a palavra incompleta no fim de um bloco é levada para
+     * o início do seguinte. Novos blocos só são lidos quando há espaço entre
+     * os blocos em processamento, o que limita a memória a alguns blocos.
+     * 
+     * @param input fluxo de texto (ASCII ou UTF-8), que não é fechado
+     * @param progress recebe a quantidade de bytes de cada bloco concluído;
+     *                 pode ser chamado por várias threads ao mesmo tempo
+     * @return palavras contadas
+     * @throws IOException se o fluxo não puder ser lido
+     */
+    public Result countStream(InputStream input, LongConsumer progress) throws IOException {
+        int maxInFlight = pool.getParallelism() * 2;
+        Semaphore inFlight = new Semaphore(maxInFlight);
+        AtomicReference<Throwable> failure = new AtomicReference<>();
+        Workers workers = new Workers();
+
+        byte[] block = new byte[blockBytes];
+        int filled = 0;
+        long bytes = 0;
+        boolean insideLongToken = false;
+        try {
+            while (failure.get() == null) {
+                int read = input.readNBytes(block, filled, block.length - filled);
+                bytes += read;
+                filled += read;
+                boolean last = filled < block.length;
+                if (filled == 0) {
+                    break;
+                }
+
+                int cut = last ? filled : ByteTokenizer.lastBoundary(block, 0, filled);
+                boolean splitsToken = cut < 0;
+                if (splitsToken) {
+                    // Bloco inteiro dentro de uma única palavra, que excede o tamanho
+                    // máximo: é descartada neste bloco e o restante dela é pulado no próximo
+                    cut = filled;
+                }
+                ByteBuffer data = ByteBuffer.wrap(block);
+                int from = insideLongToken ? ByteTokenizer.nextBoundary(data, 0, cut) : 0;
+                int to = cut;
+                insideLongToken = splitsToken;
+
+                inFlight.acquire();
+                pool.execute(() -> {
+                    try {
+                        workers.local().count(data, from, to);
+                        progress.accept(to);
+                    } catch (Throwable t) {
+                        failure.compareAndSet(null, t);
+                    } finally {
+                        inFlight.release();
+                    }
+                });
+
+                if (last) {
+                    break;
+                }
+                byte[] next = new byte[blockBytes];
+                filled -= cut;
+                System.arraycopy(block, cut, next, 0, filled);
+                block = next;
+            }
+            inFlight.acquire(maxInFlight);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Contagem interrompida", e);
+        }
+
+        Throwable error = failure.get();
+        if (error instanceof RuntimeException runtime) {
+            throw runtime;
+        }
+        if (error != null) {
+            throw new IllegalStateException("Falha na contagem de palavras", error);
+        }
+        return workers.merge(bytes);
+    }
+
+    private static long alignToBoundary(FileChannel channel, long position, long size) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(256);
+        while (position < size) {
+            buffer.clear();
+            int read = channel.read(buffer, position);
+            if (read <= 0) {
+                break;
+            }
+            int boundary = ByteTokenizer.nextBoundary(buffer, 0, read);
+            if (boundary < read) {
+                return position + boundary;
+            }
+            position += read;
+        }
+        return size;
+    }
+
+    /**
+     * Contadores por thread do pool
+     */
+    private static final class Workers {
+
+        private final Map<Thread, Local> locals = new ConcurrentHashMap<>();
+
+        Local local() {
+            return locals.computeIfAbsent(Thread.currentThread(), thread -> new Local());
+        }
+
+        Result merge(long bytes) {
+            ByteSequenceCounter merged = null;
+            long skipped = 0;
+            for (Local local : locals.values()) {
+                skipped += local.skipped;
+                if (merged == null || local.counter.size() > merged.size()) {
+                    if (merged != null) {
+                        local.counter.merge(merged);
+                    }
+                    merged = local.counter;
+                } else {
+                    merged.merge(local.counter);
+                }
+            }
+            return new Result(merged != null ? merged : new ByteSequenceCounter(0), skipped, bytes);
+        }
+    }
+
+    private static final class Local {
+
+        private final ByteSequenceCounter counter = new ByteSequenceCounter(EXPECTED_DISTINCT_TOKENS);
+        private final byte[] scratch = new byte[ByteTokenizer.MAX_TOKEN_BYTES];
+        private long skipped;
+
+        void count(ByteBuffer text, int from, int to) {
+            skipped += ByteTokenizer.countTokens(text, from, to, scratch, counter);
+        }
+    }
+}
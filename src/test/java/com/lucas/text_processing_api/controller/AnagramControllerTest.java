@@ -1,12 +1,20 @@
 package com.lucas.text_processing_api.controller;
 
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 import java.util.List;
+import java.util.concurrent.RejectedExecutionException;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -20,15 +28,17 @@ import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.lucas.text_processing_api.dto.AnagramMode;
 import com.lucas.text_processing_api.dto.AnagramRequest;
 import com.lucas.text_processing_api.dto.AnagramResponse;
 import com.lucas.text_processing_api.service.AnagramService;
+import com.lucas.text_processing_api.service.AnagramStreamService;
 
 /**
  * Testes unitários para o AnagramController
  * 
  * @author Lucas
- * @version 1.5
+ * @version 1.6
  */
 @ExtendWith(MockitoExtension.class)
 class AnagramControllerTest {
@@ -38,6 +48,9 @@ class AnagramControllerTest {
     @Mock
     private AnagramService anagramService;
 
+    @Mock
+    private AnagramStreamService anagramStreamService;
+
     @InjectMocks
     private AnagramController anagramController;
 
@@ -240,4 +253,57 @@ class AnagramControllerTest {
 
         verify(anagramService).generateAnagrams("xyz");
     }
+
+    @Test
+    @DisplayName("Deve delegar a geração em pipeline quando solicitado")
+    void shouldDelegatePipelinedGeneration() throws Exception {
+        // Arrange
+        AnagramRequest request = new AnagramRequest();
+        request.setLetters("abc");
+
+        // Act & Assert
+        mockMvc.perform(post("/api/anagrams/generate")
+                .param("pipelined", "true")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(AnagramStreamService.NDJSON));
+
+        verify(anagramStreamService).streamAnagrams(eq("abc"), isNull(), any());
+        verify(anagramService, never()).generateAnagrams(anyString());
+    }
+
+    @Test
+    @DisplayName("Deve responder 503 quando a fila do pipeline está cheia")
+    void shouldReturnServiceUnavailableWhenPipelineIsFull() throws Exception {
+        // Arrange
+        AnagramRequest request = new AnagramRequest();
+        request.setLetters("abc");
+        when(anagramStreamService.streamAnagrams(eq("abc"), isNull(), any()))
+            .thenThrow(new RejectedExecutionException("fila cheia"));
+
+        // Act & Assert
+        mockMvc.perform(post("/api/anagrams/generate")
+                .param("pipelined", "true")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isServiceUnavailable())
+                .andExpect(header().string("Retry-After", "1"));
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar modos diferentes de PERMUTATIONS no pipeline")
+    void shouldRejectOtherModesInPipeline() throws Exception {
+        // Arrange
+        AnagramRequest request = new AnagramRequest();
+        request.setLetters("abc");
+        request.setMode(AnagramMode.NECKLACE);
+
+        // Act & Assert
+        mockMvc.perform(post("/api/anagrams/generate")
+                .param("pipelined", "true")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isBadRequest());
+    }
 }
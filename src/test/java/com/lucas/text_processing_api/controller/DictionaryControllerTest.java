@@ -0,0 +1,342 @@
+package com.lucas.text_processing_api.controller;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import com.lucas.text_processing_api.dto.DictionaryUsage;
+import com.lucas.text_processing_api.dto.FuzzyMatch;
+import com.lucas.text_processing_api.dto.NearAnagram;
+import com.lucas.text_processing_api.dto.ScoredWord;
+import com.lucas.text_processing_api.service.DictionaryService;
+import com.lucas.text_processing_api.util.dictionary.PatternIndex;
+import com.lucas.text_processing_api.util.dictionary.NeighborIndex.LetterEdit;
+
+/**
+ * Testes unitários para o DictionaryController
+ * 
+ * @author Lucas
+ * @version 1.2
+ */
+@ExtendWith(MockitoExtension.class)
+class DictionaryControllerTest {
+
+    private MockMvc mockMvc;
+
+    @Mock
+    private DictionaryService dictionaryService;
+
+    @InjectMocks
+    private DictionaryController dictionaryController;
+
+    @BeforeEach
+    void setUp() {
+        mockMvc = MockMvcBuilders
+            .standaloneSetup(dictionaryController)
+            .build();
+    }
+
+    @Test
+    @DisplayName("Deve retornar sub-anagramas agrupados por comprimento")
+    void shouldReturnSubAnagramsGroupedByLength() throws Exception {
+        // Arrange
+        Map<Integer, List<String>> wordsByLength = new LinkedHashMap<>();
+        wordsByLength.put(3, List.of("act", "cat"));
+        wordsByLength.put(2, List.of("at"));
+        when(dictionaryService.findSubAnagrams(null, "Tac", 2)).thenReturn(wordsByLength);
+
+        // Act & Assert
+        mockMvc.perform(post("/api/dictionary/sub-anagrams")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"letters\": \"Tac\", \"minLength\": 2}"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.originalLetters").value("tac"))
+            .andExpect(jsonPath("$.totalWords").value(3))
+            .andExpect(jsonPath("$.wordsByLength.3[1]").value("cat"))
+            .andExpect(jsonPath("$.wordsByLength.2[0]").value("at"));
+    }
+
+    @Test
+    @DisplayName("Deve usar comprimento mínimo 1 quando não informado")
+    void shouldDefaultMinLength() throws Exception {
+        // Arrange
+        when(dictionaryService.findSubAnagrams(null, "a", 1)).thenReturn(Map.of(1, List.of("a")));
+
+        // Act & Assert
+        mockMvc.perform(post("/api/dictionary/sub-anagrams")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"letters\": \"a\"}"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.totalWords").value(1));
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar letras inválidas")
+    void shouldRejectInvalidLetters() throws Exception {
+        // Act & Assert
+        mockMvc.perform(post("/api/dictionary/sub-anagrams")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"letters\": \"ab1\"}"))
+            .andExpect(status().isBadRequest());
+
+        // Verify
+        verify(dictionaryService, never()).findSubAnagrams(any(), anyString(), anyInt());
+    }
+
+    @Test
+    @DisplayName("Deve retornar quase-anagramas com as letras editadas")
+    void shouldReturnNearAnagrams() throws Exception {
+        // Arrange
+        when(dictionaryService.findNearAnagrams(null, "Tac", 100)).thenReturn(List.of(
+            new NearAnagram("cart", LetterEdit.ADDED, "r", null),
+            new NearAnagram("bat", LetterEdit.CHANGED, "b", "c")));
+
+        // Act & Assert
+        mockMvc.perform(post("/api/dictionary/near-anagrams")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"letters\": \"Tac\"}"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.originalLetters").value("tac"))
+            .andExpect(jsonPath("$.totalNeighbors").value(2))
+            .andExpect(jsonPath("$.neighbors[0].edit").value("ADDED"))
+            .andExpect(jsonPath("$.neighbors[0].removedLetter").doesNotExist())
+            .andExpect(jsonPath("$.neighbors[1].removedLetter").value("c"));
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar limite de quase-anagramas fora do intervalo")
+    void shouldRejectNearAnagramLimitOutOfRange() throws Exception {
+        // Act & Assert
+        mockMvc.perform(post("/api/dictionary/near-anagrams")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"letters\": \"tac\", \"limit\": 0}"))
+            .andExpect(status().isBadRequest());
+
+        // Verify
+        verify(dictionaryService, never()).findNearAnagrams(any(), anyString(), anyInt());
+    }
+
+    @Test
+    @DisplayName("Deve retornar sugestões de palavras próximas com a distância padrão")
+    void shouldReturnFuzzyMatches() throws Exception {
+        // Arrange
+        when(dictionaryService.findSimilarWords(null, "Teh", 2, 10)).thenReturn(List.of(
+            new FuzzyMatch("ten", 1), new FuzzyMatch("the", 2)));
+
+        // Act & Assert
+        mockMvc.perform(post("/api/dictionary/fuzzy-matches")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"word\": \"Teh\"}"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.word").value("teh"))
+            .andExpect(jsonPath("$.maxDistance").value(2))
+            .andExpect(jsonPath("$.suggestions[0].word").value("ten"))
+            .andExpect(jsonPath("$.suggestions[1].distance").value(2));
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar distância de edição fora do intervalo")
+    void shouldRejectFuzzyDistanceOutOfRange() throws Exception {
+        // Act & Assert
+        mockMvc.perform(post("/api/dictionary/fuzzy-matches")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"word\": \"teh\", \"maxDistance\": 3}"))
+            .andExpect(status().isBadRequest());
+
+        // Verify
+        verify(dictionaryService, never()).findSimilarWords(any(), anyString(), anyInt(), anyInt());
+    }
+
+    @Test
+    @DisplayName("Deve retornar as palavras de maior pontuação com os padrões da busca")
+    void shouldReturnTopWords() throws Exception {
+        // Arrange
+        when(dictionaryService.findTopWords(isNull(), eq("Quiz?"), eq(10), eq(1), eq(Integer.MAX_VALUE), isNull(), isNull()))
+            .thenReturn(List.of(new ScoredWord("quiz", 22, null), new ScoredWord("quip", 12, "p")));
+
+        // Act & Assert
+        mockMvc.perform(post("/api/dictionary/top-words")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"rack\": \"Quiz?\"}"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.originalRack").value("quiz?"))
+            .andExpect(jsonPath("$.totalWords").value(2))
+            .andExpect(jsonPath("$.words[0].blankLetters").doesNotExist())
+            .andExpect(jsonPath("$.words[1].blankLetters").value("p"));
+    }
+
+    @Test
+    @DisplayName("Deve responder 400 quando os valores de letras são inválidos")
+    void shouldRejectInvalidLetterValues() throws Exception {
+        // Arrange
+        when(dictionaryService.findTopWords(isNull(), eq("ab"), eq(10), eq(1), eq(Integer.MAX_VALUE), isNull(), eq(Map.of("a", -1))))
+            .thenThrow(new IllegalArgumentException("Valor de letra fora do intervalo: a=-1"));
+
+        // Act & Assert
+        mockMvc.perform(post("/api/dictionary/top-words")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"rack\": \"ab\", \"letterValues\": {\"a\": -1}}"))
+            .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @DisplayName("Deve retornar as palavras que atendem ao padrão")
+    void shouldReturnPatternMatches() throws Exception {
+        // Arrange
+        PatternIndex.Result result = mock(PatternIndex.Result.class);
+        when(result.getWords()).thenReturn(List.of("cat", "cot"));
+        when(result.getTotalMatches()).thenReturn(3);
+        when(dictionaryService.findPatternMatches(null, "C?T", "ao", 2)).thenReturn(result);
+
+        // Act & Assert
+        mockMvc.perform(post("/api/dictionary/pattern-matches")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"pattern\": \"C?T\", \"letters\": \"ao\", \"limit\": 2}"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.pattern").value("c?t"))
+            .andExpect(jsonPath("$.words[1]").value("cot"))
+            .andExpect(jsonPath("$.totalMatches").value(3));
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar padrões com caracteres inválidos")
+    void shouldRejectInvalidPattern() throws Exception {
+        // Act & Assert
+        mockMvc.perform(post("/api/dictionary/pattern-matches")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"pattern\": \"c.t\"}"))
+            .andExpect(status().isBadRequest());
+
+        // Verify
+        verify(dictionaryService, never()).findPatternMatches(any(), anyString(), any(), anyInt());
+    }
+
+    @Test
+    @DisplayName("Deve retornar as sugestões do autocompletar")
+    void shouldReturnCompletions() throws Exception {
+        // Arrange
+        when(dictionaryService.findCompletions(null, "Tacre", "ca", 10)).thenReturn(List.of("car", "care", "cat"));
+
+        // Act & Assert
+        mockMvc.perform(post("/api/dictionary/autocomplete")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"letters\": \"Tacre\", \"prefix\": \"CA\"}"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.letters").value("tacre"))
+            .andExpect(jsonPath("$.prefix").value("ca"))
+            .andExpect(jsonPath("$.completions[1]").value("care"));
+    }
+
+    @Test
+    @DisplayName("Deve retornar 400 para prefixo inválido")
+    void shouldRejectInvalidPrefix() throws Exception {
+        // Act & Assert
+        mockMvc.perform(post("/api/dictionary/autocomplete")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"letters\": \"tac\", \"prefix\": \"c1\"}"))
+            .andExpect(status().isBadRequest());
+
+        verify(dictionaryService, never()).findCompletions(any(), anyString(), anyString(), anyInt());
+    }
+
+    @Test
+    @DisplayName("Deve agendar a recarga do dicionário e responder 202")
+    void shouldScheduleDictionaryReload() throws Exception {
+        // Arrange
+        when(dictionaryService.reloadAsync()).thenReturn(true);
+        when(dictionaryService.currentVersion()).thenReturn(255L);
+
+        // Act & Assert
+        mockMvc.perform(post("/api/dictionary/reload"))
+            .andExpect(status().isAccepted())
+            .andExpect(jsonPath("$.currentVersion").value("ff"));
+
+        // Verify
+        verify(dictionaryService).reloadAsync();
+    }
+
+    @Test
+    @DisplayName("Deve retornar o status do dicionário em uso")
+    void shouldReturnDictionaryStatus() throws Exception {
+        // Arrange
+        when(dictionaryService.wordCount()).thenReturn(3);
+        when(dictionaryService.groupCount()).thenReturn(2);
+        when(dictionaryService.currentVersion()).thenReturn(16L);
+
+        // Act & Assert
+        mockMvc.perform(get("/api/dictionary/status"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.words").value(3))
+            .andExpect(jsonPath("$.groups").value(2))
+            .andExpect(jsonPath("$.version").value("10"));
+    }
+
+    @Test
+    @DisplayName("Deve encaminhar o dicionário escolhido na requisição")
+    void shouldForwardSelectedDictionary() throws Exception {
+        // Arrange
+        when(dictionaryService.findSubAnagrams("pt-br", "tac", 1)).thenReturn(Map.of(3, List.of("tac")));
+
+        // Act & Assert
+        mockMvc.perform(post("/api/dictionary/sub-anagrams")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"letters\": \"tac\", \"dictionary\": \"pt-br\"}"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.totalWords").value(1));
+    }
+
+    @Test
+    @DisplayName("Deve retornar 400 para dicionário desconhecido")
+    void shouldRejectUnknownDictionary() throws Exception {
+        // Arrange
+        when(dictionaryService.findSubAnagrams("missing", "tac", 1))
+            .thenThrow(new IllegalArgumentException("Dicionário desconhecido: missing"));
+
+        // Act & Assert
+        mockMvc.perform(post("/api/dictionary/sub-anagrams")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"letters\": \"tac\", \"dictionary\": \"missing\"}"))
+            .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @DisplayName("Deve retornar o uso de memória e consultas por dicionário")
+    void shouldReturnDictionaryUsage() throws Exception {
+        // Arrange
+        when(dictionaryService.dictionaryUsage()).thenReturn(List.of(
+            new DictionaryUsage("default", 3, 0, 0, "10", 512L, 0L, 4L),
+            new DictionaryUsage("pt-br", 3, 1, 1, "2a", 512L, 64L, 2L)));
+
+        // Act & Assert
+        mockMvc.perform(get("/api/dictionary/dictionaries"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$[1].name").value("pt-br"))
+            .andExpect(jsonPath("$[1].ownBytes").value(64))
+            .andExpect(jsonPath("$[0].lookups").value(4));
+    }
+}
@@ -0,0 +1,125 @@
+package com.lucas.text_processing_api.controller;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.multipart;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.io.InputStream;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import com.lucas.text_processing_api.dto.DocumentInfo;
+import com.lucas.text_processing_api.dto.DocumentMatch;
+import com.lucas.text_processing_api.dto.DocumentSearchResponse;
+import com.lucas.text_processing_api.dto.RhymeResponse;
+import com.lucas.text_processing_api.dto.WordCount;
+import com.lucas.text_processing_api.service.DocumentService;
+
+/**
+ * Testes unitários para o DocumentController
+ * 
+ * @author Lucas
+ * @version 1.1
+ */
+@ExtendWith(MockitoExtension.class)
+class DocumentControllerTest {
+
+    private MockMvc mockMvc;
+
+    @Mock
+    private DocumentService documentService;
+
+    @InjectMocks
+    private DocumentController documentController;
+
+    @BeforeEach
+    void setUp() {
+        mockMvc = MockMvcBuilders
+            .standaloneSetup(documentController)
+            .build();
+    }
+
+    @Test
+    @DisplayName("Deve armazenar o documento enviado com o nome do arquivo")
+    void shouldAddDocument() throws Exception {
+        // Arrange
+        when(documentService.addDocument(eq("notes.txt"), any(InputStream.class)))
+            .thenReturn(new DocumentInfo(0, "notes.txt", 11));
+        MockMultipartFile file = new MockMultipartFile("file", "notes.txt", "text/plain", "hello world".getBytes());
+
+        // Act & Assert
+        mockMvc.perform(multipart("/api/documents").file(file))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.id").value(0))
+            .andExpect(jsonPath("$.sizeBytes").value(11));
+    }
+
+    @Test
+    @DisplayName("Deve retornar os documentos que contêm a substring")
+    void shouldSearchDocuments() throws Exception {
+        // Arrange
+        DocumentSearchResponse response = new DocumentSearchResponse("world",
+            List.of(new DocumentMatch(0, "notes.txt", 1, List.of(6))), 1, 0);
+        when(documentService.search("world", 50)).thenReturn(response);
+
+        // Act & Assert
+        mockMvc.perform(get("/api/documents/search").param("q", "world"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.results[0].name").value("notes.txt"))
+            .andExpect(jsonPath("$.results[0].offsets[0]").value(6))
+            .andExpect(jsonPath("$.candidateDocuments").value(1));
+    }
+
+    @Test
+    @DisplayName("Deve retornar 400 para documento vazio")
+    void shouldRejectEmptyDocument() throws Exception {
+        // Arrange
+        when(documentService.addDocument(eq("empty.txt"), any(InputStream.class)))
+            .thenThrow(new IllegalArgumentException("O documento não pode estar vazio"));
+        MockMultipartFile file = new MockMultipartFile("file", "empty.txt", "text/plain", new byte[0]);
+
+        // Act & Assert
+        mockMvc.perform(multipart("/api/documents").file(file))
+            .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @DisplayName("Deve retornar as palavras do documento terminadas no sufixo")
+    void shouldFindRhymes() throws Exception {
+        // Arrange
+        RhymeResponse response = new RhymeResponse(0, "ção", List.of(new WordCount("canção", 2)), 1, 2, 0);
+        when(documentService.findRhymes(0, "ção", 50)).thenReturn(Optional.of(response));
+
+        // Act & Assert
+        mockMvc.perform(get("/api/documents/0/rhymes").param("suffix", "ção"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.words[0].word").value("canção"))
+            .andExpect(jsonPath("$.totalOccurrences").value(2));
+    }
+
+    @Test
+    @DisplayName("Deve retornar 404 para contagem em documento de outro usuário")
+    void shouldReturnNotFoundForForeignDocument() throws Exception {
+        // Arrange
+        when(documentService.countOccurrences(7, "prazo")).thenReturn(Optional.empty());
+
+        // Act & Assert
+        mockMvc.perform(get("/api/documents/7/occurrences").param("q", "prazo"))
+            .andExpect(status().isNotFound());
+    }
+}
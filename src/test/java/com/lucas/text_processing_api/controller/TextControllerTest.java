@@ -0,0 +1,461 @@
+package com.lucas.text_processing_api.controller;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.multipart;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.ByteBuffer;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.RejectedExecutionException;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import com.lucas.text_processing_api.dto.DiffGranularity;
+import com.lucas.text_processing_api.dto.DiffSummary;
+import com.lucas.text_processing_api.dto.KeywordScanResponse;
+import com.lucas.text_processing_api.dto.KeywordSetResponse;
+import com.lucas.text_processing_api.dto.NearDuplicateMatch;
+import com.lucas.text_processing_api.dto.NearDuplicateResponse;
+import com.lucas.text_processing_api.dto.NearDuplicateResult;
+import com.lucas.text_processing_api.dto.PalindromeLengthCount;
+import com.lucas.text_processing_api.dto.PalindromeOccurrence;
+import com.lucas.text_processing_api.dto.PalindromeResponse;
+import com.lucas.text_processing_api.dto.WordCount;
+import com.lucas.text_processing_api.dto.WordFrequencyResponse;
+import com.lucas.text_processing_api.service.DiffService;
+import com.lucas.text_processing_api.service.KeywordService;
+import com.lucas.text_processing_api.service.NearDuplicateService;
+import com.lucas.text_processing_api.service.TextService;
+import com.lucas.text_processing_api.util.text.AnagramGrouper;
+import com.lucas.text_processing_api.util.text.AnagramWindowScanner;
+import com.lucas.text_processing_api.util.text.KeywordAutomaton;
+
+/**
+ * Testes unitários para o TextController
+ * 
+ * @author Lucas
+ * @version 1.8
+ */
+@ExtendWith(MockitoExtension.class)
+class TextControllerTest {
+
+    private MockMvc mockMvc;
+
+    @Mock
+    private TextService textService;
+
+    @Mock
+    private NearDuplicateService nearDuplicateService;
+
+    @Mock
+    private KeywordService keywordService;
+
+    @Mock
+    private DiffService diffService;
+
+    @InjectMocks
+    private TextController textController;
+
+    @BeforeEach
+    void setUp() {
+        mockMvc = MockMvcBuilders
+            .standaloneSetup(textController)
+            .build();
+    }
+
+    @Test
+    @DisplayName("Deve agrupar a lista de palavras recebida")
+    void shouldGroupWordList() throws Exception {
+        // Arrange
+        AnagramGrouper.Result result = new AnagramGrouper(null).group(List.of("cat", "act", "dog"), 2, 1000);
+        when(textService.groupAnagrams(List.of("cat", "act", "dog"), 2, 1000)).thenReturn(result);
+
+        // Act & Assert
+        mockMvc.perform(post("/api/text/anagram-groups")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"words\": [\"cat\", \"act\", \"dog\"], \"minGroupSize\": 2}"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.totalGroups").value(1))
+            .andExpect(jsonPath("$.groups[0].letters").value("act"))
+            .andExpect(jsonPath("$.groups[0].words[1]").value("cat"))
+            .andExpect(jsonPath("$.distinctWords").value(3))
+            .andExpect(jsonPath("$.totalTokens").value(3));
+    }
+
+    @Test
+    @DisplayName("Deve retornar 400 para lista vazia")
+    void shouldRejectEmptyWordList() throws Exception {
+        // Act & Assert
+        mockMvc.perform(post("/api/text/anagram-groups")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"words\": []}"))
+            .andExpect(status().isBadRequest());
+
+        verify(textService, never()).groupAnagrams(anyList(), anyInt(), anyInt());
+    }
+
+    @Test
+    @DisplayName("Deve agrupar as palavras de um arquivo enviado")
+    void shouldGroupUploadedFile() throws Exception {
+        // Arrange
+        AnagramGrouper.Result result = new AnagramGrouper(null).group(List.of("dog", "god"), 1, 5);
+        when(textService.groupAnagrams(any(InputStream.class), eq(1), eq(5))).thenReturn(result);
+        MockMultipartFile file = new MockMultipartFile("file", "words.txt", "text/plain", "dog god".getBytes());
+
+        // Act & Assert
+        mockMvc.perform(multipart("/api/text/anagram-groups/upload").file(file).param("limit", "5"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.groups[0].words[0]").value("dog"))
+            .andExpect(jsonPath("$.groups[0].occurrences").value(2));
+    }
+
+    @Test
+    @DisplayName("Deve retornar 400 para arquivo vazio")
+    void shouldRejectEmptyFile() throws Exception {
+        // Arrange
+        MockMultipartFile file = new MockMultipartFile("file", "words.txt", "text/plain", new byte[0]);
+
+        // Act & Assert
+        mockMvc.perform(multipart("/api/text/anagram-groups/upload").file(file))
+            .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @DisplayName("Deve retornar 400 para parâmetros inválidos no envio")
+    void shouldRejectInvalidUploadParameters() throws Exception {
+        // Arrange
+        when(textService.groupAnagrams(any(InputStream.class), eq(0), anyInt()))
+            .thenThrow(new IllegalArgumentException("O tamanho mínimo do grupo deve ser no mínimo 1"));
+        MockMultipartFile file = new MockMultipartFile("file", "words.txt", "text/plain", "cat".getBytes());
+
+        // Act & Assert
+        mockMvc.perform(multipart("/api/text/anagram-groups/upload").file(file).param("minGroupSize", "0"))
+            .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @DisplayName("Deve iniciar o job de agrupamento de um arquivo e responder 202")
+    void shouldStartAnagramGroupJob() throws Exception {
+        // Arrange
+        TextService.Job job = mock(TextService.Job.class);
+        when(job.getId()).thenReturn("job-1");
+        when(job.getState()).thenReturn(TextService.JobState.QUEUED);
+        when(job.getTotalBytes()).thenReturn(11L);
+        when(textService.startAnagramGroupJob(any(), eq(2), eq(1000))).thenReturn(job);
+        MockMultipartFile file = new MockMultipartFile("file", "big.txt", "text/plain", "cat act dog".getBytes());
+
+        // Act & Assert
+        mockMvc.perform(multipart("/api/text/anagram-groups/jobs").file(file).param("minGroupSize", "2"))
+            .andExpect(status().isAccepted())
+            .andExpect(jsonPath("$.jobId").value("job-1"))
+            .andExpect(jsonPath("$.state").value("QUEUED"))
+            .andExpect(jsonPath("$.progressPercent").value(0))
+            .andExpect(jsonPath("$.result").doesNotExist());
+    }
+
+    @Test
+    @DisplayName("Deve responder 503 com Retry-After quando a fila de jobs está cheia")
+    void shouldRejectJobWhenQueueIsFull() throws Exception {
+        // Arrange
+        when(textService.startAnagramGroupJob(any(), anyInt(), anyInt()))
+            .thenThrow(new RejectedExecutionException("Fila de jobs cheia"));
+        MockMultipartFile file = new MockMultipartFile("file", "big.txt", "text/plain", "cat act dog".getBytes());
+
+        // Act & Assert
+        mockMvc.perform(multipart("/api/text/anagram-groups/jobs").file(file))
+            .andExpect(status().isServiceUnavailable())
+            .andExpect(header().string("Retry-After", "1"));
+    }
+
+    @Test
+    @DisplayName("Deve retornar o progresso e o resultado de um job concluído")
+    void shouldReturnCompletedJob() throws Exception {
+        // Arrange
+        TextService.Job job = mock(TextService.Job.class);
+        when(job.getId()).thenReturn("job-1");
+        when(job.getState()).thenReturn(TextService.JobState.COMPLETED);
+        when(job.getTotalBytes()).thenReturn(11L);
+        when(job.getBytesProcessed()).thenReturn(11L);
+        when(job.getResult()).thenReturn(new AnagramGrouper(null).group(List.of("cat", "act"), 1, 10));
+        when(textService.getJob("job-1")).thenReturn(Optional.of(job));
+
+        // Act & Assert
+        mockMvc.perform(get("/api/text/jobs/job-1"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.progressPercent").value(100))
+            .andExpect(jsonPath("$.result.groups[0].letters").value("act"))
+            .andExpect(jsonPath("$.error").doesNotExist());
+    }
+
+    @Test
+    @DisplayName("Deve retornar 404 para job desconhecido")
+    void shouldReturnNotFoundForUnknownJob() throws Exception {
+        // Arrange
+        when(textService.getJob("missing")).thenReturn(Optional.empty());
+
+        // Act & Assert
+        mockMvc.perform(get("/api/text/jobs/missing"))
+            .andExpect(status().isNotFound())
+            .andExpect(content().string(""));
+    }
+
+    @Test
+    @DisplayName("Deve localizar os anagramas dos padrões no texto recebido")
+    void shouldFindAnagramOccurrences() throws Exception {
+        // Arrange
+        AnagramWindowScanner.Result result = new AnagramWindowScanner(List.of("abc"))
+            .scan(ByteBuffer.wrap("cbaebabacd".getBytes()), 1000);
+        when(textService.findAnagramOccurrences("cbaebabacd", List.of("abc"), 1000)).thenReturn(result);
+
+        // Act & Assert
+        mockMvc.perform(post("/api/text/anagram-occurrences")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"text\": \"cbaebabacd\", \"patterns\": [\"abc\"]}"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.totalOccurrences").value(2))
+            .andExpect(jsonPath("$.occurrences[1].offset").value(6))
+            .andExpect(jsonPath("$.occurrences[1].text").value("bac"))
+            .andExpect(jsonPath("$.occurrences[0].patterns[0]").value("abc"))
+            .andExpect(jsonPath("$.bytesScanned").value(10));
+    }
+
+    @Test
+    @DisplayName("Deve localizar os anagramas dos padrões em um arquivo enviado")
+    void shouldFindAnagramOccurrencesInFile() throws Exception {
+        // Arrange
+        AnagramWindowScanner.Result result = new AnagramWindowScanner(List.of("dog", "cat"))
+            .scan(new ByteArrayInputStream("god act".getBytes()), 5);
+        when(textService.findAnagramOccurrences(any(InputStream.class), eq(List.of("dog", "cat")), eq(5)))
+            .thenReturn(result);
+        MockMultipartFile file = new MockMultipartFile("file", "text.txt", "text/plain", "god act".getBytes());
+
+        // Act & Assert
+        mockMvc.perform(multipart("/api/text/anagram-occurrences/upload").file(file)
+                .param("patterns", "dog", "cat").param("limit", "5"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.totalOccurrences").value(2))
+            .andExpect(jsonPath("$.occurrences[1].patterns[0]").value("cat"));
+    }
+
+    @Test
+    @DisplayName("Deve retornar 400 para padrão inválido na busca no texto")
+    void shouldRejectInvalidPattern() throws Exception {
+        // Arrange
+        when(textService.findAnagramOccurrences("abc", List.of("a1"), 1000))
+            .thenThrow(new IllegalArgumentException("Padrão inválido: a1"));
+
+        // Act & Assert
+        mockMvc.perform(post("/api/text/anagram-occurrences")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"text\": \"abc\", \"patterns\": [\"a1\"]}"))
+            .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @DisplayName("Deve retornar a frequência das palavras do corpo da requisição")
+    void shouldAnalyzeWordFrequencies() throws Exception {
+        // Arrange
+        WordFrequencyResponse response = new WordFrequencyResponse(
+            List.of(new WordCount("the", 2), new WordCount("cat", 1)), 3, 4, 0, 16, 1);
+        when(textService.analyzeWordFrequencies(any(InputStream.class), eq(2))).thenReturn(response);
+
+        // Act & Assert
+        mockMvc.perform(post("/api/text/word-frequencies")
+                .contentType(MediaType.TEXT_PLAIN)
+                .content("the cat the dog")
+                .param("topK", "2"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.words[0].word").value("the"))
+            .andExpect(jsonPath("$.words[0].count").value(2))
+            .andExpect(jsonPath("$.distinctWords").value(3));
+    }
+
+    @Test
+    @DisplayName("Deve retornar 400 para quantidade inválida na frequência de palavras")
+    void shouldRejectInvalidTopK() throws Exception {
+        // Arrange
+        when(textService.analyzeWordFrequencies(any(InputStream.class), eq(0)))
+            .thenThrow(new IllegalArgumentException("A quantidade de palavras deve estar entre 1 e 10000"));
+
+        // Act & Assert
+        mockMvc.perform(post("/api/text/word-frequencies")
+                .contentType(MediaType.TEXT_PLAIN)
+                .content("the cat")
+                .param("topK", "0"))
+            .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @DisplayName("Deve retornar os palíndromos do texto enviado no corpo")
+    void shouldFindPalindromes() throws Exception {
+        // Arrange
+        PalindromeResponse response = new PalindromeResponse(List.of(new PalindromeOccurrence(0, 4, 4, "noon")),
+            List.of(new PalindromeLengthCount(4, 1)), 1, 4, false, 9, 0);
+        when(textService.findPalindromes(any(InputStream.class), eq(false), eq(4), eq(10))).thenReturn(response);
+
+        // Act & Assert
+        mockMvc.perform(post("/api/text/palindromes")
+                .contentType(MediaType.TEXT_PLAIN)
+                .content("noon moon")
+                .param("lettersOnly", "false")
+                .param("minLength", "4"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.longest[0].text").value("noon"))
+            .andExpect(jsonPath("$.counts[0].length").value(4))
+            .andExpect(jsonPath("$.longestLength").value(4));
+    }
+
+    @Test
+    @DisplayName("Deve retornar 400 para arquivo vazio na busca de palíndromos")
+    void shouldRejectEmptyPalindromeFile() throws Exception {
+        // Arrange
+        MockMultipartFile file = new MockMultipartFile("file", "texto.txt", "text/plain", new byte[0]);
+
+        // Act & Assert
+        mockMvc.perform(multipart("/api/text/palindromes/upload").file(file))
+            .andExpect(status().isBadRequest());
+        verify(textService, never()).findPalindromes(any(InputStream.class), eq(true), anyInt(), anyInt());
+    }
+
+    @Test
+    @DisplayName("Deve retornar as quase-duplicatas dos textos enviados")
+    void shouldFindNearDuplicates() throws Exception {
+        // Arrange
+        NearDuplicateResponse response = new NearDuplicateResponse(List.of(new NearDuplicateResult(1, "copia.txt",
+            List.of(new NearDuplicateMatch(0, "original.txt", 0.94)))), 0.8, 2, 3);
+        when(nearDuplicateService.submit(anyList(), eq(null))).thenReturn(response);
+
+        // Act & Assert
+        mockMvc.perform(post("/api/text/near-duplicates")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"documents\": [{\"name\": \"copia.txt\", \"text\": \"the quick brown fox\"}]}"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.results[0].documentId").value(1))
+            .andExpect(jsonPath("$.results[0].duplicates[0].name").value("original.txt"))
+            .andExpect(jsonPath("$.results[0].duplicates[0].similarity").value(0.94));
+    }
+
+    @Test
+    @DisplayName("Deve retornar 400 para similaridade mínima fora do intervalo")
+    void shouldRejectInvalidNearDuplicateThreshold() throws Exception {
+        // Act & Assert
+        mockMvc.perform(post("/api/text/near-duplicates")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"documents\": [{\"text\": \"the quick brown fox\"}], \"threshold\": 1.5}"))
+            .andExpect(status().isBadRequest());
+
+        verify(nearDuplicateService, never()).submit(anyList(), any());
+    }
+
+    @Test
+    @DisplayName("Deve compilar o conjunto de palavras-chave recebido")
+    void shouldCompileKeywordSet() throws Exception {
+        // Arrange
+        when(keywordService.compileKeywordSet(List.of("he", "she")))
+            .thenReturn(new KeywordSetResponse("abc123", 2, 4, 64, false, 1));
+
+        // Act & Assert
+        mockMvc.perform(post("/api/text/keyword-sets")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"keywords\": [\"he\", \"she\"]}"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.setId").value("abc123"))
+            .andExpect(jsonPath("$.keywordCount").value(2));
+    }
+
+    @Test
+    @DisplayName("Deve percorrer o corpo da requisição com o conjunto compilado")
+    void shouldScanKeywords() throws Exception {
+        // Arrange
+        KeywordAutomaton automaton = KeywordAutomaton.compile(List.of("he"), 1024);
+        when(keywordService.findKeywordSet("abc123")).thenReturn(Optional.of(automaton));
+        when(keywordService.scan(eq("abc123"), eq(automaton), any(InputStream.class), eq(true), eq(1000)))
+            .thenReturn(new KeywordScanResponse("abc123", List.of(new WordCount("he", 1)), List.of(), 1, 6, 0));
+
+        // Act & Assert
+        mockMvc.perform(post("/api/text/keyword-sets/abc123/matches")
+                .contentType(MediaType.TEXT_PLAIN)
+                .content("ushers")
+                .param("positions", "true"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.counts[0].word").value("he"))
+            .andExpect(jsonPath("$.totalMatches").value(1));
+    }
+
+    @Test
+    @DisplayName("Deve retornar 404 para conjunto de palavras-chave desconhecido")
+    void shouldReturnNotFoundForUnknownKeywordSet() throws Exception {
+        // Arrange
+        when(keywordService.findKeywordSet("expirado")).thenReturn(Optional.empty());
+
+        // Act & Assert
+        mockMvc.perform(post("/api/text/keyword-sets/expirado/matches")
+                .contentType(MediaType.TEXT_PLAIN)
+                .content("ushers"))
+            .andExpect(status().isNotFound());
+    }
+
+    @Test
+    @DisplayName("Deve enviar o script de edição em NDJSON")
+    void shouldStreamDiff() throws Exception {
+        // Arrange
+        MockMultipartFile original = new MockMultipartFile("original", "v1.txt", "text/plain", "o gato".getBytes());
+        MockMultipartFile revised = new MockMultipartFile("revised", "v2.txt", "text/plain", "o rato".getBytes());
+        when(diffService.streamDiff(any(byte[].class), any(byte[].class), eq(DiffGranularity.WORD), any(OutputStream.class)))
+            .thenAnswer(invocation -> {
+                OutputStream out = invocation.getArgument(3);
+                out.write("{\"op\":\"delete\",\"original\":2,\"text\":\"gato\"}\n".getBytes(StandardCharsets.UTF_8));
+                return new DiffSummary(DiffService.SUMMARY_OP, DiffGranularity.WORD, 3, 3, 2, 1, 1, false, 0);
+            });
+
+        // Act & Assert
+        mockMvc.perform(multipart("/api/text/diff").file(original).file(revised).param("granularity", "WORD"))
+            .andExpect(status().isOk())
+            .andExpect(content().contentTypeCompatibleWith("application/x-ndjson"))
+            .andExpect(content().string("{\"op\":\"delete\",\"original\":2,\"text\":\"gato\"}\n"));
+    }
+
+    @Test
+    @DisplayName("Deve retornar 400 antes de comparar arquivos grandes demais")
+    void shouldRejectOversizedDiff() throws Exception {
+        // Arrange
+        MockMultipartFile original = new MockMultipartFile("original", "v1.txt", "text/plain", "a".getBytes());
+        MockMultipartFile revised = new MockMultipartFile("revised", "v2.txt", "text/plain", "b".getBytes());
+        doThrow(new IllegalArgumentException("Cada texto deve ter no máximo 64 MB"))
+            .when(diffService).validate(1, 1, DiffGranularity.LINE);
+
+        // Act & Assert
+        mockMvc.perform(multipart("/api/text/diff").file(original).file(revised))
+            .andExpect(status().isBadRequest());
+        verify(diffService, never()).streamDiff(any(byte[].class), any(byte[].class), any(DiffGranularity.class),
+            any(OutputStream.class));
+    }
+}
@@ -5,6 +5,7 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.*;
 
+import java.math.BigInteger;
 import java.util.Arrays;
 import java.util.List;
 
@@ -16,8 +17,12 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import com.lucas.text_processing_api.dto.AnagramMode;
 import com.lucas.text_processing_api.dto.AnagramResponse;
 import com.lucas.text_processing_api.util.AnagramGenerator;
+import com.lucas.text_processing_api.util.NecklaceGenerator;
+import com.lucas.text_processing_api.util.SwapDistanceExplorer;
+import com.lucas.text_processing_api.util.dictionary.PhraseSolver;
 
 /**
  * Testes unitários para o serviço de anagramas
@@ -40,6 +45,15 @@ class AnagramServiceTest {
     @Mock
     private RedisCacheService cacheService;
 
+    @Mock
+    private SwapDistanceExplorer swapDistanceExplorer;
+
+    @Mock
+    private NecklaceGenerator necklaceGenerator;
+
+    @Mock
+    private DictionaryService dictionaryService;
+
     @InjectMocks
     private AnagramService anagramService;
 
@@ -188,4 +202,137 @@ class AnagramServiceTest {
         verify(cacheService).getFromCache("abc");
         verify(cacheService).saveToCache("abc", response);
     }
+
+    @Test
+    @DisplayName("Deve gerar anagramas por distância de trocas sem gerar permutações")
+    void shouldGenerateSwapDistanceAnagramsWithoutPermutations() {
+        // Arrange
+        List<String> nearest = Arrays.asList("bac", "cba");
+        when(swapDistanceExplorer.nearest("abc", 2, false)).thenReturn(nearest);
+
+        // Act
+        AnagramResponse response = anagramService.generateAnagrams("abc", AnagramMode.SWAP_DISTANCE, 2);
+
+        // Assert
+        assertEquals("abc", response.getOriginalLetters());
+        assertEquals(nearest, response.getAnagrams());
+        assertEquals(2, response.getTotalAnagrams());
+
+        // Verify
+        verify(anagramGenerator, never()).generateAnagrams(anyString());
+    }
+
+    @Test
+    @DisplayName("Deve usar o limite padrão quando o modo limitado não recebe limite")
+    void shouldUseDefaultLimitForLimitedModes() {
+        // Arrange
+        when(swapDistanceExplorer.nearest("abc", AnagramService.DEFAULT_MODE_LIMIT, true))
+            .thenReturn(Arrays.asList("bac", "acb"));
+
+        // Act
+        AnagramResponse response = anagramService.generateAnagrams("abc", AnagramMode.ADJACENT_SWAP_DISTANCE, null);
+
+        // Assert
+        assertEquals(2, response.getTotalAnagrams());
+    }
+
+    @Test
+    @DisplayName("Deve retornar representantes de colar com a contagem exata de classes")
+    void shouldReturnNecklacesWithExactClassCount() {
+        // Arrange
+        when(necklaceGenerator.countNecklaces("aabb")).thenReturn(BigInteger.TWO);
+        when(necklaceGenerator.generateNecklaces("aabb", AnagramService.DEFAULT_ENUMERATION_LIMIT))
+            .thenReturn(Arrays.asList("aabb", "abab"));
+
+        // Act
+        AnagramResponse response = anagramService.generateAnagrams("aabb", AnagramMode.NECKLACE, null);
+
+        // Assert
+        assertEquals(Arrays.asList("aabb", "abab"), response.getAnagrams());
+        assertEquals(BigInteger.TWO, response.getTotalPossible());
+
+        // Verify
+        verify(anagramGenerator, never()).generateAnagrams(anyString());
+    }
+
+    @Test
+    @DisplayName("Deve buscar anagramas reais no dicionário e salvar no cache")
+    void shouldFindDictionaryAnagramsAndCacheThem() {
+        // Arrange
+        List<String> words = Arrays.asList("listen", "silent", "enlist");
+        String namespace = AnagramService.dictionaryCacheNamespace(7L);
+        when(dictionaryService.currentVersion(null)).thenReturn(7L);
+        when(cacheService.getFromCache(namespace, "Silent")).thenReturn(null);
+        when(dictionaryService.findAnagrams(null, "Silent")).thenReturn(words);
+
+        // Act
+        AnagramResponse response = anagramService.generateAnagrams("Silent", AnagramMode.DICTIONARY, null);
+
+        // Assert
+        assertEquals("silent", response.getOriginalLetters());
+        assertEquals(words, response.getAnagrams());
+        assertFalse(response.isFromCache());
+
+        // Verify
+        verify(cacheService).saveToCache(namespace, "Silent", response);
+        verify(anagramGenerator, never()).generateAnagrams(anyString());
+    }
+
+    @Test
+    @DisplayName("Deve retornar anagramas do dicionário do cache quando disponível")
+    void shouldReturnDictionaryAnagramsFromCache() {
+        // Arrange
+        AnagramResponse cached = new AnagramResponse("evil", Arrays.asList("evil", "vile", "live", "veil"));
+        cached.setFromCache(true);
+        when(dictionaryService.currentVersion(null)).thenReturn(7L);
+        when(cacheService.getFromCache(AnagramService.dictionaryCacheNamespace(7L), "evil")).thenReturn(cached);
+
+        // Act
+        AnagramResponse response = anagramService.generateAnagrams("evil", AnagramMode.DICTIONARY, null);
+
+        // Assert
+        assertTrue(response.isFromCache());
+        assertEquals(4, response.getTotalAnagrams());
+
+        // Verify
+        verify(dictionaryService, never()).findAnagrams(any(), anyString());
+    }
+
+    @Test
+    @DisplayName("Deve buscar frases com os limites padrão e sinalizar corte")
+    void shouldFindPhrasesWithDefaultLimits() {
+        // Arrange
+        PhraseSolver.Result result = mock(PhraseSolver.Result.class);
+        when(result.getPhrases()).thenReturn(Arrays.asList("dormitory", "dirty room"));
+        when(result.isTruncated()).thenReturn(true);
+        when(dictionaryService.findPhrases(null, "dormitory", AnagramService.DEFAULT_PHRASE_MAX_WORDS,
+            AnagramService.DEFAULT_PHRASE_LIMIT)).thenReturn(result);
+
+        // Act
+        AnagramResponse response = anagramService.generateAnagrams("dormitory", AnagramMode.PHRASE, null, null);
+
+        // Assert
+        assertEquals(Arrays.asList("dormitory", "dirty room"), response.getAnagrams());
+        assertEquals(Boolean.TRUE, response.getTruncated());
+
+        // Verify
+        verify(cacheService, never()).saveToCache(anyString(), anyString(), any(AnagramResponse.class));
+    }
+
+    @Test
+    @DisplayName("Deve usar um namespace de cache diferente após recarregar o dicionário")
+    void shouldUseNewCacheNamespaceAfterDictionaryReload() {
+        // Arrange
+        when(dictionaryService.currentVersion(null)).thenReturn(1L, 2L);
+        when(dictionaryService.findAnagrams(null, "evil")).thenReturn(Arrays.asList("evil", "vile"));
+
+        // Act
+        anagramService.generateAnagrams("evil", AnagramMode.DICTIONARY, null);
+        anagramService.generateAnagrams("evil", AnagramMode.DICTIONARY, null);
+
+        // Verify
+        verify(cacheService).getFromCache(AnagramService.dictionaryCacheNamespace(1L), "evil");
+        verify(cacheService).getFromCache(AnagramService.dictionaryCacheNamespace(2L), "evil");
+        assertNotEquals(AnagramService.dictionaryCacheNamespace(1L), AnagramService.dictionaryCacheNamespace(2L));
+    }
 }
@@ -0,0 +1,167 @@
+package com.lucas.text_processing_api.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.HashSet;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+/**
+ * Testes unitários para o serviço de geração em pipeline
+ * 
+ * Usa blocos e anel pequenos para forçar a troca de blocos e a
+ * contrapressão entre produtor e consumidor.
+ * 
+ * @author Lucas
+ * @version 1.1
+ */
+class AnagramStreamServiceTest {
+
+    private AnagramStreamService streamService;
+
+    @BeforeEach
+    void setUp() {
+        streamService = new AnagramStreamService();
+        ReflectionTestUtils.setField(streamService, "chunkSize", 64);
+        ReflectionTestUtils.setField(streamService, "ringCapacity", 2);
+        ReflectionTestUtils.setField(streamService, "maxLetters", 12);
+        ReflectionTestUtils.setField(streamService, "producerThreads", 1);
+        ReflectionTestUtils.setField(streamService, "maxQueued", 1);
+        streamService.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        streamService.shutdown();
+    }
+
+    @Test
+    @DisplayName("Deve transmitir todas as permutações em ordem lexicográfica")
+    void shouldStreamAllPermutationsInOrder() throws IOException {
+        // Act
+        List<String> lines = stream("cba", null);
+
+        // Assert
+        assertEquals(List.of("\"abc\"", "\"acb\"", "\"bac\"", "\"bca\"", "\"cab\"", "\"cba\""), lines);
+    }
+
+    @Test
+    @DisplayName("Deve gerar cada permutação distinta uma única vez com letras repetidas")
+    void shouldNotRepeatPermutationsWithRepeatedLetters() throws IOException {
+        // Act
+        List<String> lines = stream("aabbc", null);
+
+        // Assert - 5! / (2! * 2!) = 30
+        assertEquals(30, lines.size());
+        assertEquals(30, new HashSet<>(lines).size());
+    }
+
+    @Test
+    @DisplayName("Deve atravessar muitos blocos com um consumidor lento")
+    void shouldCrossManyChunksWithSlowConsumer() throws IOException {
+        // Arrange - consumidor que escreve byte a byte
+        ByteArrayOutputStream target = new ByteArrayOutputStream();
+        OutputStream slow = new OutputStream() {
+            @Override
+            public void write(int b) {
+                target.write(b);
+            }
+        };
+
+        // Act
+        streamService.streamAnagrams("abcdefg", null, slow);
+
+        // Assert - 7! linhas de 10 bytes
+        String body = target.toString(StandardCharsets.US_ASCII);
+        assertEquals(5040 * 10, body.length());
+        assertTrue(body.startsWith("\"abcdefg\"\n"));
+        assertTrue(body.endsWith("\"gfedcba\"\n"));
+    }
+
+    @Test
+    @DisplayName("Deve respeitar o limite de anagramas")
+    void shouldRespectLimit() throws IOException {
+        // Act
+        List<String> lines = stream("abcdef", 7);
+
+        // Assert
+        assertEquals(7, lines.size());
+        assertEquals("\"abcdef\"", lines.get(0));
+    }
+
+    @Test
+    @DisplayName("Deve interromper o produtor quando a escrita falha")
+    void shouldStopProducerWhenWriteFails() {
+        // Arrange
+        OutputStream broken = new OutputStream() {
+            @Override
+            public void write(int b) throws IOException {
+                throw new IOException("Conexão fechada");
+            }
+        };
+
+        // Act & Assert
+        assertThrows(IOException.class, () -> streamService.streamAnagrams("abcdefghij", null, broken));
+    }
+
+    @Test
+    @DisplayName("Deve recusar gerações além da fila sem escrever nada")
+    void shouldRejectWhenQueueIsFull() throws Exception {
+        // Arrange - a única thread produtora fica presa no anel cheio de um consumidor parado
+        CountDownLatch release = new CountDownLatch(1);
+        OutputStream stalled = new OutputStream() {
+            @Override
+            public void write(int b) throws IOException {
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                throw new IOException("Conexão fechada");
+            }
+        };
+        Thread first = new Thread(() -> assertThrows(IOException.class,
+            () -> streamService.streamAnagrams("abcdefghij", null, stalled)));
+        Thread second = new Thread(() -> assertThrows(IOException.class,
+            () -> streamService.streamAnagrams("abcdefghij", null, stalled)));
+        first.start();
+        Thread.sleep(100);
+        second.start();
+        Thread.sleep(100);
+
+        // Act & Assert - a terceira não cabe na fila de uma geração
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        assertThrows(RejectedExecutionException.class, () -> streamService.streamAnagrams("abc", null, out));
+        assertEquals(0, out.size());
+
+        release.countDown();
+        first.join(5000);
+        second.join(5000);
+        assertEquals(List.of("\"ab\"", "\"ba\""), stream("ab", null));
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar entradas inválidas antes de escrever")
+    void shouldRejectInvalidInput() {
+        assertThrows(IllegalArgumentException.class, () -> streamService.validate("ab1", null));
+        assertThrows(IllegalArgumentException.class, () -> streamService.validate("abcdefghijklm", null));
+        assertThrows(IllegalArgumentException.class, () -> streamService.validate("abc", 0));
+    }
+
+    private List<String> stream(String letters, Integer limit) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        streamService.streamAnagrams(letters, limit, out);
+        return out.toString(StandardCharsets.US_ASCII).lines().toList();
+    }
+}
@@ -0,0 +1,307 @@
+package com.lucas.text_processing_api.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.core.io.DefaultResourceLoader;
+import org.springframework.security.authentication.TestingAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.lucas.text_processing_api.dto.DictionaryUsage;
+import com.lucas.text_processing_api.dto.FuzzyMatch;
+import com.lucas.text_processing_api.dto.NearAnagram;
+import com.lucas.text_processing_api.dto.ScoredWord;
+import com.lucas.text_processing_api.util.dictionary.NeighborIndex.LetterEdit;
+
+/**
+ * Testes unitários para o serviço de dicionário
+ * 
+ * Usa listas de palavras em arquivos temporários para verificar a carga,
+ * a recarga com troca de versão e o dicionário compilado.
+ * 
+ * @author Lucas
+ * @version 1.1
+ */
+class DictionaryServiceTest {
+
+    @TempDir
+    Path tempDir;
+
+    private Path wordList;
+    private DictionaryService dictionaryService;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        wordList = tempDir.resolve("words.txt");
+        Files.writeString(wordList, "act\ncat\ndog\n");
+        dictionaryService = newService("");
+    }
+
+    @AfterEach
+    void tearDown() {
+        dictionaryService.shutdown();
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    @DisplayName("Deve carregar a lista e encontrar anagramas reais")
+    void shouldLoadWordList() {
+        // Act
+        dictionaryService.load();
+
+        // Assert
+        assertEquals(3, dictionaryService.wordCount());
+        assertEquals(List.of("act", "cat"), dictionaryService.findAnagrams(null, "TAC"));
+    }
+
+    @Test
+    @DisplayName("Deve publicar uma nova versão ao recarregar a lista alterada")
+    void shouldPublishNewVersionOnReload() throws IOException {
+        // Arrange
+        dictionaryService.load();
+        long before = dictionaryService.currentVersion();
+        dictionaryService.findSubAnagrams(null, "tac", 1);
+
+        // Act
+        Files.writeString(wordList, "act\ncat\ntac\ngod\ndog\n");
+        dictionaryService.reload();
+
+        // Assert
+        assertNotEquals(before, dictionaryService.currentVersion());
+        assertEquals(List.of("act", "cat", "tac"), dictionaryService.findAnagrams(null, "cat"));
+        assertEquals(List.of("act", "cat", "tac"), dictionaryService.findSubAnagrams(null, "tac", 1).get(3));
+    }
+
+    @Test
+    @DisplayName("Deve ordenar quase-anagramas por tipo de edição e ordem do dicionário")
+    void shouldRankNearAnagrams() throws IOException {
+        // Arrange
+        Files.writeString(wordList, "at\ncart\ncot\ncat\nact\nscat\n");
+        dictionaryService.load();
+
+        // Act
+        List<NearAnagram> neighbors = dictionaryService.findNearAnagrams(null, "Cat", 10);
+        List<NearAnagram> limited = dictionaryService.findNearAnagrams(null, "cat", 2);
+
+        // Assert
+        assertEquals(List.of(
+            new NearAnagram("cart", LetterEdit.ADDED, "r", null),
+            new NearAnagram("scat", LetterEdit.ADDED, "s", null),
+            new NearAnagram("cot", LetterEdit.CHANGED, "o", "a"),
+            new NearAnagram("at", LetterEdit.REMOVED, null, "c")), neighbors);
+        assertEquals(neighbors.subList(0, 2), limited);
+    }
+
+    @Test
+    @DisplayName("Deve ordenar palavras próximas pela distância e pela ordem do dicionário")
+    void shouldRankFuzzyMatches() throws IOException {
+        // Arrange
+        Files.writeString(wordList, "the\nthen\nten\nhe\nother\ntea\ndog\n");
+        dictionaryService.load();
+
+        // Act
+        List<FuzzyMatch> matches = dictionaryService.findSimilarWords(null, "Teh", 2, 10);
+        List<FuzzyMatch> close = dictionaryService.findSimilarWords(null, "then", 1, 10);
+
+        // Assert
+        assertEquals(List.of(new FuzzyMatch("ten", 1), new FuzzyMatch("tea", 1),
+            new FuzzyMatch("the", 2), new FuzzyMatch("then", 2), new FuzzyMatch("he", 2)), matches);
+        assertEquals(List.of(new FuzzyMatch("then", 0), new FuzzyMatch("the", 1), new FuzzyMatch("ten", 1)), close);
+        assertThrows(IllegalArgumentException.class, () -> dictionaryService.findSimilarWords(null, "the", 3, 10));
+    }
+
+    @Test
+    @DisplayName("Deve pontuar palavras com valores configurados, da requisição e curingas")
+    void shouldFindTopWords() throws IOException {
+        // Arrange
+        Files.writeString(wordList, "cat\ncot\nact\ntaco\n");
+        ReflectionTestUtils.setField(dictionaryService, "letterValueSpec", "c=5");
+        dictionaryService.load();
+
+        // Act
+        List<ScoredWord> configured = dictionaryService.findTopWords(null, "TAC?", 3, 1, 64, null, null);
+        List<ScoredWord> overridden = dictionaryService.findTopWords(null, "taco", 1, 1, 64, "??c?", Map.of("o", 20));
+
+        // Assert - "taco" usa o curinga no 'o' e empata com "act"/"cat", que vêm antes
+        assertEquals(List.of(
+            new ScoredWord("act", 7, null),
+            new ScoredWord("cat", 7, null),
+            new ScoredWord("taco", 7, "o")), configured);
+        assertEquals(List.of(new ScoredWord("taco", 27, null)), overridden);
+        assertThrows(IllegalArgumentException.class,
+            () -> dictionaryService.findTopWords(null, "ab1", 1, 1, 64, null, null));
+    }
+
+    @Test
+    @DisplayName("Deve buscar por padrão com filtro de letras e rejeitar padrões inválidos")
+    void shouldFindPatternMatches() {
+        // Arrange
+        dictionaryService.load();
+
+        // Act & Assert
+        assertEquals(List.of("act", "cat"), dictionaryService.findPatternMatches(null, "??T", null, 10).getWords());
+        assertEquals(List.of("cat"), dictionaryService.findPatternMatches(null, "c??", "TA", 10).getWords());
+        assertThrows(IllegalArgumentException.class, () -> dictionaryService.findPatternMatches(null, "c*t", null, 10));
+    }
+
+    @Test
+    @DisplayName("Deve autocompletar na ordem da lista consumindo as letras do prefixo")
+    void shouldCompletePrefix() {
+        // Arrange
+        dictionaryService.load();
+
+        // Act & Assert
+        assertEquals(List.of("act", "cat", "dog"), dictionaryService.findCompletions(null, "tacgod", null, 10));
+        assertEquals(List.of("cat"), dictionaryService.findCompletions(null, "TAC", "C", 10));
+        assertEquals(List.of(), dictionaryService.findCompletions(null, "tac", "do", 10));
+        assertThrows(IllegalArgumentException.class, () -> dictionaryService.findCompletions(null, "tac", "c-", 10));
+    }
+
+    @Test
+    @DisplayName("Deve consultar dicionários sobrepostos sem alterar o padrão")
+    void shouldQueryOverlayDictionaries() throws IOException {
+        // Arrange
+        Path overlays = Files.createDirectory(tempDir.resolve("overlays"));
+        Files.writeString(overlays.resolve("clean.txt"), "# sem cat\n-cat\n+tac\nodg\n");
+        ReflectionTestUtils.setField(dictionaryService, "overlaysPath", overlays.toString());
+        dictionaryService.load();
+
+        // Act & Assert
+        assertEquals(List.of("act", "tac"), dictionaryService.findAnagrams("clean", "cat"));
+        assertEquals(List.of("dog", "odg"), dictionaryService.findAnagrams("CLEAN", "god"));
+        assertEquals(List.of("act", "cat"), dictionaryService.findAnagrams(null, "cat"));
+        assertNotEquals(dictionaryService.currentVersion(), dictionaryService.currentVersion("clean"));
+        assertThrows(IllegalArgumentException.class, () -> dictionaryService.findAnagrams("missing", "cat"));
+    }
+
+    @Test
+    @DisplayName("Deve escolher o dicionário pelo papel do usuário")
+    void shouldSelectDictionaryByRole() throws IOException {
+        // Arrange
+        Path overlays = Files.createDirectory(tempDir.resolve("overlays"));
+        Files.writeString(overlays.resolve("kids.txt"), "-dog\n");
+        ReflectionTestUtils.setField(dictionaryService, "overlaysPath", overlays.toString());
+        ReflectionTestUtils.setField(dictionaryService, "roleDictionarySpec", "USER=kids");
+        dictionaryService.load();
+
+        // Act
+        SecurityContextHolder.getContext().setAuthentication(new TestingAuthenticationToken("u", "p", "ROLE_USER"));
+        List<String> asUser = dictionaryService.findAnagrams(null, "god");
+        SecurityContextHolder.getContext().setAuthentication(new TestingAuthenticationToken("a", "p", "ROLE_ADMIN"));
+        List<String> asAdmin = dictionaryService.findAnagrams(null, "god");
+
+        // Assert
+        assertEquals(List.of(), asUser);
+        assertEquals(List.of("dog"), asAdmin);
+    }
+
+    @Test
+    @DisplayName("Deve informar memória compartilhada, própria e consultas por dicionário")
+    void shouldReportDictionaryUsage() throws IOException {
+        // Arrange
+        Path overlays = Files.createDirectory(tempDir.resolve("overlays"));
+        Files.writeString(overlays.resolve("extra.txt"), "tac\n-dog\n");
+        ReflectionTestUtils.setField(dictionaryService, "overlaysPath", overlays.toString());
+        dictionaryService.load();
+        dictionaryService.findAnagrams("extra", "cat");
+        dictionaryService.findSubAnagrams("extra", "cat", 1);
+        dictionaryService.findAnagrams(null, "cat");
+
+        // Act
+        List<DictionaryUsage> usage = dictionaryService.dictionaryUsage();
+
+        // Assert
+        assertEquals(2, usage.size());
+        DictionaryUsage base = usage.get(0);
+        DictionaryUsage extra = usage.get(1);
+        assertEquals("default", base.getName());
+        assertEquals(1, base.getLookups());
+        assertEquals("extra", extra.getName());
+        assertEquals(3, extra.getWords());
+        assertEquals(1, extra.getAddedWords());
+        assertEquals(1, extra.getRemovedWords());
+        assertEquals(2, extra.getLookups());
+        assertTrue(extra.getSharedBytes() > 0);
+        assertTrue(extra.getOwnBytes() > 0);
+    }
+
+    @Test
+    @DisplayName("Deve manter a versão atual quando a recarga falha")
+    void shouldKeepCurrentVersionWhenReloadFails() throws IOException {
+        // Arrange
+        dictionaryService.load();
+        long before = dictionaryService.currentVersion();
+        Files.delete(wordList);
+
+        // Act & Assert
+        assertThrows(IOException.class, () -> dictionaryService.reload());
+        assertEquals(before, dictionaryService.currentVersion());
+        assertEquals(List.of("dog"), dictionaryService.findAnagrams(null, "god"));
+    }
+
+    @Test
+    @DisplayName("Deve recarregar em segundo plano")
+    void shouldReloadInBackground() throws Exception {
+        // Arrange
+        dictionaryService.load();
+        long before = dictionaryService.currentVersion();
+        Files.writeString(wordList, "act\ncat\ndog\ngod\n");
+
+        // Act
+        dictionaryService.reloadAsync();
+
+        // Assert
+        long deadline = System.currentTimeMillis() + 10_000;
+        while (dictionaryService.currentVersion() == before && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        assertEquals(List.of("dog", "god"), dictionaryService.findAnagrams(null, "odg"));
+    }
+
+    @Test
+    @DisplayName("Deve gravar e reutilizar o dicionário compilado, recompilando quando a lista muda")
+    void shouldReuseCompiledDictionary() throws IOException {
+        // Arrange
+        Path compiled = tempDir.resolve("compiled/words.dict");
+        dictionaryService = newService(compiled.toString());
+
+        // Act
+        dictionaryService.load();
+        DictionaryService second = newService(compiled.toString());
+        second.load();
+
+        // Assert
+        assertTrue(Files.exists(compiled));
+        assertEquals(dictionaryService.currentVersion(), second.currentVersion());
+        assertEquals(List.of("act", "cat"), second.findAnagrams(null, "tca"));
+
+        // Act - a lista muda e o arquivo compilado é refeito; o tamanho muda para o
+        // carimbo mudar mesmo que a escrita caia no mesmo milissegundo da anterior
+        Files.writeString(wordList, "act\ncat\ntac\ngod\n");
+        second.reload();
+
+        // Assert
+        assertEquals(List.of("act", "cat", "tac"), second.findAnagrams(null, "tca"));
+        second.shutdown();
+    }
+
+    private DictionaryService newService(String compiledPath) {
+        DictionaryService service = new DictionaryService();
+        ReflectionTestUtils.setField(service, "resourceLoader", new DefaultResourceLoader());
+        ReflectionTestUtils.setField(service, "dictionaryPath", wordList.toUri().toString());
+        ReflectionTestUtils.setField(service, "compiledPath", compiledPath);
+        ReflectionTestUtils.setField(service, "phraseTimeoutMs", 2000L);
+        return service;
+    }
+}
@@ -0,0 +1,124 @@
+package com.lucas.text_processing_api.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.lucas.text_processing_api.dto.DiffGranularity;
+import com.lucas.text_processing_api.dto.DiffSummary;
+import com.lucas.text_processing_api.util.text.MyersDiff;
+
+/**
+ * Testes unitários para o serviço de diferenças entre textos
+ * 
+ * @author Lucas
+ * @version 1.1
+ */
+class DiffServiceTest {
+
+    private DiffService diffService;
+    private RedisCacheService cacheService;
+
+    @BeforeEach
+    void setUp() {
+        cacheService = new RedisCacheService();
+        ReflectionTestUtils.setField(cacheService, "cacheEnabled", true);
+        ReflectionTestUtils.setField(cacheService, "localMaxBytes", 256L << 20);
+        diffService = new DiffService();
+        ReflectionTestUtils.setField(diffService, "cacheService", cacheService);
+        ReflectionTestUtils.setField(diffService, "costLimit", MyersDiff.DEFAULT_COST_LIMIT);
+        ReflectionTestUtils.setField(diffService, "cacheMaxBytes", 4 << 20);
+        ReflectionTestUtils.setField(diffService, "cacheTtlMinutes", 60L);
+    }
+
+    @Test
+    @DisplayName("Deve escrever o script por linhas e reaproveitá-lo do cache pelo conteúdo")
+    void shouldStreamLineDiffAndReuseCache() throws IOException {
+        // Arrange
+        byte[] original = "alfa\r\nbeta\ngama\ndelta\n".getBytes(StandardCharsets.UTF_8);
+        byte[] revised = "alfa\r\nbeta\népsilon\ndelta\n".getBytes(StandardCharsets.UTF_8);
+
+        // Act
+        ByteArrayOutputStream first = new ByteArrayOutputStream();
+        DiffSummary summary = diffService.streamDiff(original, revised, DiffGranularity.LINE, first);
+        ByteArrayOutputStream second = new ByteArrayOutputStream();
+        DiffSummary cached = diffService.streamDiff(original.clone(), revised.clone(), DiffGranularity.LINE, second);
+
+        // Assert
+        List<String> lines = lines(first);
+        assertEquals(List.of(
+            "{\"op\":\"equal\",\"original\":0,\"revised\":0,\"count\":2}",
+            "{\"op\":\"delete\",\"original\":2,\"text\":\"gama\"}",
+            "{\"op\":\"insert\",\"revised\":2,\"text\":\"épsilon\"}",
+            "{\"op\":\"equal\",\"original\":3,\"revised\":3,\"count\":1}"), lines.subList(0, 4));
+        assertTrue(lines.get(4).startsWith("{\"op\":\"summary\",\"granularity\":\"LINE\""));
+        assertEquals(3, summary.getUnchanged());
+        assertEquals(1, summary.getDeleted());
+        assertEquals(1, summary.getInserted());
+        assertFalse(summary.isFromCache());
+
+        assertTrue(cached.isFromCache());
+        assertEquals(4, cached.getOriginalTokens());
+        assertEquals(lines.subList(0, 4), lines(second).subList(0, 4));
+        assertTrue(lines(second).get(4).contains("\"fromCache\":true"));
+    }
+
+    @Test
+    @DisplayName("Deve comparar por palavras e rejeitar entradas inválidas")
+    void shouldDiffByWords() throws IOException {
+        // Arrange
+        byte[] original = "o gato preto dorme".getBytes(StandardCharsets.UTF_8);
+        byte[] revised = "o gato branco dorme".getBytes(StandardCharsets.UTF_8);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        // Act
+        DiffSummary summary = diffService.streamDiff(original, revised, DiffGranularity.WORD, out);
+
+        // Assert
+        assertEquals(List.of(
+            "{\"op\":\"equal\",\"original\":0,\"revised\":0,\"count\":4}",
+            "{\"op\":\"delete\",\"original\":4,\"text\":\"preto\"}",
+            "{\"op\":\"insert\",\"revised\":4,\"text\":\"branco\"}",
+            "{\"op\":\"equal\",\"original\":5,\"revised\":5,\"count\":2}"), lines(out).subList(0, 4));
+        assertEquals(7, summary.getOriginalTokens());
+        assertEquals(6, summary.getUnchanged());
+        assertThrows(IllegalArgumentException.class, () -> diffService.validate(1, 1, null));
+        assertThrows(IllegalArgumentException.class,
+            () -> diffService.validate(DiffService.MAX_INPUT_BYTES + 1, 1, DiffGranularity.LINE));
+    }
+
+    @Test
+    @DisplayName("Deve guardar em memória, dentro do limite, só o script que o Redis não aceitou")
+    void shouldBoundSharedFallbackByLocalBudget() throws IOException {
+        // Arrange - sem Redis configurado, a escrita falha e o script fica em memória
+        byte[] original = "alfa\nbeta\n".getBytes(StandardCharsets.UTF_8);
+        byte[] revised = "alfa\ngama\n".getBytes(StandardCharsets.UTF_8);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        // Act
+        diffService.streamDiff(original, revised, DiffGranularity.LINE, out);
+        long stored = cacheService.getLocalBytes();
+        cacheService.clearCache();
+        ReflectionTestUtils.setField(cacheService, "localMaxBytes", 1L);
+        diffService.streamDiff(revised, original, DiffGranularity.LINE, new ByteArrayOutputStream());
+
+        // Assert
+        assertFalse(cacheService.isRedisAvailable());
+        assertEquals(out.size(), stored);
+        assertEquals(stored, cacheService.getLocalBytes(), "limpar os anagramas não afeta o nível compartilhado");
+        assertTrue(diffService.streamDiff(original, revised, DiffGranularity.LINE,
+            new ByteArrayOutputStream()).isFromCache());
+    }
+
+    private static List<String> lines(ByteArrayOutputStream out) {
+        return List.of(out.toString(StandardCharsets.UTF_8).split("\n"));
+    }
+}
@@ -0,0 +1,242 @@
+package com.lucas.text_processing_api.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.security.authentication.TestingAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.lucas.text_processing_api.dto.DocumentSearchResponse;
+import com.lucas.text_processing_api.dto.RepeatedSubstringResponse;
+import com.lucas.text_processing_api.dto.RhymeResponse;
+import com.lucas.text_processing_api.util.search.SuffixArray;
+
+/**
+ * Testes unitários para o serviço de documentos
+ * 
+ * @author Lucas
+ * @version 1.3
+ */
+class DocumentServiceTest {
+
+    @TempDir
+    Path tempDir;
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    @DisplayName("Deve encontrar a substring apenas nos documentos do usuário")
+    void shouldSearchOnlyOwnDocuments() throws IOException {
+        // Arrange
+        DocumentService service = newService("");
+        authenticate("alice");
+        service.addDocument("a.txt", text("The deadline is Friday. Deadline!"));
+        service.addDocument("b.txt", text("No dates here"));
+        authenticate("bob");
+        service.addDocument("c.txt", text("Bob's deadline"));
+        authenticate("alice");
+
+        // Act
+        DocumentSearchResponse response = service.search("DEADLINE", 10);
+
+        // Assert
+        assertEquals(1, response.getResults().size());
+        assertEquals("a.txt", response.getResults().get(0).getName());
+        assertEquals(2, response.getResults().get(0).getOccurrences());
+        assertEquals(List.of(4, 24), response.getResults().get(0).getOffsets());
+        assertEquals(2, service.listDocuments().size());
+        assertEquals(2, service.search("e", 10).getResults().size());
+    }
+
+    @Test
+    @DisplayName("Deve manter documentos e índice após reiniciar com diretório configurado")
+    void shouldRestoreDocumentsAfterRestart() throws IOException {
+        // Arrange - grava o índice a cada 2 documentos, o terceiro é reindexado na carga
+        authenticate("alice");
+        DocumentService first = newService(tempDir.toString());
+        ReflectionTestUtils.setField(first, "persistEvery", 2);
+        first.load();
+        first.addDocument("a.txt", text("alpha beta"));
+        first.addDocument("b.txt", text("beta gamma"));
+        first.addDocument("c.txt", text("gamma delta"));
+        assertTrue(Files.exists(tempDir.resolve("trigrams-0-2.idx")));
+
+        // Act
+        DocumentService restarted = newService(tempDir.toString());
+        restarted.load();
+
+        // Assert
+        assertEquals(3, restarted.listDocuments().size());
+        assertEquals(List.of("b.txt", "c.txt"), restarted.search("gamma", 10).getResults().stream()
+            .map(match -> match.getName()).toList());
+        restarted.addDocument("d.txt", text("delta epsilon"));
+        assertEquals(2, restarted.search("delta", 10).getResults().size());
+    }
+
+    @Test
+    @DisplayName("Não deve reaproveitar identificadores de conteúdos gravados após uma falha")
+    void shouldNeverReuseIdsOverExistingFiles() throws IOException {
+        // Arrange - a.txt completo, b.txt com a linha do catálogo cortada e c.txt sem linha
+        authenticate("alice");
+        DocumentService first = newService(tempDir.toString());
+        first.load();
+        first.addDocument("a.txt", text("alpha beta"));
+        Path catalog = tempDir.resolve("catalog.tsv");
+        Files.writeString(tempDir.resolve("1.txt"), "beta gamma");
+        Files.writeString(tempDir.resolve("2.txt"), "gamma delta");
+        Files.writeString(catalog, Files.readString(catalog) + "1\talice\t10\tb.t");
+
+        // Act
+        DocumentService restarted = newService(tempDir.toString());
+        restarted.load();
+        int id = restarted.addDocument("d.txt", text("delta epsilon")).getId();
+
+        // Assert
+        assertEquals(1, id);
+        assertEquals("delta epsilon", Files.readString(tempDir.resolve("1.txt")));
+        assertTrue(Files.readString(catalog).endsWith("1\talice\t13\td.txt\n"));
+        try (Stream<Path> files = Files.list(tempDir)) {
+            assertEquals(2, files.filter(file -> file.getFileName().toString().contains(".orphan")).count());
+        }
+        assertEquals(2, restarted.listDocuments().size());
+    }
+
+    @Test
+    @DisplayName("Deve impedir a inicialização com o catálogo inconsistente")
+    void shouldFailStartupOnInconsistentCatalog() throws IOException {
+        // Arrange
+        Files.writeString(tempDir.resolve("0.txt"), "alpha");
+        Files.writeString(tempDir.resolve("catalog.tsv"), "0\talice\t5\ta.txt\n7\talice\t5\tb.txt\n");
+        DocumentService service = newService(tempDir.toString());
+
+        // Act & Assert
+        assertThrows(IllegalStateException.class, service::load);
+        assertEquals("alpha", Files.readString(tempDir.resolve("0.txt")));
+    }
+
+    @Test
+    @DisplayName("Deve consultar o documento pelo array de sufixos só para o dono")
+    void shouldQueryDocumentWithSuffixArray() throws IOException {
+        // Arrange
+        DocumentService service = newService("");
+        authenticate("alice");
+        int id = service.addDocument("poema.txt", text("A nação e a canção; a Nação pede atenção. Cão!")).getId();
+
+        // Act
+        RhymeResponse rhymes = service.findRhymes(id, "ção", 10).orElseThrow();
+        RepeatedSubstringResponse repeat = service.findLongestRepeat(id).orElseThrow();
+        authenticate("bob");
+
+        // Assert
+        assertEquals(List.of("nação", "canção", "atenção"), rhymes.getWords().stream()
+            .map(word -> word.getWord()).toList());
+        assertEquals(2, rhymes.getWords().get(0).getCount());
+        assertEquals(4, rhymes.getTotalOccurrences());
+        assertEquals("a nação ", repeat.getText());
+        assertEquals(2, repeat.getOccurrences());
+        assertTrue(service.countOccurrences(id, "ção").isEmpty());
+        assertTrue(service.findLongestRepeat(id).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Deve gravar o array de sufixos e reaproveitá-lo após reiniciar")
+    void shouldPersistSuffixArray() throws IOException {
+        // Arrange
+        authenticate("alice");
+        DocumentService first = newService(tempDir.toString());
+        first.load();
+        int id = first.addDocument("a.txt", text("abracadabra abracadabra")).getId();
+        assertEquals(10, first.countOccurrences(id, "A").orElseThrow().getOccurrences());
+        assertTrue(Files.exists(tempDir.resolve(id + ".sa")));
+
+        // Act
+        DocumentService restarted = newService(tempDir.toString());
+        restarted.load();
+
+        // Assert
+        assertEquals(4, restarted.countOccurrences(id, "abra").orElseThrow().getOccurrences());
+        assertEquals(List.of(0, 7, 12, 19), restarted.countOccurrences(id, "abra").orElseThrow().getOffsets());
+        assertTrue(restarted.countOccurrences(id + 1, "abra").isEmpty());
+        assertThrows(IllegalArgumentException.class, () -> restarted.findRhymes(id, "a b", 10));
+        assertThrows(IllegalArgumentException.class, () -> restarted.findRhymes(id, "bra", 0));
+    }
+
+    @Test
+    @DisplayName("Deve descartar os arrays de sufixos menos consultados além do limite")
+    void shouldEvictLeastRecentlyUsedSuffixArrays() throws IOException {
+        // Arrange - três documentos do mesmo tamanho, limite para dois arrays
+        DocumentService service = newService("");
+        authenticate("alice");
+        int first = service.addDocument("a.txt", text("alpha betas alpha")).getId();
+        int second = service.addDocument("b.txt", text("gamma delta gamma")).getId();
+        int third = service.addDocument("c.txt", text("omega sigma omega")).getId();
+        service.countOccurrences(first, "alpha");
+        Map<Integer, ?> open = suffixArrays(service);
+        long arrayBytes = ((SuffixArray) open.get(first)).memoryBytes();
+        ReflectionTestUtils.setField(service, "suffixArrayMaxBytes", 2 * arrayBytes + 1);
+
+        // Act
+        service.countOccurrences(second, "delta");
+        service.countOccurrences(first, "beta");
+        service.countOccurrences(third, "sigma");
+
+        // Assert - o segundo foi o menos consultado e é reconstruído na próxima consulta
+        assertEquals(Set.of(first, third), open.keySet());
+        assertEquals(2 * arrayBytes, ReflectionTestUtils.getField(service, "suffixArrayBytes"));
+        assertEquals(2, service.countOccurrences(second, "gamma").orElseThrow().getOccurrences());
+        assertEquals(Set.of(third, second), open.keySet());
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Map<Integer, ?> suffixArrays(DocumentService service) {
+        return (Map<Integer, ?>) ReflectionTestUtils.getField(service, "suffixArrays");
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar documento vazio e consultas inválidas")
+    void shouldRejectInvalidInput() {
+        // Arrange
+        DocumentService service = newService("");
+
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () -> service.addDocument("a.txt", text("")));
+        assertThrows(IllegalArgumentException.class, () -> service.search("", 10));
+        assertThrows(IllegalArgumentException.class, () -> service.search("abc", 0));
+        assertThrows(IllegalArgumentException.class,
+            () -> service.search("a".repeat(DocumentService.MAX_QUERY_BYTES + 1), 10));
+    }
+
+    private static DocumentService newService(String path) {
+        DocumentService service = new DocumentService();
+        ReflectionTestUtils.setField(service, "documentsPath", path);
+        ReflectionTestUtils.setField(service, "persistEvery", 100);
+        ReflectionTestUtils.setField(service, "suffixArrayMaxBytes", 512L << 20);
+        return service;
+    }
+
+    private static void authenticate(String username) {
+        SecurityContextHolder.getContext().setAuthentication(new TestingAuthenticationToken(username, null, "ROLE_USER"));
+    }
+
+    private static InputStream text(String content) {
+        return new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,120 @@
+package com.lucas.text_processing_api.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.lucas.text_processing_api.dto.KeywordMatch;
+import com.lucas.text_processing_api.dto.KeywordScanResponse;
+import com.lucas.text_processing_api.dto.KeywordSetResponse;
+import com.lucas.text_processing_api.dto.WordCount;
+import com.lucas.text_processing_api.util.text.KeywordAutomaton;
+
+/**
+ * Testes unitários para o serviço de palavras-chave
+ * 
+ * @author Lucas
+ * @version 1.2
+ */
+class KeywordServiceTest {
+
+    private KeywordService keywordService;
+    private RedisCacheService cacheService;
+
+    @BeforeEach
+    void setUp() {
+        cacheService = new RedisCacheService();
+        ReflectionTestUtils.setField(cacheService, "cacheEnabled", true);
+        ReflectionTestUtils.setField(cacheService, "localMaxBytes", 256L << 20);
+        keywordService = new KeywordService();
+        ReflectionTestUtils.setField(keywordService, "cacheService", cacheService);
+        ReflectionTestUtils.setField(keywordService, "keywordSetTtlMinutes", 60L);
+    }
+
+    @Test
+    @DisplayName("Deve reaproveitar o autômato de um conjunto já compilado")
+    void shouldReuseCompiledKeywordSet() {
+        // Act
+        KeywordSetResponse first = keywordService.compileKeywordSet(List.of("she", "He", "hers"));
+        KeywordSetResponse second = keywordService.compileKeywordSet(List.of(" hers", "she", "he", "HE"));
+
+        // Assert
+        assertFalse(first.isFromCache());
+        assertTrue(second.isFromCache());
+        assertEquals(first.getSetId(), second.getSetId());
+        assertEquals(3, second.getKeywordCount());
+        assertTrue(keywordService.findKeywordSet(first.getSetId()).isPresent());
+        assertTrue(keywordService.findKeywordSet("desconhecido").isEmpty());
+        assertThrows(IllegalArgumentException.class, () -> keywordService.compileKeywordSet(List.of("ok", " ")));
+    }
+
+    @Test
+    @DisplayName("Deve dar identificadores diferentes a conjuntos que só diferem nos separadores")
+    void shouldNotCollideOnSeparators() {
+        // Act
+        KeywordSetResponse joined = keywordService.compileKeywordSet(List.of("a\nb"));
+        KeywordSetResponse split = keywordService.compileKeywordSet(List.of("a", "b"));
+
+        // Assert
+        assertNotEquals(joined.getSetId(), split.getSetId());
+        assertFalse(split.isFromCache());
+        assertEquals(1, joined.getKeywordCount());
+        assertEquals(2, split.getKeywordCount());
+    }
+
+    @Test
+    @DisplayName("Deve contar as ocorrências e retornar as primeiras posições")
+    void shouldCountKeywordsInStream() throws IOException {
+        // Arrange
+        String setId = keywordService.compileKeywordSet(List.of("he", "she", "hers")).getSetId();
+        KeywordAutomaton automaton = keywordService.findKeywordSet(setId).orElseThrow();
+
+        // Act
+        KeywordScanResponse response = keywordService.scan(setId, automaton, stream("ushers and she"), true, 3);
+        KeywordScanResponse countsOnly = keywordService.scan(setId, automaton, stream("ushers and she"), false, 1);
+
+        // Assert
+        assertEquals(List.of(new WordCount("he", 2), new WordCount("she", 2), new WordCount("hers", 1)),
+            response.getCounts());
+        assertEquals(List.of(new KeywordMatch(1, "she"), new KeywordMatch(2, "he"), new KeywordMatch(2, "hers")),
+            response.getMatches());
+        assertEquals(5, response.getTotalMatches());
+        assertEquals(14, response.getBytesScanned());
+        assertNull(countsOnly.getMatches());
+        assertEquals(List.of(new WordCount("he", 2)), countsOnly.getCounts());
+        assertThrows(IllegalArgumentException.class,
+            () -> keywordService.scan(setId, automaton, stream("x"), false, 0));
+    }
+
+    private static ByteArrayInputStream stream(String text) {
+        return new ByteArrayInputStream(text.getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    @DisplayName("Deve descartar os conjuntos usados há mais tempo e mantê-los ao limpar o cache de anagramas")
+    void shouldBoundLocalTierAndSurviveClearCache() {
+        // Arrange - limite para dois autômatos do mesmo tamanho (quatro letras distintas)
+        KeywordSetResponse first = keywordService.compileKeywordSet(List.of("perl"));
+        ReflectionTestUtils.setField(cacheService, "localMaxBytes", first.getMemoryBytes() * 2);
+
+        // Act
+        KeywordSetResponse second = keywordService.compileKeywordSet(List.of("ruby"));
+        keywordService.findKeywordSet(first.getSetId());
+        KeywordSetResponse third = keywordService.compileKeywordSet(List.of("rust"));
+        cacheService.clearCache();
+
+        // Assert - "ruby" era o menos recente quando "rust" entrou
+        assertTrue(keywordService.findKeywordSet(first.getSetId()).isPresent());
+        assertTrue(keywordService.findKeywordSet(second.getSetId()).isEmpty());
+        assertTrue(keywordService.findKeywordSet(third.getSetId()).isPresent());
+        assertEquals(first.getMemoryBytes() * 2, cacheService.getLocalBytes());
+    }
+}
@@ -0,0 +1,113 @@
+package com.lucas.text_processing_api.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.data.redis.core.HashOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.security.authentication.TestingAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.lucas.text_processing_api.dto.NearDuplicateDocument;
+import com.lucas.text_processing_api.dto.NearDuplicateResponse;
+
+/**
+ * Testes unitários para o serviço de quase-duplicatas
+ * 
+ * @author Lucas
+ * @version 1.1
+ */
+class NearDuplicateServiceTest {
+
+    private static final String ORIGINAL = "the quick brown fox jumps over the lazy dog while the farmer sleeps "
+        + "under the old oak tree and the children play near the river bank all afternoon long";
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    @DisplayName("Deve encontrar quase-duplicatas do mesmo usuário, inclusive na mesma requisição")
+    void shouldFindNearDuplicatesOfSameOwner() {
+        // Arrange
+        NearDuplicateService service = new NearDuplicateService();
+        authenticate("bob");
+        service.submit(List.of(new NearDuplicateDocument("bob.txt", ORIGINAL)), null);
+        authenticate("alice");
+
+        // Act
+        NearDuplicateResponse response = service.submit(List.of(
+            new NearDuplicateDocument("original.txt", ORIGINAL),
+            new NearDuplicateDocument("outro.txt", "completely different words about databases and indexes"),
+            new NearDuplicateDocument(null, ORIGINAL.replace("afternoon", "evening"))), 0.7);
+
+        // Assert
+        assertEquals(4, response.getIndexedDocuments());
+        assertTrue(response.getResults().get(0).getDuplicates().isEmpty());
+        assertTrue(response.getResults().get(1).getDuplicates().isEmpty());
+        assertEquals("texto-3", response.getResults().get(2).getName());
+        assertEquals(1, response.getResults().get(2).getDuplicates().size());
+        assertEquals("original.txt", response.getResults().get(2).getDuplicates().get(0).getName());
+        assertTrue(response.getResults().get(2).getDuplicates().get(0).getSimilarity() >= 0.7);
+        assertThrows(IllegalArgumentException.class,
+            () -> service.submit(List.of(new NearDuplicateDocument("x", "123 ...")), null));
+        assertThrows(IllegalArgumentException.class,
+            () -> service.submit(List.of(new NearDuplicateDocument("x", ORIGINAL)), 1.5));
+    }
+
+    @Test
+    @DisplayName("Deve espelhar as assinaturas no Redis e reconstruir o índice a partir delas")
+    @SuppressWarnings("unchecked")
+    void shouldMirrorSignaturesToRedis() {
+        // Arrange
+        RedisTemplate<String, Object> redisTemplate = mock(RedisTemplate.class);
+        HashOperations<String, Object, Object> hashOperations = mock(HashOperations.class);
+        when(redisTemplate.opsForHash()).thenReturn(hashOperations);
+        when(hashOperations.entries(anyString())).thenReturn(Map.of());
+        authenticate("alice");
+        NearDuplicateService first = newMirroredService(redisTemplate);
+        first.submit(List.of(new NearDuplicateDocument("original.txt", ORIGINAL)), null);
+
+        ArgumentCaptor<Map<Object, Object>> batch = ArgumentCaptor.forClass(Map.class);
+        verify(hashOperations).putAll(anyString(), batch.capture());
+        Map<Object, Object> stored = new HashMap<>(batch.getValue());
+        assertEquals(1, stored.size());
+        assertTrue(stored.containsKey("0"));
+        when(hashOperations.entries(anyString())).thenReturn(stored);
+
+        // Act
+        NearDuplicateService restarted = newMirroredService(redisTemplate);
+        NearDuplicateResponse response = restarted.submit(List.of(new NearDuplicateDocument("copia.txt", ORIGINAL)), null);
+
+        // Assert
+        assertEquals(2, response.getIndexedDocuments());
+        assertEquals(1, response.getResults().get(0).getDocumentId());
+        assertEquals("original.txt", response.getResults().get(0).getDuplicates().get(0).getName());
+        assertEquals(1.0, response.getResults().get(0).getDuplicates().get(0).getSimilarity());
+    }
+
+    private static NearDuplicateService newMirroredService(RedisTemplate<String, Object> redisTemplate) {
+        NearDuplicateService service = new NearDuplicateService();
+        ReflectionTestUtils.setField(service, "redisTemplate", redisTemplate);
+        ReflectionTestUtils.setField(service, "redisMirror", true);
+        service.load();
+        return service;
+    }
+
+    private static void authenticate(String user) {
+        SecurityContextHolder.getContext().setAuthentication(new TestingAuthenticationToken(user, null, "ROLE_USER"));
+    }
+}
@@ -0,0 +1,255 @@
+package com.lucas.text_processing_api.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.security.authentication.TestingAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.multipart.MultipartFile;
+
+import com.lucas.text_processing_api.dto.PalindromeResponse;
+import com.lucas.text_processing_api.dto.WordFrequencyResponse;
+import com.lucas.text_processing_api.util.text.AnagramGrouper;
+import com.lucas.text_processing_api.util.text.AnagramWindowScanner;
+
+/**
+ * Testes unitários para o TextService
+ * 
+ * @author Lucas
+ * @version 1.5
+ */
+class TextServiceTest {
+
+    private TextService textService;
+
+    @BeforeEach
+    void setUp() {
+        textService = new TextService();
+        ReflectionTestUtils.setField(textService, "jobThreads", 1);
+        ReflectionTestUtils.setField(textService, "maxQueuedJobs", 1);
+        ReflectionTestUtils.setField(textService, "jobRetentionMinutes", 60L);
+        textService.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        textService.shutdown();
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    @DisplayName("Deve agrupar as palavras de um texto separadas por pontuação")
+    void shouldGroupWordsFromText() throws IOException {
+        // Arrange
+        String text = "The cat sat; an act of Tac!\nCoração e acoraçõ... dog-god";
+
+        // Act
+        AnagramGrouper.Result result = textService.groupAnagrams(
+            new ByteArrayInputStream(text.getBytes(StandardCharsets.UTF_8)), 2, 10);
+
+        // Assert
+        assertEquals(12, result.getTotalTokens());
+        assertEquals(List.of("act", "cat", "tac"), result.getGroups().get(0).getWords());
+        assertEquals(List.of("acoraco", "coracao"), result.getGroups().get(1).getWords());
+        assertEquals(List.of("dog", "god"), result.getGroups().get(2).getWords());
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar lista vazia e parâmetros inválidos")
+    void shouldRejectInvalidInput() {
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () -> textService.groupAnagrams(List.of(), 1, 10));
+        assertThrows(IllegalArgumentException.class, () -> textService.groupAnagrams(List.of("cat"), 0, 10));
+        assertThrows(IllegalArgumentException.class,
+            () -> textService.groupAnagrams(List.of("cat"), 1, TextService.MAX_GROUP_LIMIT + 1));
+    }
+
+    @Test
+    @DisplayName("Deve concluir o job de um arquivo enviado com o progresso completo")
+    void shouldCompleteAnagramGroupJob() throws Exception {
+        // Arrange
+        MockMultipartFile file = new MockMultipartFile("file", "big.txt", "text/plain",
+            "cat act dog god tac bird".getBytes(StandardCharsets.UTF_8));
+
+        // Act
+        TextService.Job job = textService.startAnagramGroupJob(file, 2, 10);
+        for (int i = 0; i < 500 && job.getResult() == null && job.getError() == null; i++) {
+            Thread.sleep(10);
+        }
+
+        // Assert
+        assertEquals(TextService.JobState.COMPLETED, job.getState());
+        assertEquals(job.getTotalBytes(), job.getBytesProcessed());
+        assertEquals(6, job.getResult().getTotalTokens());
+        assertEquals(List.of("act", "cat", "tac"), job.getResult().getGroups().get(0).getWords());
+        assertSame(job, textService.getJob(job.getId()).orElseThrow());
+    }
+
+    @Test
+    @DisplayName("Deve recusar o job antes de gravar o arquivo quando a fila está cheia")
+    void shouldRejectJobWhenQueueIsFull() throws Exception {
+        // Arrange - a única thread fica presa e a fila de um job fica ocupada
+        ThreadPoolExecutor executor = (ThreadPoolExecutor) ReflectionTestUtils.getField(textService, "jobExecutor");
+        CountDownLatch release = new CountDownLatch(1);
+        executor.execute(() -> {
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        executor.execute(() -> { });
+        MultipartFile file = mock(MultipartFile.class);
+        when(file.isEmpty()).thenReturn(false);
+
+        // Act & Assert
+        assertThrows(RejectedExecutionException.class, () -> textService.startAnagramGroupJob(file, 1, 10));
+        verify(file, never()).transferTo(any(Path.class));
+        release.countDown();
+    }
+
+    @Test
+    @DisplayName("Deve mostrar o job apenas ao usuário que o criou")
+    void shouldScopeJobsToOwner() throws Exception {
+        // Arrange
+        SecurityContextHolder.getContext().setAuthentication(new TestingAuthenticationToken("alice", null, "ROLE_USER"));
+        MockMultipartFile file = new MockMultipartFile("file", "big.txt", "text/plain",
+            "cat act".getBytes(StandardCharsets.UTF_8));
+        TextService.Job job = textService.startAnagramGroupJob(file, 1, 10);
+
+        // Act
+        SecurityContextHolder.getContext().setAuthentication(new TestingAuthenticationToken("bob", null, "ROLE_USER"));
+        boolean visibleToBob = textService.getJob(job.getId()).isPresent();
+        SecurityContextHolder.getContext().setAuthentication(new TestingAuthenticationToken("alice", null, "ROLE_USER"));
+
+        // Assert
+        assertFalse(visibleToBob);
+        assertSame(job, textService.getJob(job.getId()).orElseThrow());
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar job de arquivo vazio")
+    void shouldRejectEmptyJobFile() {
+        // Arrange
+        MockMultipartFile file = new MockMultipartFile("file", "empty.txt", "text/plain", new byte[0]);
+
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () -> textService.startAnagramGroupJob(file, 1, 10));
+        assertTrue(textService.getJob("missing").isEmpty());
+    }
+
+    @Test
+    @DisplayName("Deve localizar anagramas de padrões normalizados em texto e fluxo")
+    void shouldFindAnagramOccurrences() throws IOException {
+        // Arrange - os padrões são normalizados (maiúsculas e acentos)
+        String text = "Ação: o cão caça a CAO e a OCA.";
+        List<String> patterns = List.of("Cão");
+
+        // Act
+        AnagramWindowScanner.Result fromText = textService.findAnagramOccurrences(text, patterns, 10);
+        AnagramWindowScanner.Result fromStream = textService.findAnagramOccurrences(
+            new ByteArrayInputStream(text.getBytes(StandardCharsets.UTF_8)), patterns, 10);
+
+        // Assert
+        assertEquals(List.of("cao", "oca"), fromText.getOccurrences().stream()
+            .map(AnagramWindowScanner.Occurrence::getText).toList());
+        assertEquals(fromText.getTotalOccurrences(), fromStream.getTotalOccurrences());
+        assertEquals(text.getBytes(StandardCharsets.UTF_8).length, fromStream.getBytesScanned());
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar padrões inválidos na busca de anagramas no texto")
+    void shouldRejectInvalidPatterns() {
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () -> textService.findAnagramOccurrences("abc", List.of(), 10));
+        assertThrows(IllegalArgumentException.class, () -> textService.findAnagramOccurrences("abc", List.of("a1"), 10));
+        assertThrows(IllegalArgumentException.class,
+            () -> textService.findAnagramOccurrences("abc", List.of("a".repeat(65)), 10));
+        assertThrows(IllegalArgumentException.class, () -> textService.findAnagramOccurrences("abc", List.of("ab"), 0));
+        assertThrows(IllegalArgumentException.class, () -> textService.findAnagramOccurrences("", List.of("ab"), 10));
+    }
+
+    @Test
+    @DisplayName("Deve retornar as palavras mais frequentes de um texto")
+    void shouldAnalyzeWordFrequencies() throws IOException {
+        // Arrange
+        String text = "The cat and THE dog; the cat.\n".repeat(1000);
+
+        // Act
+        WordFrequencyResponse response = textService.analyzeWordFrequencies(
+            new ByteArrayInputStream(text.getBytes(StandardCharsets.UTF_8)), 2);
+
+        // Assert
+        assertEquals(2, response.getWords().size());
+        assertEquals("the", response.getWords().get(0).getWord());
+        assertEquals(3000, response.getWords().get(0).getCount());
+        assertEquals("cat", response.getWords().get(1).getWord());
+        assertEquals(2000, response.getWords().get(1).getCount());
+        assertEquals(4, response.getDistinctWords());
+        assertEquals(7000, response.getTotalTokens());
+        assertEquals(text.length(), response.getBytesScanned());
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar quantidade inválida de palavras na frequência")
+    void shouldRejectInvalidTopK() {
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class,
+            () -> textService.analyzeWordFrequencies(new ByteArrayInputStream(new byte[0]), 0));
+        assertThrows(IllegalArgumentException.class, () -> textService.analyzeWordFrequencies(
+            new ByteArrayInputStream(new byte[0]), TextService.MAX_TOP_WORDS + 1));
+    }
+
+    @Test
+    @DisplayName("Deve retornar os maiores palíndromos e a contagem a partir do comprimento mínimo")
+    void shouldFindPalindromes() throws IOException {
+        // Arrange
+        String text = "Never odd or even; noon.";
+
+        // Act
+        PalindromeResponse response = textService.findPalindromes(
+            new ByteArrayInputStream(text.getBytes(StandardCharsets.UTF_8)), true, 4, 2);
+
+        // Assert
+        assertEquals(2, response.getLongest().size());
+        assertEquals("neveroddoreven", response.getLongest().get(0).getText());
+        assertEquals(0, response.getLongest().get(0).getOffset());
+        assertEquals("noon", response.getLongest().get(1).getText());
+        assertEquals(text.indexOf("noon"), response.getLongest().get(1).getOffset());
+        assertEquals(14, response.getLongestLength());
+        assertEquals(4, response.getCounts().get(0).getLength());
+        assertEquals(response.getTotalPalindromes(),
+            response.getCounts().stream().mapToLong(count -> count.getCount()).sum());
+        assertEquals(text.length(), response.getBytesScanned());
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar parâmetros inválidos na busca de palíndromos")
+    void shouldRejectInvalidPalindromeParameters() {
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class,
+            () -> textService.findPalindromes(new ByteArrayInputStream(new byte[0]), true, 0, 10));
+        assertThrows(IllegalArgumentException.class, () -> textService.findPalindromes(
+            new ByteArrayInputStream(new byte[0]), true, 2, TextService.MAX_PALINDROME_LIMIT + 1));
+    }
+}
@@ -0,0 +1,108 @@
+package com.lucas.text_processing_api.util;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.math.BigInteger;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Testes unitários para o gerador de colares
+ * 
+ * Os resultados são comparados com a abordagem ingênua (gerar todas as
+ * permutações e deduplicar por rotação) em entradas pequenas.
+ * 
+ * @author Lucas
+ * @version 1.1
+ */
+@DisplayName("Testes do Gerador de Colares")
+class NecklaceGeneratorTest {
+
+    private NecklaceGenerator necklaceGenerator;
+    private AnagramGenerator anagramGenerator;
+
+    @BeforeEach
+    void setUp() {
+        necklaceGenerator = new NecklaceGenerator();
+        anagramGenerator = new AnagramGenerator();
+    }
+
+    @Test
+    @DisplayName("Deve gerar os colares de 'aabb'")
+    void shouldGenerateNecklacesForAABB() {
+        // Act
+        List<String> result = necklaceGenerator.generateNecklaces("aabb", 100);
+
+        // Assert
+        assertEquals(List.of("aabb", "abab"), result);
+        assertEquals(BigInteger.TWO, necklaceGenerator.countNecklaces("aabb"));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"a", "ab", "abc", "aab", "abcd", "aabbc", "aaabbb", "abcabc", "aaaa", "abacab"})
+    @DisplayName("Deve coincidir com a deduplicação ingênua por rotação")
+    void shouldMatchNaiveRotationDedup(String letters) {
+        // Arrange
+        Set<String> expected = new TreeSet<>();
+        for (String arrangement : anagramGenerator.generateAnagrams(letters)) {
+            expected.add(minimalRotation(arrangement));
+        }
+
+        // Act
+        List<String> result = necklaceGenerator.generateNecklaces(letters, Integer.MAX_VALUE);
+
+        // Assert
+        assertEquals(List.copyOf(expected), result);
+        assertEquals(BigInteger.valueOf(expected.size()), necklaceGenerator.countNecklaces(letters));
+    }
+
+    @Test
+    @DisplayName("Deve respeitar o limite de representantes")
+    void shouldRespectLimit() {
+        // Act
+        List<String> result = necklaceGenerator.generateNecklaces("abcdefgh", 5);
+
+        // Assert
+        assertEquals(5, result.size());
+        assertEquals("abcdefgh", result.get(0));
+    }
+
+    @Test
+    @DisplayName("Deve contar classes exatamente para entradas grandes")
+    void shouldCountLargeInputsExactly() {
+        // Act - 26 letras distintas: 25! classes
+        BigInteger count = necklaceGenerator.countNecklaces("abcdefghijklmnopqrstuvwxyz");
+
+        // Assert
+        assertEquals(new BigInteger("15511210043330985984000000"), count);
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar entradas inválidas")
+    void shouldRejectInvalidInput() {
+        assertThrows(IllegalArgumentException.class, () -> necklaceGenerator.countNecklaces(""));
+        assertThrows(IllegalArgumentException.class, () -> necklaceGenerator.generateNecklaces("a1", 10));
+        assertThrows(IllegalArgumentException.class, () -> necklaceGenerator.generateNecklaces("abc", 0));
+        String tooLong = "a".repeat(NecklaceGenerator.MAX_LETTERS + 1);
+        assertThrows(IllegalArgumentException.class, () -> necklaceGenerator.countNecklaces(tooLong));
+        assertThrows(IllegalArgumentException.class, () -> necklaceGenerator.generateNecklaces(tooLong, 10));
+    }
+
+    private static String minimalRotation(String word) {
+        String best = word;
+        for (int i = 1; i < word.length(); i++) {
+            String rotation = word.substring(i) + word.substring(0, i);
+            if (rotation.compareTo(best) < 0) {
+                best = rotation;
+            }
+        }
+        return best;
+    }
+}
@@ -0,0 +1,92 @@
+package com.lucas.text_processing_api.util;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Testes unitários para o explorador por distância de trocas
+ * 
+ * @author Lucas
+ * @version 1.0
+ */
+@DisplayName("Testes do Explorador por Distância de Trocas")
+class SwapDistanceExplorerTest {
+
+    private SwapDistanceExplorer explorer;
+
+    @BeforeEach
+    void setUp() {
+        explorer = new SwapDistanceExplorer();
+    }
+
+    @Test
+    @DisplayName("Deve retornar primeiro os arranjos a uma transposição de distância")
+    void shouldReturnSingleTranspositionsFirst() {
+        // Act
+        List<String> result = explorer.nearest("abc", 3, false);
+
+        // Assert
+        assertEquals(List.of("bac", "cba", "acb"), result);
+    }
+
+    @Test
+    @DisplayName("Deve percorrer todos os arranjos em ordem de distância quando o limite é grande")
+    void shouldVisitAllArrangementsInDistanceOrder() {
+        // Act
+        List<String> result = explorer.nearest("abcd", 1000, false);
+
+        // Assert - 4! - 1 arranjos, sem a palavra original e sem repetições
+        assertEquals(23, result.size());
+        assertEquals(23, new HashSet<>(result).size());
+        assertFalse(result.contains("abcd"));
+        // Os 6 primeiros são exatamente as transposições simples
+        assertTrue(List.of("bacd", "cbad", "dbca", "acbd", "adcb", "abdc")
+            .containsAll(result.subList(0, 6)));
+    }
+
+    @Test
+    @DisplayName("Deve considerar apenas trocas adjacentes quando solicitado")
+    void shouldUseAdjacentSwapsOnly() {
+        // Act
+        List<String> result = explorer.nearest("abc", 2, true);
+
+        // Assert
+        assertEquals(List.of("bac", "acb"), result);
+    }
+
+    @Test
+    @DisplayName("Deve ignorar trocas entre letras iguais")
+    void shouldSkipSwapsOfEqualLetters() {
+        // Act
+        List<String> result = explorer.nearest("aab", 10, false);
+
+        // Assert - apenas 3!/2! - 1 arranjos distintos
+        assertEquals(2, result.size());
+        assertTrue(result.containsAll(List.of("baa", "aba")));
+    }
+
+    @Test
+    @DisplayName("Deve normalizar letras maiúsculas")
+    void shouldNormalizeUpperCase() {
+        // Act
+        List<String> result = explorer.nearest("AB", 5, false);
+
+        // Assert
+        assertEquals(List.of("ba"), result);
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar entradas inválidas ou longas demais")
+    void shouldRejectInvalidInput() {
+        assertThrows(IllegalArgumentException.class, () -> explorer.nearest("", 5, false));
+        assertThrows(IllegalArgumentException.class, () -> explorer.nearest("ab1", 5, false));
+        assertThrows(IllegalArgumentException.class, () -> explorer.nearest("abcdefghijklm", 5, false));
+        assertThrows(IllegalArgumentException.class, () -> explorer.nearest("abc", 0, false));
+    }
+}
@@ -0,0 +1,118 @@
+package com.lucas.text_processing_api.util.dictionary;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Testes unitários para o dicionário compilado mapeado em memória
+ * 
+ * @author Lucas
+ * @version 1.0
+ */
+class CompiledDictionaryTest {
+
+    private static final String[] WORDS = {
+        "listen", "evil", "silent", "vile", "enlist", "dog", "god", "live", "tinsel", "good"
+    };
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    @DisplayName("Deve responder as mesmas consultas que o índice em memória")
+    void shouldMatchInMemoryIndex() throws IOException {
+        // Arrange
+        SignatureIndex memory = new SignatureIndex(WORDS);
+        Path file = tempDir.resolve("words.dict");
+        CompiledDictionary.write(memory, 42L, file);
+
+        // Act
+        CompiledDictionary compiled = CompiledDictionary.open(file);
+
+        // Assert
+        assertEquals(memory.wordCount(), compiled.wordCount());
+        assertEquals(memory.groupCount(), compiled.groupCount());
+        assertEquals(42L, compiled.sourceStamp());
+        for (int id = 0; id < WORDS.length; id++) {
+            assertEquals(WORDS[id], compiled.word(id));
+            assertEquals(memory.anagramsOf(WORDS[id]), compiled.anagramsOf(WORDS[id]));
+        }
+        assertTrue(compiled.anagramsOf("xyz").isEmpty());
+    }
+
+    @Test
+    @DisplayName("Deve retornar os ids do grupo sem verificação")
+    void shouldIterateGroupIds() throws IOException {
+        // Arrange
+        Path file = tempDir.resolve("words.dict");
+        CompiledDictionary.write(new SignatureIndex(WORDS), 0L, file);
+        CompiledDictionary compiled = CompiledDictionary.open(file);
+        List<Integer> ids = new ArrayList<>();
+
+        // Act
+        compiled.forEachWithSignature(LetterSignature.of("veil"), ids::add);
+
+        // Assert
+        assertEquals(List.of(1, 3, 7), ids);
+    }
+
+    @Test
+    @DisplayName("Deve substituir um arquivo existente")
+    void shouldReplaceExistingFile() throws IOException {
+        // Arrange
+        Path file = tempDir.resolve("words.dict");
+        CompiledDictionary.write(new SignatureIndex(WORDS), 1L, file);
+
+        // Act
+        CompiledDictionary.write(new SignatureIndex(new String[] {"act", "cat"}), 2L, file);
+        CompiledDictionary compiled = CompiledDictionary.open(file);
+
+        // Assert
+        assertEquals(2, compiled.wordCount());
+        assertEquals(List.of("act", "cat"), compiled.anagramsOf("tac"));
+        assertEquals(2L, compiled.sourceStamp());
+    }
+
+    @Test
+    @DisplayName("Deve aceitar dicionário vazio")
+    void shouldHandleEmptyDictionary() throws IOException {
+        // Arrange
+        Path file = tempDir.resolve("empty.dict");
+        CompiledDictionary.write(new SignatureIndex(new String[0]), 0L, file);
+
+        // Act
+        CompiledDictionary compiled = CompiledDictionary.open(file);
+
+        // Assert
+        assertEquals(0, compiled.wordCount());
+        assertTrue(compiled.anagramsOf("abc").isEmpty());
+    }
+
+    @Test
+    @DisplayName("Deve recusar arquivos que não são dicionários compilados ou estão truncados")
+    void shouldRejectInvalidFiles() throws IOException {
+        // Arrange
+        Path garbage = tempDir.resolve("garbage.dict");
+        Files.write(garbage, new byte[64]);
+
+        Path truncated = tempDir.resolve("truncated.dict");
+        CompiledDictionary.write(new SignatureIndex(WORDS), 0L, truncated);
+        byte[] content = Files.readAllBytes(truncated);
+        Files.write(truncated, Arrays.copyOf(content, content.length - 3));
+
+        // Act & Assert
+        assertThrows(IOException.class, () -> CompiledDictionary.open(garbage));
+        assertThrows(IOException.class, () -> CompiledDictionary.open(truncated));
+        assertThrows(IOException.class, () -> CompiledDictionary.open(tempDir.resolve("missing.dict")));
+    }
+}
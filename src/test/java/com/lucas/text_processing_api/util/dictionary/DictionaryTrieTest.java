@@ -0,0 +1,131 @@
+package com.lucas.text_processing_api.util.dictionary;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Testes unitários para a trie do dicionário
+ * 
+ * @author Lucas
+ * @version 1.1
+ */
+class DictionaryTrieTest {
+
+    private static final String[] WORDS = {
+        "listen", "silent", "list", "lit", "tin", "ten", "net", "nest", "set", "tee", "teen", "a", "at", "tan"
+    };
+
+    @Test
+    @DisplayName("Deve encontrar todas as palavras formáveis com um subconjunto das letras")
+    void shouldFindSubAnagramsLikeBruteForce() {
+        // Arrange
+        SignatureIndex index = new SignatureIndex(WORDS);
+        DictionaryTrie trie = new DictionaryTrie(index);
+
+        for (String letters : new String[] {"listen", "tenet", "nat", "xyz", "e"}) {
+            // Act
+            List<String> found = collect(trie, index, letters, 1);
+
+            // Assert
+            List<String> expected = new ArrayList<>();
+            for (String word : WORDS) {
+                if (fits(word, letters)) {
+                    expected.add(word);
+                }
+            }
+            expected.sort(null);
+            assertEquals(expected, found, "letras: " + letters);
+        }
+    }
+
+    @Test
+    @DisplayName("Deve respeitar as repetições disponíveis de cada letra")
+    void shouldRespectLetterMultiplicity() {
+        // Arrange
+        SignatureIndex index = new SignatureIndex(WORDS);
+        DictionaryTrie trie = new DictionaryTrie(index);
+
+        // Act & Assert - "tee" e "teen" precisam de dois 'e'
+        assertFalse(collect(trie, index, "ten", 1).contains("tee"));
+        assertTrue(collect(trie, index, "tene", 1).contains("teen"));
+    }
+
+    @Test
+    @DisplayName("Deve aplicar o comprimento mínimo e restaurar o histograma")
+    void shouldApplyMinLengthAndRestoreCounts() {
+        // Arrange
+        SignatureIndex index = new SignatureIndex(WORDS);
+        DictionaryTrie trie = new DictionaryTrie(index);
+        int[] counts = LetterSignature.histogram("listen");
+        int[] original = counts.clone();
+        List<String> found = new ArrayList<>();
+
+        // Act
+        trie.forEachSubAnagram(counts, 5, id -> found.add(index.word(id)));
+
+        // Assert
+        assertEquals(List.of("listen", "silent"), found);
+        assertArrayEquals(original, counts);
+    }
+
+    @Test
+    @DisplayName("Deve compartilhar prefixos entre as palavras")
+    void shouldSharePrefixes() {
+        // Arrange
+        DictionaryTrie trie = new DictionaryTrie(new SignatureIndex(new String[] {"car", "cart", "care", "cat"}));
+
+        // Assert - raiz, c, ca, car, cart, care, cat
+        assertEquals(7, trie.nodeCount());
+        assertEquals(DictionaryTrie.NO_WORD, trie.terminalWord(0));
+    }
+
+    private static List<String> collect(DictionaryTrie trie, DictionaryIndex index, String letters, int minLength) {
+        List<String> found = new ArrayList<>();
+        trie.forEachSubAnagram(LetterSignature.histogram(letters), minLength, id -> found.add(index.word(id)));
+        return found;
+    }
+
+    private static boolean fits(String word, String letters) {
+        int[] counts = LetterSignature.histogram(letters);
+        for (int i = 0; i < word.length(); i++) {
+            if (--counts[word.charAt(i) - 'a'] < 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Test
+    @DisplayName("Deve resumir altura e letras de cada subárvore")
+    void shouldSummarizeSubtrees() {
+        // Arrange
+        DictionaryTrie trie = new DictionaryTrie(new SignatureIndex(new String[] {"car", "cart", "dog"}));
+
+        // Act & Assert - raiz alcança "cart" (4 letras) e todas as letras usadas
+        assertEquals(4, trie.height(0));
+        int expected = 0;
+        for (char c : "cartdog".toCharArray()) {
+            expected |= 1 << (c - 'a');
+        }
+        assertEquals(expected, trie.letterMask(0));
+    }
+
+    @Test
+    @DisplayName("Deve guardar a palavra mais frequente de cada subárvore")
+    void shouldTrackBestWordPerSubtree() {
+        // Arrange - ids seguem a ordem da lista: "dog" é a mais frequente
+        DictionaryTrie trie = new DictionaryTrie(new SignatureIndex(new String[] {"dog", "cart", "car", "cat"}));
+        int c = trie.child(0, 'c' - 'a');
+
+        // Act & Assert
+        assertEquals(0, trie.bestWord(0));
+        assertEquals(1, trie.bestWord(c));
+        assertEquals('d' - 'a', trie.edgeLetter(trie.rankedEdge(trie.firstEdge(0))));
+        assertEquals(-1, trie.child(0, 'z' - 'a'));
+    }
+}
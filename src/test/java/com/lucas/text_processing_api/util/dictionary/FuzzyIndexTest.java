@@ -0,0 +1,122 @@
+package com.lucas.text_processing_api.util.dictionary;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.LinkedHashSet;
+import java.util.Random;
+import java.util.Set;
+import java.util.TreeSet;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Testes unitários para o índice por distância de edição e a distância limitada
+ * 
+ * @author Lucas
+ * @version 1.0
+ */
+class FuzzyIndexTest {
+
+    @Test
+    @DisplayName("Deve calcular a distância limitada igual à distância completa")
+    void shouldMatchFullLevenshtein() {
+        // Arrange
+        Random random = new Random(46);
+        int[] previous = new int[16];
+        int[] current = new int[16];
+
+        for (int trial = 0; trial < 5000; trial++) {
+            String source = randomWord(random, 0, 12, 3);
+            String target = randomWord(random, 0, 12, 3);
+            int maxDistance = random.nextInt(4);
+
+            // Act
+            int bounded = EditDistance.bounded(source, target, maxDistance, previous, current);
+
+            // Assert
+            int full = levenshtein(source, target);
+            assertEquals(Math.min(full, maxDistance + 1), bounded, source + " / " + target + " / " + maxDistance);
+        }
+    }
+
+    @Test
+    @DisplayName("Deve encontrar as mesmas palavras que a comparação por força bruta")
+    void shouldMatchBruteForce() {
+        // Arrange - alfabeto curto e palavras longas para exercitar o corte no prefixo
+        Random random = new Random(7);
+        Set<String> distinct = new LinkedHashSet<>();
+        while (distinct.size() < 2000) {
+            distinct.add(randomWord(random, 1, 14, 4));
+        }
+        String[] words = distinct.toArray(new String[0]);
+        SignatureIndex index = new SignatureIndex(words);
+        FuzzyIndex fuzzy = new FuzzyIndex(index);
+
+        for (int trial = 0; trial < 300; trial++) {
+            String query = trial % 2 == 0 ? mutate(words[random.nextInt(words.length)], random) : randomWord(random, 1, 14, 4);
+            int maxDistance = trial % 3;
+
+            // Act
+            Set<String> found = new TreeSet<>();
+            fuzzy.forEachMatch(query, maxDistance, (id, distance) ->
+                assertTrue(found.add(index.word(id) + ":" + distance), "duplicado: " + index.word(id)));
+
+            // Assert
+            Set<String> expected = new TreeSet<>();
+            for (int id = 0; id < index.wordCount(); id++) {
+                int distance = levenshtein(query, index.word(id));
+                if (distance <= maxDistance) {
+                    expected.add(index.word(id) + ":" + distance);
+                }
+            }
+            assertEquals(expected, found, "consulta: " + query);
+        }
+        assertThrows(IllegalArgumentException.class, () -> fuzzy.forEachMatch("cat", 3, (id, distance) -> { }));
+    }
+
+    private static String mutate(String word, Random random) {
+        StringBuilder mutated = new StringBuilder(word);
+        for (int edits = random.nextInt(3); edits > 0; edits--) {
+            int position = random.nextInt(mutated.length() + 1);
+            char letter = (char) ('a' + random.nextInt(4));
+            switch (random.nextInt(3)) {
+                case 0 -> mutated.insert(position, letter);
+                case 1 -> {
+                    if (position < mutated.length() && mutated.length() > 1) {
+                        mutated.deleteCharAt(position);
+                    }
+                }
+                default -> {
+                    if (position < mutated.length()) {
+                        mutated.setCharAt(position, letter);
+                    }
+                }
+            }
+        }
+        return mutated.toString();
+    }
+
+    private static String randomWord(Random random, int minLength, int maxLength, int alphabet) {
+        StringBuilder word = new StringBuilder();
+        for (int length = minLength + random.nextInt(maxLength - minLength + 1); length > 0; length--) {
+            word.append((char) ('a' + random.nextInt(alphabet)));
+        }
+        return word.toString();
+    }
+
+    private static int levenshtein(String a, String b) {
+        int[][] d = new int[a.length() + 1][b.length() + 1];
+        for (int i = 0; i <= a.length(); i++) {
+            for (int j = 0; j <= b.length(); j++) {
+                if (i == 0 || j == 0) {
+                    d[i][j] = i + j;
+                } else {
+                    int cost = a.charAt(i - 1) == b.charAt(j - 1) ? 0 : 1;
+                    d[i][j] = Math.min(d[i - 1][j - 1] + cost, Math.min(d[i - 1][j], d[i][j - 1]) + 1);
+                }
+            }
+        }
+        return d[a.length()][b.length()];
+    }
+}
@@ -0,0 +1,127 @@
+package com.lucas.text_processing_api.util.dictionary;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Benchmark do histograma por palavra em lotes de palavras
+ * 
+ * Fora da execução padrão; rode com mvn test -Pbenchmark. Mede o que o
+ * serviço faz no agrupamento e nas chaves: um histograma e uma assinatura
+ * por palavra, com os contadores reaproveitados, sobre um lote guardado em
+ * um único array (como a arena do contador de palavras). Imprime palavras
+ * por segundo e MB/s de {@link LetterHistogram#count} e do laço escalar.
+ * 
+ * O lote de palavras comuns fica abaixo de
+ * {@link LetterHistogram#VECTOR_THRESHOLD} bytes por palavra, então os dois
+ * caminhos são o escalar e o número mostra o custo do desvio; o lote de
+ * tokens longos passa do limiar e mede o núcleo vetorial.
+ * 
+ * @author Lucas
+ * @version 1.1
+ */
+@Tag("benchmark")
+class LetterHistogramBenchmarkTest {
+
+    private static final int BATCH_BYTES = 16 << 20;
+    private static final int WARMUP_ROUNDS = 5;
+    private static final int MEASURED_ROUNDS = 20;
+
+    @Test
+    @DisplayName("Deve medir a vazão do histograma por palavra em lotes curtos e longos")
+    void shouldMeasureThroughput() {
+        // Arrange - palavras comuns (2 a 10 letras) e tokens longos (64 a 256 bytes)
+        WordBatch shortWords = wordBatch(new Random(40), 2, 10);
+        WordBatch longWords = wordBatch(new Random(41), LetterHistogram.VECTOR_THRESHOLD, 256);
+
+        // Act
+        double shortScalar = measure("curtas, escalar", shortWords, false);
+        double shortKernel = measure("curtas, count", shortWords, true);
+        double longScalar = measure("longas, escalar", longWords, false);
+        double longKernel = measure(LetterHistogram.isVectorized() ? "longas, vetorial" : "longas, count (sem módulo)",
+            longWords, true);
+
+        // Assert
+        assertTrue(shortScalar > 0 && shortKernel > 0 && longScalar > 0 && longKernel > 0);
+        System.out.printf("Palavras curtas (abaixo de %d bytes, laço escalar): %.2fx%n",
+            LetterHistogram.VECTOR_THRESHOLD, shortKernel / shortScalar);
+        System.out.printf("Tokens longos: %.2fx (%d bytes por vetor)%n", longKernel / longScalar,
+            LetterHistogram.isVectorized() ? VectorLetterHistogram.lanes() : 1);
+    }
+
+    private static double measure(String name, WordBatch batch, boolean kernel) {
+        long checksum = 0;
+        for (int round = 0; round < WARMUP_ROUNDS; round++) {
+            checksum += run(batch, kernel);
+        }
+
+        long start = System.nanoTime();
+        for (int round = 0; round < MEASURED_ROUNDS; round++) {
+            checksum += run(batch, kernel);
+        }
+        double seconds = (System.nanoTime() - start) / 1e9;
+        double words = (double) batch.words * MEASURED_ROUNDS / seconds / 1e6;
+        double throughput = (double) batch.text.length * MEASURED_ROUNDS / seconds / (1 << 20);
+
+        System.out.printf("%-28s %8.2f M palavras/s %10.1f MB/s (checksum %d)%n", name, words, throughput, checksum);
+        return words;
+    }
+
+    private static long run(WordBatch batch, boolean kernel) {
+        int[] counts = new int[LetterSignature.ALPHABET_SIZE];
+        long checksum = 0;
+        for (int w = 0; w < batch.words; w++) {
+            Arrays.fill(counts, 0);
+            int from = batch.starts[w];
+            int to = batch.starts[w + 1];
+            if (kernel) {
+                LetterHistogram.count(batch.text, from, to, counts);
+            } else {
+                LetterHistogram.countScalar(batch.text, from, to, counts);
+            }
+            checksum += LetterSignature.of(counts);
+        }
+        return checksum;
+    }
+
+    private static WordBatch wordBatch(Random random, int minLength, int maxLength) {
+        byte[] text = new byte[BATCH_BYTES];
+        int[] starts = new int[BATCH_BYTES / minLength + 1];
+        int position = 0;
+        int words = 0;
+        while (true) {
+            int length = minLength + random.nextInt(maxLength - minLength + 1);
+            if (position + length > text.length) {
+                break;
+            }
+            starts[words++] = position;
+            for (int i = 0; i < length; i++) {
+                text[position++] = (byte) ('a' + random.nextInt(LetterSignature.ALPHABET_SIZE));
+            }
+        }
+        starts[words] = position;
+        return new WordBatch(text, starts, words);
+    }
+
+    /**
+     * Palavras contíguas em um array, delimitadas pelos inícios
+     */
+    private static final class WordBatch {
+
+        private final byte[] text;
+        private final int[] starts;
+        private final int words;
+
+        WordBatch(byte[] text, int[] starts, int words) {
+            this.text = text;
+            this.starts = starts;
+            this.words = words;
+        }
+    }
+}
@@ -0,0 +1,77 @@
+package com.lucas.text_processing_api.util.dictionary;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Random;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Testes unitários para a contagem de letras e as chaves canônicas
+ * 
+ * @author Lucas
+ * @version 1.0
+ */
+class LetterHistogramTest {
+
+    @Test
+    @DisplayName("Deve usar o núcleo vetorial quando o módulo está disponível")
+    void shouldDetectVectorModule() {
+        // Assert - os testes rodam com --add-modules jdk.incubator.vector
+        assertEquals(ModuleLayer.boot().findModule("jdk.incubator.vector").isPresent(),
+            LetterHistogram.isVectorized());
+    }
+
+    @Test
+    @DisplayName("Deve contar igual ao laço escalar em intervalos de qualquer tamanho")
+    void shouldMatchScalarLoop() {
+        // Arrange - bytes arbitrários, incluindo não ASCII e limites de maiúsculas
+        Random random = new Random(40);
+        byte[] text = new byte[4096];
+        random.nextBytes(text);
+
+        for (int round = 0; round < 500; round++) {
+            int from = random.nextInt(text.length);
+            int to = from + random.nextInt(text.length - from + 1);
+            int[] expected = new int[LetterSignature.ALPHABET_SIZE];
+            LetterHistogram.countScalar(text, from, to, expected);
+
+            // Act
+            int[] counts = LetterHistogram.histogram(text, from, to);
+
+            // Assert
+            assertArrayEquals(expected, counts, "intervalo " + from + "-" + to);
+        }
+    }
+
+    @Test
+    @DisplayName("Deve ignorar maiúsculas e caracteres que não são letras")
+    void shouldFoldCaseAndSkipOthers() {
+        // Arrange
+        byte[] text = "Cat, TAC! @[`{ act".repeat(10).getBytes(StandardCharsets.UTF_8);
+
+        // Act
+        long signature = LetterHistogram.signature(text, 0, text.length);
+
+        // Assert
+        assertEquals(LetterSignature.of("act".repeat(30)), signature);
+    }
+
+    @Test
+    @DisplayName("Deve montar a mesma chave canônica que a ordenação de caracteres")
+    void shouldBuildSortedLetters() {
+        // Arrange
+        String[] inputs = {"Tac", "zzYyxA", "banana", "a1b", "Çab", "", "[]@`"};
+
+        for (String input : inputs) {
+            char[] chars = input.toLowerCase().toCharArray();
+            Arrays.sort(chars);
+
+            // Act & Assert
+            assertEquals(new String(chars), LetterHistogram.sortedLetters(input), input);
+        }
+    }
+}
@@ -0,0 +1,123 @@
+package com.lucas.text_processing_api.util.dictionary;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.Set;
+import java.util.TreeSet;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.lucas.text_processing_api.util.dictionary.NeighborIndex.LetterEdit;
+
+/**
+ * Testes unitários para o índice de vizinhos de anagrama
+ * 
+ * @author Lucas
+ * @version 1.0
+ */
+class NeighborIndexTest {
+
+    private static final String[] WORDS = {
+        "cat", "act", "cart", "trace", "crate", "bat", "tab", "rat", "art", "tar",
+        "at", "a", "car", "arc", "scat", "cast", "acts", "coat", "taco", "ct", "tact"
+    };
+
+    @Test
+    @DisplayName("Deve encontrar os mesmos vizinhos que a comparação por força bruta")
+    void shouldMatchBruteForce() {
+        // Arrange
+        SignatureIndex index = new SignatureIndex(WORDS);
+        NeighborIndex neighbors = new NeighborIndex(index);
+
+        for (String letters : new String[] {"cat", "rat", "a", "tac", "cart", "xyz", "tt"}) {
+            // Act
+            Set<String> found = new TreeSet<>();
+            neighbors.forEachNeighbor(letters, (id, edit, added, removed) ->
+                assertTrue(found.add(index.word(id) + ":" + edit), "duplicado: " + index.word(id)));
+
+            // Assert
+            Set<String> expected = new TreeSet<>();
+            for (String word : WORDS) {
+                LetterEdit edit = bruteForceEdit(letters, word);
+                if (edit != null) {
+                    expected.add(word + ":" + edit);
+                }
+            }
+            assertEquals(expected, found, "letras: " + letters);
+        }
+    }
+
+    @Test
+    @DisplayName("Deve informar as letras acrescentadas e removidas em cada edição")
+    void shouldReportEditedLetters() {
+        // Arrange
+        SignatureIndex index = new SignatureIndex(WORDS);
+        NeighborIndex neighbors = new NeighborIndex(index);
+        Set<String> found = new TreeSet<>();
+
+        // Act
+        neighbors.forEachNeighbor("cat", (id, edit, added, removed) ->
+            found.add(index.word(id) + ":" + added + removed));
+
+        // Assert
+        assertTrue(found.contains("cart:r\0"));
+        assertTrue(found.contains("bat:bc"));
+        assertTrue(found.contains("at:\0c"));
+    }
+
+    @Test
+    @DisplayName("Não deve retornar anagramas exatos nem palavras a duas edições")
+    void shouldExcludeExactAnagramsAndDistantWords() {
+        // Arrange
+        SignatureIndex index = new SignatureIndex(WORDS);
+        NeighborIndex neighbors = new NeighborIndex(index);
+        Set<String> found = new TreeSet<>();
+
+        // Act
+        neighbors.forEachNeighbor("cat", (id, edit, added, removed) -> found.add(index.word(id)));
+
+        // Assert
+        assertFalse(found.contains("act"));
+        assertFalse(found.contains("trace"));
+        assertFalse(found.contains("a"));
+    }
+
+    @Test
+    @DisplayName("Deve reportar a memória ocupada pelo índice")
+    void shouldReportMemory() {
+        // Act
+        NeighborIndex neighbors = new NeighborIndex(new SignatureIndex(WORDS));
+
+        // Assert
+        assertTrue(neighbors.memoryBytes() > 0);
+    }
+
+    /**
+     * Classifica a distância entre as letras e a palavra por comparação de histogramas
+     */
+    private static LetterEdit bruteForceEdit(String letters, String word) {
+        int[] difference = LetterSignature.histogram(word);
+        int[] input = LetterSignature.histogram(letters);
+        int extra = 0;
+        int missing = 0;
+        for (int letter = 0; letter < difference.length; letter++) {
+            int delta = difference[letter] - input[letter];
+            if (delta > 0) {
+                extra += delta;
+            } else {
+                missing -= delta;
+            }
+        }
+        if (extra == 1 && missing == 0) {
+            return LetterEdit.ADDED;
+        }
+        if (extra == 1 && missing == 1) {
+            return LetterEdit.CHANGED;
+        }
+        if (extra == 0 && missing == 1) {
+            return LetterEdit.REMOVED;
+        }
+        return null;
+    }
+}
@@ -0,0 +1,185 @@
+package com.lucas.text_processing_api.util.dictionary;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.TreeSet;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Testes unitários para o dicionário sobreposto
+ * 
+ * @author Lucas
+ * @version 1.1
+ */
+class OverlayIndexTest {
+
+    private static final String[] BASE = {"act", "cat", "dog", "god", "tin"};
+
+    @Test
+    @DisplayName("Deve ocultar removidas e incluir acrescentadas sem alterar a base")
+    void shouldApplyAdditionsAndRemovals() {
+        // Arrange
+        SignatureIndex base = new SignatureIndex(BASE);
+
+        // Act
+        OverlayIndex overlay = new OverlayIndex(base, new String[] {"tac", "nit", "dog"}, new String[] {"cat", "xyz"});
+
+        // Assert
+        assertEquals(List.of("act", "tac"), overlay.anagramsOf("cat"));
+        assertEquals(List.of("tin", "nit"), overlay.anagramsOf("int"));
+        assertEquals(List.of("act", "cat"), base.anagramsOf("cat"));
+        assertEquals(1, overlay.removedCount());
+        assertEquals(2, overlay.addedCount());
+        assertEquals(6, overlay.activeWordCount());
+        assertFalse(overlay.isActive(1));
+        assertEquals("tac", overlay.word(5));
+    }
+
+    @Test
+    @DisplayName("Deve contar os grupos que sobram e os novos")
+    void shouldCountGroups() {
+        // Arrange
+        SignatureIndex base = new SignatureIndex(BASE);
+
+        // Act - "tin" esvazia seu grupo; "zoo" cria um grupo novo; "tac" entra em um existente
+        OverlayIndex overlay = new OverlayIndex(base, new String[] {"zoo", "tac"}, new String[] {"tin"});
+
+        // Assert
+        assertEquals(base.groupCount(), overlay.groupCount());
+        assertEquals(List.of(), overlay.anagramsOf("tin"));
+    }
+
+    @Test
+    @DisplayName("Deve priorizar a remoção quando a palavra também é acrescentada")
+    void shouldLetRemovalWin() {
+        // Act
+        OverlayIndex overlay = new OverlayIndex(new SignatureIndex(BASE), new String[] {"tac"}, new String[] {"tac"});
+
+        // Assert
+        assertEquals(List.of("act", "cat"), overlay.anagramsOf("tac"));
+        assertEquals(0, overlay.addedCount());
+    }
+
+    @Test
+    @DisplayName("Deve construir estruturas derivadas apenas com as palavras ativas")
+    void shouldBuildDerivedStructuresFromActiveWords() {
+        // Arrange
+        OverlayIndex overlay = new OverlayIndex(new SignatureIndex(BASE), new String[] {"at"}, new String[] {"cat"});
+        DictionaryTrie trie = new DictionaryTrie(overlay);
+        List<String> found = new ArrayList<>();
+
+        // Act
+        trie.forEachSubAnagram(LetterSignature.histogram("cat"), 1, id -> found.add(overlay.word(id)));
+
+        // Assert
+        assertEquals(List.of("act", "at"), found);
+        assertEquals(List.of("act"), new PatternIndex(overlay).match("?ct", null, 10).getWords());
+        assertEquals(List.of(), new PatternIndex(overlay).match("c??", null, 10).getWords());
+    }
+
+    @Test
+    @DisplayName("Deve separar a memória própria da memória da base")
+    void shouldReportOverlayMemorySeparately() {
+        // Arrange
+        SignatureIndex base = new SignatureIndex(BASE);
+
+        // Act
+        OverlayIndex overlay = new OverlayIndex(base, new String[] {"tac"}, new String[0]);
+
+        // Assert
+        assertTrue(overlay.overlayBytes() > 0);
+        assertEquals(base.memoryBytes() + overlay.overlayBytes(), overlay.memoryBytes());
+        assertSame(base, overlay.base());
+    }
+
+    @Test
+    @DisplayName("Deve compartilhar as estruturas da base e responder como as construídas do zero")
+    void shouldShareBaseStructures() {
+        // Arrange - alfabeto pequeno para ter muitos anagramas e vizinhos
+        Random random = new Random(7);
+        Set<String> words = new LinkedHashSet<>();
+        while (words.size() < 400) {
+            words.add(randomWord(random));
+        }
+        String[] baseWords = words.toArray(new String[0]);
+        List<String> removed = new ArrayList<>();
+        for (int i = 0; i < baseWords.length; i += 7) {
+            removed.add(baseWords[i]);
+        }
+        List<String> added = new ArrayList<>();
+        while (added.size() < 60) {
+            added.add(randomWord(random) + "s");
+        }
+        SignatureIndex base = new SignatureIndex(baseWords);
+        DictionarySnapshot baseSnapshot = new DictionarySnapshot(base, 1);
+        OverlayIndex overlay = new OverlayIndex(base, added.toArray(new String[0]), removed.toArray(new String[0]));
+
+        // Act
+        DictionarySnapshot shared = new DictionarySnapshot(overlay, 2, baseSnapshot);
+        DictionarySnapshot scratch = new DictionarySnapshot(overlay, 2);
+
+        // Assert
+        int[] values = RackScorer.defaultLetterValues();
+        for (int round = 0; round < 40; round++) {
+            String letters = randomWord(random) + "s";
+            int[] counts = LetterSignature.histogram(letters);
+            String pattern = letters.charAt(0) + "?".repeat(letters.length() - 1);
+
+            assertEquals(subAnagrams(scratch, counts), subAnagrams(shared, counts));
+            assertEquals(neighbors(scratch, letters), neighbors(shared, letters));
+            assertEquals(new TreeSet<>(scratch.patterns().match(pattern, null, 1000).getWords()),
+                new TreeSet<>(shared.patterns().match(pattern, null, 1000).getWords()));
+            assertEquals(scratch.patterns().match(pattern, counts, 3).getTotalMatches(),
+                shared.patterns().match(pattern, counts, 3).getTotalMatches());
+            assertEquals(fuzzy(scratch, letters), fuzzy(shared, letters));
+            assertArrayEquals(new PrefixCompleter(scratch.trie()).complete(letters.substring(0, 1), counts, 5),
+                new PrefixCompleter(shared.trie()).complete(letters.substring(0, 1), counts, 5));
+            assertEquals(scores(new RackScorer(scratch.trie(), values), counts),
+                scores(new RackScorer(shared.trie(), values), counts));
+        }
+        assertTrue(shared.derivedBytes() * 4 < scratch.derivedBytes(),
+            "a sobreposição deveria guardar só as estruturas das acrescentadas");
+    }
+
+    private static String randomWord(Random random) {
+        char[] letters = new char[2 + random.nextInt(5)];
+        for (int i = 0; i < letters.length; i++) {
+            letters[i] = "abcdeot".charAt(random.nextInt(7));
+        }
+        return new String(letters);
+    }
+
+    private static Set<String> subAnagrams(DictionarySnapshot snapshot, int[] counts) {
+        Set<String> found = new TreeSet<>();
+        snapshot.trie().forEachSubAnagram(counts.clone(), 1, id -> found.add(snapshot.index().word(id)));
+        return found;
+    }
+
+    private static Set<String> neighbors(DictionarySnapshot snapshot, String letters) {
+        Set<String> found = new TreeSet<>();
+        snapshot.neighbors().forEachNeighbor(letters, (id, edit, added, removed) ->
+            assertTrue(found.add(snapshot.index().word(id) + " " + edit + " " + added + removed)));
+        return found;
+    }
+
+    private static Set<String> fuzzy(DictionarySnapshot snapshot, String letters) {
+        Set<String> found = new TreeSet<>();
+        snapshot.fuzzy().forEachMatch(letters, 2, (id, distance) -> found.add(id + ":" + distance));
+        return found;
+    }
+
+    private static Set<String> scores(RackScorer scorer, int[] counts) {
+        Set<String> found = new TreeSet<>();
+        for (RackScorer.Match match : scorer.topWords(counts, 1, 2, 10, null, 1000)) {
+            found.add(match.getWordId() + ":" + match.getScore());
+        }
+        return found;
+    }
+}
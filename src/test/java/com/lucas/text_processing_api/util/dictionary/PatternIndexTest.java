@@ -0,0 +1,115 @@
+package com.lucas.text_processing_api.util.dictionary;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Testes unitários para o índice posicional de padrões
+ * 
+ * @author Lucas
+ * @version 1.0
+ */
+class PatternIndexTest {
+
+    @Test
+    @DisplayName("Deve encontrar as mesmas palavras que uma expressão regular")
+    void shouldMatchRegexScan() {
+        // Arrange - mais de 64 palavras por comprimento para cobrir vários blocos
+        String[] words = randomWords(new Random(36), 600);
+        SignatureIndex index = new SignatureIndex(words);
+        PatternIndex patterns = new PatternIndex(index);
+        Random random = new Random(7);
+
+        for (int round = 0; round < 200; round++) {
+            String pattern = randomPattern(random);
+
+            // Act
+            PatternIndex.Result result = patterns.match(pattern, null, Integer.MAX_VALUE);
+
+            // Assert
+            List<String> expected = new ArrayList<>();
+            for (int id = 0; id < index.wordCount(); id++) {
+                if (index.word(id).matches(pattern.replace('?', '.'))) {
+                    expected.add(index.word(id));
+                }
+            }
+            assertEquals(expected, result.getWords(), "padrão: " + pattern);
+            assertEquals(expected.size(), result.getTotalMatches());
+        }
+    }
+
+    @Test
+    @DisplayName("Deve restringir as posições livres às letras disponíveis, com repetições")
+    void shouldFilterFreePositionsByAvailableLetters() {
+        // Arrange
+        SignatureIndex index = new SignatureIndex(new String[] {"cat", "cot", "cut", "coo", "zoo", "tot"});
+        PatternIndex patterns = new PatternIndex(index);
+
+        // Act
+        PatternIndex.Result single = patterns.match("c??", LetterSignature.histogram("ota"), 10);
+        PatternIndex.Result doubled = patterns.match("?oo", LetterSignature.histogram("zc"), 10);
+        PatternIndex.Result repeated = patterns.match("???", LetterSignature.histogram("oot"), 10);
+
+        // Assert - a letra fixa 'c' não consome as letras disponíveis
+        assertEquals(List.of("cat", "cot"), single.getWords());
+        assertEquals(List.of("coo", "zoo"), doubled.getWords());
+        assertEquals(List.of(), repeated.getWords());
+    }
+
+    @Test
+    @DisplayName("Deve aplicar o limite sem perder o total de correspondências")
+    void shouldLimitWordsAndKeepTotal() {
+        // Arrange
+        PatternIndex patterns = new PatternIndex(new SignatureIndex(new String[] {"cat", "cot", "cut", "dog"}));
+
+        // Act
+        PatternIndex.Result result = patterns.match("c?t", null, 2);
+
+        // Assert
+        assertEquals(List.of("cat", "cot"), result.getWords());
+        assertEquals(3, result.getTotalMatches());
+    }
+
+    @Test
+    @DisplayName("Deve retornar vazio para comprimentos e letras ausentes")
+    void shouldReturnEmptyForMissingLengthOrLetter() {
+        // Arrange
+        PatternIndex patterns = new PatternIndex(new SignatureIndex(new String[] {"cat", "dog"}));
+
+        // Act & Assert
+        assertEquals(0, patterns.match("??????????", null, 10).getTotalMatches());
+        assertEquals(0, patterns.match("x??", null, 10).getTotalMatches());
+        assertEquals(2, patterns.match("???", null, 10).getTotalMatches());
+        assertTrue(patterns.memoryBytes() > 0);
+    }
+
+    private static String[] randomWords(Random random, int count) {
+        Set<String> words = new LinkedHashSet<>();
+        while (words.size() < count) {
+            int length = 3 + random.nextInt(3);
+            StringBuilder word = new StringBuilder();
+            for (int i = 0; i < length; i++) {
+                word.append("aeiostnrc".charAt(random.nextInt(9)));
+            }
+            words.add(word.toString());
+        }
+        return words.toArray(new String[0]);
+    }
+
+    private static String randomPattern(Random random) {
+        int length = 2 + random.nextInt(5);
+        StringBuilder pattern = new StringBuilder();
+        for (int i = 0; i < length; i++) {
+            pattern.append(random.nextInt(3) == 0 ? "aeiostnrcx".charAt(random.nextInt(10)) : '?');
+        }
+        return pattern.toString();
+    }
+}
@@ -0,0 +1,151 @@
+package com.lucas.text_processing_api.util.dictionary;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Testes unitários para o resolvedor de frases
+ * 
+ * @author Lucas
+ * @version 1.0
+ */
+class PhraseSolverTest {
+
+    private static final String[] WORDS = {
+        "dirty", "room", "moor", "dormitory", "dirt", "yo", "or", "rot", "tory", "mid", "dim",
+        "i", "a", "aa", "no", "on", "not", "ton", "to", "ot", "my", "rim", "dry", "toy", "oo"
+    };
+
+    private ForkJoinPool pool;
+    private PhraseSolver solver;
+
+    @BeforeEach
+    void setUp() {
+        SignatureIndex index = new SignatureIndex(WORDS);
+        pool = new ForkJoinPool(4);
+        solver = new PhraseSolver(index, new DictionaryTrie(index), pool);
+    }
+
+    @AfterEach
+    void tearDown() {
+        pool.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("Deve decompor as letras em frases do dicionário")
+    void shouldFindPhrases() {
+        // Act
+        PhraseSolver.Result result = solver.solve("dormitory", 2, 100, farDeadline());
+
+        // Assert
+        assertTrue(result.getPhrases().contains("dormitory"));
+        assertTrue(result.getPhrases().contains("dirty moor") || result.getPhrases().contains("moor dirty"));
+        assertTrue(result.getPhrases().contains("dirty room") || result.getPhrases().contains("room dirty"));
+        assertFalse(result.isTruncated());
+    }
+
+    @Test
+    @DisplayName("Deve encontrar exatamente as mesmas combinações que a força bruta, sem repetir ordens")
+    void shouldMatchBruteForceWithoutReorderings() {
+        for (String letters : new String[] {"dormitory", "notion", "aaaa", "tonto"}) {
+            for (int maxWords = 1; maxWords <= 4; maxWords++) {
+                // Act
+                List<String> phrases = solver.solve(letters, maxWords, 100000, farDeadline()).getPhrases();
+
+                // Assert
+                Set<List<String>> found = new HashSet<>();
+                for (String phrase : phrases) {
+                    List<String> words = new ArrayList<>(Arrays.asList(phrase.split(" ")));
+                    words.sort(null);
+                    assertTrue(found.add(words), "frase repetida: " + phrase);
+                }
+                assertEquals(bruteForce(letters, maxWords), found, letters + " / " + maxWords);
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Deve respeitar o limite de frases e indicar o corte")
+    void shouldRespectLimit() {
+        // Act
+        PhraseSolver.Result result = solver.solve("dormitory", 4, 3, farDeadline());
+
+        // Assert
+        assertEquals(3, result.getPhrases().size());
+        assertTrue(result.isTruncated());
+    }
+
+    @Test
+    @DisplayName("Deve produzir o mesmo resultado em execuções repetidas")
+    void shouldBeDeterministic() {
+        List<String> first = solver.solve("dormitory", 3, 5, farDeadline()).getPhrases();
+        for (int i = 0; i < 5; i++) {
+            assertEquals(first, solver.solve("dormitory", 3, 5, farDeadline()).getPhrases());
+        }
+    }
+
+    @Test
+    @DisplayName("Deve interromper a busca quando o prazo já expirou")
+    void shouldStopAtDeadline() {
+        // Act
+        PhraseSolver.Result result = solver.solve("dormitory", 3, 100, System.nanoTime() - 1);
+
+        // Assert
+        assertTrue(result.isTruncated());
+        assertTrue(result.getPhrases().isEmpty());
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar entradas longas demais")
+    void shouldRejectTooManyLetters() {
+        assertThrows(IllegalArgumentException.class,
+            () -> solver.solve("a".repeat(PhraseSolver.MAX_LETTERS + 1), 3, 10, farDeadline()));
+    }
+
+    private static long farDeadline() {
+        return System.nanoTime() + 60_000_000_000L;
+    }
+
+    private static Set<List<String>> bruteForce(String letters, int maxWords) {
+        Set<List<String>> result = new HashSet<>();
+        collect(LetterSignature.histogram(letters), letters.length(), 0, maxWords, new ArrayList<>(), result);
+        return result;
+    }
+
+    private static void collect(int[] remaining, int length, int start, int wordsLeft,
+                                List<String> chosen, Set<List<String>> result) {
+        if (length == 0) {
+            List<String> words = new ArrayList<>(chosen);
+            words.sort(null);
+            result.add(words);
+            return;
+        }
+        if (wordsLeft == 0) {
+            return;
+        }
+        for (int i = start; i < WORDS.length; i++) {
+            String word = WORDS[i];
+            int[] next = remaining.clone();
+            boolean fits = true;
+            for (char c : word.toCharArray()) {
+                fits &= --next[c - 'a'] >= 0;
+            }
+            if (fits) {
+                chosen.add(word);
+                collect(next, length - word.length(), i, wordsLeft - 1, chosen, result);
+                chosen.remove(chosen.size() - 1);
+            }
+        }
+    }
+}
@@ -0,0 +1,113 @@
+package com.lucas.text_processing_api.util.dictionary;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Testes unitários para o autocompletar restrito às letras disponíveis
+ * 
+ * @author Lucas
+ * @version 1.0
+ */
+class PrefixCompleterTest {
+
+    /** Em ordem de frequência: o índice é o id */
+    private static final String[] WORDS = {
+        "the", "that", "this", "to", "tea", "team", "then", "there", "at", "ate", "eat",
+        "heat", "hat", "tat", "test", "set", "sea", "seat", "teeth", "stet", "these", "a"
+    };
+
+    private static final String[] PREFIXES = {"", "t", "th", "te", "s", "he", "x"};
+
+    @Test
+    @DisplayName("Deve retornar as mesmas sugestões que a força bruta")
+    void shouldMatchBruteForce() {
+        // Arrange
+        SignatureIndex index = new SignatureIndex(WORDS);
+        PrefixCompleter completer = new PrefixCompleter(new DictionaryTrie(index));
+        Random random = new Random(38);
+
+        for (int round = 0; round < 300; round++) {
+            StringBuilder letters = new StringBuilder();
+            int size = 1 + random.nextInt(7);
+            for (int i = 0; i < size; i++) {
+                letters.append("aehst".charAt(random.nextInt(5)));
+            }
+            String prefix = PREFIXES[random.nextInt(PREFIXES.length)];
+            int limit = 1 + random.nextInt(5);
+            int[] counts = LetterSignature.histogram(letters.toString());
+
+            // Act
+            int[] found = completer.complete(prefix, counts, limit);
+
+            // Assert
+            assertEquals(bruteForce(letters.toString(), prefix, limit), describe(index, found),
+                "letras: " + letters + ", prefixo: " + prefix);
+            assertArrayEquals(LetterSignature.histogram(letters.toString()), counts);
+        }
+    }
+
+    @Test
+    @DisplayName("Deve ordenar pela frequência e incluir o próprio prefixo")
+    void shouldRankByFrequency() {
+        // Arrange
+        SignatureIndex index = new SignatureIndex(WORDS);
+        PrefixCompleter completer = new PrefixCompleter(new DictionaryTrie(index));
+
+        // Act
+        int[] found = completer.complete("the", LetterSignature.histogram("therese"), 3);
+
+        // Assert
+        assertEquals(List.of("the", "there", "these"), describe(index, found));
+    }
+
+    @Test
+    @DisplayName("Deve retornar vazio quando o prefixo não cabe nas letras")
+    void shouldRejectPrefixOutsideLetters() {
+        // Arrange
+        PrefixCompleter completer = new PrefixCompleter(new DictionaryTrie(new SignatureIndex(WORDS)));
+        int[] counts = LetterSignature.histogram("tea");
+
+        // Act
+        int[] found = completer.complete("tt", counts, 5);
+
+        // Assert
+        assertEquals(0, found.length);
+        assertArrayEquals(LetterSignature.histogram("tea"), counts);
+    }
+
+    private static List<String> bruteForce(String letters, String prefix, int limit) {
+        List<String> result = new ArrayList<>();
+        int[] available = LetterSignature.histogram(letters);
+        for (String word : WORDS) {
+            if (result.size() < limit && word.startsWith(prefix) && fits(word, available)) {
+                result.add(word);
+            }
+        }
+        return result;
+    }
+
+    private static boolean fits(String word, int[] available) {
+        int[] needed = LetterSignature.histogram(word);
+        for (int i = 0; i < needed.length; i++) {
+            if (needed[i] > available[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static List<String> describe(SignatureIndex index, int[] ids) {
+        List<String> words = new ArrayList<>();
+        for (int id : ids) {
+            words.add(index.word(id));
+        }
+        return words;
+    }
+}
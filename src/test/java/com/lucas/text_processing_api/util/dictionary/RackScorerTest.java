@@ -0,0 +1,175 @@
+package com.lucas.text_processing_api.util.dictionary;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Testes unitários para a busca por pontuação com curingas
+ * 
+ * @author Lucas
+ * @version 1.0
+ */
+class RackScorerTest {
+
+    private static final String[] WORDS = {
+        "quiz", "quit", "quip", "suit", "zit", "zip", "tip", "pit", "it", "at", "a", "jazz",
+        "jab", "tab", "bat", "stab", "taps", "pats", "spat", "past", "ax", "tax", "zap", "quartz"
+    };
+
+    @Test
+    @DisplayName("Deve retornar os mesmos K melhores que a força bruta")
+    void shouldMatchBruteForce() {
+        // Arrange
+        SignatureIndex index = new SignatureIndex(WORDS);
+        RackScorer scorer = new RackScorer(new DictionaryTrie(index), RackScorer.defaultLetterValues());
+        Random random = new Random(35);
+
+        for (int round = 0; round < 300; round++) {
+            StringBuilder rack = new StringBuilder();
+            int size = 1 + random.nextInt(7);
+            for (int i = 0; i < size; i++) {
+                rack.append(random.nextInt(5) == 0 ? '?' : "aeiupqstzbjx".charAt(random.nextInt(12)));
+            }
+            int limit = 1 + random.nextInt(5);
+            int minLength = 1 + random.nextInt(3);
+            int maxLength = minLength + random.nextInt(4);
+
+            // Act
+            List<String> found = describe(index, scorer.topWords(histogram(rack), blanks(rack),
+                minLength, maxLength, null, limit));
+
+            // Assert
+            assertEquals(bruteForce(rack.toString(), minLength, maxLength, null, limit), found,
+                "peças: " + rack + ", comprimento " + minLength + "-" + maxLength);
+        }
+    }
+
+    @Test
+    @DisplayName("Deve valer zero para as letras preenchidas por curingas")
+    void shouldScoreBlanksAsZero() {
+        // Arrange
+        SignatureIndex index = new SignatureIndex(WORDS);
+        RackScorer scorer = new RackScorer(new DictionaryTrie(index), RackScorer.defaultLetterValues());
+
+        // Act - "quip" e "quiz" usam o curinga na última letra: 10 + 1 + 1 = 12; "quit" = 13
+        List<String> found = describe(index, scorer.topWords(histogram("quit?"), 1, 4, 4, null, 3));
+
+        // Assert - empate resolvido pela ordem lexicográfica
+        assertEquals(List.of("quit:13", "quip:12", "quiz:12"), found);
+    }
+
+    @Test
+    @DisplayName("Deve respeitar o padrão de letras fixas e livres")
+    void shouldApplyPattern() {
+        // Arrange
+        SignatureIndex index = new SignatureIndex(WORDS);
+        RackScorer scorer = new RackScorer(new DictionaryTrie(index), RackScorer.defaultLetterValues());
+        String rack = "pastbz??";
+
+        // Act
+        List<String> found = describe(index, scorer.topWords(histogram(rack), 2, 1, 64, "?a??", 10));
+
+        // Assert
+        assertEquals(bruteForce(rack, 1, 64, "?a??", 10), found);
+        assertTrue(found.stream().allMatch(entry -> entry.charAt(1) == 'a' && entry.indexOf(':') == 4));
+    }
+
+    @Test
+    @DisplayName("Deve aplicar valores de letras configurados e restaurar o histograma")
+    void shouldApplyCustomValuesAndRestoreCounts() {
+        // Arrange
+        SignatureIndex index = new SignatureIndex(WORDS);
+        int[] values = RackScorer.parseLetterValues("a=50, T=0", RackScorer.defaultLetterValues());
+        RackScorer scorer = new RackScorer(new DictionaryTrie(index), values);
+        int[] counts = histogram("tab");
+        int[] original = counts.clone();
+
+        // Act
+        List<String> found = describe(index, scorer.topWords(counts, 0, 1, 64, null, 1));
+
+        // Assert
+        assertEquals(List.of("bat:53"), found);
+        assertArrayEquals(original, counts);
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar valores de letras inválidos")
+    void shouldRejectInvalidLetterValues() {
+        // Act & Assert
+        int[] base = RackScorer.defaultLetterValues();
+        assertThrows(IllegalArgumentException.class, () -> RackScorer.parseLetterValues("ab=1", base));
+        assertThrows(IllegalArgumentException.class, () -> RackScorer.parseLetterValues("a=x", base));
+        assertThrows(IllegalArgumentException.class, () -> RackScorer.parseLetterValues("a=-1", base));
+    }
+
+    private static List<String> describe(SignatureIndex index, List<RackScorer.Match> matches) {
+        List<String> result = new ArrayList<>();
+        for (RackScorer.Match match : matches) {
+            result.add(index.word(match.getWordId()) + ":" + match.getScore());
+        }
+        return result;
+    }
+
+    private static List<String> bruteForce(String rack, int minLength, int maxLength, String pattern, int limit) {
+        int[] values = RackScorer.defaultLetterValues();
+        List<String[]> scored = new ArrayList<>();
+        for (String word : WORDS) {
+            if (word.length() < minLength || word.length() > maxLength
+                || (pattern != null && !word.matches(pattern.replace('?', '.')))) {
+                continue;
+            }
+            int[] remaining = histogram(rack);
+            int blanks = blanks(rack);
+            int score = 0;
+            boolean fits = true;
+            for (char c : word.toCharArray()) {
+                if (remaining[c - 'a'] > 0) {
+                    remaining[c - 'a']--;
+                    score += values[c - 'a'];
+                } else if (blanks > 0) {
+                    blanks--;
+                } else {
+                    fits = false;
+                }
+            }
+            if (fits) {
+                scored.add(new String[] {word, String.valueOf(score)});
+            }
+        }
+        scored.sort(Comparator.<String[]>comparingInt(entry -> -Integer.parseInt(entry[1]))
+            .thenComparing(entry -> entry[0]));
+
+        List<String> result = new ArrayList<>();
+        for (int i = 0; i < scored.size() && i < limit; i++) {
+            result.add(scored.get(i)[0] + ":" + scored.get(i)[1]);
+        }
+        return result;
+    }
+
+    private static int[] histogram(CharSequence rack) {
+        int[] counts = new int[LetterSignature.ALPHABET_SIZE];
+        for (int i = 0; i < rack.length(); i++) {
+            if (rack.charAt(i) != RackScorer.BLANK) {
+                counts[rack.charAt(i) - 'a']++;
+            }
+        }
+        return counts;
+    }
+
+    private static int blanks(CharSequence rack) {
+        int blanks = 0;
+        for (int i = 0; i < rack.length(); i++) {
+            if (rack.charAt(i) == RackScorer.BLANK) {
+                blanks++;
+            }
+        }
+        return blanks;
+    }
+}
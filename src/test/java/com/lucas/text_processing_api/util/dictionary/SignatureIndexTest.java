@@ -0,0 +1,97 @@
+package com.lucas.text_processing_api.util.dictionary;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Testes unitários para o índice de assinaturas do dicionário
+ * 
+ * @author Lucas
+ * @version 1.0
+ */
+class SignatureIndexTest {
+
+    private static final String[] WORDS = {
+        "listen", "evil", "silent", "vile", "enlist", "dog", "god", "live", "tinsel", "good"
+    };
+
+    @Test
+    @DisplayName("Deve encontrar todas as palavras com as mesmas letras na ordem do dicionário")
+    void shouldFindAnagramsInDictionaryOrder() {
+        // Arrange
+        SignatureIndex index = new SignatureIndex(WORDS);
+
+        // Act & Assert
+        assertEquals(List.of("listen", "silent", "enlist", "tinsel"), index.anagramsOf("inlets"));
+        assertEquals(List.of("evil", "vile", "live"), index.anagramsOf("veil"));
+        assertEquals(List.of("dog", "god"), index.anagramsOf("odg"));
+        assertEquals(10, index.wordCount());
+    }
+
+    @Test
+    @DisplayName("Deve agrupar palavras por composição de letras")
+    void shouldGroupWordsBySignature() {
+        // Arrange
+        SignatureIndex index = new SignatureIndex(WORDS);
+
+        // Assert - listen, evil, dog, good
+        assertEquals(4, index.groupCount());
+        assertTrue(index.memoryBytes() > 0);
+    }
+
+    @Test
+    @DisplayName("Deve diferenciar palavras com as mesmas letras em quantidades diferentes")
+    void shouldNotMatchDifferentLetterCounts() {
+        // Arrange
+        SignatureIndex index = new SignatureIndex(WORDS);
+
+        // Act & Assert
+        assertTrue(index.anagramsOf("godd").isEmpty());
+        assertEquals(List.of("good"), index.anagramsOf("doog"));
+        assertTrue(index.anagramsOf("xyz").isEmpty());
+    }
+
+    @Test
+    @DisplayName("Deve verificar a composição exata do candidato")
+    void shouldVerifyExactComposition() {
+        // Arrange
+        int[] counts = LetterSignature.histogram("aab");
+
+        // Act & Assert
+        assertTrue(LetterSignature.sameLetters("aba", counts, 3));
+        assertFalse(LetterSignature.sameLetters("abb", counts, 3));
+        assertFalse(LetterSignature.sameLetters("aabb", counts, 3));
+        assertEquals(LetterSignature.of("aab"), LetterSignature.of(counts));
+    }
+
+    @Test
+    @DisplayName("Deve normalizar, ignorar comentários e remover repetições ao ler a lista")
+    void shouldNormalizeWordList() throws IOException {
+        // Arrange
+        String content = "# comentário\nCoração\n\nlisten\nLISTEN\nit's\nsilent\n";
+
+        // Act
+        String[] words = WordListReader.read(new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8)));
+
+        // Assert
+        assertArrayEquals(new String[] {"coracao", "listen", "silent"}, words);
+    }
+
+    @Test
+    @DisplayName("Deve funcionar com dicionário vazio")
+    void shouldHandleEmptyDictionary() {
+        // Arrange
+        SignatureIndex index = new SignatureIndex(new String[0]);
+
+        // Act & Assert
+        assertEquals(0, index.groupCount());
+        assertTrue(index.anagramsOf("abc").isEmpty());
+    }
+}
@@ -0,0 +1,122 @@
+package com.lucas.text_processing_api.util.search;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Testes unitários para as assinaturas MinHash e o índice LSH
+ * 
+ * @author Lucas
+ * @version 1.0
+ */
+class MinHasherTest {
+
+    private final MinHasher hasher = new MinHasher(128, 3, 45);
+
+    @Test
+    @DisplayName("Deve estimar a similaridade de Jaccard dos shingles de palavras")
+    void shouldEstimateJaccardSimilarity() {
+        // Arrange - 100 palavras, as últimas 10 trocadas: 88 shingles comuns de 108 distintos
+        Random random = new Random(45);
+        List<String> words = randomWords(random, 100);
+        List<String> changed = new ArrayList<>(words.subList(0, 90));
+        changed.addAll(randomWords(random, 10));
+
+        // Act
+        long[] original = hasher.signature(bytes(String.join(" ", words)));
+        long[] edited = hasher.signature(bytes(String.join(" ", changed)));
+
+        // Assert
+        double expected = jaccard(shingles(words), shingles(changed));
+        assertEquals(expected, MinHasher.similarity(original, edited), 0.12);
+        assertArrayEquals(original, hasher.signature(bytes(String.join(", ", words).toUpperCase())));
+    }
+
+    @Test
+    @DisplayName("Deve calcular em paralelo as mesmas assinaturas do cálculo sequencial")
+    void shouldComputeSignaturesInParallel() {
+        // Arrange
+        Random random = new Random(7);
+        List<byte[]> texts = new ArrayList<>();
+        for (int i = 0; i < 50; i++) {
+            texts.add(bytes(String.join(" ", randomWords(random, 1 + random.nextInt(40)))));
+        }
+        texts.add(bytes(" ... 123 "));
+
+        // Act
+        long[][] signatures = hasher.signatures(texts, ForkJoinPool.commonPool());
+
+        // Assert
+        for (int i = 0; i < 50; i++) {
+            assertArrayEquals(hasher.signature(texts.get(i)), signatures[i]);
+        }
+        assertNull(signatures[50]);
+    }
+
+    @Test
+    @DisplayName("Deve apontar como candidatos os textos parecidos e não os diferentes")
+    void shouldFindCandidatesSharingBands() {
+        // Arrange
+        Random random = new Random(3);
+        LshIndex index = new LshIndex(32, 4);
+        List<List<String>> texts = new ArrayList<>();
+        for (int i = 0; i < 200; i++) {
+            List<String> words = randomWords(random, 80);
+            texts.add(words);
+            index.add(hasher.signature(bytes(String.join(" ", words))));
+        }
+        List<String> nearCopy = new ArrayList<>(texts.get(42));
+        nearCopy.set(40, "alterada");
+
+        // Act
+        int[] candidates = index.candidates(hasher.signature(bytes(String.join(" ", nearCopy))));
+
+        // Assert
+        assertEquals(1, candidates.length);
+        assertEquals(42, candidates[0]);
+        assertEquals(200, index.size());
+        assertThrows(IllegalArgumentException.class, () -> index.candidates(new long[10]));
+    }
+
+    private static List<String> randomWords(Random random, int count) {
+        List<String> words = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            StringBuilder word = new StringBuilder();
+            for (int length = 3 + random.nextInt(6); length > 0; length--) {
+                word.append((char) ('a' + random.nextInt(26)));
+            }
+            words.add(word.toString());
+        }
+        return words;
+    }
+
+    private static Set<String> shingles(List<String> words) {
+        Set<String> shingles = new HashSet<>();
+        for (int i = 0; i + 3 <= words.size(); i++) {
+            shingles.add(String.join(" ", words.subList(i, i + 3)));
+        }
+        return shingles;
+    }
+
+    private static double jaccard(Set<String> left, Set<String> right) {
+        Set<String> union = new HashSet<>(left);
+        union.addAll(right);
+        Set<String> intersection = new HashSet<>(left);
+        intersection.retainAll(right);
+        return (double) intersection.size() / union.size();
+    }
+
+    private static byte[] bytes(String text) {
+        return text.getBytes(StandardCharsets.UTF_8);
+    }
+}
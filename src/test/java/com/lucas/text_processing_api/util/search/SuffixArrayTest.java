@@ -0,0 +1,117 @@
+package com.lucas.text_processing_api.util.search;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Random;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Testes unitários para o array de sufixos com LCP
+ * 
+ * @author Lucas
+ * @version 1.0
+ */
+class SuffixArrayTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    @DisplayName("Deve ordenar os sufixos e calcular o LCP igual à ordenação direta")
+    void shouldMatchNaiveSuffixSort() {
+        // Arrange - alfabetos pequenos geram muitos LMS repetidos e recursão
+        Random random = new Random(11);
+        for (int round = 0; round < 200; round++) {
+            byte[] text = new byte[1 + random.nextInt(round < 50 ? 8 : 300)];
+            int alphabet = 1 + round % 4;
+            for (int i = 0; i < text.length; i++) {
+                text[i] = (byte) ('a' + random.nextInt(alphabet));
+            }
+
+            // Act
+            SuffixArray array = SuffixArray.build(text);
+
+            // Assert
+            Integer[] expected = naiveSuffixes(text);
+            int longest = 0;
+            for (int rank = 0; rank < text.length; rank++) {
+                assertEquals(expected[rank], array.suffix(rank), "posição " + rank);
+                int lcp = rank + 1 < text.length ? commonPrefix(text, expected[rank], expected[rank + 1]) : 0;
+                assertEquals(lcp, array.lcp(rank));
+                longest = Math.max(longest, lcp);
+            }
+            assertEquals(longest, array.longestRepeatLength());
+        }
+    }
+
+    @Test
+    @DisplayName("Deve contar ocorrências sobrepostas sem diferenciar maiúsculas")
+    void shouldCountOccurrences() {
+        // Arrange
+        String text = "Banana bandana, BANANA!";
+        SuffixArray array = SuffixArray.build(text.getBytes(StandardCharsets.UTF_8));
+
+        // Act & Assert
+        assertEquals(5, array.count(bytes("ana")));
+        assertEquals(6, array.count(bytes("AN")));
+        assertEquals(2, array.count(bytes("banana")));
+        assertEquals(0, array.count(bytes("bananas")));
+        assertEquals(0, array.count(bytes("zebra")));
+        assertArrayEquals(new int[] {0, 16}, array.offsets(bytes("banana"), 10));
+        assertEquals(2, array.offsets(bytes("an"), 2).length);
+        assertEquals("banana", new String(array.bytes(array.longestRepeatOffset(), array.longestRepeatLength()),
+            StandardCharsets.UTF_8));
+    }
+
+    @Test
+    @DisplayName("Deve responder igual depois de gravado e mapeado de um arquivo")
+    void shouldRoundTripThroughMappedFile() throws IOException {
+        // Arrange
+        byte[] text = "to be or not to be, that is the question".getBytes(StandardCharsets.UTF_8);
+        SuffixArray built = SuffixArray.build(text);
+        Path file = tempDir.resolve("0.sa");
+
+        // Act
+        built.save(file);
+        SuffixArray loaded = SuffixArray.load(file);
+
+        // Assert
+        assertEquals(built.length(), loaded.length());
+        for (int rank = 0; rank < text.length; rank++) {
+            assertEquals(built.suffix(rank), loaded.suffix(rank));
+            assertEquals(built.lcp(rank), loaded.lcp(rank));
+        }
+        assertEquals(2, loaded.count(bytes("to be")));
+        assertEquals("to be", new String(loaded.bytes(loaded.longestRepeatOffset(), loaded.longestRepeatLength()),
+            StandardCharsets.UTF_8));
+        assertEquals(built.memoryBytes(), loaded.memoryBytes());
+    }
+
+    private static byte[] bytes(String text) {
+        return text.getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static Integer[] naiveSuffixes(byte[] text) {
+        Integer[] suffixes = new Integer[text.length];
+        for (int i = 0; i < text.length; i++) {
+            suffixes[i] = i;
+        }
+        Arrays.sort(suffixes, (a, b) -> Arrays.compareUnsigned(text, a, text.length, text, b, text.length));
+        return suffixes;
+    }
+
+    private static int commonPrefix(byte[] text, int a, int b) {
+        int k = 0;
+        while (a + k < text.length && b + k < text.length && text[a + k] == text[b + k]) {
+            k++;
+        }
+        return k;
+    }
+}
@@ -0,0 +1,215 @@
+package com.lucas.text_processing_api.util.search;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.lucas.text_processing_api.util.collection.IntArrayList;
+
+/**
+ * Testes unitários para o índice de trigramas e as listas comprimidas
+ * 
+ * @author Lucas
+ * @version 1.2
+ */
+class TrigramIndexTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    @DisplayName("Deve codificar e decodificar identificadores com lacunas grandes")
+    void shouldRoundTripPostingList() {
+        // Arrange
+        int[] docs = {0, 1, 2, 130, 20_000, 20_001, 5_000_000, Integer.MAX_VALUE - 1};
+        PostingList posting = new PostingList();
+        for (int doc : docs) {
+            posting.add(doc);
+            posting.add(doc);
+        }
+
+        // Act
+        IntArrayList decoded = new IntArrayList();
+        PostingList.decode(ByteBuffer.wrap(posting.data()), 0, posting.length(), -1, decoded);
+
+        // Assert
+        assertArrayEquals(docs, decoded.toArray());
+        assertEquals(docs.length, posting.size());
+        assertThrows(IllegalArgumentException.class, () -> posting.add(3));
+    }
+
+    @Test
+    @DisplayName("Deve apontar como candidatos todos os documentos que contêm a substring")
+    void shouldReturnSupersetOfMatchingDocuments() {
+        // Arrange
+        Random random = new Random(44);
+        List<byte[]> documents = new ArrayList<>();
+        TrigramIndex index = new TrigramIndex();
+        for (int id = 0; id < 300; id++) {
+            byte[] content = randomText(random, 200);
+            documents.add(content);
+            index.add(id, content);
+        }
+
+        // Act & Assert
+        for (int q = 0; q < 200; q++) {
+            byte[] query = randomText(random, 3 + random.nextInt(4));
+            int[] candidates = index.candidates(query);
+            assertEquals(matching(documents, query), verified(documents, candidates, query));
+        }
+        assertNull(index.candidates("ab".getBytes(StandardCharsets.UTF_8)));
+    }
+
+    @Test
+    @DisplayName("Deve gravar, mapear e continuar indexando depois de reabrir")
+    void shouldPersistOpenAndIndexIncrementally() throws IOException {
+        // Arrange
+        TrigramIndex index = new TrigramIndex();
+        index.add(0, bytes("The quick brown fox"));
+        index.add(1, bytes("jumps over the lazy dog"));
+
+        // Act
+        index.persist(tempDir);
+        TrigramIndex reopened = TrigramIndex.open(tempDir);
+        reopened.add(2, bytes("A QUICK reply"));
+        reopened.add(3, bytes("nothing here"));
+
+        // Assert
+        assertEquals(4, reopened.documentCount());
+        assertArrayEquals(new int[] {0, 2}, reopened.candidates(bytes("quick")));
+        assertArrayEquals(new int[] {0, 1}, reopened.candidates(bytes("THE")));
+        assertArrayEquals(new int[0], reopened.candidates(bytes("zebra")));
+        assertThrows(IllegalArgumentException.class, () -> reopened.add(1, bytes("again")));
+
+        reopened.persist(tempDir);
+        assertArrayEquals(new int[] {0, 2}, TrigramIndex.open(tempDir).candidates(bytes("quick")));
+    }
+
+    @Test
+    @DisplayName("Deve gravar só os documentos novos em segmentos e juntá-los ao reabrir")
+    void shouldPersistSegmentsAndReopen() throws IOException {
+        // Arrange
+        Random random = new Random(11);
+        List<byte[]> documents = new ArrayList<>();
+        TrigramIndex index = new TrigramIndex();
+
+        // Act - 40 gravações de 5 documentos cada
+        for (int round = 0; round < 40; round++) {
+            for (int i = 0; i < 5; i++) {
+                byte[] content = randomText(random, 40 + random.nextInt(200));
+                index.add(documents.size(), content);
+                documents.add(content);
+            }
+            index.persist(tempDir);
+        }
+        index.add(documents.size(), bytes("depois da última gravação"));
+        int segments = index.segmentCount();
+        Files.writeString(tempDir.resolve("trigrams-0-3.idx"), "resto de uma junção");
+        TrigramIndex reopened = TrigramIndex.open(tempDir);
+
+        // Assert - a junção mantém poucos segmentos e apaga os substituídos
+        assertTrue(index.segmentCount() <= 8, "segmentos: " + index.segmentCount());
+        try (Stream<Path> files = Files.list(tempDir)) {
+            assertEquals(segments, files.count());
+        }
+        assertEquals(documents.size(), reopened.documentCount());
+        assertEquals(index.segmentCount(), reopened.segmentCount());
+        assertFalse(Files.exists(tempDir.resolve("trigrams-0-3.idx")));
+        for (int q = 0; q < 100; q++) {
+            byte[] query = randomText(random, 3 + random.nextInt(3));
+            assertEquals(matching(documents, query), verified(documents, reopened.candidates(query), query));
+        }
+        assertArrayEquals(new int[] {documents.size()}, index.candidates(bytes("última")));
+    }
+
+    @Test
+    @DisplayName("Deve localizar substrings sem diferenciar maiúsculas")
+    void shouldFindSubstringIgnoringCase() {
+        // Act & Assert
+        assertEquals(4, new FoldedMatcher(bytes("qUICK")).indexOf(bytes("The Quick"), 0));
+        assertEquals(-1, new FoldedMatcher(bytes("quick")).indexOf(bytes("The Quick"), 5));
+        assertThrows(IllegalArgumentException.class, () -> new FoldedMatcher(new byte[0]));
+    }
+
+    @Test
+    @DisplayName("Deve encontrar todas as ocorrências sobrepostas como a busca ingênua")
+    void shouldMatchNaiveScanInOnePass() {
+        // Arrange - alfabeto pequeno força prefixos repetidos e ocorrências sobrepostas
+        Random random = new Random(13);
+        for (int round = 0; round < 500; round++) {
+            byte[] text = randomText(random, random.nextInt(300));
+            byte[] query = randomText(random, 1 + random.nextInt(5));
+            FoldedMatcher matcher = new FoldedMatcher(query);
+
+            // Act
+            IntArrayList offsets = new IntArrayList();
+            int occurrences = matcher.count(text, offsets, 10);
+
+            // Assert
+            List<Integer> expected = new ArrayList<>();
+            String folded = new String(text, StandardCharsets.UTF_8).toLowerCase();
+            String needle = new String(query, StandardCharsets.UTF_8).toLowerCase();
+            for (int i = folded.indexOf(needle); i >= 0; i = folded.indexOf(needle, i + 1)) {
+                expected.add(i);
+            }
+            assertEquals(expected.size(), occurrences);
+            assertEquals(expected.subList(0, Math.min(10, expected.size())), toList(offsets));
+            assertEquals(expected.isEmpty() ? -1 : expected.get(0), matcher.indexOf(text, 0));
+        }
+        assertEquals(99_998, new FoldedMatcher(bytes("aaa")).count(bytes("a".repeat(100_000)), new IntArrayList(), 0));
+    }
+
+    private static List<Integer> toList(IntArrayList values) {
+        List<Integer> list = new ArrayList<>();
+        for (int i = 0; i < values.size(); i++) {
+            list.add(values.get(i));
+        }
+        return list;
+    }
+
+    private static byte[] randomText(Random random, int length) {
+        byte[] text = new byte[length];
+        for (int i = 0; i < length; i++) {
+            text[i] = (byte) "abcdAB ".charAt(random.nextInt(7));
+        }
+        return text;
+    }
+
+    private static List<Integer> matching(List<byte[]> documents, byte[] query) {
+        List<Integer> result = new ArrayList<>();
+        for (int id = 0; id < documents.size(); id++) {
+            String content = new String(documents.get(id), StandardCharsets.UTF_8).toLowerCase();
+            if (content.contains(new String(query, StandardCharsets.UTF_8).toLowerCase())) {
+                result.add(id);
+            }
+        }
+        return result;
+    }
+
+    private static List<Integer> verified(List<byte[]> documents, int[] candidates, byte[] query) {
+        FoldedMatcher matcher = new FoldedMatcher(query);
+        List<Integer> result = new ArrayList<>();
+        for (int id : candidates) {
+            if (matcher.indexOf(documents.get(id), 0) >= 0) {
+                result.add(id);
+            }
+        }
+        return result;
+    }
+
+    private static byte[] bytes(String text) {
+        return text.getBytes(StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,133 @@
+package com.lucas.text_processing_api.util.text;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.lucas.text_processing_api.util.collection.ByteSequenceCounter;
+
+/**
+ * Testes unitários para o agrupamento em classes de anagramas
+ * 
+ * @author Lucas
+ * @version 1.1
+ */
+class AnagramGrouperTest {
+
+    private final ForkJoinPool pool = new ForkJoinPool(4);
+
+    @AfterEach
+    void tearDown() {
+        pool.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("Deve agrupar palavras distintas e contar as ocorrências")
+    void shouldGroupAndCountOccurrences() {
+        // Arrange
+        List<String> words = List.of("cat", "Act", "dog", "tac", "cat", "god", "bird", "x1", "CAT");
+
+        // Act
+        AnagramGrouper.Result result = new AnagramGrouper(pool).group(words, 1, 10);
+
+        // Assert
+        assertEquals(3, result.getTotalGroups());
+        assertEquals(9, result.getTotalTokens());
+        assertEquals(1, result.getSkippedTokens());
+        assertEquals(6, result.getDistinctWords());
+
+        AnagramGrouper.Group first = result.getGroups().get(0);
+        assertEquals("act", first.getLetters());
+        assertEquals(List.of("act", "cat", "tac"), first.getWords());
+        assertEquals(5, first.getOccurrences());
+        assertEquals("dgo", result.getGroups().get(1).getLetters());
+        assertEquals(List.of("bird"), result.getGroups().get(2).getWords());
+    }
+
+    @Test
+    @DisplayName("Deve aplicar o tamanho mínimo e o limite de grupos")
+    void shouldApplyMinGroupSizeAndLimit() {
+        // Arrange
+        List<String> words = List.of("cat", "act", "dog", "god", "odg", "bird");
+
+        // Act
+        AnagramGrouper.Result result = new AnagramGrouper(pool).group(words, 2, 1);
+
+        // Assert
+        assertEquals(2, result.getTotalGroups());
+        assertEquals(1, result.getGroups().size());
+        assertEquals(List.of("dog", "god", "odg"), result.getGroups().get(0).getWords());
+    }
+
+    @Test
+    @DisplayName("Deve produzir o mesmo resultado em paralelo que o agrupamento ingênuo")
+    void shouldMatchNaiveGroupingInParallel() {
+        // Arrange - bem acima do tamanho de bloco, para forçar a divisão
+        Random random = new Random(39);
+        List<String> words = new ArrayList<>();
+        for (int i = 0; i < 200_000; i++) {
+            char[] word = new char[2 + random.nextInt(4)];
+            for (int k = 0; k < word.length; k++) {
+                word[k] = "abcdeo".charAt(random.nextInt(6));
+            }
+            words.add(new String(word));
+        }
+
+        // Act
+        AnagramGrouper.Result result = new AnagramGrouper(pool).group(words, 1, Integer.MAX_VALUE);
+
+        // Assert
+        Map<String, Map<String, Long>> expected = new HashMap<>();
+        for (String word : words) {
+            char[] letters = word.toCharArray();
+            Arrays.sort(letters);
+            expected.computeIfAbsent(new String(letters), k -> new HashMap<>()).merge(word, 1L, Long::sum);
+        }
+        assertEquals(expected.size(), result.getTotalGroups());
+        assertEquals(words.size(), result.getTotalTokens());
+        for (AnagramGrouper.Group group : result.getGroups()) {
+            Map<String, Long> members = expected.get(group.getLetters());
+            assertEquals(members.keySet().stream().sorted().toList(), group.getWords());
+            assertEquals(members.values().stream().mapToLong(Long::longValue).sum(), group.getOccurrences());
+        }
+    }
+
+    @Test
+    @DisplayName("Deve agrupar as palavras distintas de um contador com as contagens acumuladas")
+    void shouldGroupCountedTokens() {
+        // Arrange - "Coração" e "coração" normalizam para a mesma palavra
+        ByteSequenceCounter tokens = new ByteSequenceCounter(4);
+        add(tokens, "cat", 5);
+        add(tokens, "act", 2);
+        add(tokens, "coração", 3);
+        add(tokens, "Coração", 1);
+        add(tokens, "x1", 4);
+
+        // Act
+        AnagramGrouper.Result result = new AnagramGrouper(pool).group(tokens, 2, 1, 10);
+
+        // Assert
+        assertEquals(17, result.getTotalTokens());
+        assertEquals(6, result.getSkippedTokens());
+        assertEquals(List.of("act", "cat"), result.getGroups().get(0).getWords());
+        assertEquals(7, result.getGroups().get(0).getOccurrences());
+        assertEquals(List.of("coracao"), result.getGroups().get(1).getWords());
+        assertEquals(4, result.getGroups().get(1).getOccurrences());
+    }
+
+    private static void add(ByteSequenceCounter tokens, String word, long count) {
+        byte[] bytes = word.getBytes(StandardCharsets.UTF_8);
+        tokens.add(bytes, 0, bytes.length, count);
+    }
+}
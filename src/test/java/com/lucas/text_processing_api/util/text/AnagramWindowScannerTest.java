@@ -0,0 +1,170 @@
+package com.lucas.text_processing_api.util.text;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Testes unitários para a busca de anagramas de padrões em textos
+ * 
+ * @author Lucas
+ * @version 1.1
+ */
+class AnagramWindowScannerTest {
+
+    @Test
+    @DisplayName("Deve encontrar todas as janelas que são anagrama do padrão, inclusive sobrepostas")
+    void shouldFindOverlappingWindows() {
+        // Arrange
+        AnagramWindowScanner scanner = new AnagramWindowScanner(List.of("abc"));
+
+        // Act
+        AnagramWindowScanner.Result result = scanner.scan(bytes("cbaebabacd"), 10);
+        AnagramWindowScanner.Result overlapping = scanner.scan(bytes("abab"), 10);
+
+        // Assert
+        assertEquals(List.of(0L, 6L), offsets(result));
+        assertEquals("cba", result.getOccurrences().get(0).getText());
+        assertEquals("bac", result.getOccurrences().get(1).getText());
+        assertEquals(10, result.getBytesScanned());
+        assertEquals(0, overlapping.getTotalOccurrences());
+        assertEquals(List.of(0L, 1L, 2L), offsets(new AnagramWindowScanner(List.of("ab")).scan(bytes("abab"), 10)));
+    }
+
+    @Test
+    @DisplayName("Deve buscar vários padrões de tamanhos diferentes em uma única passada")
+    void shouldFindSeveralPatternsInOnePass() {
+        // Arrange - "listen" e "silent" compartilham a composição
+        AnagramWindowScanner scanner = new AnagramWindowScanner(List.of("listen", "silent", "dog"));
+
+        // Act
+        AnagramWindowScanner.Result result = scanner.scan(bytes("The GOD enlists; a tinsel dog."), 10);
+
+        // Assert
+        assertEquals(List.of(4L, 8L, 19L, 26L), offsets(result));
+        assertEquals("god", result.getOccurrences().get(0).getText());
+        assertEquals(List.of("dog"), result.getOccurrences().get(0).getPatterns());
+        assertEquals("enlist", result.getOccurrences().get(1).getText());
+        assertEquals(List.of("listen", "silent"), result.getOccurrences().get(1).getPatterns());
+        assertEquals("tinsel", result.getOccurrences().get(2).getText());
+    }
+
+    @Test
+    @DisplayName("Deve aplicar o limite mantendo a contagem total")
+    void shouldApplyLimit() {
+        // Act
+        AnagramWindowScanner.Result result = new AnagramWindowScanner(List.of("a")).scan(bytes("a a a a"), 2);
+
+        // Assert
+        assertEquals(2, result.getOccurrences().size());
+        assertEquals(4, result.getTotalOccurrences());
+    }
+
+    @Test
+    @DisplayName("Deve produzir o mesmo resultado que a comparação ingênua de cada janela, em fluxo")
+    void shouldMatchNaiveSearchOnStream() throws IOException {
+        // Arrange - bem acima do buffer de leitura, para cruzar os limites dos blocos
+        Random random = new Random(42);
+        StringBuilder text = new StringBuilder();
+        for (int i = 0; i < 200_000; i++) {
+            text.append("abcAB .".charAt(random.nextInt(7)));
+        }
+        List<String> patterns = List.of("ab", "aab", "cab", "abcab", "b");
+        byte[] bytes = text.toString().getBytes(StandardCharsets.US_ASCII);
+
+        // Act
+        AnagramWindowScanner.Result result = new AnagramWindowScanner(patterns)
+            .scan(new ByteArrayInputStream(bytes), Integer.MAX_VALUE);
+
+        // Assert
+        List<String> expected = new ArrayList<>();
+        String lower = text.toString().toLowerCase();
+        for (int start = 0; start < lower.length(); start++) {
+            for (String pattern : patterns) {
+                if (start + pattern.length() <= lower.length()
+                        && sorted(lower.substring(start, start + pattern.length())).equals(sorted(pattern))) {
+                    expected.add((start + pattern.length()) + ":" + pattern);
+                }
+            }
+        }
+        List<String> actual = new ArrayList<>();
+        for (AnagramWindowScanner.Occurrence occurrence : result.getOccurrences()) {
+            actual.add((occurrence.getOffset() + occurrence.getText().length()) + ":" + occurrence.getPatterns().get(0));
+        }
+        assertEquals(expected.stream().sorted().toList(), actual.stream().sorted().toList());
+        assertEquals(expected.size(), result.getTotalOccurrences());
+    }
+
+    @Test
+    @DisplayName("Deve separar muitas composições do mesmo tamanho pela assinatura da janela")
+    void shouldMatchManyCompositionsPerLength() {
+        // Arrange - centenas de composições de 4 a 6 letras sobre um alfabeto curto
+        Random random = new Random(4200);
+        List<String> patterns = new ArrayList<>();
+        for (int p = 0; p < 400; p++) {
+            StringBuilder pattern = new StringBuilder();
+            int length = 4 + random.nextInt(3);
+            for (int i = 0; i < length; i++) {
+                pattern.append((char) ('a' + random.nextInt(5)));
+            }
+            patterns.add(pattern.toString());
+        }
+        StringBuilder text = new StringBuilder();
+        for (int i = 0; i < 20_000; i++) {
+            text.append("abcdeE ".charAt(random.nextInt(7)));
+        }
+        String lower = text.toString().toLowerCase();
+
+        // Act
+        AnagramWindowScanner.Result result = new AnagramWindowScanner(patterns).scan(bytes(text.toString()),
+            Integer.MAX_VALUE);
+
+        // Assert - uma ocorrência por janela e tamanho que casa com alguma composição
+        long expected = 0;
+        for (int length = 4; length <= 6; length++) {
+            Set<String> compositions = new HashSet<>();
+            for (String pattern : patterns) {
+                if (pattern.length() == length) {
+                    compositions.add(sorted(pattern));
+                }
+            }
+            for (int start = 0; start + length <= lower.length(); start++) {
+                if (compositions.contains(sorted(lower.substring(start, start + length)))) {
+                    expected++;
+                }
+            }
+        }
+        assertEquals(expected, result.getTotalOccurrences());
+        for (AnagramWindowScanner.Occurrence occurrence : result.getOccurrences()) {
+            for (String pattern : occurrence.getPatterns()) {
+                assertEquals(sorted(pattern), sorted(occurrence.getText()));
+            }
+        }
+    }
+
+    private static ByteBuffer bytes(String text) {
+        return ByteBuffer.wrap(text.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static List<Long> offsets(AnagramWindowScanner.Result result) {
+        return result.getOccurrences().stream().map(AnagramWindowScanner.Occurrence::getOffset).toList();
+    }
+
+    private static String sorted(String word) {
+        char[] letters = word.toCharArray();
+        Arrays.sort(letters);
+        return new String(letters);
+    }
+}
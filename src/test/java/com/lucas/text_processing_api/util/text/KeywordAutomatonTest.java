@@ -0,0 +1,131 @@
+package com.lucas.text_processing_api.util.text;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.TreeSet;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Testes unitários para o autômato de palavras-chave
+ * 
+ * @author Lucas
+ * @version 1.1
+ */
+class KeywordAutomatonTest {
+
+    @Test
+    @DisplayName("Deve encontrar as mesmas ocorrências que a comparação em cada posição")
+    void shouldMatchBruteForce() {
+        // Arrange - alfabeto curto para muitas sobreposições e palavras-chave que são sufixos de outras
+        Random random = new Random(47);
+        TreeSet<String> distinct = new TreeSet<>();
+        while (distinct.size() < 300) {
+            distinct.add(randomText(random, 1 + random.nextInt(6)));
+        }
+        List<String> keywords = new ArrayList<>(distinct);
+        KeywordAutomaton automaton = KeywordAutomaton.compile(keywords, 1 << 20);
+        byte[] text = (randomText(random, 5000) + " xyz " + randomText(random, 100)).getBytes(StandardCharsets.UTF_8);
+
+        // Act - o texto chega em blocos de tamanhos variados
+        List<String> found = new ArrayList<>();
+        KeywordAutomaton.Scanner scanner = automaton.scanner();
+        for (int from = 0; from < text.length; ) {
+            int to = Math.min(text.length, from + 1 + random.nextInt(97));
+            scanner.scan(text, from, to, (id, end) -> found.add(end + ":" + automaton.keyword(id)));
+            from = to;
+        }
+
+        // Assert
+        List<String> expected = new ArrayList<>();
+        for (int end = 1; end <= text.length; end++) {
+            for (String keyword : keywords) {
+                byte[] bytes = keyword.getBytes(StandardCharsets.UTF_8);
+                int start = end - bytes.length;
+                if (start >= 0 && Arrays.equals(text, start, end, bytes, 0, bytes.length)) {
+                    expected.add(end + ":" + keyword);
+                }
+            }
+        }
+        assertEquals(new TreeSet<>(expected), new TreeSet<>(found));
+        assertEquals(expected.size(), found.size());
+        assertEquals(text.length, scanner.bytesScanned());
+    }
+
+    @Test
+    @DisplayName("Deve ignorar maiúsculas ASCII e comparar bytes UTF-8")
+    void shouldFoldAsciiCase() {
+        // Arrange
+        KeywordAutomaton automaton = KeywordAutomaton.compile(List.of("he", "she", "his", "hers", "ação"), 1 << 20);
+        byte[] text = "USHERS e AÇÃO, ação".getBytes(StandardCharsets.UTF_8);
+
+        // Act
+        List<String> found = new ArrayList<>();
+        automaton.scanner().scan(text, 0, text.length, (id, end) ->
+            found.add(automaton.keyword(id) + "@" + (end - automaton.keywordLength(id))));
+
+        // Assert - "AÇÃO" não casa: só letras ASCII são convertidas
+        assertEquals(List.of("she@1", "he@2", "hers@2", "ação@17"), found);
+    }
+
+    @Test
+    @DisplayName("Deve recusar conjuntos cuja trie passa do limite de estados")
+    void shouldRejectOversizedTrie() {
+        // Act & Assert - 21 estados com a raiz
+        assertEquals(21, KeywordAutomaton.compile(List.of("abcdefghij", "klmnopqrst"), 21).stateCount());
+        assertThrows(IllegalArgumentException.class,
+            () -> KeywordAutomaton.compile(List.of("abcdefghij", "klmnopqrst"), 20));
+    }
+
+    @Test
+    @DisplayName("Deve compilar 100 mil palavras-chave comuns e encontrá-las no texto")
+    void shouldCompileHundredThousandKeywords() {
+        // Arrange - palavras de 4 a 12 letras, cerca de 800 KB
+        Random random = new Random(4700);
+        TreeSet<String> distinct = new TreeSet<>();
+        while (distinct.size() < 100_000) {
+            StringBuilder word = new StringBuilder();
+            int length = 4 + random.nextInt(9);
+            for (int i = 0; i < length; i++) {
+                word.append((char) ('a' + random.nextInt(26)));
+            }
+            distinct.add(word.toString());
+        }
+        List<String> keywords = new ArrayList<>(distinct);
+
+        // Act
+        KeywordAutomaton automaton = KeywordAutomaton.compile(keywords, 3 << 20);
+        StringBuilder text = new StringBuilder();
+        for (int k = 0; k < keywords.size(); k += 1000) {
+            text.append(keywords.get(k).toUpperCase()).append(' ');
+        }
+        byte[] bytes = text.toString().getBytes(StandardCharsets.UTF_8);
+        List<String> found = new ArrayList<>();
+        automaton.scanner().scan(bytes, 0, bytes.length, (id, end) -> {
+            if (end - automaton.keywordLength(id) == 0 || bytes[(int) (end - automaton.keywordLength(id)) - 1] == ' ') {
+                found.add(automaton.keyword(id));
+            }
+        });
+
+        // Assert - a tabela densa é limitada e o restante cresce com os estados
+        assertTrue(automaton.stateCount() > 500_000);
+        assertTrue(automaton.memoryBytes() < 64L << 20, "memória: " + automaton.memoryBytes());
+        for (int k = 0; k < keywords.size(); k += 1000) {
+            assertTrue(found.contains(keywords.get(k)), keywords.get(k));
+        }
+    }
+
+    private static String randomText(Random random, int length) {
+        StringBuilder text = new StringBuilder(length);
+        for (int i = 0; i < length; i++) {
+            text.append((char) ('a' + random.nextInt(3)));
+        }
+        return text.toString();
+    }
+}
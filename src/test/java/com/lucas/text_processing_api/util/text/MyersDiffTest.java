@@ -0,0 +1,192 @@
+package com.lucas.text_processing_api.util.text;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Testes unitários para a diferença de Myers em espaço linear
+ * 
+ * @author Lucas
+ * @version 1.0
+ */
+class MyersDiffTest {
+
+    @Test
+    @DisplayName("Deve gerar um script mínimo que transforma o original no revisado")
+    void shouldProduceMinimalScript() throws IOException {
+        // Arrange - alfabetos pequenos geram muitas cobras e divisões
+        Random random = new Random(3);
+        for (int round = 0; round < 300; round++) {
+            int[] original = randomSequence(random, random.nextInt(round < 100 ? 10 : 200), 1 + round % 4);
+            int[] revised = mutate(random, original, 1 + round % 4);
+
+            // Act
+            Script script = diff(new MyersDiff(), original, revised);
+
+            // Assert
+            assertArrayEquals(revised, script.apply(original, revised));
+            assertEquals(original.length + revised.length - 2 * lcs(original, revised), script.edits);
+            assertFalse(script.adjacentDuplicates, "operações do mesmo tipo deveriam ser agrupadas");
+        }
+    }
+
+    @Test
+    @DisplayName("Deve continuar gerando um script válido quando o custo limite é atingido")
+    void shouldStayValidPastCostLimit() throws IOException {
+        // Arrange
+        Random random = new Random(5);
+        for (int round = 0; round < 200; round++) {
+            int[] original = randomSequence(random, random.nextInt(300), 2 + round % 3);
+            int[] revised = randomSequence(random, random.nextInt(300), 2 + round % 3);
+
+            // Act
+            Script script = diff(new MyersDiff(1 + round % 3), original, revised);
+
+            // Assert
+            assertArrayEquals(revised, script.apply(original, revised));
+            assertTrue(script.edits >= original.length + revised.length - 2 * lcs(original, revised));
+        }
+    }
+
+    @Test
+    @DisplayName("Deve dividir em linhas e palavras e dar o mesmo identificador a tokens iguais")
+    void shouldTokenizeAndIntern() throws IOException {
+        // Arrange
+        byte[] original = "um dois\ntrês, 42\nfim".getBytes(StandardCharsets.UTF_8);
+        byte[] revised = "um dois\nfim\n".getBytes(StandardCharsets.UTF_8);
+
+        // Act
+        DiffTokens lines = DiffTokens.lines(original);
+        DiffTokens revisedLines = DiffTokens.lines(revised);
+        int distinct = DiffTokens.intern(lines, revisedLines);
+        DiffTokens words = DiffTokens.words(original);
+        DiffTokens.intern(words, DiffTokens.words(new byte[0]));
+        Script script = diff(new MyersDiff(), lines.ids(), revisedLines.ids());
+
+        // Assert
+        assertEquals(List.of("um dois\n", "três, 42\n", "fim"), texts(lines));
+        assertEquals(4, distinct);
+        assertEquals(List.of("um", " ", "dois", "\n", "três", ",", " ", "42", "\n", "fim"), texts(words));
+        assertEquals(words.ids()[1], words.ids()[6]);
+        assertEquals(List.of("= 0 0 1", "- 1 2", "+ 1 1"), script.operations);
+        assertThrows(IllegalStateException.class, () -> DiffTokens.lines(original).ids());
+    }
+
+    private static Script diff(MyersDiff myers, int[] original, int[] revised) throws IOException {
+        Script script = new Script();
+        myers.diff(original, revised, script);
+        return script;
+    }
+
+    private static List<String> texts(DiffTokens tokens) {
+        List<String> texts = new ArrayList<>();
+        for (int token = 0; token < tokens.size(); token++) {
+            texts.add(new String(tokens.text(), tokens.start(token), tokens.end(token) - tokens.start(token),
+                StandardCharsets.UTF_8));
+        }
+        return texts;
+    }
+
+    private static int[] randomSequence(Random random, int length, int alphabet) {
+        int[] sequence = new int[length];
+        for (int i = 0; i < length; i++) {
+            sequence[i] = random.nextInt(alphabet);
+        }
+        return sequence;
+    }
+
+    private static int[] mutate(Random random, int[] original, int alphabet) {
+        List<Integer> values = new ArrayList<>();
+        for (int value : original) {
+            int action = random.nextInt(10);
+            if (action == 0) {
+                continue;
+            }
+            if (action == 1) {
+                values.add(random.nextInt(alphabet));
+            }
+            values.add(action == 2 ? random.nextInt(alphabet) : value);
+        }
+        return values.stream().mapToInt(Integer::intValue).toArray();
+    }
+
+    private static int lcs(int[] a, int[] b) {
+        int[][] table = new int[a.length + 1][b.length + 1];
+        for (int i = a.length - 1; i >= 0; i--) {
+            for (int j = b.length - 1; j >= 0; j--) {
+                table[i][j] = a[i] == b[j] ? table[i + 1][j + 1] + 1 : Math.max(table[i + 1][j], table[i][j + 1]);
+            }
+        }
+        return table[0][0];
+    }
+
+    /**
+     * Guarda as operações e confere que cobrem as duas sequências em ordem
+     */
+    private static final class Script implements MyersDiff.EditConsumer {
+
+        private final List<String> operations = new ArrayList<>();
+        private final List<int[]> ranges = new ArrayList<>();
+        private int x;
+        private int y;
+        private int edits;
+        private char last;
+        private boolean adjacentDuplicates;
+
+        @Override
+        public void equal(int original, int revised, int count) {
+            record('=', original, revised, count);
+            x += count;
+            y += count;
+        }
+
+        @Override
+        public void delete(int original, int count) {
+            record('-', original, y, count);
+            x += count;
+            edits += count;
+        }
+
+        @Override
+        public void insert(int revised, int count) {
+            record('+', x, revised, count);
+            y += count;
+            edits += count;
+        }
+
+        private void record(char op, int original, int revised, int count) {
+            assertEquals(x, original);
+            assertEquals(y, revised);
+            assertTrue(count > 0);
+            adjacentDuplicates |= op == last || (last == '+' && op == '-');
+            last = op;
+            operations.add(op == '=' ? op + " " + original + " " + revised + " " + count
+                : op + " " + (op == '-' ? original : revised) + " " + count);
+            ranges.add(new int[] {op, original, revised, count});
+        }
+
+        int[] apply(int[] original, int[] revised) {
+            List<Integer> result = new ArrayList<>();
+            for (int[] range : ranges) {
+                if (range[0] == '=') {
+                    for (int i = 0; i < range[3]; i++) {
+                        result.add(original[range[1] + i]);
+                    }
+                } else if (range[0] == '+') {
+                    for (int i = 0; i < range[3]; i++) {
+                        result.add(revised[range[2] + i]);
+                    }
+                }
+            }
+            return result.stream().mapToInt(Integer::intValue).toArray();
+        }
+    }
+}
@@ -0,0 +1,156 @@
+package com.lucas.text_processing_api.util.text;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Testes unitários para a busca de palíndromos pelo algoritmo de Manacher
+ * 
+ * @author Lucas
+ * @version 1.0
+ */
+class PalindromeScannerTest {
+
+    @Test
+    @DisplayName("Deve encontrar o maior palíndromo de letras com as posições dos bytes originais")
+    void shouldFindLetterPalindromeWithOriginalOffsets() throws IOException {
+        // Arrange
+        String text = "Dizem: A man, a plan, a canal: Panama! Fim";
+        PalindromeScanner scanner = new PalindromeScanner(true, 3, 2);
+
+        // Act
+        PalindromeScanner.Result result = scanner.scan(stream(text));
+
+        // Assert
+        PalindromeScanner.Palindrome longest = result.getLongest().get(0);
+        assertEquals("amanaplanacanalpanama", longest.getText());
+        assertEquals(text.indexOf("A man"), longest.getOffset());
+        assertEquals("A man, a plan, a canal: Panama".length(), longest.getByteLength());
+        assertEquals(21, result.getLongestLength());
+        assertEquals(1, result.count(21));
+        assertEquals(2, result.getLongest().size());
+        assertEquals(text.length(), result.getBytesScanned());
+        assertFalse(result.isTruncated());
+    }
+
+    @Test
+    @DisplayName("Deve contar os palíndromos por comprimento igual à força bruta, inclusive entre janelas")
+    void shouldMatchBruteForceAcrossWindows() throws IOException {
+        // Arrange - janelas pequenas forçam centros perto das bordas
+        Random random = new Random(7);
+        for (int round = 0; round < 20; round++) {
+            byte[] text = new byte[200 + random.nextInt(400)];
+            for (int i = 0; i < text.length; i++) {
+                text[i] = (byte) ('a' + random.nextInt(round % 2 == 0 ? 2 : 3));
+            }
+            PalindromeScanner windowed = new PalindromeScanner(false, 2, 5, 64, 12);
+            long[] expected = bruteForceCounts(text);
+
+            // Act
+            PalindromeScanner.Result result = windowed.scan(new ByteArrayInputStream(text));
+            PalindromeScanner.Result whole = new PalindromeScanner(false, 2, 5).scan(new ByteArrayInputStream(text));
+
+            // Assert
+            for (int length = 1; length < expected.length; length++) {
+                assertEquals(expected[length], whole.count(length), "comprimento " + length);
+                if (length <= windowed.maxExactLength()) {
+                    assertEquals(expected[length], result.count(length), "comprimento " + length);
+                }
+            }
+            assertEquals(expected.length - 1, whole.getLongestLength());
+            assertEquals(bruteForceLongest(text, 5), lengths(whole));
+            for (PalindromeScanner.Palindrome palindrome : result.getLongest()) {
+                String expectedText = new String(text, (int) palindrome.getOffset(), palindrome.getLength(),
+                    StandardCharsets.US_ASCII);
+                assertEquals(expectedText, palindrome.getText());
+                assertEquals(new StringBuilder(expectedText).reverse().toString(), expectedText);
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Deve indicar quando um palíndromo passa do comprimento medido por inteiro")
+    void shouldFlagPalindromesLongerThanContext() throws IOException {
+        // Arrange
+        String text = "xy" + "ab".repeat(30) + "a" + "ba".repeat(30) + "zw";
+        PalindromeScanner windowed = new PalindromeScanner(false, 3, 1, 64, 12);
+
+        // Act
+        PalindromeScanner.Result result = windowed.scan(stream(text));
+        PalindromeScanner.Result whole = new PalindromeScanner(false, 3, 1).scan(stream(text));
+
+        // Assert
+        assertTrue(result.isTruncated());
+        assertTrue(result.getLongestLength() > windowed.maxExactLength());
+        assertFalse(whole.isTruncated());
+        assertEquals(121, whole.getLongestLength());
+        assertEquals(2, whole.getLongest().get(0).getOffset());
+    }
+
+    private static ByteArrayInputStream stream(String text) {
+        return new ByteArrayInputStream(text.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static long[] bruteForceCounts(byte[] text) {
+        List<Integer> found = new ArrayList<>();
+        int longest = 0;
+        for (int from = 0; from < text.length; from++) {
+            for (int to = from; to < text.length; to++) {
+                if (isPalindrome(text, from, to)) {
+                    found.add(to - from + 1);
+                    longest = Math.max(longest, to - from + 1);
+                }
+            }
+        }
+        long[] counts = new long[longest + 1];
+        for (int length : found) {
+            counts[length]++;
+        }
+        return counts;
+    }
+
+    private static List<Integer> bruteForceLongest(byte[] text, int limit) {
+        List<Integer> maximal = new ArrayList<>();
+        for (int center = 0; center < 2 * text.length - 1; center++) {
+            int left = center / 2;
+            int right = left + center % 2;
+            while (left >= 0 && right < text.length && text[left] == text[right]) {
+                left--;
+                right++;
+            }
+            int length = right - left - 1;
+            if (length >= 2) {
+                maximal.add(length);
+            }
+        }
+        maximal.sort(Collections.reverseOrder());
+        return maximal.subList(0, Math.min(limit, maximal.size()));
+    }
+
+    private static boolean isPalindrome(byte[] text, int from, int to) {
+        while (from < to) {
+            if (text[from++] != text[to--]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static List<Integer> lengths(PalindromeScanner.Result result) {
+        List<Integer> lengths = new ArrayList<>();
+        for (PalindromeScanner.Palindrome palindrome : result.getLongest()) {
+            lengths.add(palindrome.getLength());
+        }
+        return lengths;
+    }
+}
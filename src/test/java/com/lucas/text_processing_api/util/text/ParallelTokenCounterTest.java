@@ -0,0 +1,133 @@
+package com.lucas.text_processing_api.util.text;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.lucas.text_processing_api.util.collection.ByteSequenceCounter;
+
+/**
+ * Testes unitários para a contagem paralela de palavras
+ * 
+ * @author Lucas
+ * @version 1.0
+ */
+class ParallelTokenCounterTest {
+
+    private static final String[] PIECES = {
+        "cat", "Act", "TAC", "dog", "god", "coração", "ação", "naïve", "x", ", ", " ", "\n", "--", "1984", "é"
+    };
+
+    /** Chave da contagem ingênua para as palavras acima do tamanho máximo */
+    private static final String OVERSIZED = "";
+
+    private final ForkJoinPool pool = new ForkJoinPool(4);
+
+    @TempDir
+    Path tempDir;
+
+    @AfterEach
+    void tearDown() {
+        pool.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("Deve contar as palavras de um arquivo em trechos como a contagem ingênua")
+    void shouldCountFileChunksLikeNaiveCount() throws IOException {
+        // Arrange - trechos pequenos para forçar muitos cortes em separadores
+        String text = randomText(20_000);
+        Path file = tempDir.resolve("text.txt");
+        Files.writeString(file, text, StandardCharsets.UTF_8);
+        AtomicLong progress = new AtomicLong();
+
+        // Act
+        ParallelTokenCounter.Result result = new ParallelTokenCounter(pool, 100, 128)
+            .countFile(file, progress::addAndGet);
+
+        // Assert
+        assertCounts(naiveCount(text), result);
+        assertEquals(Files.size(file), progress.get());
+        assertEquals(Files.size(file), result.getBytes());
+    }
+
+    @Test
+    @DisplayName("Deve contar as palavras de um fluxo em blocos como a contagem ingênua")
+    void shouldCountStreamBlocksLikeNaiveCount() throws IOException {
+        // Arrange
+        String text = randomText(20_000);
+        byte[] bytes = text.getBytes(StandardCharsets.UTF_8);
+        AtomicLong progress = new AtomicLong();
+
+        // Act
+        ParallelTokenCounter.Result result = new ParallelTokenCounter(pool, 100, 128)
+            .countStream(new ByteArrayInputStream(bytes), progress::addAndGet);
+
+        // Assert
+        assertCounts(naiveCount(text), result);
+        assertEquals(bytes.length, progress.get());
+    }
+
+    @Test
+    @DisplayName("Deve descartar uma palavra maior que o bloco sem contar seus pedaços")
+    void shouldSkipTokenLongerThanBlock() throws IOException {
+        // Arrange
+        String text = "cat " + "a".repeat(1000) + " dog " + "b".repeat(70);
+
+        // Act
+        ParallelTokenCounter.Result result = new ParallelTokenCounter(pool, 100, 128)
+            .countStream(new ByteArrayInputStream(text.getBytes(StandardCharsets.UTF_8)), bytes -> { });
+
+        // Assert
+        assertEquals(2, result.getTokens().size());
+        assertEquals(2, result.getSkippedTokens());
+        assertEquals(4, result.getTotalTokens());
+    }
+
+    private static String randomText(int pieces) {
+        Random random = new Random(41);
+        StringBuilder text = new StringBuilder();
+        for (int i = 0; i < pieces; i++) {
+            text.append(PIECES[random.nextInt(PIECES.length)]);
+        }
+        return text.toString();
+    }
+
+    private static Map<String, Long> naiveCount(String text) {
+        Map<String, Long> counts = new HashMap<>();
+        for (String token : text.split("[\\x00-\\x40\\x5B-\\x60\\x7B-\\x7F]+")) {
+            if (!token.isEmpty()) {
+                StringBuilder lower = new StringBuilder();
+                for (char c : token.toCharArray()) {
+                    lower.append(c >= 'A' && c <= 'Z' ? (char) (c | 0x20) : c);
+                }
+                String word = lower.toString();
+                boolean oversized = word.getBytes(StandardCharsets.UTF_8).length > ByteTokenizer.MAX_TOKEN_BYTES;
+                counts.merge(oversized ? OVERSIZED : word, 1L, Long::sum);
+            }
+        }
+        return counts;
+    }
+
+    private static void assertCounts(Map<String, Long> expected, ParallelTokenCounter.Result result) {
+        ByteSequenceCounter actual = result.getTokens();
+        assertEquals(expected.getOrDefault(OVERSIZED, 0L), result.getSkippedTokens());
+        assertEquals(expected.size() - (expected.containsKey(OVERSIZED) ? 1 : 0), actual.size());
+        for (int entry = 0; entry < actual.size(); entry++) {
+            assertEquals(expected.get(actual.toString(entry)), actual.count(entry), actual.toString(entry));
+        }
+    }
+}